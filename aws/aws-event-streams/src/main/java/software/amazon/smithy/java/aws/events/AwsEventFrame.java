@@ -5,19 +5,41 @@
 
 package software.amazon.smithy.java.aws.events;
 
+import java.nio.ByteBuffer;
 import software.amazon.eventstream.Message;
 import software.amazon.smithy.java.core.serde.event.Frame;
 
 public final class AwsEventFrame implements Frame<Message> {
 
-    private final Message message;
+    private Message message;
+    private final ByteBuffer encoded;
 
     AwsEventFrame(Message message) {
         this.message = message;
+        this.encoded = null;
+    }
+
+    /**
+     * Creates a frame from an already encoded message.
+     *
+     * @param encoded Encoded message, including the prelude and CRCs.
+     */
+    AwsEventFrame(ByteBuffer encoded) {
+        this.encoded = encoded;
     }
 
     @Override
     public Message unwrap() {
-        return message;
+        var result = message;
+        if (result == null) {
+            // Encoded frames only need to be decoded when something inspects the message.
+            result = Message.decode(encoded.duplicate());
+            message = result;
+        }
+        return result;
+    }
+
+    ByteBuffer toByteBuffer() {
+        return encoded != null ? encoded.duplicate() : message.toByteBuffer();
     }
 }
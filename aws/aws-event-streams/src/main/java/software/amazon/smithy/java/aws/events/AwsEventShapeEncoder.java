@@ -5,14 +5,10 @@
 
 package software.amazon.smithy.java.aws.events;
 
-import java.io.ByteArrayOutputStream;
-import java.io.OutputStream;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.BiFunction;
 import java.util.function.Function;
 import software.amazon.eventstream.HeaderValue;
 import software.amazon.eventstream.Message;
@@ -33,10 +29,14 @@ public final class AwsEventShapeEncoder implements EventEncoder<AwsEventFrame> {
     private final InitialEventType initialEventType;
     private final Codec codec;
     private final String payloadMediaType;
-    private final Map<String, BiFunction<OutputStream, Map<String, HeaderValue>, ShapeSerializer>> possibleTypes;
+    private final Map<String, byte[]> eventHeaders;
     private final Map<ShapeId, Schema> possibleExceptions;
     private final Function<Throwable, EventStreamingException> exceptionHandler;
 
+    // Encoders are used by a single event stream, so the frame writer and member serializer are reused per event.
+    private final EventFrameWriter writer = new EventFrameWriter();
+    private final EventMemberSerializer memberSerializer = new EventMemberSerializer();
+
     public AwsEventShapeEncoder(
             InitialEventType initialEventType,
             Schema eventSchema,
@@ -47,8 +47,8 @@ public final class AwsEventShapeEncoder implements EventEncoder<AwsEventFrame> {
         this.initialEventType = Objects.requireNonNull(initialEventType, "initialEventType");
         this.codec = Objects.requireNonNull(codec, "codec");
         this.payloadMediaType = Objects.requireNonNull(payloadMediaType, "payloadMediaType");
-        this.possibleTypes = possibleTypes(Objects.requireNonNull(eventSchema, "eventSchema"),
-                codec,
+        this.eventHeaders = eventHeaders(Objects.requireNonNull(eventSchema, "eventSchema"),
+                payloadMediaType,
                 initialEventType.value());
         this.possibleExceptions = possibleExceptions(Objects.requireNonNull(eventSchema, "eventSchema"));
         this.exceptionHandler = Objects.requireNonNull(exceptionHandler, "exceptionHandler");
@@ -56,45 +56,49 @@ public final class AwsEventShapeEncoder implements EventEncoder<AwsEventFrame> {
 
     @Override
     public AwsEventFrame encode(SerializableStruct item) {
-        var typeHolder = new AtomicReference<String>();
-        var headers = new HashMap<String, HeaderValue>();
-        var payload = encodeInput(item, typeHolder, headers);
-        headers.put(":message-type", HeaderValue.fromString("event"));
-        headers.put(":event-type", HeaderValue.fromString(typeHolder.get()));
-        headers.put(":content-type", HeaderValue.fromString(payloadMediaType));
-        return new AwsEventFrame(new Message(headers, payload));
-    }
-
-    private byte[] encodeInput(
-            SerializableStruct item,
-            AtomicReference<String> typeHolder,
-            Map<String, HeaderValue> headers
-    ) {
+        writer.reset();
         if (isInitialRequest(item.schema())) {
             // The initial event is serialized fully instead of just a single member as for events.
-            typeHolder.set(initialEventType.value());
-            var os = new ByteArrayOutputStream();
-            try (var baseSerializer = possibleTypes.get(initialEventType.value()).apply(os, headers)) {
+            writer.writeEncodedHeaders(eventHeaders.get(initialEventType.value()));
+            try (var serializer = createEventSerializer()) {
                 SchemaUtils.withFilteredMembers(item.schema(), item, AwsEventShapeEncoder::excludeEventStreamMember)
-                        .serialize(baseSerializer);
+                        .serialize(serializer);
+            }
+        } else {
+            memberSerializer.written = false;
+            item.serializeMembers(memberSerializer);
+            if (!memberSerializer.written) {
+                throw new IllegalArgumentException("Event does not set a known event stream member: "
+                        + item.schema().id());
             }
-            return os.toByteArray();
         }
-        var os = new ByteArrayOutputStream();
-        var serializer = new SpecificShapeSerializer() {
-            @Override
-            public void writeStruct(Schema schema, SerializableStruct struct) {
-                var memberName = schema.memberName();
-                if (possibleTypes.containsKey(memberName) &&
-                        typeHolder.compareAndSet(null, schema.memberName())) {
-                    try (var baseSerializer = possibleTypes.get(memberName).apply(os, headers)) {
-                        baseSerializer.writeStruct(schema, struct);
-                    }
+        return new AwsEventFrame(writer.finish());
+    }
+
+    private ShapeSerializer createEventSerializer() {
+        return new EventSerializer(writer.headerSerializer(), codec.createSerializer(writer.payload()));
+    }
+
+    /**
+     * Serializes the first event member that is set, ignoring any others.
+     */
+    private final class EventMemberSerializer extends SpecificShapeSerializer {
+        private boolean written;
+
+        @Override
+        public void writeStruct(Schema schema, SerializableStruct struct) {
+            if (written) {
+                return;
+            }
+            var headers = eventHeaders.get(schema.memberName());
+            if (headers != null) {
+                written = true;
+                writer.writeEncodedHeaders(headers);
+                try (var serializer = createEventSerializer()) {
+                    serializer.writeStruct(schema, struct);
                 }
             }
-        };
-        item.serializeMembers(serializer);
-        return os.toByteArray();
+        }
     }
 
     private boolean isInitialRequest(Schema schema) {
@@ -149,21 +153,29 @@ public final class AwsEventShapeEncoder implements EventEncoder<AwsEventFrame> {
 
     }
 
-    static Map<String, BiFunction<OutputStream, Map<String, HeaderValue>, ShapeSerializer>> possibleTypes(
-            Schema eventSchema,
-            Codec codec,
-            String initialEventType
-    ) {
-        var result = new HashMap<String, BiFunction<OutputStream, Map<String, HeaderValue>, ShapeSerializer>>();
-        var factory = new EventShapeSerializerFactory(codec);
+    /**
+     * Precomputes the encoded {@code :message-type}, {@code :event-type}, and {@code :content-type} headers of each
+     * event member, keyed by member name.
+     */
+    static Map<String, byte[]> eventHeaders(Schema eventSchema, String payloadMediaType, String initialEventType) {
+        var result = new HashMap<String, byte[]>();
         for (var memberSchema : eventSchema.members()) {
-            String memberName = memberSchema.memberName();
-            result.put(memberName, factory::createSerializer);
+            result.put(memberSchema.memberName(), encodeEventHeaders(memberSchema.memberName(), payloadMediaType));
         }
-        result.put(initialEventType, factory::createSerializer);
+        result.put(initialEventType, encodeEventHeaders(initialEventType, payloadMediaType));
         return Collections.unmodifiableMap(result);
     }
 
+    private static byte[] encodeEventHeaders(String eventType, String payloadMediaType) {
+        return EventFrameWriter.encodeStringHeaders(
+                ":message-type",
+                "event",
+                ":event-type",
+                eventType,
+                ":content-type",
+                payloadMediaType);
+    }
+
     static Map<ShapeId, Schema> possibleExceptions(Schema eventSchema) {
         var result = new HashMap<ShapeId, Schema>();
         for (var memberSchema : eventSchema.members()) {
@@ -176,25 +188,11 @@ public final class AwsEventShapeEncoder implements EventEncoder<AwsEventFrame> {
         return Collections.unmodifiableMap(result);
     }
 
-    static class EventShapeSerializerFactory {
-        private final Codec codec;
-
-        EventShapeSerializerFactory(Codec codec) {
-            this.codec = codec;
-        }
-
-        public ShapeSerializer createSerializer(OutputStream out, Map<String, HeaderValue> headers) {
-            var eventSerializer = new EventHeaderSerializer(headers);
-            var baseSerializer = codec.createSerializer(out);
-            return new EventSerializer(eventSerializer, baseSerializer);
-        }
-    }
-
     static class EventSerializer extends SpecificShapeSerializer {
-        private final EventHeaderSerializer headerSerializer;
+        private final ShapeSerializer headerSerializer;
         private final ShapeSerializer baseSerializer;
 
-        public EventSerializer(EventHeaderSerializer headerSerializer, ShapeSerializer baseSerializer) {
+        public EventSerializer(ShapeSerializer headerSerializer, ShapeSerializer baseSerializer) {
             this.headerSerializer = headerSerializer;
             this.baseSerializer = baseSerializer;
         }
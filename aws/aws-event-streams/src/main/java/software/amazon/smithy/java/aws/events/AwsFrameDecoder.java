@@ -8,13 +8,16 @@ package software.amazon.smithy.java.aws.events;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import software.amazon.eventstream.Message;
 import software.amazon.eventstream.MessageDecoder;
 import software.amazon.smithy.java.core.serde.event.FrameDecoder;
 import software.amazon.smithy.java.core.serde.event.FrameTransformer;
 
 public final class AwsFrameDecoder implements FrameDecoder<AwsEventFrame> {
-    private final MessageDecoder decoder = new MessageDecoder();
+    private final MessageDecoder decoder = new MessageDecoder(this::onMessage);
     private final FrameTransformer<AwsEventFrame> transformer;
+    private Consumer<? super AwsEventFrame> consumer;
 
     public AwsFrameDecoder(FrameTransformer<AwsEventFrame> transformer) {
         this.transformer = transformer;
@@ -22,16 +25,25 @@ public final class AwsFrameDecoder implements FrameDecoder<AwsEventFrame> {
 
     @Override
     public List<AwsEventFrame> decode(ByteBuffer buffer) {
-        decoder.feed(buffer);
-        var messages = decoder.getDecodedMessages();
         var result = new ArrayList<AwsEventFrame>();
-        for (var message : messages) {
-            var event = new AwsEventFrame(message);
-            var transformed = transformer.apply(event);
-            if (transformed != null) {
-                result.add(transformed);
-            }
-        }
+        decode(buffer, result::add);
         return result;
     }
+
+    @Override
+    public void decode(ByteBuffer buffer, Consumer<? super AwsEventFrame> consumer) {
+        this.consumer = consumer;
+        try {
+            decoder.feed(buffer);
+        } finally {
+            this.consumer = null;
+        }
+    }
+
+    private void onMessage(Message message) {
+        var transformed = transformer.apply(new AwsEventFrame(message));
+        if (transformed != null) {
+            consumer.accept(transformed);
+        }
+    }
 }
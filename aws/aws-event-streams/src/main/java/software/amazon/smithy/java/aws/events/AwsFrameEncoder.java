@@ -12,6 +12,6 @@ public final class AwsFrameEncoder implements FrameEncoder<AwsEventFrame> {
 
     @Override
     public ByteBuffer encode(AwsEventFrame frame) {
-        return frame.unwrap().toByteBuffer();
+        return frame.toByteBuffer();
     }
 }
@@ -0,0 +1,268 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.events;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import software.amazon.smithy.java.core.schema.Schema;
+import software.amazon.smithy.java.core.schema.SerializableStruct;
+import software.amazon.smithy.java.core.serde.ShapeSerializer;
+import software.amazon.smithy.java.core.serde.SpecificShapeSerializer;
+
+/**
+ * Writes event stream messages directly in the binary wire format.
+ *
+ * <p>Headers and payload are accumulated in scratch buffers that are reused from one message to the next, and
+ * {@link #finish()} assembles them into a single, exactly sized buffer with the prelude and message CRC32s computed
+ * in place. Instances are not thread-safe and are owned by a single encoder.
+ */
+final class EventFrameWriter {
+
+    private static final int PRELUDE_LENGTH = 12;
+    private static final int CRC_LENGTH = 4;
+    private static final int MAX_HEADER_NAME_LENGTH = 255;
+    private static final int MAX_HEADER_VALUE_LENGTH = Short.MAX_VALUE;
+
+    private static final byte TYPE_TRUE = 0;
+    private static final byte TYPE_FALSE = 1;
+    private static final byte TYPE_BYTE = 2;
+    private static final byte TYPE_SHORT = 3;
+    private static final byte TYPE_INTEGER = 4;
+    private static final byte TYPE_LONG = 5;
+    private static final byte TYPE_BYTE_ARRAY = 6;
+    private static final byte TYPE_STRING = 7;
+    private static final byte TYPE_TIMESTAMP = 8;
+
+    private final Buffer headers = new Buffer(128);
+    private final Buffer payload = new Buffer(1024);
+    private final CRC32 crc = new CRC32();
+    private final HeaderSerializer headerSerializer = new HeaderSerializer();
+
+    /**
+     * Encodes string headers ahead of time so they can be copied into each message verbatim.
+     *
+     * @param nameValuePairs Alternating header names and string values.
+     * @return the encoded headers.
+     */
+    static byte[] encodeStringHeaders(String... nameValuePairs) {
+        var buffer = new Buffer(64);
+        for (int i = 0; i < nameValuePairs.length; i += 2) {
+            writeName(buffer, nameValuePairs[i]);
+            writeBytes(buffer, TYPE_STRING, nameValuePairs[i + 1].getBytes(StandardCharsets.UTF_8));
+        }
+        return Arrays.copyOf(buffer.buf, buffer.count);
+    }
+
+    /**
+     * Discards anything written for the current message.
+     */
+    void reset() {
+        headers.reset();
+        payload.reset();
+    }
+
+    /**
+     * Appends pre-encoded headers created with {@link #encodeStringHeaders}.
+     *
+     * @param encodedHeaders Headers to append.
+     */
+    void writeEncodedHeaders(byte[] encodedHeaders) {
+        headers.write(encodedHeaders, 0, encodedHeaders.length);
+    }
+
+    /**
+     * Get a serializer that writes event header members as message headers.
+     *
+     * @return the reusable header serializer.
+     */
+    ShapeSerializer headerSerializer() {
+        return headerSerializer;
+    }
+
+    /**
+     * Get the stream that receives the message payload.
+     *
+     * @return the reusable payload stream.
+     */
+    OutputStream payload() {
+        return payload;
+    }
+
+    /**
+     * Assemble the current headers and payload into a message and reset the writer.
+     *
+     * @return the encoded message.
+     */
+    ByteBuffer finish() {
+        int headersLength = headers.count;
+        int payloadLength = payload.count;
+        int totalLength = PRELUDE_LENGTH + headersLength + payloadLength + CRC_LENGTH;
+        var frame = new byte[totalLength];
+        putInt(frame, 0, totalLength);
+        putInt(frame, 4, headersLength);
+        crc.reset();
+        crc.update(frame, 0, 8);
+        putInt(frame, 8, (int) crc.getValue());
+        System.arraycopy(headers.buf, 0, frame, PRELUDE_LENGTH, headersLength);
+        System.arraycopy(payload.buf, 0, frame, PRELUDE_LENGTH + headersLength, payloadLength);
+        // The message CRC covers everything before it, so continue from the prelude CRC state.
+        crc.update(frame, 8, totalLength - PRELUDE_LENGTH);
+        putInt(frame, totalLength - CRC_LENGTH, (int) crc.getValue());
+        reset();
+        return ByteBuffer.wrap(frame);
+    }
+
+    private static void putInt(byte[] buf, int offset, int value) {
+        buf[offset] = (byte) (value >>> 24);
+        buf[offset + 1] = (byte) (value >>> 16);
+        buf[offset + 2] = (byte) (value >>> 8);
+        buf[offset + 3] = (byte) value;
+    }
+
+    private static void writeName(Buffer out, String name) {
+        var bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_HEADER_NAME_LENGTH) {
+            throw new IllegalArgumentException("Event header name is too long: " + name);
+        }
+        out.write(bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static void writeBytes(Buffer out, byte type, byte[] value) {
+        if (value.length > MAX_HEADER_VALUE_LENGTH) {
+            throw new IllegalArgumentException("Event header value is too long: " + value.length + " bytes");
+        }
+        out.write(type);
+        out.writeShort(value.length);
+        out.write(value, 0, value.length);
+    }
+
+    private final class HeaderSerializer extends SpecificShapeSerializer {
+        @Override
+        public void writeBoolean(Schema schema, boolean value) {
+            writeName(headers, schema.memberName());
+            headers.write(value ? TYPE_TRUE : TYPE_FALSE);
+        }
+
+        @Override
+        public void writeByte(Schema schema, byte value) {
+            writeName(headers, schema.memberName());
+            headers.write(TYPE_BYTE);
+            headers.write(value);
+        }
+
+        @Override
+        public void writeShort(Schema schema, short value) {
+            writeName(headers, schema.memberName());
+            headers.write(TYPE_SHORT);
+            headers.writeShort(value);
+        }
+
+        @Override
+        public void writeInteger(Schema schema, int value) {
+            writeName(headers, schema.memberName());
+            headers.write(TYPE_INTEGER);
+            headers.writeInt(value);
+        }
+
+        @Override
+        public void writeLong(Schema schema, long value) {
+            writeName(headers, schema.memberName());
+            headers.write(TYPE_LONG);
+            headers.writeLong(value);
+        }
+
+        @Override
+        public void writeString(Schema schema, String value) {
+            writeName(headers, schema.memberName());
+            writeBytes(headers, TYPE_STRING, value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void writeBlob(Schema schema, ByteBuffer value) {
+            writeName(headers, schema.memberName());
+            var bytes = new byte[value.remaining()];
+            value.duplicate().get(bytes);
+            writeBytes(headers, TYPE_BYTE_ARRAY, bytes);
+        }
+
+        @Override
+        public void writeTimestamp(Schema schema, Instant value) {
+            writeName(headers, schema.memberName());
+            headers.write(TYPE_TIMESTAMP);
+            headers.writeLong(value.toEpochMilli());
+        }
+
+        @Override
+        public void writeStruct(Schema schema, SerializableStruct struct) {
+            struct.serializeMembers(this);
+        }
+    }
+
+    /**
+     * An unsynchronized, growable byte buffer that shrinks back after an unusually large message.
+     */
+    private static final class Buffer extends OutputStream {
+        private static final int MAX_RETAINED = 1024 * 1024;
+
+        private final int initialCapacity;
+        private byte[] buf;
+        private int count;
+
+        Buffer(int initialCapacity) {
+            this.initialCapacity = initialCapacity;
+            this.buf = new byte[initialCapacity];
+        }
+
+        void reset() {
+            count = 0;
+            if (buf.length > MAX_RETAINED) {
+                buf = new byte[initialCapacity];
+            }
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(1);
+            buf[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureCapacity(len);
+            System.arraycopy(b, off, buf, count, len);
+            count += len;
+        }
+
+        void writeShort(int value) {
+            ensureCapacity(2);
+            buf[count++] = (byte) (value >>> 8);
+            buf[count++] = (byte) value;
+        }
+
+        void writeInt(int value) {
+            ensureCapacity(4);
+            putInt(buf, count, value);
+            count += 4;
+        }
+
+        void writeLong(long value) {
+            writeInt((int) (value >>> 32));
+            writeInt((int) value);
+        }
+
+        private void ensureCapacity(int additional) {
+            int required = count + additional;
+            if (required > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(required, buf.length << 1));
+            }
+        }
+    }
+}
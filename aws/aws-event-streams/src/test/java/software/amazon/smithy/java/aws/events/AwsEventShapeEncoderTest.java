@@ -11,6 +11,7 @@ import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 import software.amazon.eventstream.HeaderValue;
+import software.amazon.eventstream.Message;
 import software.amazon.smithy.java.aws.events.model.BodyAndHeaderEvent;
 import software.amazon.smithy.java.aws.events.model.HeadersOnlyEvent;
 import software.amazon.smithy.java.aws.events.model.StringEvent;
@@ -130,6 +131,60 @@ class AwsEventShapeEncoderTest {
         assertEquals("\"hello world!\"", new String(result.unwrap().getPayload()));
     }
 
+    @Test
+    public void testEncodesSingleFrameWithValidChecksums() {
+        // Arrange
+        var encoder = createEncoder();
+        var event = TestEventStream.builder()
+                .bodyAndHeaderMember(BodyAndHeaderEvent.builder()
+                        .intMember(123)
+                        .stringMember("Hello world!")
+                        .build())
+                .build();
+
+        // Act
+        var bytes = new AwsFrameEncoder().encode(encoder.encode(event));
+
+        // Assert
+        assertEquals(bytes.remaining(), bytes.getInt(bytes.position()));
+        // Decoding verifies both the prelude and message CRCs.
+        var message = Message.decode(bytes);
+        var expectedHeaders = new HeadersBuilder()
+                .contentType("text/json")
+                .eventType("bodyAndHeaderMember")
+                .put("intMember", 123)
+                .build();
+        assertEquals(expectedHeaders, message.getHeaders());
+        assertEquals("{\"stringMember\":\"Hello world!\"}", new String(message.getPayload()));
+    }
+
+    @Test
+    public void testReusesEncoderAcrossEvents() {
+        // Arrange
+        var encoder = createEncoder();
+        var first = TestEventStream.builder()
+                .bodyAndHeaderMember(BodyAndHeaderEvent.builder()
+                        .intMember(1)
+                        .stringMember("a much longer first payload")
+                        .build())
+                .build();
+        var second = TestEventStream.builder()
+                .structureMember(StructureEvent.builder().foo("bar").build())
+                .build();
+
+        // Act
+        encoder.encode(first);
+        var result = encoder.encode(second);
+
+        // Assert
+        var expectedHeaders = new HeadersBuilder()
+                .contentType("text/json")
+                .eventType("structureMember")
+                .build();
+        assertEquals(expectedHeaders, result.unwrap().getHeaders());
+        assertEquals("{\"foo\":\"bar\"}", new String(result.unwrap().getPayload()));
+    }
+
     static AwsEventShapeEncoder createEncoder() {
         return new AwsEventShapeEncoder(InitialEventType.INITIAL_REQUEST,
                 TestOperation.instance().inputStreamMember(), // event schema
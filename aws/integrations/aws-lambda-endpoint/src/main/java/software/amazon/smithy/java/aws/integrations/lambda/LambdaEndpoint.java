@@ -27,12 +27,12 @@ import software.amazon.smithy.java.server.core.HandlerAssembler;
 import software.amazon.smithy.java.server.core.HttpJob;
 import software.amazon.smithy.java.server.core.HttpRequest;
 import software.amazon.smithy.java.server.core.HttpResponse;
+import software.amazon.smithy.java.server.core.InlineOrchestrator;
 import software.amazon.smithy.java.server.core.Orchestrator;
 import software.amazon.smithy.java.server.core.ProtocolResolver;
 import software.amazon.smithy.java.server.core.ServiceMatcher;
 import software.amazon.smithy.java.server.core.ServiceProtocolResolutionRequest;
 import software.amazon.smithy.java.server.core.ServiceProtocolResolutionResult;
-import software.amazon.smithy.java.server.core.SingleThreadOrchestrator;
 import software.amazon.smithy.utils.SmithyUnstableApi;
 
 /**
@@ -62,6 +62,7 @@ public final class LambdaEndpoint implements RequestHandler<ProxyRequest, ProxyR
         ORCHESTRATOR = buildOrchestrator(SERVICES);
         RESOLVER = buildProtocolResolver(SERVICES);
         // TODO: Add some kind of configuration object
+        prime(LOADER);
     }
 
     public LambdaEndpoint() {}
@@ -83,7 +84,36 @@ public final class LambdaEndpoint implements RequestHandler<ProxyRequest, ProxyR
 
     private static Orchestrator buildOrchestrator(List<Service> services) {
         List<Handler> handlers = new HandlerAssembler().assembleHandlers(services);
-        return new SingleThreadOrchestrator(handlers);
+        // Lambda sends one request at a time to an execution environment, so handlers run on the invoking thread.
+        return new InlineOrchestrator(handlers);
+    }
+
+    /**
+     * Loads and initializes what the request path needs during Lambda's init phase, which is billed separately and
+     * runs before a SnapStart snapshot is taken, rather than during the first invocation.
+     */
+    private static void prime(ServiceLoader<SmithyServiceProvider> loader) {
+        for (var service : SERVICES) {
+            service.schema();
+            service.typeRegistry();
+            for (var operation : service.getAllOperations()) {
+                var apiOperation = operation.getApiOperation();
+                apiOperation.inputSchema();
+                apiOperation.outputSchema();
+                apiOperation.errorRegistry();
+                apiOperation.inputBuilder();
+                apiOperation.outputBuilder();
+            }
+        }
+        for (var provider : loader) {
+            for (var request : provider.primingRequests()) {
+                try {
+                    ORCHESTRATOR.enqueue(getJob(request, RESOLVER)).get();
+                } catch (Exception e) {
+                    LOGGER.debug("Priming request failed: ", e);
+                }
+            }
+        }
     }
 
     private static ProtocolResolver buildProtocolResolver(List<Service> services) {
@@ -93,7 +123,7 @@ public final class LambdaEndpoint implements RequestHandler<ProxyRequest, ProxyR
 
     private static HttpRequest getRequest(ProxyRequest proxyRequest) {
         String method = proxyRequest.getHttpMethod();
-        String encodedUri = URLEncoder.encode(proxyRequest.getPath(), StandardCharsets.UTF_8);
+        String encodedUri = encode(proxyRequest.getPath());
         ModifiableHttpHeaders headers = HttpHeaders.ofModifiable();
         if (proxyRequest.getMultiValueHeaders() != null && !proxyRequest.getMultiValueHeaders().isEmpty()) {
             // TODO: handle single-value headers?
@@ -107,17 +137,16 @@ public final class LambdaEndpoint implements RequestHandler<ProxyRequest, ProxyR
             // TODO: handle single-value params?
             // -- APIGW puts the actual params in both, but only the latest param per key
             Map<String, List<String>> params = proxyRequest.getMultiValueQueryStringParameters();
-            StringBuilder encodedParams = new StringBuilder();
+            StringBuilder encodedUriWithParams = new StringBuilder(encodedUri.length() + 64).append(encodedUri);
+            char separator = '?';
             for (Map.Entry<String, List<String>> entry : params.entrySet()) {
+                String encodedKey = encode(entry.getKey());
                 for (String value : entry.getValue()) {
-                    encodedParams.append(URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8));
-                    encodedParams.append('=');
-                    encodedParams.append(URLEncoder.encode(value, StandardCharsets.UTF_8));
-                    encodedParams.append('&');
+                    encodedUriWithParams.append(separator).append(encodedKey).append('=').append(encode(value));
+                    separator = '&';
                 }
             }
-            encodedParams.setLength(encodedParams.length() - 1);
-            uri = URI.create(encodedUri + "?" + encodedParams);
+            uri = URI.create(encodedUriWithParams.toString());
         } else {
             // TODO: handle stage?
             uri = URI.create(encodedUri);
@@ -129,7 +158,8 @@ public final class LambdaEndpoint implements RequestHandler<ProxyRequest, ProxyR
             // TODO: handle base64 encoding
             byte[] bytes;
             if (proxyRequest.getIsBase64Encoded()) {
-                bytes = Base64.getDecoder().decode(proxyRequest.getBody());
+                // Base64 is ASCII, so the body's Latin-1 bytes are copied straight out of the string.
+                bytes = Base64.getDecoder().decode(proxyRequest.getBody().getBytes(StandardCharsets.ISO_8859_1));
             } else {
                 bytes = proxyRequest.getBody().getBytes(StandardCharsets.UTF_8);
             }
@@ -149,7 +179,7 @@ public final class LambdaEndpoint implements RequestHandler<ProxyRequest, ProxyR
         return job;
     }
 
-    private static ProxyResponse getResponse(HttpResponse httpResponse, boolean shouldBase64Encode) {
+    static ProxyResponse getResponse(HttpResponse httpResponse, boolean shouldBase64Encode) {
         // TODO: Add response headers
         ProxyResponse.Builder builder = ProxyResponse.builder()
                 .multiValueHeaders(httpResponse.headers().map())
@@ -159,11 +189,14 @@ public final class LambdaEndpoint implements RequestHandler<ProxyRequest, ProxyR
         if (val != null) {
             ByteBuffer buf = val.waitForByteBuffer();
             String body;
-            // TODO: handle base64 encoding better
             if (shouldBase64Encode) {
                 builder.isBase64Encoded(true);
-                // TODO: don't use array(), or determine if we can just *not* use `String` for the body
-                body = Base64.getEncoder().encodeToString(buf.array());
+                // Only the buffer's remaining bytes are encoded, and the ASCII output becomes the string as is.
+                ByteBuffer encoded = Base64.getEncoder().encode(buf);
+                body = new String(encoded.array(), 0, encoded.limit(), StandardCharsets.ISO_8859_1);
+            } else if (buf.hasArray()) {
+                body = new String(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining(),
+                        StandardCharsets.UTF_8);
             } else {
                 body = StandardCharsets.UTF_8.decode(buf).toString();
             }
@@ -173,4 +206,21 @@ public final class LambdaEndpoint implements RequestHandler<ProxyRequest, ProxyR
         ProxyResponse response = builder.build();
         return response;
     }
+
+    /**
+     * Encodes a value like {@link URLEncoder} does, without allocating when it has nothing to encode.
+     */
+    private static String encode(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!isUnencoded(value.charAt(i))) {
+                return URLEncoder.encode(value, StandardCharsets.UTF_8);
+            }
+        }
+        return value;
+    }
+
+    private static boolean isUnencoded(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '_' || c == '.' || c == '*';
+    }
 }
@@ -5,7 +5,9 @@
 
 package software.amazon.smithy.java.aws.integrations.lambda;
 
+import java.util.List;
 import software.amazon.smithy.java.server.Service;
+import software.amazon.smithy.java.server.core.HttpRequest;
 import software.amazon.smithy.utils.SmithyUnstableApi;
 
 /*
@@ -14,4 +16,16 @@ import software.amazon.smithy.utils.SmithyUnstableApi;
 @SmithyUnstableApi
 public interface SmithyServiceProvider {
     Service get();
+
+    /**
+     * Requests to run through the endpoint while it initializes, so that the protocols, codecs and schemas they use
+     * are loaded before the first invocation or before a SnapStart snapshot is taken.
+     *
+     * <p>Responses are discarded, so these requests should not have side effects.
+     *
+     * @return the requests to prime the endpoint with.
+     */
+    default List<HttpRequest> primingRequests() {
+        return List.of();
+    }
 }
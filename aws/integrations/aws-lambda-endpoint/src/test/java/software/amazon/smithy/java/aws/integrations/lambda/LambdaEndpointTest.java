@@ -0,0 +1,66 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.integrations.lambda;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.java.http.api.HttpHeaders;
+import software.amazon.smithy.java.io.datastream.DataStream;
+import software.amazon.smithy.java.server.core.HttpResponse;
+
+public class LambdaEndpointTest {
+
+    @Test
+    public void primesServicesDuringInit() {
+        new LambdaEndpoint();
+
+        assertThat(TestServiceProvider.PRIMING_REQUEST_CALLS.get(), equalTo(1));
+        assertThat(TestServiceProvider.LOADED,
+                containsInAnyOrder(
+                        "service.schema",
+                        "service.typeRegistry",
+                        "operation.inputSchema",
+                        "operation.outputSchema",
+                        "operation.errorRegistry",
+                        "operation.inputBuilder",
+                        "operation.outputBuilder"));
+    }
+
+    @Test
+    public void encodesOnlyRemainingBytesOfResponse() {
+        var response = responseWithBody(ByteBuffer.wrap("--hello".getBytes(StandardCharsets.UTF_8)).position(2));
+
+        var proxyResponse = LambdaEndpoint.getResponse(response, true);
+
+        assertThat(proxyResponse.getIsBase64Encoded(), is(true));
+        assertThat(proxyResponse.getBody(),
+                equalTo(Base64.getEncoder().encodeToString("hello".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    public void decodesOnlyRemainingBytesOfResponse() {
+        var response = responseWithBody(ByteBuffer.wrap("--hello".getBytes(StandardCharsets.UTF_8)).position(2));
+
+        var proxyResponse = LambdaEndpoint.getResponse(response, false);
+
+        assertThat(proxyResponse.getBody(), equalTo("hello"));
+        assertThat(proxyResponse.getStatusCode(), equalTo(200));
+    }
+
+    private static HttpResponse responseWithBody(ByteBuffer body) {
+        var response = new HttpResponse(HttpHeaders.ofModifiable());
+        response.setStatusCode(200);
+        response.setSerializedValue(DataStream.ofByteBuffer(body));
+        return response;
+    }
+}
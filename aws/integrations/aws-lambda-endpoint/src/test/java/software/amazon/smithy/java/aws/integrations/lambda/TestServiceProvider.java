@@ -0,0 +1,129 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.integrations.lambda;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.smithy.java.core.schema.ApiOperation;
+import software.amazon.smithy.java.core.schema.ApiService;
+import software.amazon.smithy.java.core.schema.Schema;
+import software.amazon.smithy.java.core.schema.SchemaIndex;
+import software.amazon.smithy.java.core.schema.SerializableStruct;
+import software.amazon.smithy.java.core.schema.ShapeBuilder;
+import software.amazon.smithy.java.core.serde.TypeRegistry;
+import software.amazon.smithy.java.http.api.HttpHeaders;
+import software.amazon.smithy.java.server.Operation;
+import software.amazon.smithy.java.server.Service;
+import software.amazon.smithy.java.server.core.HttpRequest;
+import software.amazon.smithy.model.shapes.ShapeId;
+
+/**
+ * Registers a service that records which parts of it the endpoint loads while priming.
+ */
+public final class TestServiceProvider implements SmithyServiceProvider {
+
+    static final Set<String> LOADED = ConcurrentHashMap.newKeySet();
+    static final AtomicInteger PRIMING_REQUEST_CALLS = new AtomicInteger();
+
+    private static final Service SERVICE = new RecordingService();
+
+    @Override
+    public Service get() {
+        return SERVICE;
+    }
+
+    @Override
+    public List<HttpRequest> primingRequests() {
+        PRIMING_REQUEST_CALLS.incrementAndGet();
+        // No protocol is on the test classpath, so this request fails to resolve, which must not fail the init.
+        return List.of(new HttpRequest(HttpHeaders.of(Map.of()), URI.create("/"), "POST"));
+    }
+
+    private static final class RecordingService implements Service {
+        private final List<Operation<? extends SerializableStruct, ? extends SerializableStruct>> operations =
+                List.of(Operation.of("Ping", (input, context) -> null, new RecordingApiOperation(), this));
+
+        @Override
+        public <I extends SerializableStruct, O extends SerializableStruct> Operation<I, O> getOperation(
+                String operationName
+        ) {
+            return null;
+        }
+
+        @Override
+        public List<Operation<? extends SerializableStruct, ? extends SerializableStruct>> getAllOperations() {
+            return operations;
+        }
+
+        @Override
+        public Schema schema() {
+            LOADED.add("service.schema");
+            return null;
+        }
+
+        @Override
+        public TypeRegistry typeRegistry() {
+            LOADED.add("service.typeRegistry");
+            return TypeRegistry.empty();
+        }
+
+        @Override
+        public SchemaIndex schemaIndex() {
+            return null;
+        }
+    }
+
+    private static final class RecordingApiOperation implements ApiOperation<SerializableStruct, SerializableStruct> {
+        @Override
+        public ShapeBuilder<SerializableStruct> inputBuilder() {
+            LOADED.add("operation.inputBuilder");
+            return null;
+        }
+
+        @Override
+        public ShapeBuilder<SerializableStruct> outputBuilder() {
+            LOADED.add("operation.outputBuilder");
+            return null;
+        }
+
+        @Override
+        public Schema schema() {
+            return null;
+        }
+
+        @Override
+        public Schema inputSchema() {
+            LOADED.add("operation.inputSchema");
+            return null;
+        }
+
+        @Override
+        public Schema outputSchema() {
+            LOADED.add("operation.outputSchema");
+            return null;
+        }
+
+        @Override
+        public TypeRegistry errorRegistry() {
+            LOADED.add("operation.errorRegistry");
+            return TypeRegistry.empty();
+        }
+
+        @Override
+        public List<ShapeId> effectiveAuthSchemes() {
+            return List.of();
+        }
+
+        @Override
+        public ApiService service() {
+            return null;
+        }
+    }
+}
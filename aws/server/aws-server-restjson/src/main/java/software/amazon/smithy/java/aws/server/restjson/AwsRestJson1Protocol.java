@@ -26,6 +26,7 @@ import software.amazon.smithy.java.http.api.HttpRequest;
 import software.amazon.smithy.java.http.api.HttpResponse;
 import software.amazon.smithy.java.http.binding.HttpBinding;
 import software.amazon.smithy.java.http.binding.ResponseSerializer;
+import software.amazon.smithy.java.io.uri.QueryStringView;
 import software.amazon.smithy.java.io.uri.URLEncoding;
 import software.amazon.smithy.java.json.JsonCodec;
 import software.amazon.smithy.java.server.Operation;
@@ -35,7 +36,6 @@ import software.amazon.smithy.java.server.core.Job;
 import software.amazon.smithy.java.server.core.ServerProtocol;
 import software.amazon.smithy.java.server.core.ServiceProtocolResolutionRequest;
 import software.amazon.smithy.java.server.core.ServiceProtocolResolutionResult;
-import software.amazon.smithy.model.pattern.SmithyPattern;
 import software.amazon.smithy.model.shapes.ShapeId;
 
 final class AwsRestJson1Protocol extends ServerProtocol {
@@ -43,6 +43,7 @@ final class AwsRestJson1Protocol extends ServerProtocol {
     private static final Context.Key<
             ValuedMatch<Operation<? extends SerializableStruct, ? extends SerializableStruct>>> MATCH_KEY = Context
                     .key("Aws Rest Json1 Valued Match");
+    private static final Context.Key<QueryStringView> QUERY_KEY = Context.key("Aws Rest Json1 Query String");
 
     private final Codec codec;
     private final Map<String, UriMatcherMap<Operation<?, ?>>> httpMethodToMatchersMap;
@@ -62,6 +63,7 @@ final class AwsRestJson1Protocol extends ServerProtocol {
                         .toString();
                 httpMethodToMatchers.computeIfAbsent(method, k -> UriTreeMatcherMap.builder())
                         .add(UriPattern.forSpecificityRouting(pattern), operation);
+                httpBinding.prepare(operation.getApiOperation());
             }
         }
         this.httpMethodToMatchersMap = httpMethodToMatchers.entrySet()
@@ -83,21 +85,19 @@ final class AwsRestJson1Protocol extends ServerProtocol {
             ServiceProtocolResolutionRequest request,
             List<Service> candidates
     ) {
-        var uri = request.uri().getPath();
-        String rawQuery = request.uri().getRawQuery();
-        if (rawQuery != null) {
-            uri += "?" + rawQuery;
-        }
         var matcher = httpMethodToMatchersMap.get(request.method());
         if (matcher == null) {
             return null;
         }
+        // The router and the deserializer share one view of the query string, so it is only parsed once.
+        var query = QueryStringView.of(request.uri().getRawQuery());
         ValuedMatch<Operation<? extends SerializableStruct, ? extends SerializableStruct>> selectedOperation = matcher
-                .match(uri);
+                .match(request.uri().getPath(), query);
         if (selectedOperation == null) {
             return null;
         }
         request.requestContext().put(MATCH_KEY, selectedOperation);
+        request.requestContext().put(QUERY_KEY, query);
 
         return new ServiceProtocolResolutionResult(
                 selectedOperation.getValue().getOwningService(),
@@ -115,24 +115,16 @@ final class AwsRestJson1Protocol extends ServerProtocol {
 
         var httpJob = job.asHttpJob();
         var selectedOperation = job.request().context().get(MATCH_KEY);
-        Map<String, String> labelValues = new HashMap<>();
-        for (SmithyPattern.Segment label : job.operation()
-                .getApiOperation()
-                .schema()
-                .expectTrait(TraitKey.HTTP_TRAIT)
-                .getUri()
-                .getLabels()) {
-            var values = selectedOperation.getLabelValues(label.getContent());
-            if (values != null) {
-                labelValues.put(label.getContent(), URLEncoding.urlDecode(values.get(0)));
-            }
-        }
         HttpHeaders headers = httpJob.request().headers();
         var inputShapeBuilder = job.operation().getApiOperation().inputBuilder();
         var deser = httpBinding
                 .requestDeserializer()
                 .inputShapeBuilder(inputShapeBuilder)
-                .pathLabelValues(labelValues)
+                // Labels are only decoded for the members the input binds.
+                .pathLabelValues(label -> {
+                    var values = selectedOperation.getLabelValues(label);
+                    return values == null ? null : URLEncoding.urlDecode(values.get(0));
+                })
                 .request(
                         HttpRequest.builder()
                                 .headers(headers)
@@ -142,6 +134,10 @@ final class AwsRestJson1Protocol extends ServerProtocol {
                                 .build())
                 .payloadCodec(codec)
                 .payloadMediaType("application/json");
+        var query = job.request().context().get(QUERY_KEY);
+        if (query != null) {
+            deser.queryString(query);
+        }
 
         try {
             deser.deserialize();
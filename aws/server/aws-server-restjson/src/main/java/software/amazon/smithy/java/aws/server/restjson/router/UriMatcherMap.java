@@ -5,6 +5,8 @@
 
 package software.amazon.smithy.java.aws.server.restjson.router;
 
+import software.amazon.smithy.java.io.uri.QueryStringView;
+
 /**
  * Represents a set of mapping between a URI patterns to values of a
  * generic type T. The match method can be used to match a concrete
@@ -23,4 +25,19 @@ public interface UriMatcherMap<T> {
      * labels and the mapped value.
      */
     ValuedMatch<T> match(String uri);
+
+    /**
+     * Matches a path and an already parsed query string.
+     *
+     * <p>This avoids joining the path and query back into a URI when they are already separate, and lets the caller
+     * share the query string view with whatever deserializes the request.
+     *
+     * @param path The path to match against.
+     * @param query The query string of the request.
+     * @return The ValuedMatch instance that contains the captured
+     * labels and the mapped value.
+     */
+    default ValuedMatch<T> match(String path, QueryStringView query) {
+        return match(query.isEmpty() ? path : path + "?" + query);
+    }
 }
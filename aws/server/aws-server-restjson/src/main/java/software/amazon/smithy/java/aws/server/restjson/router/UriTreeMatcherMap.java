@@ -14,6 +14,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.function.Supplier;
 import software.amazon.smithy.java.io.uri.QueryStringParser;
+import software.amazon.smithy.java.io.uri.QueryStringView;
 
 /**
  * A tree based URI Matcher map that implements path specificity URI
@@ -49,7 +50,18 @@ public final class UriTreeMatcherMap<T> implements UriMatcherMap<T> {
 
     @Override
     public ValuedMatch<T> match(String uri) {
-        ParsedUri parsedUri = new ParsedUri(uri, allowEmptyPathSegments);
+        return match(new ParsedUri(uri, allowEmptyPathSegments));
+    }
+
+    @Override
+    public ValuedMatch<T> match(String path, QueryStringView query) {
+        return match(new ParsedUri(
+                query,
+                ParsedUri.getPathSegments(QueryStringParser.getRawPath(path), allowEmptyPathSegments),
+                allowEmptyPathSegments));
+    }
+
+    private ValuedMatch<T> match(ParsedUri parsedUri) {
         TreeMatch<T> result = root.route(parsedUri);
         if (result.matches()) {
             return result;
@@ -143,23 +155,19 @@ public final class UriTreeMatcherMap<T> implements UriMatcherMap<T> {
      */
     static class ParsedUri {
         private static final List<String> SINGLE_EMPTY_SEGMENT = List.of("");
-        private final String query;
-        private final Supplier<Map<String, List<String>>> queryValuesSupplier;
+        private final QueryStringView query;
         private final List<String> segments;
         private final boolean allowEmptyPathSegments;
 
         ParsedUri(String uri, boolean allowEmptyPathSegments) {
             this(
-                    QueryStringParser.getQuery(uri),
+                    QueryStringView.of(QueryStringParser.getQuery(uri)),
                     getPathSegments(QueryStringParser.getRawPath(uri), allowEmptyPathSegments),
                     allowEmptyPathSegments);
         }
 
-        ParsedUri(String query, List<String> segments, boolean allowEmptyPathSegments) {
+        ParsedUri(QueryStringView query, List<String> segments, boolean allowEmptyPathSegments) {
             this.query = query;
-            this.queryValuesSupplier = query == null
-                    ? Collections::emptyMap
-                    : new MemoizingSupplier<>(() -> QueryStringParser.toMapOfLists(query));
             this.segments = segments;
             this.allowEmptyPathSegments = allowEmptyPathSegments;
         }
@@ -173,11 +181,12 @@ public final class UriTreeMatcherMap<T> implements UriMatcherMap<T> {
         }
 
         String getQuery() {
-            return query;
+            return query.isEmpty() ? null : query.toString();
         }
 
         Map<String, List<String>> getQueryValues() {
-            return queryValuesSupplier.get();
+            // The view decodes and memoizes the parameters the first time a route has a query pattern.
+            return query.toMap();
         }
 
         boolean getAllowEmptyPathSegments() {
@@ -14,6 +14,7 @@ dependencies {
     api(project(":client:client-auth-api"))
     api(project(":retries-api"))
     api(project(":framework-errors"))
+    api(project(":tracing-api"))
     implementation(project(":logging"))
 
     testImplementation(project(":client:dynamic-client"))
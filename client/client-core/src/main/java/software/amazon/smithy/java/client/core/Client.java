@@ -7,7 +7,9 @@ package software.amazon.smithy.java.client.core;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import software.amazon.smithy.java.auth.api.identity.IdentityResolver;
 import software.amazon.smithy.java.auth.api.identity.IdentityResolvers;
 import software.amazon.smithy.java.client.core.auth.scheme.AuthScheme;
@@ -29,12 +31,19 @@ import software.amazon.smithy.utils.SmithyInternalApi;
  */
 public abstract class Client {
 
+    // Upper bound on the number of distinct RequestOverrideConfig instances to remember call plans for.
+    private static final int MAX_OVERRIDE_PLANS = 64;
+
+    // Upper bound on the number of distinct operations to remember composed error registries for.
+    private static final int MAX_OPERATION_REGISTRIES = 4096;
+
     private final ClientConfig config;
-    private final ClientPipeline<?, ?> pipeline;
+    private final CallPlan plan;
     private final TypeRegistry typeRegistry;
     private final ClientInterceptor interceptor;
-    private final IdentityResolvers identityResolvers;
     private final RetryStrategy retryStrategy;
+    private final Map<RequestOverrideConfig, CallPlan> overridePlans = new ConcurrentHashMap<>();
+    private final Map<ApiOperation<?, ?>, TypeRegistry> operationRegistries = new ConcurrentHashMap<>();
 
     protected Client(Builder<?, ?> builder) {
         ClientConfig.Builder configBuilder = builder.configBuilder();
@@ -48,9 +57,12 @@ public abstract class Client {
         }
 
         this.config = configBuilder.build();
-        this.pipeline = ClientPipeline.of(config.protocol(), config.transport());
-        this.interceptor = ClientInterceptor.chain(config.interceptors());
-        this.identityResolvers = IdentityResolvers.of(config.identityResolvers());
+        this.plan = new CallPlan(
+                config,
+                ClientPipeline.of(config.protocol(), config.transport()),
+                ClientInterceptor.chain(config.interceptors()),
+                IdentityResolvers.of(config.identityResolvers()));
+        this.interceptor = plan.interceptor;
         this.typeRegistry = typeRegistry();
 
         if (config.retryStrategy() != null) {
@@ -76,44 +88,89 @@ public abstract class Client {
             ApiOperation<I, O> operation,
             RequestOverrideConfig overrideConfig
     ) {
-        ClientPipeline<?, ?> callPipeline = pipeline;
-        IdentityResolvers callIdentityResolvers = identityResolvers;
-        ClientInterceptor callInterceptor = interceptor;
-
         //If there is an override config first apply that before sending to interceptors.
-        ClientConfig callConfig = config;
+        CallPlan callPlan = plan;
         if (overrideConfig != null) {
-            callConfig = callConfig.withRequestOverride(overrideConfig);
+            callPlan = overridePlan(overrideConfig);
         }
         ClientConfig afterInterceptionConfig =
-                callInterceptor.modifyBeforeCall(new CallHook<>(operation, callConfig, input));
-        if (afterInterceptionConfig != null && afterInterceptionConfig != callConfig) {
+                interceptor.modifyBeforeCall(new CallHook<>(operation, callPlan.config, input));
+        if (afterInterceptionConfig != null && afterInterceptionConfig != callPlan.config) {
             if (overrideConfig != null) {
-                callConfig = afterInterceptionConfig.withRequestOverride(overrideConfig);
+                callPlan = derivePlan(afterInterceptionConfig.withRequestOverride(overrideConfig));
             } else {
-                callConfig = afterInterceptionConfig;
+                callPlan = derivePlan(afterInterceptionConfig);
             }
         }
 
-        // Rebuild the pipeline, resolvers, etc if the config changed.
-        if (callConfig != config) {
-            callPipeline = ClientPipeline.of(callConfig.protocol(), callConfig.transport());
-            callInterceptor = ClientInterceptor.chain(callConfig.interceptors());
-            callIdentityResolvers = IdentityResolvers.of(callConfig.identityResolvers());
-        }
-
+        ClientConfig callConfig = callPlan.config;
         var callBuilder = ClientCall.<I, O>builder();
         callBuilder.input = input;
         callBuilder.operation = operation;
-        callBuilder.interceptor = callInterceptor;
-        callBuilder.identityResolvers = callIdentityResolvers;
-        // Create a copy of the type registry that adds the errors this operation can encounter.
-        callBuilder.typeRegistry = TypeRegistry.compose(operation.errorRegistry(), typeRegistry);;
+        callBuilder.interceptor = callPlan.interceptor;
+        callBuilder.identityResolvers = callPlan.identityResolvers;
+        callBuilder.typeRegistry = operationRegistry(operation);
         callBuilder.retryStrategy = retryStrategy;
         callBuilder.withConfig(callConfig);
-        return callPipeline.send(callBuilder.build());
+        return callPlan.pipeline.send(callBuilder.build());
+    }
+
+    /**
+     * Get the plan for calls made with an override config.
+     *
+     * <p>Overrides are immutable and commonly reused across calls, so plans are remembered by override identity.
+     * The cache is bounded by clearing it when it fills up.
+     */
+    private CallPlan overridePlan(RequestOverrideConfig overrideConfig) {
+        var result = overridePlans.get(overrideConfig);
+        if (result == null) {
+            result = derivePlan(config.withRequestOverride(overrideConfig));
+            if (overridePlans.size() >= MAX_OVERRIDE_PLANS) {
+                overridePlans.clear();
+            }
+            overridePlans.put(overrideConfig, result);
+        }
+        return result;
     }
 
+    /**
+     * Get the client's type registry combined with the errors the operation can encounter.
+     *
+     * <p>Operations are typically singletons, so the composed registry is computed once per operation and reused.
+     */
+    private TypeRegistry operationRegistry(ApiOperation<?, ?> operation) {
+        var result = operationRegistries.get(operation);
+        if (result == null) {
+            result = TypeRegistry.compose(operation.errorRegistry(), typeRegistry);
+            if (operationRegistries.size() >= MAX_OPERATION_REGISTRIES) {
+                operationRegistries.clear();
+            }
+            operationRegistries.put(operation, result);
+        }
+        return result;
+    }
+
+    // Reuse the client's pipeline, interceptor chain, and resolvers for anything the config didn't change.
+    private CallPlan derivePlan(ClientConfig callConfig) {
+        var base = plan.config;
+        var pipeline = callConfig.protocol() == base.protocol() && callConfig.transport() == base.transport()
+                ? plan.pipeline
+                : ClientPipeline.of(callConfig.protocol(), callConfig.transport());
+        var interceptor = callConfig.interceptors().equals(base.interceptors())
+                ? plan.interceptor
+                : ClientInterceptor.chain(callConfig.interceptors());
+        var identityResolvers = callConfig.identityResolvers().equals(base.identityResolvers())
+                ? plan.identityResolvers
+                : IdentityResolvers.of(callConfig.identityResolvers());
+        return new CallPlan(callConfig, pipeline, interceptor, identityResolvers);
+    }
+
+    private record CallPlan(
+            ClientConfig config,
+            ClientPipeline<?, ?> pipeline,
+            ClientInterceptor interceptor,
+            IdentityResolvers identityResolvers) {}
+
     /**
      * Type registry of error types to append to operation error registry.
      *
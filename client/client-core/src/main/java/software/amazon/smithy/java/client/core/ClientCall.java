@@ -25,6 +25,8 @@ import software.amazon.smithy.java.core.serde.TypeRegistry;
 import software.amazon.smithy.java.io.datastream.DataStream;
 import software.amazon.smithy.java.retries.api.RetryStrategy;
 import software.amazon.smithy.java.retries.api.RetryToken;
+import software.amazon.smithy.java.tracing.api.Span;
+import software.amazon.smithy.java.tracing.api.Tracer;
 import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.model.shapes.ShapeType;
 
@@ -40,6 +42,7 @@ final class ClientCall<I extends SerializableStruct, O extends SerializableStruc
     final EndpointResolver endpointResolver;
     final ApiOperation<I, O> operation;
     final Context context;
+    final Context contextView;
     final TypeRegistry typeRegistry;
     final ClientInterceptor interceptor;
     final AuthSchemeResolver authSchemeResolver;
@@ -49,13 +52,17 @@ final class ClientCall<I extends SerializableStruct, O extends SerializableStruc
 
     final RetryStrategy retryStrategy;
     final String retryScope;
+    final Tracer tracer;
     RetryToken retryToken;
     int attemptCount = 1;
+    Span callSpan;
+    Span attemptSpan;
 
     private ClientCall(Builder<I, O> builder) {
         input = Objects.requireNonNull(builder.input, "input is null");
         operation = Objects.requireNonNull(builder.operation, "operation is null");
         context = Objects.requireNonNull(builder.context, "context is null");
+        contextView = Context.unmodifiableView(context);
         typeRegistry = Objects.requireNonNull(builder.typeRegistry, "typeRegistry is null");
         endpointResolver = Objects.requireNonNull(builder.endpointResolver, "endpointResolver is null");
         interceptor = Objects.requireNonNullElse(builder.interceptor, ClientInterceptor.NOOP);
@@ -65,6 +72,7 @@ final class ClientCall<I extends SerializableStruct, O extends SerializableStruc
                 .collect(Collectors.toMap(AuthScheme::schemeId, Function.identity(), (key1, key2) -> key1));
 
         context.put(CallContext.ENDPOINT_RESOLVER, endpointResolver);
+        tracer = Objects.requireNonNullElse(context.get(ClientContext.TRACER), Tracer.noop());
 
         // Retries
         retryStrategy = Objects.requireNonNull(builder.retryStrategy, "retryStrategy is null");
@@ -75,6 +83,21 @@ final class ClientCall<I extends SerializableStruct, O extends SerializableStruc
         executor = builder.executor == null ? Executors.newCachedThreadPool() : builder.executor;
     }
 
+    void endAttempt(Throwable error) {
+        if (attemptSpan != null) {
+            attemptSpan.end(error);
+            attemptSpan = null;
+        }
+    }
+
+    void endCall(Throwable error) {
+        endAttempt(error);
+        if (callSpan != null) {
+            callSpan.end(error);
+            callSpan = null;
+        }
+    }
+
     /**
      * Check if a retry is disallowed for this call.
      *
@@ -113,7 +136,8 @@ final class ClientCall<I extends SerializableStruct, O extends SerializableStruc
         private Builder() {}
 
         void withConfig(ClientConfig callConfig) {
-            context = Context.modifiableCopy(callConfig.context());
+            // The config context is frozen, so layer the call's writes over it rather than copying it.
+            context = Context.child(callConfig.context());
             supportedAuthSchemes.addAll(callConfig.supportedAuthSchemes());
 
             if (callConfig.endpointResolver() != null) {
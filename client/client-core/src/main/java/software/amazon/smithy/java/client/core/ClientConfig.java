@@ -39,10 +39,13 @@ public final class ClientConfig {
             .load(ClientConfig.class.getClassLoader());
     private static final AuthScheme<Object, Identity> NO_AUTH_AUTH_SCHEME = AuthScheme.noAuthAuthScheme();
 
-    private final Builder originalBuilder;
+    private volatile Builder originalBuilder;
+    private final ClientConfig overlayBase;
+    private final RequestOverrideConfig overlayOverrides;
     private final ClientTransport<?, ?> transport;
     private final ClientProtocol<?, ?> protocol;
     private final EndpointResolver endpointResolver;
+    private final boolean explicitEndpointResolver;
     private final List<ClientInterceptor> interceptors;
     private final List<AuthScheme<?, ?>> supportedAuthSchemes;
     private final AuthSchemeResolver authSchemeResolver;
@@ -60,6 +63,8 @@ public final class ClientConfig {
         // copy of the original builder. We also don't want to apply the transport modifications multiple times.
         // This builder is used in toBuilder.
         this.originalBuilder = builder.copyBuilder();
+        this.overlayBase = null;
+        this.overlayOverrides = null;
 
         // Ensure the transport was resolved and applied as a plugin.
         // When using a Client, transport is applied before build is called to let user-defined plugins supersede
@@ -71,7 +76,8 @@ public final class ClientConfig {
         ClientPipeline.validateProtocolAndTransport(protocol, transport);
 
         // Use an explicitly given resolver if one was set.
-        if (builder.endpointResolver != null) {
+        this.explicitEndpointResolver = builder.endpointResolver != null;
+        if (explicitEndpointResolver) {
             this.endpointResolver = builder.endpointResolver;
         } else {
             // Use a custom endpoint and static endpoint resolver if a custom endpoint was given.
@@ -103,6 +109,55 @@ public final class ClientConfig {
         this.service = Objects.requireNonNull(builder.service, "Missing required service schema");
     }
 
+    /**
+     * Creates a config that layers overrides over a base config.
+     *
+     * <p>This is equivalent to building the base config's builder with the overrides applied, but shares the
+     * unchanged parts of the base config, including its context. Overrides with plugins can't be layered because
+     * plugins can modify anything in the builder.
+     */
+    private ClientConfig(ClientConfig base, RequestOverrideConfig overrides) {
+        // The builder is only derived if toBuilder is called.
+        this.overlayBase = base;
+        this.overlayOverrides = overrides;
+
+        this.transport = base.transport;
+        this.protocol = Objects.requireNonNullElse(overrides.protocol(), base.protocol);
+        if (protocol != base.protocol) {
+            ClientPipeline.validateProtocolAndTransport(protocol, transport);
+        }
+
+        this.context = Context.overlay(base.context, overrides.context());
+
+        this.explicitEndpointResolver = base.explicitEndpointResolver || overrides.endpointResolver() != null;
+        if (overrides.endpointResolver() != null) {
+            this.endpointResolver = overrides.endpointResolver();
+        } else if (!base.explicitEndpointResolver && overrides.context().get(ClientContext.CUSTOM_ENDPOINT) != null) {
+            this.endpointResolver = EndpointResolver.staticEndpoint(context.get(ClientContext.CUSTOM_ENDPOINT));
+        } else {
+            this.endpointResolver = base.endpointResolver;
+        }
+
+        this.interceptors = concat(base.interceptors, overrides.interceptors());
+        this.supportedAuthSchemes = concat(base.supportedAuthSchemes, overrides.supportedAuthSchemes());
+        this.authSchemeResolver = Objects.requireNonNullElse(overrides.authSchemeResolver(), base.authSchemeResolver);
+        this.identityResolvers = concat(base.identityResolvers, overrides.identityResolvers());
+        this.retryStrategy = overrides.retryStrategy() != null ? overrides.retryStrategy() : base.retryStrategy;
+        this.retryScope = overrides.retryScope() != null ? overrides.retryScope() : base.retryScope;
+        this.appliedPlugins = base.appliedPlugins;
+        this.service = base.service;
+    }
+
+    private static <T> List<T> concat(List<T> base, List<? extends T> additional) {
+        if (additional == null || additional.isEmpty()) {
+            return base;
+        }
+        List<T> result = new ArrayList<>(base.size() + additional.size());
+        result.addAll(base);
+        result.addAll(additional);
+        return Collections.unmodifiableList(result);
+    }
+
     /**
      * Search for a transport service provider that is compatible with the provided protocol.
      */
@@ -216,7 +271,13 @@ public final class ClientConfig {
      * @return the builder based on this configuration.
      */
     public Builder toBuilder() {
-        return originalBuilder.copyBuilder();
+        var builder = originalBuilder;
+        if (builder == null) {
+            builder = overlayBase.toBuilder();
+            applyOverrides(builder, overlayOverrides);
+            originalBuilder = builder;
+        }
+        return builder.copyBuilder();
     }
 
     /**
@@ -227,6 +288,9 @@ public final class ClientConfig {
      */
     public ClientConfig withRequestOverride(RequestOverrideConfig overrideConfig) {
         Objects.requireNonNull(overrideConfig, "overrideConfig cannot be null");
+        if (overrideConfig.plugins().isEmpty()) {
+            return new ClientConfig(this, overrideConfig);
+        }
         Builder builder = toBuilder();
         applyOverrides(builder, overrideConfig);
         for (ClientPlugin plugin : overrideConfig.plugins()) {
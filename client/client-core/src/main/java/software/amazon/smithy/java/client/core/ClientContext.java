@@ -9,6 +9,7 @@ import java.time.Duration;
 import software.amazon.smithy.java.client.core.endpoint.Endpoint;
 import software.amazon.smithy.java.client.core.endpoint.EndpointResolver;
 import software.amazon.smithy.java.context.Context;
+import software.amazon.smithy.java.tracing.api.Tracer;
 
 /**
  * Context parameters that can be provided on a client config and take effect on each request.
@@ -50,5 +51,12 @@ public final class ClientContext {
      */
     public static final Context.Key<Duration> API_CALL_ATTEMPT_TIMEOUT = Context.key("API call attempt timeout");
 
+    /**
+     * The tracer used to record spans and metrics for each request.
+     *
+     * <p>The names of the recorded spans are defined in {@link ClientSpans}. Defaults to {@link Tracer#noop()}.
+     */
+    public static final Context.Key<Tracer> TRACER = Context.key("Tracer");
+
     private ClientContext() {}
 }
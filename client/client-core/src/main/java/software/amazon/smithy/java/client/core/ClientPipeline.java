@@ -101,6 +101,16 @@ final class ClientPipeline<RequestT, ResponseT> {
     }
 
     <I extends SerializableStruct, O extends SerializableStruct> O send(ClientCall<I, O> call) {
+        call.callSpan = call.tracer.startSpan(ClientSpans.CALL);
+        try {
+            return doSend(call);
+        } catch (RuntimeException e) {
+            call.endCall(e);
+            throw e;
+        }
+    }
+
+    private <I extends SerializableStruct, O extends SerializableStruct> O doSend(ClientCall<I, O> call) {
         var input = call.input;
 
         // Always start the attempt count at 1.
@@ -122,7 +132,16 @@ final class ClientPipeline<RequestT, ResponseT> {
 
         // 5. Serialize the input message into a protocol request message.
         //    Use the UNRESOLVED URI of "/" for now, and resolve the actual endpoint later.
-        RequestT request = protocol.createRequest(call.operation, input, call.context, UNRESOLVED);
+        RequestT request;
+        var serializeSpan = call.tracer.startSpan(ClientSpans.SERIALIZE);
+        try {
+            request = protocol.createRequest(call.operation, input, call.context, UNRESOLVED);
+        } catch (RuntimeException e) {
+            serializeSpan.end(e);
+            throw e;
+        } finally {
+            serializeSpan.end();
+        }
         var requestHook = new RequestHook<>(call.operation, call.context, input, request);
 
         // 6. Interceptors: Invoke ReadAfterSerialization.
@@ -160,6 +179,7 @@ final class ClientPipeline<RequestT, ResponseT> {
             RequestHook<I, O, RequestT> requestHook
     ) {
         var request = requestHook.request();
+        call.attemptSpan = call.tracer.startSpan(ClientSpans.ATTEMPT);
 
         // 8.a. Interceptors: Invoke ReadBeforeAttempt.
         call.interceptor.readBeforeAttempt(requestHook);
@@ -171,7 +191,16 @@ final class ClientPipeline<RequestT, ResponseT> {
         // 8.h. Interceptors: Invoke ReadBeforeSigning.
         call.interceptor.readBeforeSigning(finalHook);
 
-        var resolvedAuthScheme = resolveAuthScheme(call, request);
+        ResolvedScheme<?, RequestT> resolvedAuthScheme;
+        var identitySpan = call.tracer.startSpan(ClientSpans.IDENTITY);
+        try {
+            resolvedAuthScheme = resolveAuthScheme(call, request);
+        } catch (RuntimeException e) {
+            identitySpan.end(e);
+            throw e;
+        } finally {
+            identitySpan.end();
+        }
         var identityResult = resolvedAuthScheme.identity();
         return afterIdentity(call, finalHook, identityResult, resolvedAuthScheme);
     }
@@ -187,11 +216,28 @@ final class ClientPipeline<RequestT, ResponseT> {
         call.context.put(CallContext.IDENTITY, identity);
 
         // TODO: what to do with supportedAuthSchemes of an endpoint?
-        Endpoint endpoint = resolveEndpoint(call);
+        Endpoint endpoint;
+        var endpointSpan = call.tracer.startSpan(ClientSpans.ENDPOINT);
+        try {
+            endpoint = resolveEndpoint(call);
+        } catch (RuntimeException e) {
+            endpointSpan.end(e);
+            throw e;
+        } finally {
+            endpointSpan.end();
+        }
         call.context.put(CallContext.ENDPOINT, endpoint);
 
         RequestT req = protocol.setServiceEndpoint(requestHook.request(), endpoint);
-        req = resolvedAuthScheme.sign(req);
+        var signSpan = call.tracer.startSpan(ClientSpans.SIGN);
+        try {
+            req = resolvedAuthScheme.sign(req);
+        } catch (RuntimeException e) {
+            signSpan.end(e);
+            throw e;
+        } finally {
+            signSpan.end();
+        }
 
         var updatedHook = requestHook.withRequest(req);
         call.interceptor.readAfterSigning(updatedHook);
@@ -202,7 +248,16 @@ final class ClientPipeline<RequestT, ResponseT> {
         call.interceptor.readBeforeTransmit(updatedHook.withRequest(req));
 
         try {
-            ResponseT response = transport.send(call.context, req);
+            ResponseT response;
+            var transmitSpan = call.tracer.startSpan(ClientSpans.TRANSMIT);
+            try {
+                response = transport.send(call.context, req);
+            } catch (RuntimeException e) {
+                transmitSpan.end(e);
+                throw e;
+            } finally {
+                transmitSpan.end();
+            }
             return deserialize(call, req, response, call.interceptor);
         } catch (Exception e) {
             // In case the transport doesn't do the remapping, do that here now.
@@ -228,7 +283,7 @@ final class ClientPipeline<RequestT, ResponseT> {
         var params = AuthSchemeResolverParams.builder()
                 .protocolId(protocol.id())
                 .operation(call.operation)
-                .context(Context.unmodifiableView(call.context))
+                .context(call.contextView)
                 .build();
         var authSchemeOptions = call.authSchemeResolver.resolveAuthScheme(params);
 
@@ -293,7 +348,7 @@ final class ClientPipeline<RequestT, ResponseT> {
         var request = EndpointResolverParams.builder()
                 .operation(call.operation)
                 .inputValue(call.input)
-                .context(Context.unmodifiableView(call.context))
+                .context(call.contextView)
                 .build();
         return call.endpointResolver.resolveEndpoint(request);
     }
@@ -320,10 +375,14 @@ final class ClientPipeline<RequestT, ResponseT> {
         O shape = null;
         RuntimeException error = null;
 
+        var deserializeSpan = call.tracer.startSpan(ClientSpans.DESERIALIZE);
         try {
             shape = protocol.deserializeResponse(call.operation, context, call.typeRegistry, request, modifiedResponse);
         } catch (RuntimeException e) {
+            deserializeSpan.end(e);
             error = e;
+        } finally {
+            deserializeSpan.end();
         }
 
         var outputHook = new OutputHook<>(call.operation, context, input, request, response, shape);
@@ -348,6 +407,7 @@ final class ClientPipeline<RequestT, ResponseT> {
         } catch (RuntimeException e) {
             error = swapError("readAfterAttempt", error, e);
         }
+        call.endAttempt(error);
 
         // 9.a If error is a retryable failure:
         if (error != null && !call.isRetryDisallowed()) {
@@ -384,7 +444,8 @@ final class ClientPipeline<RequestT, ResponseT> {
             error = swapError("modifyBeforeCompletion", error, e);
         }
 
-        // TODO: 11. TraceProbe: Invoke DispatchEvents.
+        // 11. TraceProbe: Invoke DispatchEvents.
+        call.endCall(error);
 
         // 12. Interceptors: Invoke ReadAfterExecution.
         try {
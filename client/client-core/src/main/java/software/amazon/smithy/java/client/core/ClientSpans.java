@@ -0,0 +1,53 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.client.core;
+
+/**
+ * Names of the spans a client records with the {@link ClientContext#TRACER}.
+ */
+public final class ClientSpans {
+    /**
+     * The entire call, including every attempt.
+     */
+    public static final String CALL = "smithy.client.call";
+
+    /**
+     * Serializing the input into a protocol request.
+     */
+    public static final String SERIALIZE = "smithy.client.serialize";
+
+    /**
+     * A single attempt, from auth scheme resolution until the response is deserialized.
+     */
+    public static final String ATTEMPT = "smithy.client.attempt";
+
+    /**
+     * Resolving the auth scheme and the identity used to sign the request.
+     */
+    public static final String IDENTITY = "smithy.client.identity";
+
+    /**
+     * Resolving the endpoint of the request.
+     */
+    public static final String ENDPOINT = "smithy.client.endpoint";
+
+    /**
+     * Signing the request.
+     */
+    public static final String SIGN = "smithy.client.sign";
+
+    /**
+     * Sending the request with the transport and receiving the response.
+     */
+    public static final String TRANSMIT = "smithy.client.transmit";
+
+    /**
+     * Deserializing the response into the output or an error.
+     */
+    public static final String DESERIALIZE = "smithy.client.deserialize";
+
+    private ClientSpans() {}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.client.core.pagination;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import software.amazon.smithy.java.client.core.RequestOverrideConfig;
+import software.amazon.smithy.java.core.schema.ApiOperation;
+import software.amazon.smithy.java.core.schema.SerializableStruct;
+
+/**
+ * Paginator that asynchronously retrieves paginated results from a service and publishes each page.
+ *
+ * <p>The request for the next page is sent as soon as the pagination token of the previous page is extracted, and
+ * doesn't wait for the subscriber to request or process the page. Up to {@link #prefetch(int)} pages are buffered
+ * ahead of subscriber demand, so network latency overlaps with processing of the pages already received.
+ *
+ * <p>Each subscription paginates from the beginning using the settings that were configured when it subscribed.
+ * Pages can be consumed directly, or flattened into the items of each page using {@link #items()}:
+ * <pre>{@code
+ *  var paginator = AsyncPaginator.paginate(input, ListFoos.instance(), client::listFoos);
+ *  paginator.prefetch(4);
+ *  paginator.<Foo>items().subscribe(fooSubscriber);
+ * }</pre>
+ *
+ * <p><strong>Note:</strong>This paginator expects fully-resolved paginated traits on any paginated operation schemas
+ * and will not automatically merge operation pagination info with a service's pagination info.
+ *
+ * @param <O> Output type of list operation being paginated.
+ */
+public interface AsyncPaginator<O extends SerializableStruct> extends PaginatorSettings, Flow.Publisher<O> {
+
+    /**
+     * Default number of pages to request ahead of subscriber demand.
+     */
+    int DEFAULT_PREFETCH = 1;
+
+    /**
+     * Interface representing a function that is asynchronously paginatable.
+     */
+    @FunctionalInterface
+    interface Paginatable<I extends SerializableStruct, O extends SerializableStruct> {
+        CompletableFuture<O> call(I input, RequestOverrideConfig requestContext);
+    }
+
+    /**
+     * Set the maximum number of pages to buffer ahead of subscriber demand.
+     *
+     * <p>A value of 0 disables prefetching, and pages are only requested when the subscriber requests them.
+     * Defaults to {@link #DEFAULT_PREFETCH}.
+     *
+     * @param pages maximum number of pages to prefetch.
+     */
+    void prefetch(int pages);
+
+    /**
+     * Create a publisher of the individual items contained in each page, based on the {@code items} member of
+     * the paginated trait.
+     *
+     * <p>List items are published in order. Map items are published as {@link java.util.Map.Entry} values.
+     *
+     * @return the item publisher.
+     * @param <T> Item type.
+     * @throws IllegalStateException if the paginated operation has no items path.
+     */
+    <T> Flow.Publisher<T> items();
+
+    /**
+     * Create a new {@link AsyncPaginator} for a given operation and input.
+     *
+     * @param input Base input to use for repeated requests to service.
+     * @param operation API model for operation being paginated.
+     * @param call Asynchronous call that retrieves pages from service.
+     * @return paginator
+     *
+     * @param <I> Operation input shape type.
+     * @param <O> Operation output shape type.
+     */
+    static <I extends SerializableStruct, O extends SerializableStruct> AsyncPaginator<O> paginate(
+            I input,
+            ApiOperation<I, O> operation,
+            Paginatable<I, O> call
+    ) {
+        return new DefaultAsyncPaginator<>(input, operation, call);
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.client.core.pagination;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import software.amazon.smithy.java.client.core.RequestOverrideConfig;
+import software.amazon.smithy.java.core.schema.ApiOperation;
+import software.amazon.smithy.java.core.schema.SerializableStruct;
+import software.amazon.smithy.java.core.schema.TraitKey;
+import software.amazon.smithy.java.core.serde.document.Document;
+import software.amazon.smithy.model.shapes.ShapeType;
+
+final class DefaultAsyncPaginator<I extends SerializableStruct, O extends SerializableStruct>
+        implements AsyncPaginator<O> {
+
+    private final Paginatable<I, O> call;
+    private final PaginationInputSetter<I> inputFactory;
+    private final PaginationTokenExtractor extractor;
+    private final boolean hasItems;
+
+    // Pagination parameters
+    private int pageSize;
+    private int totalMaxItems = 0;
+    private int prefetch = DEFAULT_PREFETCH;
+
+    // Request override for paginated requests
+    private RequestOverrideConfig overrideConfig = null;
+
+    DefaultAsyncPaginator(I input, ApiOperation<I, O> operation, Paginatable<I, O> call) {
+        this.call = call;
+        var trait = operation.schema().expectTrait(TraitKey.PAGINATED_TRAIT);
+        // Input and output token paths are expected to be set.
+        var inputTokenMember = trait.getInputToken().orElseThrow();
+        var outputTokenPath = trait.getOutputToken().orElseThrow();
+
+        // Page size and Items are optional
+        var pageSizeMember = trait.getPageSize().orElse(null);
+        var itemsPath = trait.getItems().orElse(null);
+
+        this.inputFactory = new PaginationInputSetter<>(
+                input,
+                operation,
+                inputTokenMember,
+                pageSizeMember);
+
+        if (pageSizeMember != null) {
+            var pageSizeSchema = input.schema().member(pageSizeMember);
+            pageSize = input.getMemberValue(pageSizeSchema);
+        }
+
+        this.hasItems = itemsPath != null;
+        this.extractor = new PaginationTokenExtractor(
+                operation.outputSchema(),
+                outputTokenPath,
+                itemsPath);
+    }
+
+    @Override
+    public void maxItems(int maxItems) {
+        this.totalMaxItems = maxItems;
+    }
+
+    @Override
+    public void overrideConfig(RequestOverrideConfig overrideConfig) {
+        this.overrideConfig = overrideConfig;
+    }
+
+    @Override
+    public void prefetch(int pages) {
+        if (pages < 0) {
+            throw new IllegalArgumentException("Prefetch must be greater than or equal to 0: " + pages);
+        }
+        this.prefetch = pages;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super O> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        var subscription = new PageSubscription<O>(
+                subscriber,
+                (output, result) -> Collections.singletonList(output).iterator());
+        subscriber.onSubscribe(subscription);
+        subscription.start();
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> items() {
+        if (!hasItems) {
+            throw new IllegalStateException("Paginated operation does not define an items path");
+        }
+        return subscriber -> {
+            Objects.requireNonNull(subscriber, "subscriber");
+            var subscription = new PageSubscription<T>(subscriber, (output, result) -> itemIterator(result));
+            subscriber.onSubscribe(subscription);
+            subscription.start();
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Iterator<T> itemIterator(PaginationTokenExtractor.Result result) {
+        return (Iterator<T>) switch (result.items()) {
+            case null -> Collections.emptyIterator();
+            case Collection<?> c -> c.iterator();
+            case Map<?, ?> m -> m.entrySet().iterator();
+            case Document d when d.type() == ShapeType.LIST -> d.asList().iterator();
+            case Document d when d.type() == ShapeType.MAP -> d.asStringMap().entrySet().iterator();
+            default -> List.of(result.items()).iterator();
+        };
+    }
+
+    /**
+     * Paginates for a single subscriber, publishing the elements that each page is split into.
+     *
+     * <p>State is guarded by the subscription's monitor, and signals to the subscriber are serialized by a
+     * work-in-progress counter so that a page completing on another thread never races with a request.
+     */
+    private final class PageSubscription<T> implements Flow.Subscription {
+        private final Flow.Subscriber<? super T> subscriber;
+        private final BiFunction<O, PaginationTokenExtractor.Result, Iterator<T>> splitter;
+        private final AtomicInteger wip = new AtomicInteger();
+
+        // Settings are captured when subscribing.
+        private final int prefetchPages = prefetch;
+        private final int maxTotal = totalMaxItems;
+        private final RequestOverrideConfig override = overrideConfig;
+
+        private final ArrayDeque<Iterator<T>> pages = new ArrayDeque<>();
+        private long demand;
+        private boolean fetching;
+        private boolean finished;
+        private boolean cancelled;
+        private Throwable error;
+        private String nextToken;
+        private int remaining = maxTotal;
+        private int maxItems = pageSize;
+
+        PageSubscription(
+                Flow.Subscriber<? super T> subscriber,
+                BiFunction<O, PaginationTokenExtractor.Result, Iterator<T>> splitter
+        ) {
+            this.subscriber = subscriber;
+            this.splitter = splitter;
+        }
+
+        // Start fetching right away so that the first page is in flight before the first request.
+        void start() {
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (n <= 0) {
+                    pages.clear();
+                    finished = true;
+                    error = new IllegalArgumentException("got a request for " + n + " items");
+                } else {
+                    demand += n;
+                    if (demand < 0) {
+                        demand = Long.MAX_VALUE;
+                    }
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                cancelled = true;
+                pages.clear();
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                drainLoop();
+            } while (wip.decrementAndGet() != 0);
+        }
+
+        private void drainLoop() {
+            while (true) {
+                T item = null;
+                boolean emit = false;
+                boolean terminate = false;
+                I input = null;
+                Throwable failure;
+
+                synchronized (this) {
+                    if (cancelled) {
+                        return;
+                    }
+                    var page = pages.peek();
+                    while (page != null && !page.hasNext()) {
+                        pages.poll();
+                        page = pages.peek();
+                    }
+                    failure = error;
+                    if (page != null && demand > 0) {
+                        item = page.next();
+                        demand--;
+                        emit = true;
+                    } else if (page == null && finished && (!fetching || failure != null)) {
+                        cancelled = true;
+                        terminate = true;
+                    } else if (shouldFetch()) {
+                        fetching = true;
+                        // If there are fewer items allowed than we will request, reduce page size to match remaining.
+                        if (remaining > 0 && maxItems > remaining) {
+                            maxItems = remaining;
+                        }
+                        // Get a new version of the original input with the new token and max value injected.
+                        input = inputFactory.create(nextToken, maxItems);
+                    }
+                }
+
+                if (emit) {
+                    subscriber.onNext(item);
+                } else if (terminate) {
+                    if (failure != null) {
+                        subscriber.onError(failure);
+                    } else {
+                        subscriber.onComplete();
+                    }
+                    return;
+                } else if (input != null) {
+                    fetch(input);
+                    return;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        // Fetch when the prefetch buffer has room, or when the subscriber is waiting on an empty buffer.
+        private boolean shouldFetch() {
+            return !fetching && !finished && (pages.size() < prefetchPages || (demand > 0 && pages.isEmpty()));
+        }
+
+        private void fetch(I input) {
+            try {
+                call.call(input, override).whenComplete(this::onPage);
+            } catch (RuntimeException e) {
+                onPage(null, e);
+            }
+        }
+
+        private void onPage(O output, Throwable t) {
+            synchronized (this) {
+                fetching = false;
+                if (t != null) {
+                    finished = true;
+                    if (error == null) {
+                        error = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+                    }
+                } else {
+                    var res = extractor.extract(output);
+                    // If we see the same pagination token twice in a row then stop pagination.
+                    if (nextToken != null && Objects.equals(nextToken, res.token())) {
+                        finished = true;
+                    } else {
+                        // Update based on output values
+                        nextToken = res.token();
+                        remaining -= res.totalItems();
+                        // Next token is null or max results reached, indicating there are no more values.
+                        if (nextToken == null || (maxTotal != 0 && remaining <= 0)) {
+                            finished = true;
+                        }
+                    }
+                    if (!cancelled) {
+                        pages.add(splitter.apply(output, res));
+                    }
+                }
+            }
+            drain();
+        }
+    }
+}
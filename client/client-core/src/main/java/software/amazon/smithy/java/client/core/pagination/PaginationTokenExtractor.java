@@ -54,7 +54,7 @@ final class PaginationTokenExtractor {
                 }
             }
         }
-        return new Result(token, totalItems);
+        return new Result(token, totalItems, items);
     }
 
     private static <T, O extends SerializableStruct> T getValueForPath(List<Schema> schemaPath, O outputShape) {
@@ -71,5 +71,5 @@ final class PaginationTokenExtractor {
         return null;
     }
 
-    record Result(String token, int totalItems) {}
+    record Result(String token, int totalItems, Object items) {}
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.client.core.transfer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A contiguous range of bytes within a payload.
+ *
+ * @param offset Offset of the first byte in the range.
+ * @param length Number of bytes in the range.
+ */
+public record ByteRange(long offset, long length) {
+
+    public ByteRange {
+        if (offset < 0 || length <= 0) {
+            throw new IllegalArgumentException("Invalid byte range: offset " + offset + ", length " + length);
+        }
+    }
+
+    /**
+     * Get the offset of the last byte in the range.
+     *
+     * @return the inclusive end offset.
+     */
+    public long lastByte() {
+        return offset + length - 1;
+    }
+
+    /**
+     * Format the range as the value of an HTTP {@code Range} header, like {@code bytes=0-1023}.
+     *
+     * @return the range header value.
+     */
+    public String toRangeHeader() {
+        return "bytes=" + offset + '-' + lastByte();
+    }
+
+    /**
+     * Split a payload into consecutive ranges of at most {@code partSize} bytes.
+     *
+     * @param totalLength Length of the payload.
+     * @param partSize Maximum size of each range.
+     * @return the ranges, in order. An empty payload has no ranges.
+     */
+    public static List<ByteRange> split(long totalLength, long partSize) {
+        if (totalLength < 0) {
+            throw new IllegalArgumentException("totalLength must not be negative: " + totalLength);
+        } else if (partSize <= 0) {
+            throw new IllegalArgumentException("partSize must be positive: " + partSize);
+        }
+
+        long count = (totalLength + partSize - 1) / partSize;
+        if (count > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("partSize " + partSize + " creates too many parts");
+        }
+
+        List<ByteRange> result = new ArrayList<>((int) count);
+        for (long offset = 0; offset < totalLength; offset += partSize) {
+            result.add(new ByteRange(offset, Math.min(partSize, totalLength - offset)));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,442 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.client.core.transfer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.zip.CRC32C;
+import software.amazon.smithy.java.client.core.RequestOverrideConfig;
+import software.amazon.smithy.java.core.error.CallException;
+import software.amazon.smithy.java.core.error.ModeledException;
+import software.amazon.smithy.java.core.schema.SerializableStruct;
+import software.amazon.smithy.java.io.datastream.DataStream;
+import software.amazon.smithy.java.logging.InternalLogger;
+import software.amazon.smithy.java.retries.api.RetrySafety;
+
+/**
+ * Moves a large payload as concurrent ranged calls of a single operation.
+ *
+ * <p>The payload is split into {@link ByteRange}s and each range is sent as its own call, with at most
+ * {@link Builder#maxConcurrency(int)} calls in flight. A {@link RangeApplier} turns the base input into the input of
+ * each part, for example by setting a {@code Range} member for downloads, or the part number and body for uploads.
+ * Downloads are written directly into their place in a pre-sized file, so parts can complete in any order.
+ *
+ * <p>Each part is attempted up to {@link Builder#maxPartAttempts(int)} times. This is in addition to the client's
+ * retry strategy, and also covers failures that happen while reading a part's body or validating its checksum.
+ * Modeled errors and errors that aren't safe to retry fail the transfer immediately.
+ *
+ * <p>For example, downloading an object with a {@code GetObject} operation that has a {@code range} member:
+ * <pre>{@code
+ * var transfer = RangedTransfer.builder(
+ *         GetObjectInput.builder().bucket("b").key("k").build(),
+ *         client::getObject,
+ *         (input, part) -> input.toBuilder().range(part.range().toRangeHeader()).build())
+ *     .partSize(16 * 1024 * 1024)
+ *     .maxConcurrency(32)
+ *     .build();
+ * transfer.download(Path.of("object.bin"), contentLength, GetObjectOutput::body);
+ * }</pre>
+ *
+ * @param <I> Operation input shape type.
+ * @param <O> Operation output shape type.
+ */
+public final class RangedTransfer<I extends SerializableStruct, O extends SerializableStruct> {
+
+    /**
+     * Interface representing the call made for each part.
+     */
+    @FunctionalInterface
+    public interface Transferable<I extends SerializableStruct, O extends SerializableStruct> {
+        O call(I input, RequestOverrideConfig overrideConfig);
+    }
+
+    /**
+     * Creates the input of a part from the base input of the transfer.
+     */
+    @FunctionalInterface
+    public interface RangeApplier<I extends SerializableStruct> {
+        /**
+         * Create the input for a part.
+         *
+         * @param input Base input of the transfer.
+         * @param part Part to create the input for. Uploads provide the part's data as {@link TransferPart#body()}.
+         * @return the input of the part.
+         */
+        I apply(I input, TransferPart part);
+    }
+
+    /**
+     * Checks the output of a part against the data that was transferred, for example by comparing checksums.
+     */
+    @FunctionalInterface
+    public interface PartValidator<O extends SerializableStruct> {
+        /**
+         * Check if a part was transferred correctly.
+         *
+         * @param part Part that was transferred.
+         * @param output Output of the part's call.
+         * @param crc32c CRC32C checksum of the part's data that was sent or received.
+         * @return true if the part is valid, or false to retry it.
+         */
+        boolean isValid(TransferPart part, O output, long crc32c);
+    }
+
+    @FunctionalInterface
+    private interface PartWork<R> {
+        R run(TransferPart part) throws IOException;
+    }
+
+    private static final InternalLogger LOGGER = InternalLogger.getLogger(RangedTransfer.class);
+    private static final ExecutorService DEFAULT_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final I input;
+    private final Transferable<I, O> call;
+    private final RangeApplier<I> rangeApplier;
+    private final PartValidator<O> validator;
+    private final RequestOverrideConfig overrideConfig;
+    private final long partSize;
+    private final int maxConcurrency;
+    private final int maxPartAttempts;
+    private final Executor executor;
+
+    private RangedTransfer(Builder<I, O> builder) {
+        this.input = builder.input;
+        this.call = builder.call;
+        this.rangeApplier = builder.rangeApplier;
+        this.validator = builder.validator;
+        this.overrideConfig = builder.overrideConfig;
+        this.partSize = builder.partSize;
+        this.maxConcurrency = builder.maxConcurrency;
+        this.maxPartAttempts = builder.maxPartAttempts;
+        this.executor = builder.executor;
+    }
+
+    /**
+     * Create a builder for a ranged transfer.
+     *
+     * @param input Base input used to create the input of each part.
+     * @param call Call made for each part.
+     * @param rangeApplier Creates the input of each part.
+     * @return the builder.
+     * @param <I> Operation input shape type.
+     * @param <O> Operation output shape type.
+     */
+    public static <I extends SerializableStruct, O extends SerializableStruct> Builder<I, O> builder(
+            I input,
+            Transferable<I, O> call,
+            RangeApplier<I> rangeApplier
+    ) {
+        return new Builder<>(input, call, rangeApplier);
+    }
+
+    /**
+     * Download a payload of a known length into a file using ranged calls.
+     *
+     * <p>The file is created or truncated, then sized to {@code contentLength} before any part is written. If the
+     * transfer fails, the file is left incomplete.
+     *
+     * @param target File to write.
+     * @param contentLength Total length of the payload to download.
+     * @param body Gets the streaming payload from the output of a part.
+     * @return the number of bytes downloaded.
+     * @throws UncheckedIOException if the file can't be written.
+     */
+    public long download(Path target, long contentLength, Function<O, DataStream> body) {
+        List<TransferPart> parts = new ArrayList<>();
+        for (var range : ByteRange.split(contentLength, partSize)) {
+            parts.add(new TransferPart(parts.size() + 1, range, null));
+        }
+
+        try (var channel = FileChannel.open(
+                target,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (contentLength > 0) {
+                // Size the file up front so that parts can be written at their own positions as they arrive.
+                channel.write(ByteBuffer.allocate(1), contentLength - 1);
+            }
+            run(parts, part -> {
+                var output = call.call(rangeApplier.apply(input, part), overrideConfig);
+                long crc = writePart(channel, part, body.apply(output));
+                validate(part, output, crc);
+                return output;
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return contentLength;
+    }
+
+    /**
+     * Upload a file using ranged calls.
+     *
+     * <p>Each part's data is a {@link DataStream} over its range of the file, provided to the {@link RangeApplier}
+     * as {@link TransferPart#body()}.
+     *
+     * @param source File to upload.
+     * @return the outputs of each part, in part order.
+     * @throws UncheckedIOException if the file can't be read.
+     */
+    public List<O> upload(Path source) {
+        long size;
+        try {
+            size = Files.size(source);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        List<TransferPart> parts = new ArrayList<>();
+        for (var range : ByteRange.split(size, partSize)) {
+            var data = DataStream.ofFile(source, null, range.offset(), range.length());
+            parts.add(new TransferPart(parts.size() + 1, range, data));
+        }
+
+        return run(parts, part -> {
+            var output = call.call(rangeApplier.apply(input, part), overrideConfig);
+            if (validator != null) {
+                var crc = new CRC32C();
+                crc.update(part.body().waitForByteBuffer());
+                validate(part, output, crc.getValue());
+            }
+            return output;
+        });
+    }
+
+    private <R> List<R> run(List<TransferPart> parts, PartWork<R> work) {
+        var results = new AtomicReferenceArray<R>(parts.size());
+        var next = new AtomicInteger();
+        var failure = new AtomicReference<RuntimeException>();
+
+        // Each worker claims the next part until every part is done or one part fails for good.
+        var workers = new CompletableFuture<?>[Math.min(maxConcurrency, parts.size())];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = CompletableFuture.runAsync(() -> {
+                int index;
+                while (failure.get() == null && (index = next.getAndIncrement()) < parts.size()) {
+                    try {
+                        results.set(index, attempt(parts.get(index), work));
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    }
+                }
+            }, executor);
+        }
+
+        try {
+            CompletableFuture.allOf(workers).join();
+        } catch (CompletionException e) {
+            failure.compareAndSet(null, e);
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+
+        List<R> result = new ArrayList<>(parts.size());
+        for (int i = 0; i < parts.size(); i++) {
+            result.add(results.get(i));
+        }
+        return result;
+    }
+
+    private <R> R attempt(TransferPart part, PartWork<R> work) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                return work.run(part);
+            } catch (IOException | RuntimeException e) {
+                if (attempt >= maxPartAttempts || !isRetryable(e)) {
+                    throw e instanceof IOException io ? new UncheckedIOException(io) : (RuntimeException) e;
+                }
+                LOGGER.debug("Retrying part {} of ranged transfer after attempt {} failed: {}",
+                        part.number(),
+                        attempt,
+                        e);
+            }
+        }
+    }
+
+    // Only transient failures are retried: I/O errors, including parts with too few or too many bytes, parts that
+    // fail validation, and unmodeled call errors that may be retried. Anything else, like an exception thrown by a
+    // user-provided function, fails the transfer right away.
+    private static boolean isRetryable(Throwable e) {
+        if (e instanceof CompletionException && e.getCause() != null) {
+            return isRetryable(e.getCause());
+        } else if (e instanceof IOException || e instanceof UncheckedIOException) {
+            return true;
+        } else if (e instanceof ModeledException) {
+            return false;
+        } else if (e instanceof CallException ce) {
+            return ce.isRetrySafe() != RetrySafety.NO;
+        }
+        return false;
+    }
+
+    private void validate(TransferPart part, O output, long crc32c) {
+        if (validator != null && !validator.isValid(part, output, crc32c)) {
+            throw new CallException("Part " + part.number() + " of ranged transfer failed validation");
+        }
+    }
+
+    // Writes the part at its own position in the file and returns the CRC32C of the bytes written.
+    private static long writePart(FileChannel channel, TransferPart part, DataStream data) throws IOException {
+        var crc = new CRC32C();
+        long position = part.range().offset();
+        long end = position + part.range().length();
+        try (var in = data.asInputStream().join()) {
+            byte[] buffer = new byte[(int) Math.min(COPY_BUFFER_SIZE, part.range().length())];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                if (position + read > end) {
+                    throw new IOException("Part " + part.number() + " returned more than the "
+                            + part.range().length() + " bytes that were requested");
+                }
+                crc.update(buffer, 0, read);
+                var chunk = ByteBuffer.wrap(buffer, 0, read);
+                while (chunk.hasRemaining()) {
+                    position += channel.write(chunk, position);
+                }
+            }
+        }
+
+        if (position != end) {
+            throw new IOException("Part " + part.number() + " returned " + (position - part.range().offset())
+                    + " bytes, but " + part.range().length() + " were requested");
+        }
+
+        return crc.getValue();
+    }
+
+    /**
+     * Builds a {@link RangedTransfer}.
+     *
+     * @param <I> Operation input shape type.
+     * @param <O> Operation output shape type.
+     */
+    public static final class Builder<I extends SerializableStruct, O extends SerializableStruct> {
+        private final I input;
+        private final Transferable<I, O> call;
+        private final RangeApplier<I> rangeApplier;
+        private PartValidator<O> validator;
+        private RequestOverrideConfig overrideConfig;
+        private long partSize = 8 * 1024 * 1024;
+        private int maxConcurrency = 8;
+        private int maxPartAttempts = 3;
+        private Executor executor = DEFAULT_EXECUTOR;
+
+        private Builder(I input, Transferable<I, O> call, RangeApplier<I> rangeApplier) {
+            this.input = Objects.requireNonNull(input, "input is null");
+            this.call = Objects.requireNonNull(call, "call is null");
+            this.rangeApplier = Objects.requireNonNull(rangeApplier, "rangeApplier is null");
+        }
+
+        public RangedTransfer<I, O> build() {
+            return new RangedTransfer<>(this);
+        }
+
+        /**
+         * Set the maximum size of each part, in bytes.
+         *
+         * <p>Defaults to 8 MiB.
+         *
+         * @param partSize Maximum part size.
+         * @return the builder.
+         */
+        public Builder<I, O> partSize(long partSize) {
+            if (partSize <= 0) {
+                throw new IllegalArgumentException("partSize must be positive: " + partSize);
+            }
+            this.partSize = partSize;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of parts to transfer at the same time.
+         *
+         * <p>Defaults to 8.
+         *
+         * @param maxConcurrency Maximum number of concurrent calls.
+         * @return the builder.
+         */
+        public Builder<I, O> maxConcurrency(int maxConcurrency) {
+            if (maxConcurrency <= 0) {
+                throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of times each part is attempted before the transfer fails.
+         *
+         * <p>Defaults to 3.
+         *
+         * @param maxPartAttempts Maximum attempts per part.
+         * @return the builder.
+         */
+        public Builder<I, O> maxPartAttempts(int maxPartAttempts) {
+            if (maxPartAttempts <= 0) {
+                throw new IllegalArgumentException("maxPartAttempts must be positive: " + maxPartAttempts);
+            }
+            this.maxPartAttempts = maxPartAttempts;
+            return this;
+        }
+
+        /**
+         * Validate each part after it's transferred. Parts that fail validation are retried.
+         *
+         * @param validator Validator to use, or null to not validate parts.
+         * @return the builder.
+         */
+        public Builder<I, O> validator(PartValidator<O> validator) {
+            this.validator = validator;
+            return this;
+        }
+
+        /**
+         * Set the override config to use for each part's call.
+         *
+         * @param overrideConfig Override config to use, or null.
+         * @return the builder.
+         */
+        public Builder<I, O> overrideConfig(RequestOverrideConfig overrideConfig) {
+            this.overrideConfig = overrideConfig;
+            return this;
+        }
+
+        /**
+         * Set the executor that runs the calls of each part.
+         *
+         * <p>Calls block while parts are transferred. Defaults to an executor that uses virtual threads.
+         *
+         * @param executor Executor to use.
+         * @return the builder.
+         */
+        public Builder<I, O> executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "executor is null");
+            return this;
+        }
+    }
+}
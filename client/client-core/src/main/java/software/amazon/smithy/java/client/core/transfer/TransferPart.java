@@ -0,0 +1,17 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.client.core.transfer;
+
+import software.amazon.smithy.java.io.datastream.DataStream;
+
+/**
+ * One part of a ranged transfer.
+ *
+ * @param number One-based number of the part, in payload order.
+ * @param range Range of the payload covered by the part.
+ * @param body Data of the part when uploading, or null when downloading.
+ */
+public record TransferPart(int number, ByteRange range, DataStream body) {}
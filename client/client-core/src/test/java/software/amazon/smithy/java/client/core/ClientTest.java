@@ -8,18 +8,23 @@ package software.amazon.smithy.java.client.core;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import software.amazon.smithy.java.aws.client.restjson.RestJsonClientProtocol;
 import software.amazon.smithy.java.client.core.auth.scheme.AuthSchemeResolver;
+import software.amazon.smithy.java.client.core.endpoint.Endpoint;
 import software.amazon.smithy.java.client.core.endpoint.EndpointResolver;
+import software.amazon.smithy.java.client.core.endpoint.EndpointResolverParams;
 import software.amazon.smithy.java.client.core.error.TransportException;
 import software.amazon.smithy.java.client.core.interceptors.CallHook;
 import software.amazon.smithy.java.client.core.interceptors.ClientInterceptor;
@@ -36,6 +41,7 @@ import software.amazon.smithy.java.client.http.plugins.UserAgentPlugin;
 import software.amazon.smithy.java.core.serde.document.Document;
 import software.amazon.smithy.java.dynamicclient.DynamicClient;
 import software.amazon.smithy.java.http.api.HttpResponse;
+import software.amazon.smithy.java.tracing.api.MetricsTracer;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.shapes.ShapeId;
 
@@ -220,4 +226,127 @@ public class ClientTest {
 
         c.call("GetSprocket");
     }
+
+    @Test
+    public void recordsPipelineSpans() {
+        var queue = new MockQueue();
+        queue.enqueue(HttpResponse.builder().statusCode(200).build());
+        var tracer = new MetricsTracer();
+
+        DynamicClient c = DynamicClient.builder()
+                .model(MODEL)
+                .service(SERVICE)
+                .protocol(new RestJsonClientProtocol(SERVICE))
+                .addPlugin(MockPlugin.builder().addQueue(queue).build())
+                .putConfig(ClientContext.TRACER, tracer)
+                .endpoint("https://example.com")
+                .authSchemeResolver(AuthSchemeResolver.NO_AUTH)
+                .build();
+
+        c.call("GetSprocket");
+
+        for (var span : new String[] {
+                ClientSpans.CALL,
+                ClientSpans.SERIALIZE,
+                ClientSpans.ATTEMPT,
+                ClientSpans.IDENTITY,
+                ClientSpans.ENDPOINT,
+                ClientSpans.SIGN,
+                ClientSpans.TRANSMIT,
+                ClientSpans.DESERIALIZE}) {
+            assertThat(span, tracer.histogram(span).count(), equalTo(1L));
+        }
+    }
+
+    @Test
+    public void recordsErrorsOnFailedStageSpans() {
+        var tracer = new MetricsTracer();
+
+        DynamicClient c = DynamicClient.builder()
+                .model(MODEL)
+                .service(SERVICE)
+                .protocol(new RestJsonClientProtocol(SERVICE))
+                .addPlugin(MockPlugin.builder().addQueue(new MockQueue()).build())
+                .putConfig(ClientContext.TRACER, tracer)
+                .endpointResolver(params -> {
+                    throw new IllegalStateException("no endpoint");
+                })
+                .authSchemeResolver(AuthSchemeResolver.NO_AUTH)
+                .build();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> c.call("GetSprocket"));
+
+        assertThat(tracer.counter(ClientSpans.ENDPOINT + ".errors").value(), equalTo(1L));
+        assertThat(tracer.counter(ClientSpans.CALL + ".errors").value(), equalTo(1L));
+        assertThat(tracer.counter(ClientSpans.IDENTITY + ".errors").value(), equalTo(0L));
+        assertThat(tracer.histogram(ClientSpans.ENDPOINT).count(), equalTo(1L));
+    }
+
+    @Test
+    public void layeredOverridesMatchRebuiltConfig() throws URISyntaxException {
+        DynamicClient c = DynamicClient.builder()
+                .model(MODEL)
+                .service(SERVICE)
+                .protocol(new RestJsonClientProtocol(SERVICE))
+                .endpoint("https://example.com")
+                .putConfig(ClientContext.APPLICATION_ID, "base")
+                .build();
+        var interceptor = new ClientInterceptor() {};
+        var override = RequestOverrideConfig.builder()
+                .putConfig(ClientContext.API_CALL_TIMEOUT, Duration.ofMinutes(2))
+                .putConfig(ClientContext.CUSTOM_ENDPOINT, Endpoint.builder().uri("https://override.com").build())
+                .addInterceptor(interceptor)
+                .build();
+
+        var layered = c.config().withRequestOverride(override);
+        var rebuilt = layered.toBuilder().build();
+
+        var operation = c.getOperation("GetSprocket");
+        for (var config : List.of(layered, rebuilt)) {
+            assertThat(config.context().get(ClientContext.APPLICATION_ID), equalTo("base"));
+            assertThat(config.context().get(ClientContext.API_CALL_TIMEOUT), equalTo(Duration.ofMinutes(2)));
+            assertThat(config.interceptors().get(config.interceptors().size() - 1), sameInstance(interceptor));
+            assertThat(config.appliedPlugins(), equalTo(c.config().appliedPlugins()));
+            var endpoint = config.endpointResolver()
+                    .resolveEndpoint(EndpointResolverParams.builder()
+                            .operation(operation)
+                            .inputValue(operation.inputBuilder().build())
+                            .build());
+            assertThat(endpoint.uri(), equalTo(new URI("https://override.com")));
+        }
+    }
+
+    @Test
+    public void reusesConfigForSameOverride() {
+        var queue = new MockQueue();
+        queue.enqueue(HttpResponse.builder().statusCode(200).build());
+        queue.enqueue(HttpResponse.builder().statusCode(200).build());
+        var seen = new ArrayList<ClientConfig>();
+
+        DynamicClient c = DynamicClient.builder()
+                .model(MODEL)
+                .service(SERVICE)
+                .protocol(new RestJsonClientProtocol(SERVICE))
+                .addPlugin(MockPlugin.builder().addQueue(queue).build())
+                .addPlugin(config -> config.addInterceptor(new ClientInterceptor() {
+                    @Override
+                    public ClientConfig modifyBeforeCall(CallHook<?, ?> hook) {
+                        seen.add(hook.config());
+                        return hook.config();
+                    }
+                }))
+                .endpoint("https://example.com")
+                .authSchemeResolver(AuthSchemeResolver.NO_AUTH)
+                .build();
+        var override = RequestOverrideConfig.builder()
+                .putConfig(ClientContext.APPLICATION_ID, "abc")
+                .build();
+
+        c.call("GetSprocket", Document.ofObject(new HashMap<>()), override);
+        c.call("GetSprocket", Document.ofObject(new HashMap<>()), override);
+
+        assertThat(seen.size(), equalTo(2));
+        assertSame(seen.get(0), seen.get(1));
+        assertThat(seen.get(0).context().get(ClientContext.APPLICATION_ID), equalTo("abc"));
+    }
 }
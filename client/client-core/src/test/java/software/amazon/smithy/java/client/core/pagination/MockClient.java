@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import software.amazon.smithy.java.client.core.RequestOverrideConfig;
 import software.amazon.smithy.java.client.core.pagination.models.GetFoosInput;
 import software.amazon.smithy.java.client.core.pagination.models.GetFoosOutput;
@@ -19,6 +20,7 @@ final class MockClient {
     private final Iterator<String> tokenIterator = tokens.iterator();
     private String nextToken = null;
     private boolean completed = false;
+    private int calls = 0;
 
     public GetFoosOutput getFoosSync(GetFoosInput in, RequestOverrideConfig override) {
         if (!Objects.equals(nextToken, in.nextToken())) {
@@ -28,6 +30,7 @@ final class MockClient {
             throw new IllegalArgumentException("No more requests expected but got: " + in);
         }
 
+        calls++;
         List<String> foos = new ArrayList<>();
         for (int idx = 0; idx < in.maxResults(); idx++) {
             foos.add("foo" + idx);
@@ -36,4 +39,12 @@ final class MockClient {
         nextToken = tokenIterator.hasNext() ? tokenIterator.next() : null;
         return new GetFoosOutput(new ResultWrapper(nextToken, foos));
     }
+
+    public CompletableFuture<GetFoosOutput> getFoosAsync(GetFoosInput in, RequestOverrideConfig override) {
+        return CompletableFuture.completedFuture(getFoosSync(in, override));
+    }
+
+    public int calls() {
+        return calls;
+    }
 }
@@ -7,9 +7,17 @@ package software.amazon.smithy.java.client.core.pagination;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import software.amazon.smithy.java.client.core.pagination.models.GetFoosInput;
@@ -70,4 +78,110 @@ public class PaginationTest {
                 new GetFoosOutput(new ResultWrapper("third", List.of("foo0", "foo1"))));
         assertThat(results, contains(expectedResult.toArray()));
     }
+
+    @Test
+    void testAsyncPagination() throws Exception {
+        var input = GetFoosInput.builder().maxResults(2).build();
+        var paginator = AsyncPaginator.paginate(input, new TestOperationPaginated(), mockClient::getFoosAsync);
+        var results = collect(paginator);
+        assertThat(results, contains(BASE_EXPECTED_RESULTS.toArray()));
+    }
+
+    @Test
+    void testAsyncPaginationPrefetchesPages() {
+        var input = GetFoosInput.builder().maxResults(2).build();
+        var paginator = AsyncPaginator.paginate(input, new TestOperationPaginated(), mockClient::getFoosAsync);
+        paginator.prefetch(3);
+        List<GetFoosOutput> results = new ArrayList<>();
+        var subscriber = new Flow.Subscriber<GetFoosOutput>() {
+            Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+            }
+
+            @Override
+            public void onNext(GetFoosOutput item) {
+                results.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {}
+
+            @Override
+            public void onComplete() {}
+        };
+        paginator.subscribe(subscriber);
+
+        // Pages are fetched ahead of demand, up to the prefetch depth.
+        assertThat(mockClient.calls(), equalTo(3));
+        assertThat(results, empty());
+
+        subscriber.subscription.request(1);
+        assertThat(results, contains(BASE_EXPECTED_RESULTS.get(0)));
+        assertThat(mockClient.calls(), equalTo(4));
+    }
+
+    @Test
+    void testAsyncMaxResultsPagination() throws Exception {
+        var input = GetFoosInput.builder().maxResults(4).build();
+        var paginator = AsyncPaginator.paginate(input, new TestOperationPaginated(), mockClient::getFoosAsync);
+        paginator.maxItems(10);
+        paginator.prefetch(0);
+
+        var results = collect(paginator);
+        var expectedResult = List.of(
+                new GetFoosOutput(new ResultWrapper("first", List.of("foo0", "foo1", "foo2", "foo3"))),
+                new GetFoosOutput(new ResultWrapper("second", List.of("foo0", "foo1", "foo2", "foo3"))),
+                new GetFoosOutput(new ResultWrapper("third", List.of("foo0", "foo1"))));
+        assertThat(results, contains(expectedResult.toArray()));
+    }
+
+    @Test
+    void testAsyncItemPagination() throws Exception {
+        var input = GetFoosInput.builder().maxResults(2).build();
+        var paginator = AsyncPaginator.paginate(input, new TestOperationPaginated(), mockClient::getFoosAsync);
+        List<String> items = collect(paginator.items());
+        assertThat(items, hasSize(10));
+        assertThat(items.subList(0, 4), contains("foo0", "foo1", "foo0", "foo1"));
+    }
+
+    @Test
+    void testAsyncPaginationPropagatesErrors() {
+        var input = GetFoosInput.builder().maxResults(2).build();
+        var paginator = AsyncPaginator.<GetFoosInput, GetFoosOutput>paginate(
+                input,
+                new TestOperationPaginated(),
+                (in, override) -> CompletableFuture.failedFuture(new IllegalStateException("boom")));
+        var e = assertThrows(ExecutionException.class, () -> collect(paginator));
+        assertThat(e.getCause().getMessage(), equalTo("boom"));
+    }
+
+    private static <T> List<T> collect(Flow.Publisher<T> publisher) throws Exception {
+        List<T> results = new ArrayList<>();
+        CompletableFuture<List<T>> future = new CompletableFuture<>();
+        publisher.subscribe(new Flow.Subscriber<T>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(T item) {
+                results.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                future.complete(results);
+            }
+        });
+        return future.get(5, TimeUnit.SECONDS);
+    }
 }
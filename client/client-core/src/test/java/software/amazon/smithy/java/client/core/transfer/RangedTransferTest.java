@@ -0,0 +1,185 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.client.core.transfer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32C;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.smithy.java.core.error.CallException;
+import software.amazon.smithy.java.core.schema.Schema;
+import software.amazon.smithy.java.core.schema.SerializableStruct;
+import software.amazon.smithy.java.core.serde.ShapeSerializer;
+import software.amazon.smithy.java.io.ByteBufferUtils;
+import software.amazon.smithy.java.io.datastream.DataStream;
+import software.amazon.smithy.model.shapes.ShapeId;
+
+public class RangedTransferTest {
+
+    private static final byte[] DATA = createBytes(100_000);
+
+    @Test
+    public void splitsIntoRanges() {
+        assertThat(ByteRange.split(10, 4), equalTo(List.of(
+                new ByteRange(0, 4),
+                new ByteRange(4, 4),
+                new ByteRange(8, 2))));
+        assertThat(ByteRange.split(0, 4), equalTo(List.of()));
+        assertThat(new ByteRange(8, 2).toRangeHeader(), equalTo("bytes=8-9"));
+    }
+
+    @Test
+    public void downloadsPartsIntoFile(@TempDir Path dir) throws Exception {
+        var file = dir.resolve("download.bin");
+        var calls = new AtomicInteger();
+        var transfer = RangedTransfer.<Message, Message>builder(
+                new Message(null, null),
+                (input, override) -> {
+                    calls.incrementAndGet();
+                    var range = input.part().range();
+                    var body = DataStream.ofBytes(DATA, (int) range.offset(), (int) range.length());
+                    return new Message(input.part(), body);
+                },
+                (input, part) -> new Message(part, null))
+                .partSize(7_000)
+                .maxConcurrency(4)
+                .build();
+
+        assertThat(transfer.download(file, DATA.length, Message::body), equalTo((long) DATA.length));
+        assertThat(Files.readAllBytes(file), equalTo(DATA));
+        assertThat(calls.get(), equalTo(15));
+    }
+
+    @Test
+    public void retriesIncompleteAndInvalidParts(@TempDir Path dir) throws Exception {
+        var file = dir.resolve("download.bin");
+        Map<Integer, AtomicInteger> attempts = new ConcurrentHashMap<>();
+        var transfer = RangedTransfer.<Message, Message>builder(
+                new Message(null, null),
+                (input, override) -> {
+                    var part = input.part();
+                    var range = part.range();
+                    int attempt = attempts.computeIfAbsent(part.number(), n -> new AtomicInteger()).incrementAndGet();
+                    // The first attempt of part 2 is cut short, and the first attempt of part 3 is corrupted.
+                    int length = part.number() == 2 && attempt == 1 ? 10 : (int) range.length();
+                    var bytes = new byte[length];
+                    System.arraycopy(DATA, (int) range.offset(), bytes, 0, length);
+                    if (part.number() == 3 && attempt == 1) {
+                        bytes[0]++;
+                    }
+                    return new Message(part, DataStream.ofBytes(bytes));
+                },
+                (input, part) -> new Message(part, null))
+                .partSize(30_000)
+                .validator((part, output, crc) -> crc == crc32c(part.range()))
+                .build();
+
+        transfer.download(file, DATA.length, Message::body);
+
+        assertThat(Files.readAllBytes(file), equalTo(DATA));
+        assertThat(attempts.get(1).get(), equalTo(1));
+        assertThat(attempts.get(2).get(), equalTo(2));
+        assertThat(attempts.get(3).get(), equalTo(2));
+    }
+
+    @Test
+    public void failsWhenPartKeepsFailing(@TempDir Path dir) {
+        var attempts = new AtomicInteger();
+        var transfer = RangedTransfer.<Message, Message>builder(
+                new Message(null, null),
+                (input, override) -> {
+                    attempts.incrementAndGet();
+                    throw new CallException("nope");
+                },
+                (input, part) -> new Message(part, null))
+                .maxPartAttempts(2)
+                .build();
+
+        assertThrows(CallException.class, () -> transfer.download(dir.resolve("f"), 10, Message::body));
+        assertThat(attempts.get(), equalTo(2));
+    }
+
+    @Test
+    public void doesNotRetryProgrammingErrors(@TempDir Path dir) {
+        var attempts = new AtomicInteger();
+        var transfer = RangedTransfer.<Message, Message>builder(
+                new Message(null, null),
+                (input, override) -> new Message(input.part(), DataStream.ofBytes(new byte[10])),
+                (input, part) -> {
+                    attempts.incrementAndGet();
+                    throw new IllegalArgumentException("bad range applier");
+                })
+                .maxPartAttempts(3)
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> transfer.download(dir.resolve("f"), 10, Message::body));
+        assertThat(attempts.get(), equalTo(1));
+    }
+
+    @Test
+    public void uploadsFileRanges(@TempDir Path dir) throws Exception {
+        var file = dir.resolve("upload.bin");
+        Files.write(file, DATA);
+        var transfer = RangedTransfer.<Message, Message>builder(
+                new Message(null, null),
+                (input, override) -> input,
+                (input, part) -> new Message(part, part.body()))
+                .partSize(40_000)
+                .validator((part, output, crc) -> crc == crc32c(part.range()))
+                .build();
+
+        var outputs = transfer.upload(file);
+        var uploaded = new ByteArrayOutputStream();
+        for (int i = 0; i < outputs.size(); i++) {
+            assertThat(outputs.get(i).part().number(), equalTo(i + 1));
+            uploaded.writeBytes(ByteBufferUtils.getBytes(outputs.get(i).body().waitForByteBuffer()));
+        }
+
+        assertThat(outputs.size(), equalTo(3));
+        assertThat(uploaded.toByteArray(), equalTo(DATA));
+    }
+
+    private static long crc32c(ByteRange range) {
+        var crc = new CRC32C();
+        crc.update(DATA, (int) range.offset(), (int) range.length());
+        return crc.getValue();
+    }
+
+    private static byte[] createBytes(int size) {
+        var bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) (i * 31);
+        }
+        return bytes;
+    }
+
+    private record Message(TransferPart part, DataStream body) implements SerializableStruct {
+        private static final Schema SCHEMA = Schema.structureBuilder(ShapeId.from("smithy.example#Message")).build();
+
+        @Override
+        public Schema schema() {
+            return SCHEMA;
+        }
+
+        @Override
+        public void serializeMembers(ShapeSerializer serializer) {}
+
+        @Override
+        public <T> T getMemberValue(Schema member) {
+            return null;
+        }
+    }
+}
@@ -8,7 +8,6 @@ package software.amazon.smithy.java.client.http;
 import software.amazon.smithy.java.core.serde.TypeRegistry;
 import software.amazon.smithy.java.http.api.HttpResponse;
 import software.amazon.smithy.model.shapes.ShapeId;
-import software.amazon.smithy.model.shapes.ShapeIdSyntaxException;
 
 /**
  * Attempts to extract the Amazon-specific X-Amzn-Errortype error header and map it to a builder in a type registry.
@@ -30,30 +29,19 @@ public final class AmznErrorHeaderExtractor implements HttpErrorDeserializer.Hea
 
     private static ShapeId toShapeId(String error, String serviceNamespace, TypeRegistry registry) {
         error = sanitizeErrorId(error);
-        var hashPos = error.indexOf('#');
-
-        // Try to find a shape in the registry that exactly matches the shape ID if it's absolute.
-        if (hashPos > 0) {
-            try {
-                var id1 = ShapeId.from(error);
-                if (registry.getShapeClass(id1) != null) {
-                    return id1;
-                }
-            } catch (ShapeIdSyntaxException ignored) {}
 
+        // Try to find a shape in the registry that exactly matches the shape ID if it's absolute, or that matches
+        // the relative ID + the service namespace.
+        var id = registry.findShapeId(error, serviceNamespace);
+        if (id == null) {
             // Not found, so strip off the absolute namespace and try with the service.
-            error = error.substring(hashPos + 1);
-        }
-
-        // Try to find an error class that matches the relative ID + the service namespace.
-        try {
-            var id2 = ShapeId.fromOptionalNamespace(serviceNamespace, error);
-            if (registry.getShapeClass(id2) != null) {
-                return id2;
+            var hashPos = error.indexOf('#');
+            if (hashPos > 0) {
+                id = registry.findShapeId(error.substring(hashPos + 1), serviceNamespace);
             }
-        } catch (ShapeIdSyntaxException ignored) {}
+        }
 
-        return null;
+        return id;
     }
 
     private static String sanitizeErrorId(String errorId) {
@@ -81,10 +81,12 @@ public final class HttpErrorDeserializer {
         /**
          * Create an error from an HTTP response and a parsed document value.
          *
-         * <p>This method can be used when protocols only need to inspect the payload of an error to deserialize it.
-         * The default implementation of this method will create a new response based on the provided bytes and
-         * delegate to {@link #createError(Context, Codec, HttpResponse, ShapeBuilder)}. Override this method
-         * if the protocol can parse errors from documents to avoid parsing the response a second time.
+         * <p>The default implementation of this method will create a new response based on the provided bytes and
+         * delegate to {@link #createError(Context, Codec, HttpResponse, ShapeBuilder)}.
+         *
+         * @deprecated {@link HttpErrorDeserializer} no longer materializes error payloads into documents. It finds
+         * the error type with {@link Codec#readDiscriminator(ByteBuffer)} and then calls
+         * {@link #createError(Context, Codec, HttpResponse, ShapeBuilder)} with the already read payload.
          *
          * @param context Context of the call.
          * @param codec Codec used to deserialize payloads.
@@ -94,6 +96,7 @@ public final class HttpErrorDeserializer {
          * @param builder Builder to populate and build.
          * @return the created error.
          */
+        @Deprecated
         default ModeledException createErrorFromDocument(
                 Context context,
                 Codec codec,
@@ -144,19 +147,6 @@ public final class HttpErrorDeserializer {
                 throw new RuntimeException("Failed to deserialize error", e);
             }
         }
-
-        @Override
-        public ModeledException createErrorFromDocument(
-                Context context,
-                Codec codec,
-                HttpResponse response,
-                ByteBuffer responsePayload,
-                Document parsedDocument,
-                ShapeBuilder<ModeledException> builder
-        ) {
-            parsedDocument.deserializeInto(builder);
-            return builder.errorCorrection().build();
-        }
     };
 
     private final Codec codec;
@@ -246,21 +236,19 @@ public final class HttpErrorDeserializer {
             DataStream content
     ) {
         try {
-            // Read the payload into a JSON document so we can efficiently find __type and then directly
-            // deserialize the document into the identified builder.
+            // Find __type without materializing the payload, then deserialize the payload directly into the
+            // identified builder.
             ByteBuffer buffer = content.waitForByteBuffer();
 
             if (buffer.remaining() > 0) {
-                var document = codec.createDeserializer(buffer).readDocument();
-                var id = document.discriminator();
-                var builder = typeRegistry.createBuilder(id, ModeledException.class);
+                var id = codec.readDiscriminator(buffer);
+                var builder = id == null ? null : typeRegistry.createBuilder(id, ModeledException.class);
                 if (builder != null) {
-                    return knownErrorFactory.createErrorFromDocument(
+                    return knownErrorFactory.createError(
                             context,
                             codec,
-                            response,
-                            buffer,
-                            document,
+                            // Make a new response that uses the already read response payload.
+                            response.toBuilder().body(DataStream.ofByteBuffer(buffer)).build(),
                             builder);
                 }
             }
@@ -111,6 +111,11 @@ public class JavaHttpClientTransport implements ClientTransport<HttpRequest, Htt
         if (request.body().hasKnownLength()) {
             if (request.body().contentLength() == 0) {
                 bodyPublisher = java.net.http.HttpRequest.BodyPublishers.noBody();
+            } else if (request.body().isReplayable() && !request.body().hasByteBuffer()) {
+                // Stream replayable bodies like files rather than loading them onto the heap.
+                bodyPublisher = java.net.http.HttpRequest.BodyPublishers.fromPublisher(
+                        request.body(),
+                        request.body().contentLength());
             } else {
                 bodyPublisher = java.net.http.HttpRequest.BodyPublishers.ofByteArray(
                         ByteBufferUtils.getBytes(request.body().waitForByteBuffer()));
@@ -131,7 +136,7 @@ public class JavaHttpClientTransport implements ClientTransport<HttpRequest, Htt
         }
 
         // Any explicitly set headers overwrite existing headers, they do not merge.
-        for (var entry : request.headers().map().entrySet()) {
+        for (var entry : request.headers()) {
             for (var value : entry.getValue()) {
                 httpRequestBuilder.setHeader(entry.getKey(), value);
             }
@@ -155,10 +160,9 @@ public class JavaHttpClientTransport implements ClientTransport<HttpRequest, Htt
     }
 
     private HttpResponse createSmithyResponse(java.net.http.HttpResponse<InputStream> response) {
-        var headerMap = response.headers().map();
-        LOGGER.trace("Got response: {}; headers: {}", response, headerMap);
+        LOGGER.trace("Got response: {}; headers: {}", response, response.headers());
 
-        var headers = HttpHeaders.of(headerMap);
+        var headers = HttpHeaders.of(response.headers());
         var length = headers.contentLength();
         var adaptedLength = length == null ? -1 : length;
         var contentType = headers.contentType();
@@ -120,6 +120,25 @@ public class HttpErrorDeserializerTest {
         assertThat(result, instanceOf(Baz.class));
     }
 
+    @Test
+    public void findsPayloadTypeAfterNestedMembers() {
+        var deserializer = HttpErrorDeserializer.builder()
+                .codec(CODEC)
+                .serviceId(SERVICE)
+                .build();
+        var registry = TypeRegistry.builder()
+                .putType(Baz.SCHEMA.id(), Baz.class, Baz.Builder::new)
+                .build();
+        var responseBuilder = HttpResponse.builder()
+                .statusCode(400)
+                .body(DataStream.ofString("{\"detail\": {\"__type\": \"com.foo#Other\", \"items\": [1, \"}\"]}, "
+                        + "\"__type\": \"com.foo#Baz\"}"));
+        var response = responseBuilder.build();
+        var result = deserializer.createError(Context.create(), OPERATION, registry, response);
+
+        assertThat(result, instanceOf(Baz.class));
+    }
+
     @Test
     public void usesGenericErrorWhenPayloadTypeIsUnknown() {
         var deserializer = HttpErrorDeserializer.builder()
@@ -11,6 +11,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 import software.amazon.smithy.rulesengine.logic.bdd.Bdd;
 import software.amazon.smithy.rulesengine.logic.bdd.BddNodeConsumer;
 
@@ -51,8 +52,8 @@ import software.amazon.smithy.rulesengine.logic.bdd.BddNodeConsumer;
  * <ol>
  *   <li><b>Condition Table</b> - Array of 4-byte offsets pointing to each condition's bytecode</li>
  *   <li><b>Result Table</b> - Array of 4-byte offsets pointing to each result's bytecode</li>
- *   <li><b>Register Definitions</b> - Array of parameter/register metadata (immediately after result table)</li>
- *   <li><b>Function Table</b> - Array of function names</li>
+ *   <li><b>Function Table</b> - Array of function names (immediately after result table)</li>
+ *   <li><b>Register Definitions</b> - Array of parameter/register metadata (immediately after function table)</li>
  *   <li><b>BDD Table</b> - Array of BDD nodes (3 ints per node)</li>
  *   <li><b>Bytecode Section</b> - Compiled instructions for conditions and results</li>
  *   <li><b>Constant Pool</b> - All constants referenced by the bytecode</li>
@@ -69,7 +70,7 @@ import software.amazon.smithy.rulesengine.logic.bdd.BddNodeConsumer;
  * adjusted to be relative to the bytecode section start for efficient access.
  *
  * <h3>Register Definitions</h3>
- * <p>Immediately follows the result table. Each register is encoded as:
+ * <p>Immediately follows the function table. Each register is encoded as:
  * <pre>
  * [nameLen:2][name:UTF-8][required:1][temp:1][hasDefault:1][default:?][hasBuiltin:1][builtin:?]
  * </pre>
@@ -143,6 +144,13 @@ import software.amazon.smithy.rulesengine.logic.bdd.BddNodeConsumer;
  * Bytecode bytecode = engine.load(data);
  * }</pre>
  *
+ * <p>Loading a precompiled classpath resource (see {@link #serialize()}):
+ * <pre>{@code
+ * Bytecode bytecode = engine.loadResource(classLoader, "META-INF/smithy-java/endpoint-rules/example.Foo.bytecode");
+ * }</pre>
+ *
+ * <p>When loaded from its binary form, the constant pool is decoded lazily the first time it's needed.
+ *
  * <p>Building new bytecode:
  * <pre>{@code
  * BytecodeCompiler compiler = new BytecodeCompiler(...);
@@ -165,7 +173,9 @@ public final class Bytecode {
     private final int[] conditionOffsets;
     private final int[] resultOffsets;
     private final RegisterDefinition[] registerDefinitions;
-    private final Object[] constantPool;
+    private final int constantPoolCount;
+    private volatile Object[] constantPool;
+    private final Supplier<Object[]> constantPoolLoader;
     private final RulesFunction[] functions;
 
     // BDD structure
@@ -210,6 +220,60 @@ public final class Bytecode {
             int[] bddNodes,
             int bddRootRef,
             short version
+    ) {
+        this(bytecode,
+                conditionOffsets,
+                resultOffsets,
+                registerDefinitions,
+                Objects.requireNonNull(constantPool).length,
+                constantPool,
+                null,
+                functions,
+                bddNodes,
+                bddRootRef,
+                version);
+    }
+
+    /**
+     * Create bytecode whose constant pool is decoded on first use.
+     */
+    Bytecode(
+            byte[] bytecode,
+            int[] conditionOffsets,
+            int[] resultOffsets,
+            RegisterDefinition[] registerDefinitions,
+            int constantPoolCount,
+            Supplier<Object[]> constantPoolLoader,
+            RulesFunction[] functions,
+            int[] bddNodes,
+            int bddRootRef,
+            short version
+    ) {
+        this(bytecode,
+                conditionOffsets,
+                resultOffsets,
+                registerDefinitions,
+                constantPoolCount,
+                null,
+                Objects.requireNonNull(constantPoolLoader),
+                functions,
+                bddNodes,
+                bddRootRef,
+                version);
+    }
+
+    private Bytecode(
+            byte[] bytecode,
+            int[] conditionOffsets,
+            int[] resultOffsets,
+            RegisterDefinition[] registerDefinitions,
+            int constantPoolCount,
+            Object[] constantPool,
+            Supplier<Object[]> constantPoolLoader,
+            RulesFunction[] functions,
+            int[] bddNodes,
+            int bddRootRef,
+            short version
     ) {
         if (bddNodes.length % 3 != 0) {
             throw new IllegalArgumentException("BDD nodes length must be multiple of 3, got: " + bddNodes.length);
@@ -219,7 +283,9 @@ public final class Bytecode {
         this.conditionOffsets = Objects.requireNonNull(conditionOffsets);
         this.resultOffsets = Objects.requireNonNull(resultOffsets);
         this.registerDefinitions = Objects.requireNonNull(registerDefinitions);
-        this.constantPool = Objects.requireNonNull(constantPool);
+        this.constantPoolCount = constantPoolCount;
+        this.constantPool = constantPool;
+        this.constantPoolLoader = constantPoolLoader;
         this.functions = functions;
         this.bddNodes = Objects.requireNonNull(bddNodes);
         this.bddRootRef = bddRootRef;
@@ -285,7 +351,7 @@ public final class Bytecode {
      * @return the constant.
      */
     public Object getConstant(int constantIndex) {
-        return constantPool[constantIndex];
+        return getConstantPool()[constantIndex];
     }
 
     /**
@@ -294,7 +360,7 @@ public final class Bytecode {
      * @return return the number of constants in the constant pool.
      */
     public int getConstantPoolCount() {
-        return constantPool.length;
+        return constantPoolCount;
     }
 
     /**
@@ -303,7 +369,28 @@ public final class Bytecode {
      * @return the constant pool.
      */
     public Object[] getConstantPool() {
-        return constantPool;
+        var pool = constantPool;
+        if (pool == null) {
+            // Decoding is idempotent, so racing threads may both decode without harm.
+            pool = constantPoolLoader.get();
+            if (pool.length != constantPoolCount) {
+                throw new IllegalStateException("Expected " + constantPoolCount + " constants, found " + pool.length);
+            }
+            constantPool = pool;
+        }
+        return pool;
+    }
+
+    /**
+     * Serialize the bytecode into its binary form.
+     *
+     * <p>The result can be persisted, for example as a classpath resource generated at build time, and loaded back
+     * with {@link RulesEngineBuilder#load(byte[])} without recompiling the rules.
+     *
+     * @return the serialized bytecode.
+     */
+    public byte[] serialize() {
+        return BytecodeWriter.serialize(this);
     }
 
     /**
@@ -17,6 +17,10 @@ import software.amazon.smithy.rulesengine.logic.bdd.Bdd;
 
 /**
  * Endpoint resolver that uses a compiled endpoint rules program from a BDD.
+ *
+ * <p>The program is interpreted by default. When compilation is enabled, the bytecode is lowered once into
+ * {@link CompiledRules} and evaluated without an interpreter loop. If the bytecode can't be lowered, the resolver
+ * falls back to interpretation.
  */
 public final class BytecodeEndpointResolver implements EndpointResolver {
 
@@ -27,32 +31,75 @@ public final class BytecodeEndpointResolver implements EndpointResolver {
     private final RulesExtension[] extensions;
     private final RegisterFiller registerFiller;
     private final ContextProvider ctxProvider = new ContextProvider.OrchestratingProvider();
-    private final ThreadLocal<BytecodeEvaluator> threadLocalEvaluator;
+    private final UriFactory uriFactory = new UriFactory();
+    private final EvaluatorPool<RulesProgramEvaluator> evaluators;
 
     public BytecodeEndpointResolver(
             Bytecode bytecode,
             List<RulesExtension> extensions,
             Map<String, Function<Context, Object>> builtinProviders
+    ) {
+        this(bytecode, extensions, builtinProviders, false);
+    }
+
+    /**
+     * Create a resolver that optionally lowers the bytecode into compiled rules.
+     *
+     * @param bytecode Bytecode to evaluate.
+     * @param extensions Extensions used to extract endpoint properties.
+     * @param builtinProviders Providers for builtin parameters.
+     * @param compile Set to true to lower the bytecode into compiled rules rather than interpret it.
+     */
+    public BytecodeEndpointResolver(
+            Bytecode bytecode,
+            List<RulesExtension> extensions,
+            Map<String, Function<Context, Object>> builtinProviders,
+            boolean compile
     ) {
         this.bytecode = bytecode;
         this.extensions = extensions.toArray(new RulesExtension[0]);
         this.bdd = bytecode.getBdd();
 
-        // Create and reuse this register filler across thread local evaluators.
+        // Create and reuse this register filler and URI cache across pooled evaluators.
         this.registerFiller = RegisterFiller.of(bytecode, builtinProviders);
-        this.threadLocalEvaluator = ThreadLocal.withInitial(() -> {
-            return new BytecodeEvaluator(bytecode, this.extensions, registerFiller);
-        });
+
+        CompiledRules compiled = compile ? tryCompile(bytecode) : null;
+        if (compiled != null) {
+            this.evaluators = new EvaluatorPool<>(() -> {
+                return new CompiledRulesEvaluator(compiled, this.extensions, registerFiller, uriFactory);
+            });
+        } else {
+            this.evaluators = new EvaluatorPool<>(() -> {
+                return new BytecodeEvaluator(bytecode, this.extensions, registerFiller, uriFactory);
+            });
+        }
+    }
+
+    private static CompiledRules tryCompile(Bytecode bytecode) {
+        try {
+            return CompiledRules.compile(bytecode);
+        } catch (RulesEvaluationError e) {
+            LOGGER.debug("Unable to compile endpoint rules, falling back to interpretation: {}", e.getMessage());
+            return null;
+        }
     }
 
     @Override
     public Endpoint resolveEndpoint(EndpointResolverParams params) {
-        var evaluator = threadLocalEvaluator.get();
+        var evaluator = evaluators.acquire();
+        try {
+            return resolveEndpoint(evaluator, params);
+        } finally {
+            evaluators.release(evaluator);
+        }
+    }
+
+    private Endpoint resolveEndpoint(RulesProgramEvaluator evaluator, EndpointResolverParams params) {
         var operation = params.operation();
         var ctx = params.context();
 
         // Get reusable params array and clear it
-        var inputParams = evaluator.paramsCache;
+        var inputParams = evaluator.paramsCache();
         inputParams.clear();
 
         // Prep the input parameters by grabbing them from the input and from other traits.
@@ -20,14 +20,13 @@ import software.amazon.smithy.rulesengine.language.syntax.expressions.functions.
 import software.amazon.smithy.rulesengine.language.syntax.expressions.functions.ParseUrl;
 import software.amazon.smithy.rulesengine.language.syntax.expressions.functions.Split;
 import software.amazon.smithy.rulesengine.language.syntax.expressions.functions.Substring;
-import software.amazon.smithy.rulesengine.logic.ConditionEvaluator;
 
 /**
  * Evaluates bytecode for a single specific condition or result per evaluation.
  */
-final class BytecodeEvaluator implements ConditionEvaluator {
+final class BytecodeEvaluator implements RulesProgramEvaluator {
 
-    final Map<String, Object> paramsCache = new HashMap<>();
+    private final Map<String, Object> paramsCache = new HashMap<>();
 
     private final Bytecode bytecode;
     private final Object[] registers;
@@ -38,17 +37,32 @@ final class BytecodeEvaluator implements ConditionEvaluator {
     private int stackPosition = 0;
     private int pc;
     private final StringBuilder stringBuilder = new StringBuilder(64);
-    private final UriFactory uriFactory = new UriFactory();
+    private final UriFactory uriFactory;
     private final RegisterFiller registerFiller;
     private Context context;
 
     BytecodeEvaluator(Bytecode bytecode, RulesExtension[] extensions, RegisterFiller registerFiller) {
+        this(bytecode, extensions, registerFiller, new UriFactory());
+    }
+
+    BytecodeEvaluator(
+            Bytecode bytecode,
+            RulesExtension[] extensions,
+            RegisterFiller registerFiller,
+            UriFactory uriFactory
+    ) {
         this.bytecode = bytecode;
+        this.uriFactory = uriFactory;
         this.extensions = extensions;
         this.registers = new Object[bytecode.getRegisterDefinitions().length];
         this.registerFiller = registerFiller;
     }
 
+    @Override
+    public Map<String, Object> paramsCache() {
+        return paramsCache;
+    }
+
     /**
      * Reset the evaluator and registers of the evaluator so it can be reused, using the given context and
      * input parameters.
@@ -56,7 +70,8 @@ final class BytecodeEvaluator implements ConditionEvaluator {
      * @param context Context to get context from.
      * @param parameters Parameters to get input from.
      */
-    void reset(Context context, Map<String, Object> parameters) {
+    @Override
+    public void reset(Context context, Map<String, Object> parameters) {
         this.context = context;
         this.stackPosition = 0;
         registerFiller.fillRegisters(registers, context, parameters);
@@ -70,6 +85,7 @@ final class BytecodeEvaluator implements ConditionEvaluator {
         return result != null && result != Boolean.FALSE;
     }
 
+    @Override
     public Endpoint resolveResult(int resultIndex) {
         if (resultIndex <= -1) {
             return null;
@@ -399,7 +415,7 @@ final class BytecodeEvaluator implements ConditionEvaluator {
     }
 
     // Get a property from a map or URI, or return null.
-    private Object getProperty(Object target, String propertyName) {
+    static Object getProperty(Object target, String propertyName) {
         return switch (target) {
             case Map<?, ?> m -> m.get(propertyName);
             case URI u -> switch (propertyName) {
@@ -415,7 +431,7 @@ final class BytecodeEvaluator implements ConditionEvaluator {
     }
 
     // Get a value by index from an object. If not an array, returns null.
-    private Object getIndex(Object target, int index) {
+    static Object getIndex(Object target, int index) {
         if (target instanceof List<?> l) {
             if (index >= 0 && index < l.size()) {
                 return l.get(index);
@@ -176,6 +176,72 @@ final class BytecodeWriter {
         }
     }
 
+    /**
+     * Serialize an existing bytecode program into the binary format read by {@link RulesEngineBuilder#load}.
+     *
+     * @param bytecode Bytecode to serialize.
+     * @return the serialized bytes.
+     */
+    static byte[] serialize(Bytecode bytecode) {
+        ByteArrayOutputStream complete = new ByteArrayOutputStream();
+        try (DataOutputStream dos = new DataOutputStream(complete)) {
+            int headerSize = 44;
+            int conditionCount = bytecode.getConditionCount();
+            int resultCount = bytecode.getResultCount();
+            RegisterDefinition[] registers = bytecode.getRegisterDefinitions();
+            RulesFunction[] functions = bytecode.getFunctions();
+            Object[] constants = bytecode.getConstantPool();
+            int[] bddNodes = bytecode.getBddNodes();
+            int bddNodeCount = bddNodes.length / 3;
+
+            ByteArrayOutputStream tables = new ByteArrayOutputStream();
+            DataOutputStream tableDos = new DataOutputStream(tables);
+            for (RulesFunction fn : functions) {
+                writeUTF(tableDos, fn.getFunctionName());
+            }
+            tableDos.flush();
+            writeRegisterDefinitions(tables, registers);
+
+            int resultTableOffset = headerSize + conditionCount * 4;
+            int functionTableOffset = resultTableOffset + resultCount * 4;
+            int bddTableOffset = functionTableOffset + tables.size();
+            int bytecodeOffset = bddTableOffset + bddNodeCount * 12;
+            int constantPoolOffset = bytecodeOffset + bytecode.getBytecode().length;
+
+            dos.writeInt(Bytecode.MAGIC);
+            dos.writeShort(bytecode.getVersion());
+            dos.writeShort(conditionCount);
+            dos.writeShort(resultCount);
+            dos.writeShort(registers.length);
+            dos.writeShort(constants.length);
+            dos.writeShort(functions.length);
+            dos.writeInt(bddNodeCount);
+            dos.writeInt(bytecode.getBddRootRef());
+            dos.writeInt(headerSize);
+            dos.writeInt(resultTableOffset);
+            dos.writeInt(functionTableOffset);
+            dos.writeInt(constantPoolOffset);
+            dos.writeInt(bddTableOffset);
+
+            for (int i = 0; i < conditionCount; i++) {
+                dos.writeInt(bytecodeOffset + bytecode.getConditionStartOffset(i));
+            }
+            for (int i = 0; i < resultCount; i++) {
+                dos.writeInt(bytecodeOffset + bytecode.getResultOffset(i));
+            }
+
+            tables.writeTo(dos);
+            writeBddTable(dos, bddNodes);
+            dos.write(bytecode.getBytecode());
+            for (Object constant : constants) {
+                writeConstantValue(dos, constant);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to serialize bytecode", e);
+        }
+        return complete.toByteArray();
+    }
+
     private void writePatchedBytecode(DataOutputStream dos, byte[] bytecode) throws IOException {
         // Sort patches by offset to process them in order
         List<Map.Entry<Integer, String>> sortedPatches = new ArrayList<>(jumpPatches.entrySet());
@@ -239,7 +305,7 @@ final class BytecodeWriter {
         dos.writeInt(0); // BDD table offset
     }
 
-    private void writeBddTable(DataOutputStream dos, int[] nodes) throws IOException {
+    private static void writeBddTable(DataOutputStream dos, int[] nodes) throws IOException {
         int nodeCount = nodes.length / 3;
         for (int i = 0; i < nodeCount; i++) {
             int baseIdx = i * 3;
@@ -263,7 +329,7 @@ final class BytecodeWriter {
         }
     }
 
-    private void writeRegisterDefinitions(ByteArrayOutputStream out, RegisterDefinition[] registers)
+    private static void writeRegisterDefinitions(ByteArrayOutputStream out, RegisterDefinition[] registers)
             throws IOException {
         DataOutputStream dos = new DataOutputStream(out);
 
@@ -296,7 +362,7 @@ final class BytecodeWriter {
         }
     }
 
-    private void writeConstantValue(DataOutputStream dos, Object value) throws IOException {
+    private static void writeConstantValue(DataOutputStream dos, Object value) throws IOException {
         switch (value) {
             case null -> dos.writeByte(Bytecode.CONST_NULL);
             case String s -> {
@@ -333,7 +399,7 @@ final class BytecodeWriter {
         }
     }
 
-    private void writeUTF(DataOutputStream dos, String value) throws IOException {
+    private static void writeUTF(DataOutputStream dos, String value) throws IOException {
         byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
         if (bytes.length > 65535) {
             throw new IOException("String too long for UTF encoding: " + bytes.length + " bytes");
@@ -342,7 +408,7 @@ final class BytecodeWriter {
         dos.write(bytes);
     }
 
-    private void patchInt(byte[] data, int offset, int value) {
+    private static void patchInt(byte[] data, int offset, int value) {
         data[offset] = (byte) ((value >> 24) & 0xFF);
         data[offset + 1] = (byte) ((value >> 16) & 0xFF);
         data[offset + 2] = (byte) ((value >> 8) & 0xFF);
@@ -0,0 +1,851 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.client.rulesengine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import software.amazon.smithy.java.client.core.endpoint.Endpoint;
+import software.amazon.smithy.java.client.core.endpoint.EndpointContext;
+import software.amazon.smithy.java.io.uri.URLEncoding;
+import software.amazon.smithy.rulesengine.language.syntax.expressions.functions.IsValidHostLabel;
+import software.amazon.smithy.rulesengine.language.syntax.expressions.functions.Split;
+import software.amazon.smithy.rulesengine.language.syntax.expressions.functions.Substring;
+
+/**
+ * Endpoint rules {@link Bytecode} lowered into trees of specialized, immutable nodes.
+ *
+ * <p>Each condition and result is symbolically executed once: stack slots become child nodes, constants become
+ * final fields, and functions become direct calls on a final {@link RulesFunction} reference. Evaluation then walks
+ * the node tree without decoding instructions, dispatching on opcodes, or maintaining an operand stack, and the
+ * resulting monomorphic call sites are easy for the JIT to inline.
+ *
+ * <p>Instances are immutable and shared across threads. Per-evaluation state such as registers lives in
+ * {@link CompiledRulesEvaluator}.
+ */
+final class CompiledRules {
+
+    private final Bytecode bytecode;
+    private final Node[] conditions;
+    private final Node[] results;
+
+    private CompiledRules(Bytecode bytecode, Node[] conditions, Node[] results) {
+        this.bytecode = bytecode;
+        this.conditions = conditions;
+        this.results = results;
+    }
+
+    /**
+     * Lower the given bytecode into compiled node trees.
+     *
+     * @param bytecode Bytecode to lower.
+     * @return the compiled rules.
+     * @throws RulesEvaluationError if the bytecode uses a construct that can't be lowered.
+     */
+    static CompiledRules compile(Bytecode bytecode) {
+        var lowering = new Lowering(bytecode);
+
+        Node[] conditions = new Node[bytecode.getConditionCount()];
+        for (int i = 0; i < conditions.length; i++) {
+            conditions[i] = lowering.lower(bytecode.getConditionStartOffset(i));
+        }
+
+        Node[] results = new Node[bytecode.getResultCount()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = lowering.lower(bytecode.getResultOffset(i));
+        }
+
+        return new CompiledRules(bytecode, conditions, results);
+    }
+
+    Bytecode bytecode() {
+        return bytecode;
+    }
+
+    boolean test(int conditionIndex, CompiledRulesEvaluator frame) {
+        return conditions[conditionIndex].test(frame);
+    }
+
+    Object result(int resultIndex, CompiledRulesEvaluator frame) {
+        return results[resultIndex].eval(frame);
+    }
+
+    /**
+     * Symbolically executes bytecode, turning stack effects into a node tree.
+     */
+    private static final class Lowering {
+        private final byte[] code;
+        private final Object[] constants;
+        private final RulesFunction[] functions;
+
+        Lowering(Bytecode bytecode) {
+            this.code = bytecode.getBytecode();
+            this.constants = bytecode.getConstantPool();
+            this.functions = bytecode.getFunctions();
+        }
+
+        Node lower(int start) {
+            List<Node> stack = new ArrayList<>();
+            int end = lowerRange(start, code.length, stack);
+            if (end != -1 || stack.size() != 1) {
+                throw new RulesEvaluationError("Expected to return a value during evaluation", start);
+            }
+            return stack.get(0);
+        }
+
+        // Lowers instructions from start until reaching end, or until a return instruction is found. Returns -1
+        // when a return was lowered (leaving the terminal node as the only node on the stack), otherwise end.
+        private int lowerRange(int start, int end, List<Node> stack) {
+            int pc = start;
+            while (pc < end) {
+                int opcodeStart = pc;
+                int opcode = code[pc++] & 0xFF;
+                switch (opcode) {
+                    case Opcodes.LOAD_CONST -> stack.add(new Const(constants[code[pc++] & 0xFF]));
+                    case Opcodes.LOAD_CONST_W -> {
+                        stack.add(new Const(constants[readShort(pc)]));
+                        pc += 2;
+                    }
+                    case Opcodes.SET_REGISTER -> stack.add(new SetRegister(pop(stack, pc), code[pc++] & 0xFF));
+                    case Opcodes.LOAD_REGISTER -> stack.add(new LoadRegister(code[pc++] & 0xFF));
+                    case Opcodes.NOT -> stack.add(new Not(pop(stack, pc)));
+                    case Opcodes.ISSET -> stack.add(new IsSet(pop(stack, pc)));
+                    case Opcodes.TEST_REGISTER_ISSET -> stack.add(new RegisterIsSet(code[pc++] & 0xFF));
+                    case Opcodes.TEST_REGISTER_NOT_SET -> stack.add(new RegisterNotSet(code[pc++] & 0xFF));
+                    case Opcodes.LIST0 -> stack.add(new Const(Collections.emptyList()));
+                    case Opcodes.LIST1, Opcodes.LIST2 -> {
+                        int size = opcode == Opcodes.LIST1 ? 1 : 2;
+                        stack.add(new SmallList(popN(stack, size, pc)));
+                    }
+                    case Opcodes.LISTN -> stack.add(new ListN(popN(stack, code[pc++] & 0xFF, pc)));
+                    case Opcodes.MAP0 -> stack.add(new Const(Map.of()));
+                    case Opcodes.MAP1, Opcodes.MAP2, Opcodes.MAP3, Opcodes.MAP4 -> {
+                        int size = (opcode - Opcodes.MAP1 + 1) * 2;
+                        stack.add(new SmallMap(opcode, popN(stack, size, pc)));
+                    }
+                    case Opcodes.MAPN -> stack.add(new HashMapNode(popN(stack, (code[pc++] & 0xFF) * 2, pc)));
+                    case Opcodes.RESOLVE_TEMPLATE -> stack.add(new Template(popN(stack, code[pc++] & 0xFF, pc)));
+                    case Opcodes.FN0 -> stack.add(new Fn0(functions[code[pc++] & 0xFF]));
+                    case Opcodes.FN1 -> stack.add(new Fn1(functions[code[pc++] & 0xFF], pop(stack, pc)));
+                    case Opcodes.FN2 -> {
+                        var fn = functions[code[pc++] & 0xFF];
+                        var args = popN(stack, 2, pc);
+                        stack.add(new Fn2(fn, args[0], args[1]));
+                    }
+                    case Opcodes.FN3 -> {
+                        var fn = functions[code[pc++] & 0xFF];
+                        var args = popN(stack, 3, pc);
+                        stack.add(new Fn3(fn, args[0], args[1], args[2]));
+                    }
+                    case Opcodes.FN -> {
+                        var fn = functions[code[pc++] & 0xFF];
+                        stack.add(new FnN(fn, popN(stack, fn.getArgumentCount(), pc)));
+                    }
+                    case Opcodes.GET_PROPERTY -> {
+                        var name = (String) constants[readShort(pc)];
+                        stack.add(new GetProperty(pop(stack, pc), name));
+                        pc += 2;
+                    }
+                    case Opcodes.GET_INDEX -> stack.add(new GetIndex(pop(stack, pc), code[pc++] & 0xFF));
+                    case Opcodes.GET_PROPERTY_REG -> {
+                        int register = code[pc++] & 0xFF;
+                        stack.add(new GetProperty(new LoadRegister(register), (String) constants[readShort(pc)]));
+                        pc += 2;
+                    }
+                    case Opcodes.GET_INDEX_REG -> {
+                        int register = code[pc++] & 0xFF;
+                        stack.add(new GetIndex(new LoadRegister(register), code[pc++] & 0xFF));
+                    }
+                    case Opcodes.IS_TRUE -> stack.add(new IsTrue(pop(stack, pc)));
+                    case Opcodes.TEST_REGISTER_IS_TRUE -> stack.add(new RegisterIsTrue(code[pc++] & 0xFF));
+                    case Opcodes.TEST_REGISTER_IS_FALSE -> stack.add(new RegisterIsFalse(code[pc++] & 0xFF));
+                    case Opcodes.EQUALS -> {
+                        var args = popN(stack, 2, pc);
+                        stack.add(new ObjectEquals(args[0], args[1]));
+                    }
+                    case Opcodes.STRING_EQUALS -> {
+                        var args = popN(stack, 2, pc);
+                        stack.add(stringEquals(args[0], args[1]));
+                    }
+                    case Opcodes.BOOLEAN_EQUALS -> {
+                        var args = popN(stack, 2, pc);
+                        stack.add(new BooleanEquals(args[0], args[1]));
+                    }
+                    case Opcodes.SUBSTRING -> {
+                        var value = pop(stack, pc);
+                        int startPos = code[pc++] & 0xFF;
+                        int endPos = code[pc++] & 0xFF;
+                        boolean reverse = (code[pc++] & 0xFF) != 0;
+                        stack.add(new SubstringNode(value, startPos, endPos, reverse));
+                    }
+                    case Opcodes.IS_VALID_HOST_LABEL -> {
+                        var args = popN(stack, 2, pc);
+                        stack.add(new IsValidHostLabelNode(args[0], args[1]));
+                    }
+                    case Opcodes.PARSE_URL -> stack.add(new ParseUrl(pop(stack, pc)));
+                    case Opcodes.URI_ENCODE -> stack.add(new UriEncode(pop(stack, pc)));
+                    case Opcodes.SPLIT -> {
+                        var args = popN(stack, 3, pc);
+                        stack.add(new SplitNode(args[0], args[1], args[2]));
+                    }
+                    case Opcodes.RETURN_ERROR -> {
+                        var message = pop(stack, pc);
+                        requireEmpty(stack, pc);
+                        stack.add(new ReturnError(message, pc));
+                        return -1;
+                    }
+                    case Opcodes.RETURN_ENDPOINT -> {
+                        var packed = code[pc++];
+                        var url = pop(stack, pc);
+                        var properties = (packed & 2) != 0 ? pop(stack, pc) : null;
+                        var headers = (packed & 1) != 0 ? pop(stack, pc) : null;
+                        requireEmpty(stack, pc);
+                        stack.add(new ReturnEndpoint(url, properties, headers));
+                        return -1;
+                    }
+                    case Opcodes.RETURN_VALUE -> {
+                        var value = pop(stack, pc);
+                        requireEmpty(stack, pc);
+                        stack.add(value);
+                        return -1;
+                    }
+                    case Opcodes.JNN_OR_POP -> {
+                        int target = opcodeStart + 3 + readShort(pc);
+                        var value = pop(stack, pc);
+                        // The fallback is self-contained: it must push exactly one value by the jump target.
+                        List<Node> fallback = new ArrayList<>(2);
+                        if (target > end || lowerRange(pc + 2, target, fallback) != target || fallback.size() != 1) {
+                            throw new RulesEvaluationError("Unsupported coalesce layout", opcodeStart);
+                        }
+                        stack.add(new Coalesce(value, fallback.get(0)));
+                        pc = target;
+                    }
+                    default -> throw new RulesEvaluationError("Unknown rules engine instruction: " + opcode, pc);
+                }
+            }
+            return end;
+        }
+
+        private int readShort(int pc) {
+            return ((code[pc] & 0xFF) << 8) | (code[pc + 1] & 0xFF);
+        }
+
+        private static Node pop(List<Node> stack, int pc) {
+            if (stack.isEmpty()) {
+                throw new RulesEvaluationError("Stack underflow while compiling rules", pc);
+            }
+            return stack.remove(stack.size() - 1);
+        }
+
+        // Pops n nodes and returns them in the order they were pushed.
+        private static Node[] popN(List<Node> stack, int n, int pc) {
+            if (stack.size() < n) {
+                throw new RulesEvaluationError("Stack underflow while compiling rules", pc);
+            }
+            Node[] result = new Node[n];
+            for (int i = n - 1; i >= 0; i--) {
+                result[i] = stack.remove(stack.size() - 1);
+            }
+            return result;
+        }
+
+        private static void requireEmpty(List<Node> stack, int pc) {
+            if (!stack.isEmpty()) {
+                throw new RulesEvaluationError("Unexpected values left on the stack when returning", pc);
+            }
+        }
+
+        private static Node stringEquals(Node left, Node right) {
+            if (right instanceof Const c && c.value instanceof String s) {
+                return new StringEqualsConst(left, s, false);
+            } else if (left instanceof Const c && c.value instanceof String s) {
+                return new StringEqualsConst(right, s, true);
+            }
+            return new StringEquals(left, right);
+        }
+    }
+
+    // Node types. Conditions are evaluated through test() to avoid boxing booleans where possible.
+
+    abstract static sealed class Node {
+        abstract Object eval(CompiledRulesEvaluator frame);
+
+        boolean test(CompiledRulesEvaluator frame) {
+            Object result = eval(frame);
+            return result != null && result != Boolean.FALSE;
+        }
+    }
+
+    private abstract static sealed class BooleanNode extends Node {
+        @Override
+        final Object eval(CompiledRulesEvaluator frame) {
+            return test(frame) ? Boolean.TRUE : Boolean.FALSE;
+        }
+
+        @Override
+        abstract boolean test(CompiledRulesEvaluator frame);
+    }
+
+    private static final class Const extends Node {
+        private final Object value;
+
+        Const(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        Object eval(CompiledRulesEvaluator frame) {
+            return value;
+        }
+    }
+
+    private static final class LoadRegister extends Node {
+        private final int register;
+
+        LoadRegister(int register) {
+            this.register = register;
+        }
+
+        @Override
+        Object eval(CompiledRulesEvaluator frame) {
+            return frame.registers[register];
+        }
+    }
+
+    private static final class SetRegister extends Node {
+        private final Node value;
+        private final int register;
+
+        SetRegister(Node value, int register) {
+            this.value = value;
+            this.register = register;
+        }
+
+        @Override
+        Object eval(CompiledRulesEvaluator frame) {
+            var result = value.eval(frame);
+            frame.registers[register] = result;
+            return result;
+        }
+    }
+
+    private static final class Not extends BooleanNode {
+        private final Node value;
+
+        Not(Node value) {
+            this.value = value;
+        }
+
+        @Override
+        boolean test(CompiledRulesEvaluator frame) {
+            return value.eval(frame) == Boolean.FALSE;
+        }
+    }
+
+    private static final class IsSet extends BooleanNode {
+        private final Node value;
+
+        IsSet(Node value) {
+            this.value = value;
+        }
+
+        @Override
+        boolean test(CompiledRulesEvaluator frame) {
+            return value.eval(frame) != null;
+        }
+    }
+
+    private static final class IsTrue extends BooleanNode {
+        private final Node value;
+
+        IsTrue(Node value) {
+            this.value = value;
+        }
+
+        @Override
+        boolean test(CompiledRulesEvaluator frame) {
+            return value.eval(frame) == Boolean.TRUE;
+        }
+    }
+
+    private static final class RegisterIsSet extends BooleanNode {
+        private final int register;
+
+        RegisterIsSet(int register) {
+            this.register = register;
+        }
+
+        @Override
+        boolean test(CompiledRulesEvaluator frame) {
+            return frame.registers[register] != null;
+        }
+    }
+
+    private static final class RegisterNotSet extends BooleanNode {
+        private final int register;
+
+        RegisterNotSet(int register) {
+            this.register = register;
+        }
+
+        @Override
+        boolean test(CompiledRulesEvaluator frame) {
+            return frame.registers[register] == null;
+        }
+    }
+
+    private static final class RegisterIsTrue extends BooleanNode {
+        private final int register;
+
+        RegisterIsTrue(int register) {
+            this.register = register;
+        }
+
+        @Override
+        boolean test(CompiledRulesEvaluator frame) {
+            return frame.registers[register] == Boolean.TRUE;
+        }
+    }
+
+    private static final class RegisterIsFalse extends BooleanNode {
+        private final int register;
+
+        RegisterIsFalse(int register) {
+            this.register = register;
+        }
+
+        @Override
+        boolean test(CompiledRulesEvaluator frame) {
+            return frame.registers[register] == Boolean.FALSE;
+        }
+    }
+
+    private static final class ObjectEquals extends BooleanNode {
+        private final Node left;
+        private final Node right;
+
+        ObjectEquals(Node left, Node right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        boolean test(CompiledRulesEvaluator frame) {
+            var a = left.eval(frame);
+            return Objects.equals(a, right.eval(frame));
+        }
+    }
+
+    private static final class StringEquals extends BooleanNode {
+        private final Node left;
+        private final Node right;
+
+        StringEquals(Node left, Node right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        boolean test(CompiledRulesEvaluator frame) {
+            var a = (String) left.eval(frame);
+            var b = (String) right.eval(frame);
+            return a != null && a.equals(b);
+        }
+    }
+
+    private static final class StringEqualsConst extends BooleanNode {
+        private final Node value;
+        private final String constant;
+        private final boolean constantOnLeft;
+
+        StringEqualsConst(Node value, String constant, boolean constantOnLeft) {
+            this.value = value;
+            this.constant = constant;
+            this.constantOnLeft = constantOnLeft;
+        }
+
+        @Override
+        boolean test(CompiledRulesEvaluator frame) {
+            var v = (String) value.eval(frame);
+            // Matches STRING_EQUALS semantics: a null left operand is never equal.
+            return constantOnLeft ? constant.equals(v) : v != null && v.equals(constant);
+        }
+    }
+
+    private static final class BooleanEquals extends BooleanNode {
+        private final Node left;
+        private final Node right;
+
+        BooleanEquals(Node left, Node right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        boolean test(CompiledRulesEvaluator frame) {
+            var a = (Boolean) left.eval(frame);
+            var b = (Boolean) right.eval(frame);
+            return a != null && a.equals(b);
+        }
+    }
+
+    private static final class IsValidHostLabelNode extends BooleanNode {
+        private final Node hostLabel;
+        private final Node allowDots;
+
+        IsValidHostLabelNode(Node hostLabel, Node allowDots) {
+            this.hostLabel = hostLabel;
+            this.allowDots = allowDots;
+        }
+
+        @Override
+        boolean test(CompiledRulesEvaluator frame) {
+            var label = (String) hostLabel.eval(frame);
+            var dots = (Boolean) allowDots.eval(frame);
+            return IsValidHostLabel.isValidHostLabel(label, Boolean.TRUE.equals(dots));
+        }
+    }
+
+    private static final class Coalesce extends Node {
+        private final Node value;
+        private final Node fallback;
+
+        Coalesce(Node value, Node fallback) {
+            this.value = value;
+            this.fallback = fallback;
+        }
+
+        @Override
+        Object eval(CompiledRulesEvaluator frame) {
+            var result = value.eval(frame);
+            return result != null ? result : fallback.eval(frame);
+        }
+    }
+
+    private static final class SmallList extends Node {
+        private final Node[] values;
+
+        SmallList(Node[] values) {
+            this.values = values;
+        }
+
+        @Override
+        Object eval(CompiledRulesEvaluator frame) {
+            return values.length == 1
+                    ? List.of(values[0].eval(frame))
+                    : List.of(values[0].eval(frame), values[1].eval(frame));
+        }
+    }
+
+    private static final class ListN extends Node {
+        private final Node[] values;
+
+        ListN(Node[] values) {
+            this.values = values;
+        }
+
+        @Override
+        Object eval(CompiledRulesEvaluator frame) {
+            return Arrays.asList(evalAll(values, frame));
+        }
+    }
+
+    private static final class SmallMap extends Node {
+        private final int opcode;
+        private final Node[] values;
+
+        SmallMap(int opcode, Node[] values) {
+            this.opcode = opcode;
+            this.values = values;
+        }
+
+        // Uses the same stack layout as the MAP1-MAP4 instructions of BytecodeEvaluator.
+        @Override
+        Object eval(CompiledRulesEvaluator frame) {
+            var s = evalAll(values, frame);
+            return switch (opcode) {
+                case Opcodes.MAP1 -> Map.of((String) s[1], s[0]);
+                case Opcodes.MAP2 -> Map.of((String) s[1], s[0], (String) s[3], s[2]);
+                case Opcodes.MAP3 -> Map.of((String) s[2], s[1], (String) s[4], s[3], (String) s[5], s[0]);
+                default -> Map.of((String) s[1], s[0], (String) s[3], s[2], (String) s[5], s[4], (String) s[7], s[6]);
+            };
+        }
+    }
+
+    private static final class HashMapNode extends Node {
+        private final Node[] values;
+
+        HashMapNode(Node[] values) {
+            this.values = values;
+        }
+
+        @Override
+        Object eval(CompiledRulesEvaluator frame) {
+            var s = evalAll(values, frame);
+            int size = s.length / 2;
+            Map<String, Object> map = new HashMap<>(size + 1, 1.0f);
+            // Entries are popped from the top of the stack in the interpreter, so put them in the same order.
+            for (int i = s.length - 1; i > 0; i -= 2) {
+                map.put((String) s[i], s[i - 1]);
+            }
+            return map;
+        }
+    }
+
+    private static final class Template extends Node {
+        private final Node[] parts;
+
+        Template(Node[] parts) {
+            this.parts = parts;
+        }
+
+        @Override
+        Object eval(CompiledRulesEvaluator frame) {
+            // Evaluate every part before appending since nested templates share the builder.
+            var values = evalAll(parts, frame);
+            var sb = frame.stringBuilder;
+            sb.setLength(0);
+            for (var value : values) {
+                sb.append(value);
+            }
+            return sb.toString();
+        }
+    }
+
+    private static final class Fn0 extends Node {
+        private final RulesFunction fn;
+
+        Fn0(RulesFunction fn) {
+            this.fn = fn;
+        }
+
+        @Override
+        Object eval(CompiledRulesEvaluator frame) {
+            return fn.apply0();
+        }
+    }
+
+    private static final class Fn1 extends Node {
+        private final RulesFunction fn;
+        private final Node a;
+
+        Fn1(RulesFunction fn, Node a) {
+            this.fn = fn;
+            this.a = a;
+        }
+
+        @Override
+        Object eval(CompiledRulesEvaluator frame) {
+            return fn.apply1(a.eval(frame));
+        }
+    }
+
+    private static final class Fn2 extends Node {
+        private final RulesFunction fn;
+        private final Node a;
+        private final Node b;
+
+        Fn2(RulesFunction fn, Node a, Node b) {
+            this.fn = fn;
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        Object eval(CompiledRulesEvaluator frame) {
+            var first = a.eval(frame);
+            return fn.apply2(first, b.eval(frame));
+        }
+    }
+
+    private static final class Fn3 extends Node {
+        private final RulesFunction fn;
+        private final Node a;
+        private final Node b;
+        private final Node c;
+
+        Fn3(RulesFunction fn, Node a, Node b, Node c) {
+            this.fn = fn;
+            this.a = a;
+            this.b = b;
+            this.c = c;
+        }
+
+        @Override
+        Object eval(CompiledRulesEvaluator frame) {
+            var first = a.eval(frame);
+            var second = b.eval(frame);
+            return fn.apply(first, second, c.eval(frame));
+        }
+    }
+
+    private static final class FnN extends Node {
+        private final RulesFunction fn;
+        private final Node[] args;
+
+        FnN(RulesFunction fn, Node[] args) {
+            this.fn = fn;
+            this.args = args;
+        }
+
+        @Override
+        Object eval(CompiledRulesEvaluator frame) {
+            return fn.apply(evalAll(args, frame));
+        }
+    }
+
+    private static final class GetProperty extends Node {
+        private final Node target;
+        private final String name;
+
+        GetProperty(Node target, String name) {
+            this.target = target;
+            this.name = name;
+        }
+
+        @Override
+        Object eval(CompiledRulesEvaluator frame) {
+            return BytecodeEvaluator.getProperty(target.eval(frame), name);
+        }
+    }
+
+    private static final class GetIndex extends Node {
+        private final Node target;
+        private final int index;
+
+        GetIndex(Node target, int index) {
+            this.target = target;
+            this.index = index;
+        }
+
+        @Override
+        Object eval(CompiledRulesEvaluator frame) {
+            return BytecodeEvaluator.getIndex(target.eval(frame), index);
+        }
+    }
+
+    private static final class SubstringNode extends Node {
+        private final Node value;
+        private final int start;
+        private final int end;
+        private final boolean reverse;
+
+        SubstringNode(Node value, int start, int end, boolean reverse) {
+            this.value = value;
+            this.start = start;
+            this.end = end;
+            this.reverse = reverse;
+        }
+
+        @Override
+        Object eval(CompiledRulesEvaluator frame) {
+            return Substring.getSubstring((String) value.eval(frame), start, end, reverse);
+        }
+    }
+
+    private static final class ParseUrl extends Node {
+        private final Node value;
+
+        ParseUrl(Node value) {
+            this.value = value;
+        }
+
+        @Override
+        Object eval(CompiledRulesEvaluator frame) {
+            var url = (String) value.eval(frame);
+            return url == null ? null : frame.uriFactory.createUri(url);
+        }
+    }
+
+    private static final class UriEncode extends Node {
+        private final Node value;
+
+        UriEncode(Node value) {
+            this.value = value;
+        }
+
+        @Override
+        Object eval(CompiledRulesEvaluator frame) {
+            return URLEncoding.encodeUnreserved((String) value.eval(frame), false);
+        }
+    }
+
+    private static final class SplitNode extends Node {
+        private final Node string;
+        private final Node delimiter;
+        private final Node limit;
+
+        SplitNode(Node string, Node delimiter, Node limit) {
+            this.string = string;
+            this.delimiter = delimiter;
+            this.limit = limit;
+        }
+
+        @Override
+        Object eval(CompiledRulesEvaluator frame) {
+            var s = (String) string.eval(frame);
+            var d = (String) delimiter.eval(frame);
+            var l = ((Number) limit.eval(frame)).intValue();
+            return Split.split(s, d, l);
+        }
+    }
+
+    private static final class ReturnError extends Node {
+        private final Node message;
+        private final int position;
+
+        ReturnError(Node message, int position) {
+            this.message = message;
+            this.position = position;
+        }
+
+        @Override
+        Object eval(CompiledRulesEvaluator frame) {
+            throw new RulesEvaluationError((String) message.eval(frame), position);
+        }
+    }
+
+    private static final class ReturnEndpoint extends Node {
+        private final Node url;
+        private final Node properties;
+        private final Node headers;
+
+        ReturnEndpoint(Node url, Node properties, Node headers) {
+            this.url = url;
+            this.properties = properties;
+            this.headers = headers;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Object eval(CompiledRulesEvaluator frame) {
+            // Evaluate in the order the values were pushed: headers, properties, then the URL.
+            var h = (Map<String, List<String>>) (headers == null ? Map.of() : headers.eval(frame));
+            var p = (Map<String, Object>) (properties == null ? Map.of() : properties.eval(frame));
+            var u = (String) url.eval(frame);
+            var builder = Endpoint.builder().uri(frame.uriFactory.createUri(u));
+            if (!h.isEmpty()) {
+                builder.putProperty(EndpointContext.HEADERS, h);
+            }
+            for (var extension : frame.extensions) {
+                extension.extractEndpointProperties(builder, frame.context, p, h);
+            }
+            return builder.build();
+        }
+    }
+
+    private static Object[] evalAll(Node[] nodes, CompiledRulesEvaluator frame) {
+        Object[] result = new Object[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            result[i] = nodes[i].eval(frame);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.client.rulesengine;
+
+import java.util.HashMap;
+import java.util.Map;
+import software.amazon.smithy.java.client.core.endpoint.Endpoint;
+import software.amazon.smithy.java.context.Context;
+
+/**
+ * Evaluates {@link CompiledRules}, holding the per-evaluation state the compiled nodes read and write.
+ */
+final class CompiledRulesEvaluator implements RulesProgramEvaluator {
+
+    final Object[] registers;
+    final RulesExtension[] extensions;
+    final StringBuilder stringBuilder = new StringBuilder(64);
+    final UriFactory uriFactory;
+    Context context;
+
+    private final Map<String, Object> paramsCache = new HashMap<>();
+    private final CompiledRules rules;
+    private final RegisterFiller registerFiller;
+
+    CompiledRulesEvaluator(CompiledRules rules, RulesExtension[] extensions, RegisterFiller registerFiller) {
+        this(rules, extensions, registerFiller, new UriFactory());
+    }
+
+    CompiledRulesEvaluator(
+            CompiledRules rules,
+            RulesExtension[] extensions,
+            RegisterFiller registerFiller,
+            UriFactory uriFactory
+    ) {
+        this.rules = rules;
+        this.uriFactory = uriFactory;
+        this.extensions = extensions;
+        this.registers = new Object[rules.bytecode().getRegisterDefinitions().length];
+        this.registerFiller = registerFiller;
+    }
+
+    @Override
+    public Map<String, Object> paramsCache() {
+        return paramsCache;
+    }
+
+    @Override
+    public void reset(Context context, Map<String, Object> parameters) {
+        this.context = context;
+        registerFiller.fillRegisters(registers, context, parameters);
+    }
+
+    @Override
+    public boolean test(int conditionIndex) {
+        return rules.test(conditionIndex, this);
+    }
+
+    @Override
+    public Endpoint resolveResult(int resultIndex) {
+        return resultIndex <= -1 ? null : (Endpoint) rules.result(resultIndex, this);
+    }
+}
@@ -15,9 +15,7 @@ import software.amazon.smithy.java.context.Context;
 import software.amazon.smithy.java.core.schema.ApiOperation;
 import software.amazon.smithy.java.core.schema.Schema;
 import software.amazon.smithy.java.core.schema.SerializableStruct;
-import software.amazon.smithy.java.core.serde.document.Document;
-import software.amazon.smithy.java.jmespath.JMESPathDocumentQuery;
-import software.amazon.smithy.jmespath.JmespathExpression;
+import software.amazon.smithy.java.jmespath.JMESPathQuery;
 import software.amazon.smithy.model.shapes.ShapeId;
 
 /**
@@ -101,13 +99,11 @@ sealed interface ContextProvider {
     }
 
     // Find the smithy.rules#operationContextParams trait on the operation and each JMESPath to extract.
-    // TODO: Converting input to Document for JMESPath is expensive. Implementing something like JMESPathStructQuery
-    //       that operates directly on SerializableStruct to avoid intermediate Document conversion could help.
-    record ContextPathProvider(String name, JmespathExpression jp) implements ContextProvider {
+    // The compiled query reads the input directly rather than converting it to a Document first.
+    record ContextPathProvider(String name, JMESPathQuery jp) implements ContextProvider {
         @Override
         public void addContext(ApiOperation<?, ?> operation, SerializableStruct input, Map<String, Object> params) {
-            var doc = Document.of(input);
-            var result = JMESPathDocumentQuery.query(jp, doc);
+            var result = jp.query(input);
             if (result != null) {
                 params.put(name, result.asObject());
             }
@@ -122,7 +118,7 @@ sealed interface ContextProvider {
             for (var param : params.getParameters().entrySet()) {
                 var name = param.getKey();
                 var path = param.getValue().getPath();
-                var jp = JmespathExpression.parse(path);
+                var jp = JMESPathQuery.compile(path);
                 providers.add(new ContextPathProvider(name, jp));
             }
         }
@@ -28,12 +28,11 @@ import software.amazon.smithy.rulesengine.language.syntax.Identifier;
 final class DecisionTreeEndpointResolver implements EndpointResolver {
 
     private static final InternalLogger LOGGER = InternalLogger.getLogger(DecisionTreeEndpointResolver.class);
-    private static final ThreadLocal<UriFactory> THREAD_LOCAL_URI_FACTORY = ThreadLocal.withInitial(UriFactory::new);
 
     private final EndpointRuleSet rules;
     private final List<RulesExtension> extensions;
     private final ContextProvider operationContextParams = new ContextProvider.OrchestratingProvider();
-    private final UriFactory uriFactory = THREAD_LOCAL_URI_FACTORY.get();
+    private final UriFactory uriFactory = new UriFactory();
 
     // Pre-computed parameter metadata
     private final Map<Identifier, Value> defaultValues;
@@ -12,8 +12,10 @@ import software.amazon.smithy.java.client.core.ClientContext;
 import software.amazon.smithy.java.client.core.ClientPlugin;
 import software.amazon.smithy.java.client.core.endpoint.EndpointResolver;
 import software.amazon.smithy.java.context.Context;
+import software.amazon.smithy.java.core.schema.ApiService;
 import software.amazon.smithy.java.core.schema.TraitKey;
 import software.amazon.smithy.java.logging.InternalLogger;
+import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.rulesengine.traits.ContextParamTrait;
 import software.amazon.smithy.rulesengine.traits.EndpointBddTrait;
 import software.amazon.smithy.rulesengine.traits.EndpointRuleSetTrait;
@@ -44,6 +46,9 @@ public final class EndpointRulesPlugin implements ClientPlugin {
 
     public static final TraitKey<EndpointBddTrait> BDD_TRAIT = TraitKey.get(EndpointBddTrait.class);
 
+    private static final String BYTECODE_RESOURCE_PREFIX = "META-INF/smithy-java/endpoint-rules/";
+    private static final String BYTECODE_RESOURCE_SUFFIX = ".bytecode";
+
     private final Bytecode bytecode;
     private RulesEngineBuilder engine;
 
@@ -97,6 +102,19 @@ public final class EndpointRulesPlugin implements ClientPlugin {
         return bytecode;
     }
 
+    /**
+     * Gets the name of the classpath resource that holds precompiled bytecode for a service.
+     *
+     * <p>When this resource is found on the service's class loader, it is loaded instead of compiling the
+     * service's rules when the client is created.
+     *
+     * @param service Shape ID of the service.
+     * @return the resource name.
+     */
+    public static String bytecodeResourceName(ShapeId service) {
+        return BYTECODE_RESOURCE_PREFIX + service.getNamespace() + "." + service.getName() + BYTECODE_RESOURCE_SUFFIX;
+    }
+
     private RulesEngineBuilder getEngine() {
         if (engine == null) {
             engine = new RulesEngineBuilder();
@@ -127,13 +145,24 @@ public final class EndpointRulesPlugin implements ClientPlugin {
 
         if (bytecode != null) {
             LOGGER.debug("Using explicitly provided bytecode: {}", config.service());
-            resolver = new BytecodeEndpointResolver(bytecode, e.getExtensions(), e.getBuiltinProviders());
+            resolver = new BytecodeEndpointResolver(
+                    bytecode,
+                    e.getExtensions(),
+                    e.getBuiltinProviders(),
+                    e.compileRules());
         } else if (config.service() != null) {
             var bddTrait = config.service().schema().getTrait(BDD_TRAIT);
             if (bddTrait != null) {
                 LOGGER.debug("Found endpoint BDD trait on service: {}", config.service());
-                var bytecode = e.compile(bddTrait);
-                resolver = new BytecodeEndpointResolver(bytecode, e.getExtensions(), e.getBuiltinProviders());
+                var bytecode = loadPrecompiled(e, config.service());
+                if (bytecode == null) {
+                    bytecode = e.compile(bddTrait);
+                }
+                resolver = new BytecodeEndpointResolver(
+                        bytecode,
+                        e.getExtensions(),
+                        e.getBuiltinProviders(),
+                        e.compileRules());
             } else {
                 var rs = config.service().schema().getTrait(ENDPOINT_RULESET_TRAIT);
                 if (rs != null) {
@@ -151,4 +180,19 @@ public final class EndpointRulesPlugin implements ClientPlugin {
             LOGGER.info("Applying EndpointRulesResolver to client: {}", config.service());
         }
     }
+
+    private static Bytecode loadPrecompiled(RulesEngineBuilder engine, ApiService service) {
+        var resourceName = bytecodeResourceName(service.schema().id());
+        try {
+            var bytecode = engine.loadResource(service.getClass().getClassLoader(), resourceName);
+            if (bytecode != null) {
+                LOGGER.debug("Using precompiled endpoint bytecode for service: {}", service);
+            }
+            return bytecode;
+        } catch (RuntimeException ex) {
+            // Fall back to compiling the BDD trait.
+            LOGGER.warn("Unable to load precompiled endpoint bytecode {}: {}", resourceName, ex.getMessage());
+            return null;
+        }
+    }
 }
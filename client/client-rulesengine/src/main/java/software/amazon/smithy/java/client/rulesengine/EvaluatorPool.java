@@ -0,0 +1,81 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.client.rulesengine;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * A bounded, lock-free pool of reusable evaluators.
+ *
+ * <p>Unlike a {@code ThreadLocal}, the pool is not tied to thread identity, so short-lived virtual threads reuse
+ * warm evaluators instead of allocating a new one per thread. Each thread starts probing at a slot derived from its
+ * thread ID to spread contention, and claims or returns evaluators with a single CAS. When every slot is empty a new
+ * evaluator is created, and when every slot is full a returned evaluator is dropped.
+ *
+ * @param <T> Evaluator type.
+ */
+final class EvaluatorPool<T> {
+
+    private static final int MAX_SLOTS = 64;
+
+    private final AtomicReferenceArray<T> slots;
+    private final Supplier<T> factory;
+    private final int mask;
+
+    EvaluatorPool(Supplier<T> factory) {
+        this(factory, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    EvaluatorPool(Supplier<T> factory, int size) {
+        // Round up to a power of two so probing can use a mask.
+        int slotCount = Math.min(MAX_SLOTS, Math.max(1, Integer.highestOneBit(Math.max(1, size - 1)) << 1));
+        this.slots = new AtomicReferenceArray<>(slotCount);
+        this.mask = slotCount - 1;
+        this.factory = factory;
+    }
+
+    /**
+     * Take an evaluator from the pool, or create a new one if none are available.
+     *
+     * @return the evaluator, which must be given back with {@link #release}.
+     */
+    T acquire() {
+        int start = probe();
+        for (int i = 0; i <= mask; i++) {
+            int idx = (start + i) & mask;
+            T value = slots.get(idx);
+            if (value != null && slots.compareAndSet(idx, value, null)) {
+                return value;
+            }
+        }
+        return factory.get();
+    }
+
+    /**
+     * Return an evaluator to the pool.
+     *
+     * @param value Evaluator to return.
+     */
+    void release(T value) {
+        int start = probe();
+        for (int i = 0; i <= mask; i++) {
+            int idx = (start + i) & mask;
+            if (slots.get(idx) == null && slots.compareAndSet(idx, null, value)) {
+                return;
+            }
+        }
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    private int probe() {
+        long id = Thread.currentThread().threadId();
+        return (int) (id * 0x9E3779B97F4A7C15L >>> 32) & mask;
+    }
+}
@@ -43,6 +43,7 @@ public final class RulesEngineBuilder {
     private final List<RulesExtension> extensions = new ArrayList<>();
     private final Map<String, RulesFunction> functions = new LinkedHashMap<>();
     private final Map<String, Function<Context, Object>> builtinProviders = new HashMap<>();
+    private boolean compileRules;
 
     public RulesEngineBuilder() {
         for (var ext : EXTENSIONS) {
@@ -68,6 +69,29 @@ public final class RulesEngineBuilder {
         return builtinProviders;
     }
 
+    /**
+     * Set whether resolvers created from this builder lower bytecode into compiled rules instead of interpreting it.
+     *
+     * <p>Compiled rules trade a one-time lowering cost at client construction for cheaper evaluation on every
+     * request. Bytecode that can't be lowered is always interpreted.
+     *
+     * @param compileRules True to compile rules.
+     * @return the RulesEngine.
+     */
+    public RulesEngineBuilder compileRules(boolean compileRules) {
+        this.compileRules = compileRules;
+        return this;
+    }
+
+    /**
+     * Check if resolvers created from this builder should compile rules.
+     *
+     * @return true if rules are compiled.
+     */
+    public boolean compileRules() {
+        return compileRules;
+    }
+
     /**
      * Register a function with the rules engine.
      *
@@ -123,6 +147,26 @@ public final class RulesEngineBuilder {
         }
     }
 
+    /**
+     * Load bytecode from a classpath resource, such as one generated at build time from {@link Bytecode#serialize()}.
+     *
+     * @param classLoader Class loader used to find the resource.
+     * @param resourceName Name of the resource to load.
+     * @return the loaded bytecode program, or null if the resource doesn't exist.
+     * @throws UncheckedIOException if there's an error reading the resource.
+     */
+    public Bytecode loadResource(ClassLoader classLoader, String resourceName) {
+        try (var stream = classLoader.getResourceAsStream(resourceName)) {
+            if (stream == null) {
+                return null;
+            }
+            // Resources are typically packaged in a JAR, so a single bulk read is the cheapest way to get them.
+            return load(stream.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load bytecode from resource " + resourceName, e);
+        }
+    }
+
     /**
      * Load bytecode from a byte array.
      *
@@ -203,8 +247,7 @@ public final class RulesEngineBuilder {
         reader.offset = functionTableOffset;
         RulesFunction[] resolvedFunctions = loadFunctions(reader, functionCount);
 
-        // Load register definitions (after result table)
-        reader.offset = resultTableOffset + (resultCount * 4);
+        // Load register definitions (immediately after the function table)
         RegisterDefinition[] registers = reader.readRegisterDefinitions(registerCount);
 
         // Load BDD nodes as flat array
@@ -244,13 +287,14 @@ public final class RulesEngineBuilder {
             }
         }
 
-        Object[] constantPool = loadConstantPool(data, constantPoolOffset, constantCount);
+        // The constant pool is only decoded when the bytecode is first evaluated or inspected.
         return new Bytecode(
                 bytecode,
                 conditionOffsets,
                 resultOffsets,
                 registers,
-                constantPool,
+                constantCount,
+                () -> loadConstantPool(data, constantPoolOffset, constantCount),
                 resolvedFunctions,
                 bddNodes,
                 bddRootRef,
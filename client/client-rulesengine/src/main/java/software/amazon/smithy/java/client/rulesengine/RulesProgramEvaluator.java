@@ -0,0 +1,42 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.client.rulesengine;
+
+import java.util.Map;
+import software.amazon.smithy.java.client.core.endpoint.Endpoint;
+import software.amazon.smithy.java.context.Context;
+import software.amazon.smithy.rulesengine.logic.ConditionEvaluator;
+
+/**
+ * A reusable, single-threaded evaluator of a rules program used by {@link BytecodeEndpointResolver}.
+ *
+ * <p>Implementations either interpret {@link Bytecode} directly ({@link BytecodeEvaluator}) or evaluate a lowered
+ * form of it ({@link CompiledRulesEvaluator}).
+ */
+interface RulesProgramEvaluator extends ConditionEvaluator {
+    /**
+     * Get the reusable map used to collect input parameters.
+     *
+     * @return the parameter map owned by this evaluator.
+     */
+    Map<String, Object> paramsCache();
+
+    /**
+     * Reset the evaluator and its registers so it can be reused with the given context and input parameters.
+     *
+     * @param context Context to get context from.
+     * @param parameters Parameters to get input from.
+     */
+    void reset(Context context, Map<String, Object> parameters);
+
+    /**
+     * Resolve the result at the given index.
+     *
+     * @param resultIndex Result index to resolve, or a negative number if there is no match.
+     * @return the resolved endpoint, or null.
+     */
+    Endpoint resolveResult(int resultIndex);
+}
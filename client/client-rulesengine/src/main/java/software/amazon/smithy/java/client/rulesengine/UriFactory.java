@@ -10,30 +10,28 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
- * LRU cache for URI parsing.
+ * Thread-safe, bounded LRU cache for URI parsing that is shared by every evaluator of a resolver.
  *
- * <p>Maintains a hot slot for the most recently accessed URI to avoid hash computation and LinkedHashMap traversal.
+ * <p>Lookups and inserts are guarded by the cache's monitor, and eviction is handled by the access-ordered map in
+ * constant time. URIs are parsed outside the lock, so a miss never blocks other threads on parsing.
  */
-final class UriFactory extends LinkedHashMap<String, URI> {
+final class UriFactory {
 
-    private static final int DEFAULT_MAX_SIZE = 32;
-    private final int maxSize;
+    private static final int DEFAULT_MAX_SIZE = 128;
 
-    private String hotKey;
-    private URI hotValue;
+    private final Map<String, URI> cache;
 
     UriFactory() {
         this(DEFAULT_MAX_SIZE);
     }
 
     UriFactory(int maxSize) {
-        super(16, 0.75f, true);
-        this.maxSize = maxSize;
-    }
-
-    @Override
-    protected boolean removeEldestEntry(Map.Entry<String, URI> eldest) {
-        return size() > maxSize;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, URI> eldest) {
+                return size() > maxSize;
+            }
+        };
     }
 
     URI createUri(String uri) {
@@ -41,26 +39,25 @@ final class UriFactory extends LinkedHashMap<String, URI> {
             return null;
         }
 
-        if (uri.equals(hotKey)) {
-            return hotValue;
+        URI result;
+        synchronized (cache) {
+            result = cache.get(uri);
         }
-
-        // Fall back to full LRU cache
-        URI result = get(uri);
-        if (result == null) {
-            try {
-                result = URI.create(uri);
-                put(uri, result);
-            } catch (IllegalArgumentException ignored) {
-                // Don't cache invalid URIs in hot slot
-                return null;
-            }
+        if (result != null) {
+            return result;
         }
 
-        // Update hot-key cache
-        hotKey = uri;
-        hotValue = result;
+        try {
+            result = URI.create(uri);
+        } catch (IllegalArgumentException ignored) {
+            // Don't cache invalid URIs
+            return null;
+        }
 
-        return result;
+        synchronized (cache) {
+            // Keep the first URI parsed by racing threads so every caller sees the same instance.
+            var existing = cache.putIfAbsent(uri, result);
+            return existing != null ? existing : result;
+        }
     }
 }
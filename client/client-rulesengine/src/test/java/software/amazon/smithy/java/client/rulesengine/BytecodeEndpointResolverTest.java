@@ -67,6 +67,59 @@ class BytecodeEndpointResolverTest {
         assertEquals("https://example.com", endpoint.uri().toString());
     }
 
+    @Test
+    void testCompiledEndpointResolution() {
+        Bytecode bytecode = new Bytecode(
+                new byte[] {
+                        Opcodes.LOAD_CONST,
+                        0,
+                        Opcodes.RETURN_ENDPOINT,
+                        0
+                },
+                new int[0],
+                new int[] {0},
+                new RegisterDefinition[0],
+                new Object[] {"https://example.com"},
+                new RulesFunction[0],
+                new int[] {-1, 100_000_000, -1},
+                100_000_000);
+
+        BytecodeEndpointResolver resolver = new BytecodeEndpointResolver(bytecode, List.of(), Map.of(), true);
+        Endpoint endpoint = resolver.resolveEndpoint(createParams("us-east-1", "my-bucket"));
+
+        assertEquals("https://example.com", endpoint.uri().toString());
+    }
+
+    @Test
+    void testCompiledResolverFallsBackToInterpreter() {
+        // The condition leaves an extra value on the stack, which can't be lowered but can be interpreted.
+        Bytecode bytecode = new Bytecode(
+                new byte[] {
+                        Opcodes.LOAD_CONST,
+                        1,
+                        Opcodes.LOAD_CONST,
+                        1,
+                        Opcodes.RETURN_VALUE,
+                        Opcodes.LOAD_CONST,
+                        0,
+                        Opcodes.RETURN_ENDPOINT,
+                        0
+                },
+                new int[] {0},
+                new int[] {5},
+                new RegisterDefinition[0],
+                new Object[] {"https://example.com", Boolean.TRUE},
+                new RulesFunction[0],
+                new int[] {-1, 1, -1, 0, 100_000_000, -1},
+                2);
+
+        BytecodeEndpointResolver resolver = new BytecodeEndpointResolver(bytecode, List.of(), Map.of(), true);
+        Endpoint endpoint = resolver.resolveEndpoint(createParams("us-east-1", "my-bucket"));
+
+        assertNotNull(endpoint);
+        assertEquals("https://example.com", endpoint.uri().toString());
+    }
+
     @Test
     void testEndpointWithBuiltinProvider() {
         // Create bytecode that uses a builtin
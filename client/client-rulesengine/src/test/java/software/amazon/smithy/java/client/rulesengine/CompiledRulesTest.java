@@ -0,0 +1,184 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.client.rulesengine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.java.context.Context;
+
+class CompiledRulesTest {
+
+    private BytecodeWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new BytecodeWriter();
+    }
+
+    @Test
+    void evaluatesConditionsLikeInterpreter() {
+        // isSet(region) && region == "us-east-1"
+        writer.markConditionStart();
+        writer.writeByte(Opcodes.TEST_REGISTER_ISSET);
+        writer.writeByte(0);
+        writer.writeByte(Opcodes.RETURN_VALUE);
+
+        writer.markConditionStart();
+        writer.writeByte(Opcodes.LOAD_REGISTER);
+        writer.writeByte(0);
+        writer.writeByte(Opcodes.LOAD_CONST);
+        writer.writeByte(writer.getConstantIndex("us-east-1"));
+        writer.writeByte(Opcodes.STRING_EQUALS);
+        writer.writeByte(Opcodes.RETURN_VALUE);
+
+        var bytecode = build(new RegisterDefinition("region", false, null, null, false));
+
+        for (var region : new String[] {"us-east-1", "us-west-2", null}) {
+            var params = region == null ? Map.<String, Object>of() : Map.<String, Object>of("region", region);
+            var interpreted = interpreter(bytecode, params);
+            var compiled = compiled(bytecode, params);
+            assertEquals(interpreted.test(0), compiled.test(0));
+            assertEquals(interpreted.test(1), compiled.test(1));
+        }
+    }
+
+    @Test
+    void coalescesValues() {
+        // coalesce(a, b, "fallback"), stored in a temp register.
+        writer.markConditionStart();
+        String end = writer.createLabel();
+        writer.writeByte(Opcodes.LOAD_REGISTER);
+        writer.writeByte(0);
+        writer.writeByte(Opcodes.JNN_OR_POP);
+        writer.writeJumpPlaceholder(end);
+        writer.writeByte(Opcodes.LOAD_REGISTER);
+        writer.writeByte(1);
+        writer.writeByte(Opcodes.JNN_OR_POP);
+        writer.writeJumpPlaceholder(end);
+        writer.writeByte(Opcodes.LOAD_CONST);
+        writer.writeByte(writer.getConstantIndex("fallback"));
+        writer.markLabel(end);
+        writer.writeByte(Opcodes.SET_REGISTER);
+        writer.writeByte(2);
+        writer.writeByte(Opcodes.RETURN_VALUE);
+
+        writer.markResultStart();
+        writer.writeByte(Opcodes.LOAD_CONST);
+        writer.writeByte(writer.getConstantIndex("https://"));
+        writer.writeByte(Opcodes.LOAD_REGISTER);
+        writer.writeByte(2);
+        writer.writeByte(Opcodes.LOAD_CONST);
+        writer.writeByte(writer.getConstantIndex(".example.com"));
+        writer.writeByte(Opcodes.RESOLVE_TEMPLATE);
+        writer.writeByte(3);
+        writer.writeByte(Opcodes.RETURN_ENDPOINT);
+        writer.writeByte(0);
+
+        var bytecode = build(
+                new RegisterDefinition("a", false, null, null, false),
+                new RegisterDefinition("b", false, null, null, false),
+                new RegisterDefinition("tmp", false, null, null, true));
+
+        assertCoalesce(bytecode, Map.of("a", "x", "b", "y"), "https://x.example.com");
+        assertCoalesce(bytecode, Map.of("b", "y"), "https://y.example.com");
+        assertCoalesce(bytecode, Map.of(), "https://fallback.example.com");
+    }
+
+    private void assertCoalesce(Bytecode bytecode, Map<String, Object> params, String expected) {
+        var interpreted = interpreter(bytecode, params);
+        var compiled = compiled(bytecode, params);
+        assertTrue(interpreted.test(0));
+        assertTrue(compiled.test(0));
+        assertEquals(expected, interpreted.resolveResult(0).uri().toString());
+        assertEquals(expected, compiled.resolveResult(0).uri().toString());
+    }
+
+    @Test
+    void buildsCollectionsLikeInterpreter() {
+        writer.markConditionStart();
+        writer.writeByte(Opcodes.LOAD_CONST);
+        writer.writeByte(writer.getConstantIndex("v1"));
+        writer.writeByte(Opcodes.LOAD_CONST);
+        writer.writeByte(writer.getConstantIndex("k1"));
+        writer.writeByte(Opcodes.LOAD_CONST);
+        writer.writeByte(writer.getConstantIndex("v2"));
+        writer.writeByte(Opcodes.LOAD_CONST);
+        writer.writeByte(writer.getConstantIndex("k2"));
+        writer.writeByte(Opcodes.MAP2);
+        writer.writeByte(Opcodes.LIST1);
+        writer.writeByte(Opcodes.GET_INDEX);
+        writer.writeByte(0);
+        writer.writeByte(Opcodes.GET_PROPERTY);
+        writer.writeShort(writer.getConstantIndex("k2"));
+        writer.writeByte(Opcodes.SET_REGISTER);
+        writer.writeByte(0);
+        writer.writeByte(Opcodes.RETURN_VALUE);
+
+        var bytecode = build(new RegisterDefinition("tmp", false, null, null, true));
+        var interpreted = interpreter(bytecode, Map.of());
+        var compiled = compiled(bytecode, Map.of());
+
+        assertTrue(interpreted.test(0));
+        assertTrue(compiled.test(0));
+        assertEquals("v2", compiled.registers[0]);
+    }
+
+    @Test
+    void throwsErrorsLikeInterpreter() {
+        writer.markResultStart();
+        writer.writeByte(Opcodes.LOAD_CONST);
+        writer.writeByte(writer.getConstantIndex("Invalid configuration"));
+        writer.writeByte(Opcodes.RETURN_ERROR);
+
+        var bytecode = build();
+        var interpreted = assertThrows(RulesEvaluationError.class,
+                () -> interpreter(bytecode, Map.of()).resolveResult(0));
+        var compiled = assertThrows(RulesEvaluationError.class,
+                () -> compiled(bytecode, Map.of()).resolveResult(0));
+
+        assertEquals(interpreted.getMessage(), compiled.getMessage());
+    }
+
+    @Test
+    void rejectsBytecodeThatDoesNotReturn() {
+        writer.markConditionStart();
+        writer.writeByte(Opcodes.LOAD_CONST);
+        writer.writeByte(writer.getConstantIndex(true));
+
+        var bytecode = build();
+
+        assertThrows(RulesEvaluationError.class, () -> CompiledRules.compile(bytecode));
+    }
+
+    private Bytecode build(RegisterDefinition... registers) {
+        return writer.build(registers, new RulesFunction[0], new int[] {-1, 1, -1}, 1);
+    }
+
+    private static BytecodeEvaluator interpreter(Bytecode bytecode, Map<String, Object> params) {
+        var eval = new BytecodeEvaluator(bytecode, new RulesExtension[0], filler(bytecode));
+        eval.reset(Context.empty(), params);
+        return eval;
+    }
+
+    private static CompiledRulesEvaluator compiled(Bytecode bytecode, Map<String, Object> params) {
+        var eval = new CompiledRulesEvaluator(
+                CompiledRules.compile(bytecode),
+                new RulesExtension[0],
+                filler(bytecode));
+        eval.reset(Context.empty(), params);
+        return eval;
+    }
+
+    private static RegisterFiller filler(Bytecode bytecode) {
+        return RegisterFiller.of(bytecode, Collections.emptyMap());
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.client.rulesengine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class EvaluatorPoolTest {
+
+    @Test
+    void reusesReleasedValues() {
+        var pool = new EvaluatorPool<>(Object::new, 4);
+        var first = pool.acquire();
+        pool.release(first);
+
+        assertSame(first, pool.acquire());
+    }
+
+    @Test
+    void createsValuesWhenEmpty() {
+        var pool = new EvaluatorPool<>(Object::new, 4);
+
+        assertNotSame(pool.acquire(), pool.acquire());
+    }
+
+    @Test
+    void roundsCapacityToPowerOfTwo() {
+        assertEquals(8, new EvaluatorPool<>(Object::new, 5).capacity());
+        assertEquals(1, new EvaluatorPool<>(Object::new, 1).capacity());
+    }
+
+    @Test
+    void dropsValuesWhenFull() {
+        var created = new AtomicInteger();
+        var pool = new EvaluatorPool<>(() -> created.incrementAndGet(), 2);
+        var a = pool.acquire();
+        var b = pool.acquire();
+        var c = pool.acquire();
+        pool.release(a);
+        pool.release(b);
+        pool.release(c);
+
+        pool.acquire();
+        pool.acquire();
+        pool.acquire();
+
+        assertEquals(4, created.get());
+    }
+
+    @Test
+    void virtualThreadsReuseEvaluators() throws Exception {
+        var created = new AtomicInteger();
+        var pool = new EvaluatorPool<>(() -> {
+            created.incrementAndGet();
+            return new Object();
+        }, 4);
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 1000; i++) {
+                executor.submit(() -> {
+                    var value = pool.acquire();
+                    pool.release(value);
+                }).get();
+            }
+        }
+
+        assertEquals(1, created.get());
+    }
+}
@@ -5,6 +5,7 @@
 
 package software.amazon.smithy.java.client.rulesengine;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -15,6 +16,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -119,6 +122,77 @@ class RulesEngineBuilderTest {
         assertNull(loaded.getConstant(3));
     }
 
+    @Test
+    void testSerializeRoundTrip() {
+        RulesFunction fn = new RulesFunction() {
+            @Override
+            public int getArgumentCount() {
+                return 1;
+            }
+
+            @Override
+            public String getFunctionName() {
+                return "testFunc";
+            }
+
+            @Override
+            public Object apply1(Object arg) {
+                return arg;
+            }
+        };
+        builder.addFunction(fn);
+
+        BytecodeWriter writer = new BytecodeWriter();
+        writer.markConditionStart();
+        writer.writeByte(Opcodes.LOAD_REGISTER);
+        writer.writeByte(0);
+        writer.writeByte(Opcodes.FN1);
+        writer.writeByte(0);
+        writer.writeByte(Opcodes.LOAD_CONST);
+        writer.writeByte(writer.getConstantIndex("us-east-1"));
+        writer.writeByte(Opcodes.STRING_EQUALS);
+        writer.writeByte(Opcodes.RETURN_VALUE);
+        writer.markResultStart();
+        writer.writeByte(Opcodes.LOAD_CONST);
+        writer.writeByte(writer.getConstantIndex("https://example.com"));
+        writer.writeByte(Opcodes.RETURN_ENDPOINT);
+        writer.writeByte(0);
+
+        RegisterDefinition[] registers = {
+                new RegisterDefinition("region", true, null, null, false),
+                new RegisterDefinition("useFips", false, false, "AWS::UseFIPS", false)
+        };
+        int[] bddNodes = {-1, 1, -1, 0, 100000001, -1};
+        Bytecode original = writer.build(registers, new RulesFunction[] {fn}, bddNodes, 2);
+        Bytecode loaded = builder.load(original.serialize());
+
+        assertArrayEquals(original.getBytecode(), loaded.getBytecode());
+        assertArrayEquals(original.getBddNodes(), loaded.getBddNodes());
+        assertArrayEquals(original.getConstantPool(), loaded.getConstantPool());
+        assertEquals(original.getBddRootRef(), loaded.getBddRootRef());
+        assertEquals(original.getConditionStartOffset(0), loaded.getConditionStartOffset(0));
+        assertEquals(original.getResultOffset(0), loaded.getResultOffset(0));
+        assertEquals("testFunc", loaded.getFunctions()[0].getFunctionName());
+        assertEquals(2, loaded.getRegisterDefinitions().length);
+        assertEquals("useFips", loaded.getRegisterDefinitions()[1].name());
+        assertEquals("AWS::UseFIPS", loaded.getRegisterDefinitions()[1].builtin());
+        assertEquals(Boolean.FALSE, loaded.getRegisterDefinitions()[1].defaultValue());
+    }
+
+    @Test
+    void testLoadResource(@TempDir Path tempDir) throws IOException {
+        Files.write(tempDir.resolve("rules.bytecode"), createBytecodeWithConstants());
+
+        try (var loader = new URLClassLoader(new URL[] {tempDir.toUri().toURL()}, null)) {
+            Bytecode loaded = builder.loadResource(loader, "rules.bytecode");
+
+            assertNotNull(loaded);
+            assertEquals(4, loaded.getConstantPoolCount());
+            assertEquals("test", loaded.getConstant(0));
+            assertNull(builder.loadResource(loader, "missing.bytecode"));
+        }
+    }
+
     @Test
     void testLoadInvalidMagicNumber() {
         byte[] bytecode = new byte[44];
@@ -6,10 +6,15 @@
 package software.amazon.smithy.java.client.rulesengine;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.Test;
 
 class UriFactoryTest {
@@ -53,4 +58,34 @@ class UriFactoryTest {
         assertSame(uri3, factory.createUri("https://example3.com"));
         assertSame(uri4, factory.createUri("https://example4.com"));
     }
+
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        UriFactory factory = new UriFactory(2);
+
+        URI uri1 = factory.createUri("https://example1.com");
+        URI uri2 = factory.createUri("https://example2.com");
+        factory.createUri("https://example1.com");
+        factory.createUri("https://example3.com");
+
+        // uri1 survived because it was used more recently, while uri2 was evicted and is parsed again.
+        assertSame(uri1, factory.createUri("https://example1.com"));
+        assertNotSame(uri2, factory.createUri("https://example2.com"));
+    }
+
+    @Test
+    void testSharedAcrossThreads() throws Exception {
+        UriFactory factory = new UriFactory(8);
+        URI expected = factory.createUri("https://example.com");
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<URI>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                results.add(executor.submit(() -> factory.createUri("https://example.com")));
+            }
+            for (var result : results) {
+                assertSame(expected, result.get());
+            }
+        }
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.client.waiters;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import software.amazon.smithy.java.client.core.RequestOverrideConfig;
+import software.amazon.smithy.java.core.schema.SerializableStruct;
+
+/**
+ * Polls that are currently in flight, shared by the asynchronous waits of every waiter built with them.
+ *
+ * <p>Concurrent waits that poll with equal inputs and the same override config share a single in-flight poll rather
+ * than each sending their own request. Acceptors only interpret the result of a poll, so waiters with different
+ * acceptors can share polls as long as they all poll the same operation of the same client.
+ *
+ * @param <I> Input type of the polling function.
+ * @param <O> Output type of the polling function.
+ * @see Waiter.Builder#inFlightPolls(InFlightPolls)
+ */
+public final class InFlightPolls<I extends SerializableStruct, O extends SerializableStruct> {
+
+    private final Map<PollKey, CompletableFuture<O>> polls = new ConcurrentHashMap<>();
+
+    CompletableFuture<O> poll(I input, RequestOverrideConfig config, Supplier<CompletableFuture<O>> invoke) {
+        var key = new PollKey(input, config);
+        var existing = polls.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        var created = new CompletableFuture<O>();
+        existing = polls.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+        invoke.get().whenComplete((output, error) -> {
+            polls.remove(key, created);
+            if (error != null) {
+                created.completeExceptionally(error);
+            } else {
+                created.complete(output);
+            }
+        });
+        return created;
+    }
+
+    private record PollKey(SerializableStruct input, RequestOverrideConfig config) {}
+}
@@ -10,6 +10,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import software.amazon.smithy.java.client.core.RequestOverrideConfig;
 import software.amazon.smithy.java.client.waiters.backoff.BackoffStrategy;
 import software.amazon.smithy.java.client.waiters.matching.Matcher;
@@ -36,18 +42,32 @@ import software.amazon.smithy.java.core.schema.SerializableStruct;
  * waiter.wait(GetFooInput.builder().id("my-id").build(), 1000);
  * }</pre>
  *
+ * <p>Waiters can also wait asynchronously using {@link #waitAsync}. Asynchronous waits don't block a thread between
+ * polling attempts: every pending retry is scheduled on a shared timer, so many thousands of resources can be waited
+ * on at once with a handful of threads. Concurrent asynchronous waits with equal inputs share a single in-flight poll
+ * rather than each sending their own request. Polls are shared between the waits of a single waiter, or between
+ * every waiter built with the same {@link InFlightPolls}.
+ *
  * @param <I> Input type of resource polling function.
  * @param <O> Output type of resource polling function.
  * @see <a href="https://smithy.io/2.0/additional-specs/waiters.html">Waiter Specification</a>
  */
 public final class Waiter<I extends SerializableStruct, O extends SerializableStruct> implements WaiterSettings {
     private final Waitable<I, O> pollingFunction;
+    private final AsyncWaitable<I, O> asyncPollingFunction;
     private final List<Acceptor<I, O>> acceptors;
+    private final ScheduledExecutorService scheduler;
+    private final boolean coalescePolls;
+    private final InFlightPolls<I, O> inFlightPolls;
     private BackoffStrategy backoffStrategy;
     private RequestOverrideConfig overrideConfig;
 
     private Waiter(Builder<I, O> builder) {
         this.pollingFunction = builder.pollingFunction;
+        this.asyncPollingFunction = builder.asyncPollingFunction;
+        this.scheduler = builder.scheduler;
+        this.coalescePolls = builder.coalescePolls;
+        this.inFlightPolls = builder.inFlightPolls != null ? builder.inFlightPolls : new InFlightPolls<>();
         this.acceptors = Collections.unmodifiableList(builder.acceptors);
         this.backoffStrategy = Objects.requireNonNullElse(builder.backoffStrategy, BackoffStrategy.getDefault());
     }
@@ -71,6 +91,18 @@ public final class Waiter<I extends SerializableStruct, O extends SerializableSt
      * @throws WaiterFailureException if the waiter reaches a FAILURE state
      */
     public void wait(I input, long maxWaitTimeMillis) {
+        if (pollingFunction == null) {
+            try {
+                waitAsync(input, maxWaitTimeMillis).join();
+                return;
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof WaiterFailureException wfe) {
+                    throw wfe;
+                }
+                throw e;
+            }
+        }
+
         int attemptNumber = 0;
         long startTime = System.currentTimeMillis();
 
@@ -121,6 +153,34 @@ public final class Waiter<I extends SerializableStruct, O extends SerializableSt
         }
     }
 
+    /**
+     * Asynchronously wait for the resource to reach a terminal state.
+     *
+     * @param input Input to use for polling function.
+     * @param maxWaitTime maximum amount of time for waiter to wait.
+     * @return a future that completes with {@link WaiterState#SUCCESS}, or completes exceptionally with a
+     *     {@link WaiterFailureException} if the waiter reaches a FAILURE state.
+     */
+    public CompletableFuture<WaiterState> waitAsync(I input, Duration maxWaitTime) {
+        return waitAsync(input, maxWaitTime.toMillis());
+    }
+
+    /**
+     * Asynchronously wait for the resource to reach a terminal state.
+     *
+     * <p>Cancelling the returned future stops any further polling.
+     *
+     * @param input Input to use for polling function.
+     * @param maxWaitTimeMillis maximum wait time
+     * @return a future that completes with {@link WaiterState#SUCCESS}, or completes exceptionally with a
+     *     {@link WaiterFailureException} if the waiter reaches a FAILURE state.
+     */
+    public CompletableFuture<WaiterState> waitAsync(I input, long maxWaitTimeMillis) {
+        var wait = new AsyncWait(input, maxWaitTimeMillis);
+        wait.run();
+        return wait.result;
+    }
+
     private WaiterState resolveState(I input, O output, ModeledException exception) {
         // Update state based on first matcher that matches
         for (Acceptor<I, O> acceptor : acceptors) {
@@ -162,6 +222,125 @@ public final class Waiter<I extends SerializableStruct, O extends SerializableSt
         }
     }
 
+    private CompletableFuture<O> poll(I input) {
+        var config = overrideConfig;
+        if (!coalescePolls) {
+            return invokePoll(input, config);
+        }
+        return inFlightPolls.poll(input, config, () -> invokePoll(input, config));
+    }
+
+    private CompletableFuture<O> invokePoll(I input, RequestOverrideConfig config) {
+        if (asyncPollingFunction == null) {
+            return CompletableFuture.supplyAsync(
+                    () -> pollingFunction.poll(input, config),
+                    WaiterScheduler.pollExecutor());
+        }
+        try {
+            return asyncPollingFunction.poll(input, config);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * State of a single asynchronous wait, which re-schedules itself on the shared timer after each RETRY.
+     */
+    private final class AsyncWait implements Runnable {
+        private final CompletableFuture<WaiterState> result = new CompletableFuture<>();
+        private final I input;
+        private final long maxWaitTimeMillis;
+        private final long startTime = System.currentTimeMillis();
+        private final BackoffStrategy backoff = backoffStrategy;
+        private int attemptNumber;
+        private volatile ScheduledFuture<?> pendingRetry;
+
+        AsyncWait(I input, long maxWaitTimeMillis) {
+            this.input = input;
+            this.maxWaitTimeMillis = maxWaitTimeMillis;
+            // Take the scheduled retry off the timer when the caller cancels the wait.
+            result.whenComplete((state, error) -> {
+                if (result.isCancelled()) {
+                    cancelPendingRetry();
+                }
+            });
+        }
+
+        @Override
+        public void run() {
+            // Stop polling if the caller cancelled the wait.
+            if (result.isDone()) {
+                return;
+            }
+            attemptNumber++;
+            poll(input).whenComplete(this::onPoll);
+        }
+
+        private void onPoll(O output, Throwable error) {
+            ModeledException exception = null;
+            if (error != null) {
+                var cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error;
+                if (cause instanceof ModeledException modeledException) {
+                    exception = modeledException;
+                } else {
+                    fail("Waiter encountered unexpected, unmodeled exception while polling.", cause);
+                    return;
+                }
+            }
+
+            WaiterState state;
+            try {
+                state = resolveState(input, output, exception);
+            } catch (Exception exc) {
+                fail("Waiter encountered unexpected exception.", exc);
+                return;
+            }
+
+            switch (state) {
+                case SUCCESS -> result.complete(WaiterState.SUCCESS);
+                case FAILURE -> fail("Waiter reached terminal, FAILURE state", null);
+                case RETRY -> scheduleRetry();
+            }
+        }
+
+        private void scheduleRetry() {
+            long remainingTime = maxWaitTimeMillis - (System.currentTimeMillis() - startTime);
+            if (remainingTime < 0) {
+                fail("Waiter timed out after " + attemptNumber + " retry attempts.", null);
+                return;
+            }
+            var delay = backoff.computeNextDelayInMills(attemptNumber, remainingTime);
+            try {
+                var timer = scheduler != null ? scheduler : WaiterScheduler.timer();
+                pendingRetry = timer.schedule(this, delay, TimeUnit.MILLISECONDS);
+                // The wait may have been cancelled before the retry was stored.
+                if (result.isCancelled()) {
+                    cancelPendingRetry();
+                }
+            } catch (RejectedExecutionException e) {
+                fail("Waiter could not schedule a retry.", e);
+            }
+        }
+
+        private void cancelPendingRetry() {
+            var retry = pendingRetry;
+            if (retry != null) {
+                retry.cancel(false);
+            }
+        }
+
+        private void fail(String message, Throwable cause) {
+            result.completeExceptionally(WaiterFailureException.builder()
+                    .message(message)
+                    .cause(cause)
+                    .attemptNumber(attemptNumber)
+                    .totalTimeMillis(System.currentTimeMillis() - startTime)
+                    .build());
+        }
+    }
+
     @Override
     public void backoffStrategy(BackoffStrategy backoffStrategy) {
         this.backoffStrategy = Objects.requireNonNull(backoffStrategy, "backoffStrategy cannot be null.");
@@ -182,7 +361,20 @@ public final class Waiter<I extends SerializableStruct, O extends SerializableSt
      */
     public static <I extends SerializableStruct,
             O extends SerializableStruct> Builder<I, O> builder(Waitable<I, O> pollingFunction) {
-        return new Builder<>(pollingFunction);
+        return new Builder<>(pollingFunction, null);
+    }
+
+    /**
+     * Create a new {@link Builder} for a waiter that polls using an asynchronous client call.
+     *
+     * @param pollingFunction Asynchronous client call that will be used to poll for the resource state.
+     * @return new {@link Builder} instance.
+     * @param <I> Input shape type
+     * @param <O> Output shape type
+     */
+    public static <I extends SerializableStruct,
+            O extends SerializableStruct> Builder<I, O> asyncBuilder(AsyncWaitable<I, O> pollingFunction) {
+        return new Builder<>(null, Objects.requireNonNull(pollingFunction, "pollingFunction cannot be null"));
     }
 
     /**
@@ -194,10 +386,15 @@ public final class Waiter<I extends SerializableStruct, O extends SerializableSt
     public static final class Builder<I extends SerializableStruct, O extends SerializableStruct> {
         private final List<Acceptor<I, O>> acceptors = new ArrayList<>();
         private final Waitable<I, O> pollingFunction;
+        private final AsyncWaitable<I, O> asyncPollingFunction;
         private BackoffStrategy backoffStrategy;
+        private ScheduledExecutorService scheduler;
+        private boolean coalescePolls = true;
+        private InFlightPolls<I, O> inFlightPolls;
 
-        private Builder(Waitable<I, O> pollingFunction) {
+        private Builder(Waitable<I, O> pollingFunction, AsyncWaitable<I, O> asyncPollingFunction) {
             this.pollingFunction = pollingFunction;
+            this.asyncPollingFunction = asyncPollingFunction;
         }
 
         /**
@@ -244,6 +441,46 @@ public final class Waiter<I extends SerializableStruct, O extends SerializableSt
             return this;
         }
 
+        /**
+         * Scheduler used to delay retries of asynchronous waits.
+         *
+         * <p>Defaults to a timer with a single daemon thread that is shared by every waiter.
+         *
+         * @param scheduler scheduler to use
+         * @return this builder
+         */
+        public Builder<I, O> scheduler(ScheduledExecutorService scheduler) {
+            this.scheduler = Objects.requireNonNull(scheduler, "scheduler cannot be null");
+            return this;
+        }
+
+        /**
+         * Whether concurrent asynchronous waits with equal inputs share a single in-flight poll.
+         *
+         * <p>Defaults to true.
+         *
+         * @param coalescePolls true to share polls between concurrent waits
+         * @return this builder
+         */
+        public Builder<I, O> coalescePolls(boolean coalescePolls) {
+            this.coalescePolls = coalescePolls;
+            return this;
+        }
+
+        /**
+         * Share in-flight polls with other waiters built with the same {@link InFlightPolls}.
+         *
+         * <p>Every waiter that shares polls must poll the same operation of the same client. By default, polls are
+         * only shared between the waits of the built waiter.
+         *
+         * @param inFlightPolls polls to share
+         * @return this builder
+         */
+        public Builder<I, O> inFlightPolls(InFlightPolls<I, O> inFlightPolls) {
+            this.inFlightPolls = Objects.requireNonNull(inFlightPolls, "inFlightPolls cannot be null");
+            return this;
+        }
+
         /**
          * Create an immutable {@link Waiter} instance.
          *
@@ -261,4 +498,12 @@ public final class Waiter<I extends SerializableStruct, O extends SerializableSt
     public interface Waitable<I extends SerializableStruct, O extends SerializableStruct> {
         O poll(I input, RequestOverrideConfig requestContext);
     }
+
+    /**
+     * Interface representing an asynchronous function that can be polled for the state of a resource.
+     */
+    @FunctionalInterface
+    public interface AsyncWaitable<I extends SerializableStruct, O extends SerializableStruct> {
+        CompletableFuture<O> poll(I input, RequestOverrideConfig requestContext);
+    }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.client.waiters;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * Shared resources used by asynchronous waiters.
+ *
+ * <p>A single daemon timer thread schedules every pending retry, so the number of concurrent waiters is not bound
+ * by the number of threads. Synchronous polling functions are run on virtual threads so that a slow poll never
+ * blocks the timer.
+ */
+final class WaiterScheduler {
+
+    private WaiterScheduler() {}
+
+    static ScheduledExecutorService timer() {
+        return Holder.TIMER;
+    }
+
+    static ExecutorService pollExecutor() {
+        return Holder.POLL_EXECUTOR;
+    }
+
+    // Lazily creates the shared executors the first time an asynchronous waiter is used.
+    private static final class Holder {
+        private static final ScheduledExecutorService TIMER = createTimer();
+        private static final ExecutorService POLL_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+        private static ScheduledExecutorService createTimer() {
+            var executor = new ScheduledThreadPoolExecutor(1, r -> {
+                var thread = new Thread(r, "smithy-java-waiter-timer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            // Cancelled waits shouldn't leave their retry tasks in the queue until they expire.
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+}
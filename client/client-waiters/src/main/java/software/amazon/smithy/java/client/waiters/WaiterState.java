@@ -5,7 +5,10 @@
 
 package software.amazon.smithy.java.client.waiters;
 
-enum WaiterState {
+/**
+ * State of a {@link Waiter}.
+ */
+public enum WaiterState {
     /**
      * Indicates the waiter succeeded and must no longer continue waiting.
      */
@@ -0,0 +1,101 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.client.waiters.jmespath;
+
+import java.util.Objects;
+import software.amazon.smithy.java.core.schema.SerializableStruct;
+import software.amazon.smithy.java.core.serde.document.Document;
+import software.amazon.smithy.java.jmespath.JMESPathQuery;
+import software.amazon.smithy.jmespath.JmespathExpression;
+import software.amazon.smithy.jmespath.ast.FieldExpression;
+import software.amazon.smithy.jmespath.ast.Subexpression;
+
+/**
+ * Compiles a JMESPath expression that may have input/output evaluated in Waiters.
+ *
+ * <p>Waiters special-case the `input` and `output` keywords, allowing users to target those
+ * shapes in their JMESPath expressions. These keywords are resolved on the left-most field of the
+ * expression, and everything else is evaluated as a compiled query against the output.
+ */
+abstract sealed class InputOutputAwareJMESPathQuery {
+    private static final String INPUT_NAME = "input";
+    private static final String OUTPUT_NAME = "output";
+
+    static InputOutputAwareJMESPathQuery compile(JmespathExpression expression) {
+        if (expression instanceof FieldExpression field) {
+            var name = field.getName();
+            if (INPUT_NAME.equals(name) || OUTPUT_NAME.equals(name)) {
+                return new Keyword(name, JMESPathQuery.compile(expression));
+            }
+        } else if (expression instanceof Subexpression subexpression) {
+            return new Chained(compile(subexpression.getLeft()), JMESPathQuery.compile(subexpression.getRight()));
+        }
+        return new OnOutput(JMESPathQuery.compile(expression));
+    }
+
+    /**
+     * Evaluate the expression.
+     *
+     * @param input Input of the call, or null if the input is not available.
+     * @param output Output of the call.
+     * @return the result as a document, or null.
+     */
+    final Document query(SerializableStruct input, SerializableStruct output) {
+        Objects.requireNonNull(output, "output cannot be null");
+        return Document.ofObject(evaluate(input, output));
+    }
+
+    abstract Object evaluate(SerializableStruct input, SerializableStruct output);
+
+    private static final class Keyword extends InputOutputAwareJMESPathQuery {
+        private final boolean isInput;
+        private final JMESPathQuery fallback;
+
+        Keyword(String name, JMESPathQuery fallback) {
+            this.isInput = INPUT_NAME.equals(name);
+            this.fallback = fallback;
+        }
+
+        @Override
+        Object evaluate(SerializableStruct input, SerializableStruct output) {
+            if (!isInput) {
+                return output;
+            } else if (input != null) {
+                return input;
+            }
+            // Without an input, `input` is a regular field of the output.
+            return fallback.evaluate(output);
+        }
+    }
+
+    private static final class Chained extends InputOutputAwareJMESPathQuery {
+        private final InputOutputAwareJMESPathQuery left;
+        private final JMESPathQuery right;
+
+        Chained(InputOutputAwareJMESPathQuery left, JMESPathQuery right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        Object evaluate(SerializableStruct input, SerializableStruct output) {
+            return right.evaluate(left.evaluate(input, output));
+        }
+    }
+
+    private static final class OnOutput extends InputOutputAwareJMESPathQuery {
+        private final JMESPathQuery query;
+
+        OnOutput(JMESPathQuery query) {
+            this.query = query;
+        }
+
+        @Override
+        Object evaluate(SerializableStruct input, SerializableStruct output) {
+            return query.evaluate(output);
+        }
+    }
+}
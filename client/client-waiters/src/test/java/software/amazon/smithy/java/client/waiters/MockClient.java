@@ -8,6 +8,7 @@ package software.amazon.smithy.java.client.waiters;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import software.amazon.smithy.java.client.core.RequestOverrideConfig;
 import software.amazon.smithy.java.client.waiters.models.GetFoosInput;
 import software.amazon.smithy.java.client.waiters.models.GetFoosOutput;
@@ -39,4 +40,12 @@ final class MockClient {
 
         throw new IllegalArgumentException("Expected an output shape or modeled exception. Found: " + next);
     }
+
+    public CompletableFuture<GetFoosOutput> getFoosAsync(GetFoosInput in, RequestOverrideConfig override) {
+        try {
+            return CompletableFuture.completedFuture(getFoosSync(in, override));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
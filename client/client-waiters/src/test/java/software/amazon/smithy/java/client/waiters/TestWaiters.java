@@ -12,6 +12,11 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.Test;
 import software.amazon.smithy.java.client.waiters.backoff.BackoffStrategy;
 import software.amazon.smithy.java.client.waiters.matching.Matcher;
@@ -87,6 +92,105 @@ public class TestWaiters {
         assertInstanceOf(UnexpectedException.class, exc.getCause());
     }
 
+    @Test
+    void testAsyncWaiter() {
+        var client = new MockClient(ID,
+                List.of(
+                        new GetFoosOutput("BUILDING"),
+                        new GetFoosOutput("BUILDING"),
+                        new GetFoosOutput("DONE")));
+        var waiter = Waiter.asyncBuilder(client::getFoosAsync)
+                .backoffStrategy(BackoffStrategy.getDefault(10L, 20L))
+                .success(Matcher.output(o -> o.status().equals("DONE")))
+                .build();
+
+        assertEquals(WaiterState.SUCCESS, waiter.waitAsync(new GetFoosInput(ID), 20000).join());
+    }
+
+    @Test
+    void testAsyncWaiterWithSyncPollingFunction() {
+        var client = new MockClient(ID,
+                List.of(
+                        new GetFoosOutput("BUILDING"),
+                        new GetFoosOutput("DONE")));
+        var waiter = Waiter.builder(client::getFoosSync)
+                .backoffStrategy(BackoffStrategy.getDefault(10L, 20L))
+                .failure(Matcher.output(o -> o.status().equals("DONE")))
+                .build();
+
+        var exc = assertThrows(
+                CompletionException.class,
+                () -> waiter.waitAsync(new GetFoosInput(ID), 20000).join());
+        assertInstanceOf(WaiterFailureException.class, exc.getCause());
+        assertEquals("Waiter reached terminal, FAILURE state", exc.getCause().getMessage());
+    }
+
+    @Test
+    void testAsyncWaitersCoalescePolls() {
+        var calls = new AtomicInteger();
+        var pending = new CompletableFuture<GetFoosOutput>();
+        Waiter<GetFoosInput, GetFoosOutput> waiter = Waiter.<GetFoosInput, GetFoosOutput>asyncBuilder((in, o) -> {
+            calls.incrementAndGet();
+            return pending;
+        })
+                .success(Matcher.output(o -> o.status().equals("DONE")))
+                .build();
+
+        var first = waiter.waitAsync(new GetFoosInput(ID), 20000);
+        var second = waiter.waitAsync(new GetFoosInput(ID), 20000);
+        pending.complete(new GetFoosOutput("DONE"));
+
+        assertEquals(WaiterState.SUCCESS, first.join());
+        assertEquals(WaiterState.SUCCESS, second.join());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void separateWaitersSharingPollsCoalescePolls() {
+        var calls = new AtomicInteger();
+        var pending = new CompletableFuture<GetFoosOutput>();
+        var polls = new InFlightPolls<GetFoosInput, GetFoosOutput>();
+        // Built the way generated waiter containers build a new waiter on every call.
+        Supplier<Waiter<GetFoosInput, GetFoosOutput>> newWaiter = () -> Waiter
+                .<GetFoosInput, GetFoosOutput>asyncBuilder((in, o) -> {
+                    calls.incrementAndGet();
+                    return pending;
+                })
+                .inFlightPolls(polls)
+                .success(Matcher.output(o -> o.status().equals("DONE")))
+                .build();
+
+        var first = newWaiter.get().waitAsync(new GetFoosInput(ID), 20000);
+        var second = newWaiter.get().waitAsync(new GetFoosInput(ID), 20000);
+        pending.complete(new GetFoosOutput("DONE"));
+
+        assertEquals(WaiterState.SUCCESS, first.join());
+        assertEquals(WaiterState.SUCCESS, second.join());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void cancellingAsyncWaitRemovesPendingRetry() {
+        var scheduler = new ScheduledThreadPoolExecutor(1);
+        scheduler.setRemoveOnCancelPolicy(true);
+        try {
+            Waiter<GetFoosInput, GetFoosOutput> waiter = Waiter.<GetFoosInput, GetFoosOutput>asyncBuilder(
+                    (in, o) -> CompletableFuture.completedFuture(new GetFoosOutput("BUILDING")))
+                    .backoffStrategy(BackoffStrategy.getDefault(10_000L, 20_000L))
+                    .success(Matcher.output(o -> o.status().equals("DONE")))
+                    .scheduler(scheduler)
+                    .build();
+
+            var result = waiter.waitAsync(new GetFoosInput(ID), 60_000);
+            assertEquals(1, scheduler.getQueue().size());
+
+            result.cancel(false);
+            assertTrue(scheduler.getQueue().isEmpty());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
     private static final class UnexpectedException extends ModeledException {
 
         private UnexpectedException(String message) {
@@ -0,0 +1,99 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.cbor;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import software.amazon.smithy.java.cbor.CborParser.Token;
+import software.amazon.smithy.java.core.serde.SerializationException;
+
+/**
+ * Finds the top-level "__type" member of a CBOR map using the token stream, without building a document.
+ */
+final class CborDiscriminatorScanner {
+
+    private static final byte[] TYPE_KEY = "__type".getBytes(StandardCharsets.US_ASCII);
+
+    private CborDiscriminatorScanner() {}
+
+    /**
+     * Scan the payload for a discriminator.
+     *
+     * @param source Payload to scan. The position of the buffer is not modified.
+     * @return the unparsed discriminator, or null if the payload isn't a map with a text "__type" member.
+     * @throws SerializationException if the payload is malformed before the discriminator is found.
+     */
+    static String scan(ByteBuffer source) {
+        byte[] payload;
+        int start;
+        int end;
+        if (source.hasArray()) {
+            payload = source.array();
+            start = source.arrayOffset() + source.position();
+            end = start + source.remaining();
+        } else {
+            payload = new byte[source.remaining()];
+            source.duplicate().get(payload);
+            start = 0;
+            end = payload.length;
+        }
+
+        var parser = new CborParser(payload, start, end);
+        if (parser.advance() != Token.START_OBJECT) {
+            return null;
+        }
+
+        for (byte token = parser.advance(); token != Token.END_OBJECT; token = parser.advance()) {
+            if (token != Token.KEY) {
+                throw new SerializationException("Unexpected token: " + Token.name(token));
+            }
+            boolean isType = isTypeKey(payload, parser.getPosition(), parser.getItemLength());
+            token = parser.advance();
+            if (isType) {
+                return token == Token.TEXT_STRING
+                        ? CborReadUtil.readTextString(payload, parser.getPosition(), parser.getItemLength())
+                        : null;
+            }
+            skip(parser, token);
+        }
+
+        return null;
+    }
+
+    private static boolean isTypeKey(byte[] payload, int pos, int len) {
+        if (CborParser.isIndefinite(len)) {
+            return "__type".equals(CborReadUtil.readTextString(payload, pos, len));
+        } else if (len != TYPE_KEY.length || pos + len > payload.length) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            if (payload[pos + i] != TYPE_KEY[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void skip(CborParser parser, byte token) {
+        if (token != Token.START_OBJECT && token != Token.START_ARRAY) {
+            if (token == Token.FINISHED) {
+                throw new SerializationException("Unexpected end of CBOR payload");
+            }
+            return;
+        }
+        int depth = 1;
+        while (depth > 0) {
+            token = parser.advance();
+            if (token == Token.START_OBJECT || token == Token.START_ARRAY) {
+                depth++;
+            } else if (token == Token.END_OBJECT || token == Token.END_ARRAY) {
+                depth--;
+            } else if (token == Token.FINISHED) {
+                throw new SerializationException("Unexpected end of CBOR payload");
+            }
+        }
+    }
+}
@@ -8,14 +8,18 @@ package software.amazon.smithy.java.cbor;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import software.amazon.smithy.java.core.serde.Codec;
+import software.amazon.smithy.java.core.serde.DiscriminatorCache;
 import software.amazon.smithy.java.core.serde.ShapeDeserializer;
 import software.amazon.smithy.java.core.serde.ShapeSerializer;
+import software.amazon.smithy.model.shapes.ShapeId;
 
 public final class Rpcv2CborCodec implements Codec {
     private final CborSettings settings;
+    private final DiscriminatorCache discriminators;
 
     private Rpcv2CborCodec(Builder builder) {
         this.settings = builder.settings == null ? CborSettings.defaultSettings() : builder.settings.build();
+        this.discriminators = new DiscriminatorCache(settings.defaultNamespace());
     }
 
     public static Builder builder() {
@@ -37,6 +41,11 @@ public final class Rpcv2CborCodec implements Codec {
         return settings.provider().newDeserializer(source, settings);
     }
 
+    @Override
+    public ShapeId readDiscriminator(ByteBuffer source) {
+        return discriminators.parse(CborDiscriminatorScanner.scan(source));
+    }
+
     public static final class Builder {
         private CborSettings.Builder settings;
 
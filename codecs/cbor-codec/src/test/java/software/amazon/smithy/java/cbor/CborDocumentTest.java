@@ -430,4 +430,28 @@ public class CborDocumentTest {
     public void failsToParseRelativeDiscriminatorWithNoDefaultNamespace() {
         toCbor("{\"__type\":\"Foo\"}").readDocument();
     }
+
+    @ParameterizedTest
+    @MethodSource("readDiscriminatorSource")
+    public void readsDiscriminatorWithoutDocument(String json, ShapeId expected) {
+        var settings = CborSettings.builder().defaultNamespace("com.foo").build();
+        var codec = Rpcv2CborCodec.builder().settings(settings).build();
+        var doc = JsonCodec.builder().build().createDeserializer(json.getBytes(StandardCharsets.UTF_8)).readDocument();
+        var buffer = codec.serialize(doc);
+        var position = buffer.position();
+
+        assertThat(codec.readDiscriminator(buffer), equalTo(expected));
+        assertThat(buffer.position(), is(position));
+    }
+
+    public static List<Arguments> readDiscriminatorSource() {
+        var foo = ShapeId.from("com.foo#Foo");
+        return List.of(
+                Arguments.of("{\"__type\":\"Foo\"}", foo),
+                Arguments.of("{\"a\":{\"__type\":\"Bar\",\"b\":[1,{\"c\":\"d\"}]},\"__type\":\"com.foo#Foo\"}", foo),
+                Arguments.of("{\"a\":[],\"b\":{},\"c\":true,\"d\":1.5,\"__type\":\"Foo\"}", foo),
+                Arguments.of("{}", null),
+                Arguments.of("{\"__type\":1}", null),
+                Arguments.of("[\"__type\"]", null));
+    }
 }
@@ -8,9 +8,11 @@ package software.amazon.smithy.java.json;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import software.amazon.smithy.java.core.serde.Codec;
+import software.amazon.smithy.java.core.serde.DiscriminatorCache;
 import software.amazon.smithy.java.core.serde.ShapeDeserializer;
 import software.amazon.smithy.java.core.serde.ShapeSerializer;
 import software.amazon.smithy.java.core.serde.TimestampFormatter;
+import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.model.traits.JsonNameTrait;
 import software.amazon.smithy.model.traits.TimestampFormatTrait;
 
@@ -28,9 +30,11 @@ import software.amazon.smithy.model.traits.TimestampFormatTrait;
 public final class JsonCodec implements Codec {
 
     private final JsonSettings settings;
+    private final DiscriminatorCache discriminators;
 
     private JsonCodec(Builder builder) {
         this.settings = builder.settingsBuilder.build();
+        this.discriminators = new DiscriminatorCache(settings.defaultNamespace());
     }
 
     public static Builder builder() {
@@ -56,6 +60,15 @@ public final class JsonCodec implements Codec {
         return settings.provider().newDeserializer(source, settings);
     }
 
+    @Override
+    public ShapeId readDiscriminator(ByteBuffer source) {
+        var scanner = new JsonDiscriminatorScanner(source);
+        if (!scanner.scan()) {
+            return Codec.super.readDiscriminator(source);
+        }
+        return discriminators.parse(scanner.value());
+    }
+
     public static final class Builder {
         private final JsonSettings.Builder settingsBuilder = JsonSettings.builder();
 
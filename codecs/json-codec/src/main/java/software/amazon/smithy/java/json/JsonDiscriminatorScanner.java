@@ -0,0 +1,179 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Finds the top-level "__type" member of a JSON object by scanning bytes, without building a document.
+ *
+ * <p>Nested values are skipped over rather than parsed. The scanner gives up on anything it doesn't fully
+ * understand (escaped keys or values, malformed input, a root that isn't an object) and leaves those cases to the
+ * regular parser.
+ */
+final class JsonDiscriminatorScanner {
+
+    private static final byte[] TYPE_KEY = "__type".getBytes(StandardCharsets.US_ASCII);
+
+    private final byte[] bytes;
+    private final int end;
+    private int pos;
+    private String value;
+
+    JsonDiscriminatorScanner(ByteBuffer source) {
+        if (source.hasArray()) {
+            bytes = source.array();
+            pos = source.arrayOffset() + source.position();
+            end = pos + source.remaining();
+        } else {
+            bytes = new byte[source.remaining()];
+            source.duplicate().get(bytes);
+            pos = 0;
+            end = bytes.length;
+        }
+    }
+
+    /**
+     * Scan the payload for a discriminator.
+     *
+     * @return true if the scan completed and {@link #value()} is accurate, or false if a full parse is required.
+     */
+    boolean scan() {
+        skipWhitespace();
+        if (pos >= end || bytes[pos] != '{') {
+            return false;
+        }
+        pos++;
+        skipWhitespace();
+        if (pos < end && bytes[pos] == '}') {
+            return true;
+        }
+
+        while (pos < end && bytes[pos] == '"') {
+            int keyStart = ++pos;
+            if (!skipString(false)) {
+                return false;
+            }
+            boolean isType = isTypeKey(keyStart, pos - 1);
+            skipWhitespace();
+            if (pos >= end || bytes[pos] != ':') {
+                return false;
+            }
+            pos++;
+            skipWhitespace();
+            if (pos >= end) {
+                return false;
+            }
+            if (isType) {
+                if (bytes[pos] != '"') {
+                    // Only string discriminators are honored.
+                    return true;
+                }
+                int valueStart = ++pos;
+                if (!skipString(false)) {
+                    return false;
+                }
+                value = new String(bytes, valueStart, pos - 1 - valueStart, StandardCharsets.UTF_8);
+                return true;
+            } else if (!skipValue()) {
+                return false;
+            }
+            skipWhitespace();
+            if (pos >= end) {
+                return false;
+            } else if (bytes[pos] == '}') {
+                return true;
+            } else if (bytes[pos] != ',') {
+                return false;
+            }
+            pos++;
+            skipWhitespace();
+        }
+
+        return false;
+    }
+
+    /**
+     * Get the unparsed discriminator found by a successful {@link #scan()}.
+     *
+     * @return the discriminator text, or null if the object has no string "__type" member.
+     */
+    String value() {
+        return value;
+    }
+
+    private boolean isTypeKey(int start, int stop) {
+        if (stop - start != TYPE_KEY.length) {
+            return false;
+        }
+        for (int i = 0; i < TYPE_KEY.length; i++) {
+            if (bytes[start + i] != TYPE_KEY[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void skipWhitespace() {
+        while (pos < end) {
+            byte b = bytes[pos];
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                return;
+            }
+            pos++;
+        }
+    }
+
+    // Positions after the closing quote of a string whose opening quote was already consumed.
+    private boolean skipString(boolean allowEscapes) {
+        while (pos < end) {
+            byte b = bytes[pos++];
+            if (b == '"') {
+                return true;
+            } else if (b == '\\') {
+                if (!allowEscapes) {
+                    return false;
+                }
+                pos++;
+            }
+        }
+        return false;
+    }
+
+    private boolean skipValue() {
+        byte b = bytes[pos];
+        if (b == '"') {
+            pos++;
+            return skipString(true);
+        } else if (b == '{' || b == '[') {
+            int depth = 0;
+            while (pos < end) {
+                b = bytes[pos++];
+                if (b == '"') {
+                    if (!skipString(true)) {
+                        return false;
+                    }
+                } else if (b == '{' || b == '[') {
+                    depth++;
+                } else if ((b == '}' || b == ']') && --depth == 0) {
+                    return true;
+                }
+            }
+            return false;
+        } else {
+            // Numbers, booleans, and null run until the next structural character or whitespace.
+            while (pos < end) {
+                b = bytes[pos];
+                if (b == ',' || b == '}' || b == ']' || b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                    return true;
+                }
+                pos++;
+            }
+            return false;
+        }
+    }
+}
@@ -501,4 +501,39 @@ public class JsonDocumentTest {
         var de = codec.createDeserializer("{\"__type\":\"Foo\"}".getBytes(StandardCharsets.UTF_8));
         var json = de.readDocument();
     }
+
+    @ParameterizedTest
+    @MethodSource("readDiscriminatorSource")
+    public void readsDiscriminatorWithoutDocument(String json, ShapeId expected) {
+        var codec = JsonCodec.builder().defaultNamespace("com.foo").build();
+        var buffer = wrap(json.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(codec.readDiscriminator(buffer), equalTo(expected));
+        assertThat(buffer.position(), is(0));
+    }
+
+    public static List<Arguments> readDiscriminatorSource() {
+        var foo = ShapeId.from("com.foo#Foo");
+        return List.of(
+                Arguments.of("{\"__type\":\"Foo\"}", foo),
+                Arguments.of(" {\n  \"__type\" : \"com.foo#Foo\"\n}", foo),
+                Arguments.of("{\"a\":{\"__type\":\"Bar\",\"b\":[1,{\"c\":\"}\"}]},\"__type\":\"Foo\"}", foo),
+                Arguments.of("{\"a\":\"\\\"__type\\\"\",\"b\":true,\"c\":null,\"d\":-1.5e3,\"__type\":\"Foo\"}", foo),
+                Arguments.of("{\"__t\\u0079pe\":\"Foo\"}", foo),
+                Arguments.of("{\"__type\":\"F\\u006fo\"}", foo),
+                Arguments.of("{}", null),
+                Arguments.of("{\"a\":1}", null),
+                Arguments.of("{\"__type\":1}", null),
+                Arguments.of("[{\"__type\":\"Foo\"}]", null),
+                Arguments.of("null", null));
+    }
+
+    @Test
+    public void readDiscriminatorFailsOnMalformedPayload() {
+        var codec = JsonCodec.builder().build();
+
+        Assertions.assertThrows(
+                SerializationException.class,
+                () -> codec.readDiscriminator(wrap("{\"a\":".getBytes(StandardCharsets.UTF_8))));
+    }
 }
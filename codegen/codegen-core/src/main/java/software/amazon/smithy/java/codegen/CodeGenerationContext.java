@@ -115,7 +115,8 @@ public class CodeGenerationContext
             CreateContextDirective<JavaCodegenSettings, JavaCodegenIntegration> directive,
             String plugin
     ) {
-        this(directive, plugin, 64000);
+        // Smaller partitions mean looking up one schema initializes fewer unrelated schemas.
+        this(directive, plugin, 500);
     }
 
     //Visible for testing
@@ -7,8 +7,11 @@ package software.amazon.smithy.java.codegen.generators;
 
 import static java.util.function.Predicate.not;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -16,6 +19,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import software.amazon.smithy.codegen.core.SymbolProvider;
@@ -25,6 +29,7 @@ import software.amazon.smithy.java.codegen.CodegenUtils;
 import software.amazon.smithy.java.codegen.SymbolProperties;
 import software.amazon.smithy.java.codegen.writer.JavaWriter;
 import software.amazon.smithy.java.core.schema.PreludeSchemas;
+import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.loader.Prelude;
 import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.shapes.ShapeId;
@@ -64,7 +69,11 @@ public final class SchemaFieldOrder {
         computedPartitions.add(curParition);
         int curClassNumber = 0;
         String curClassName = "Schemas";
-        for (var shape : allShapes) {
+        // Each component comes after the components its members target, and shapes that refer to each other share a
+        // component. Partitions are only split between components, so a partition only refers to itself and earlier
+        // partitions, and initializing one never initializes a later one. This includes references to the builders
+        // of recursive shapes, which are completed when the partition that declares them is initialized.
+        for (var component : new DependencyOrder(directive.model()).sort(allShapes)) {
             if (curIndex >= partitionThreshold) {
                 curIndex = 0;
                 curClassNumber++;
@@ -73,20 +82,25 @@ public final class SchemaFieldOrder {
                 curParition = new ArrayList<>();
                 computedPartitions.add(curParition);
             }
-            var shapeFieldName = toSchemaName(shape);
-            if (curFieldNames.contains(shapeFieldName) || shape.getId().getName().equals(shapeFieldName)) {
-                shapeFieldName = toFullQualifiedSchemaName(shape);
-            }
-            boolean isShapeRecursive = CodegenUtils.recursiveShape(directive.model(), shape);
-            boolean isExternal =
-                    symbolProvider.toSymbol(shape).getProperty(SymbolProperties.EXTERNAL_TYPE).orElse(false);
-            var shapeField = new SchemaField(shape, shapeFieldName, curClassName, isShapeRecursive, isExternal);
-            curParition.add(shapeField);
-            curFieldNames.add(shapeFieldName);
-            if (isShapeRecursive) {
+            for (var shape : component) {
+                if (!allShapes.contains(shape)) {
+                    continue;
+                }
+                var shapeFieldName = toSchemaName(shape);
+                if (curFieldNames.contains(shapeFieldName) || shape.getId().getName().equals(shapeFieldName)) {
+                    shapeFieldName = toFullQualifiedSchemaName(shape);
+                }
+                boolean isShapeRecursive = CodegenUtils.recursiveShape(directive.model(), shape);
+                boolean isExternal =
+                        symbolProvider.toSymbol(shape).getProperty(SymbolProperties.EXTERNAL_TYPE).orElse(false);
+                var shapeField = new SchemaField(shape, shapeFieldName, curClassName, isShapeRecursive, isExternal);
+                curParition.add(shapeField);
+                curFieldNames.add(shapeFieldName);
+                if (isShapeRecursive) {
+                    curIndex++;
+                }
                 curIndex++;
             }
-            curIndex++;
         }
         computedPartitions.removeIf(List::isEmpty);
         this.partitions = Collections.unmodifiableList(computedPartitions);
@@ -145,5 +159,64 @@ public final class SchemaFieldOrder {
                 .toUpperCase(Locale.ENGLISH);
     }
 
+    /**
+     * Sorts shapes into the strongly connected components of their member targets using Tarjan's algorithm, which
+     * returns a component only after every component it refers to.
+     */
+    private static final class DependencyOrder {
+        private final Model model;
+        private final Map<ShapeId, Integer> indexes = new HashMap<>();
+        private final Map<ShapeId, Integer> lowLinks = new HashMap<>();
+        private final Deque<Shape> stack = new ArrayDeque<>();
+        private final Set<ShapeId> onStack = new HashSet<>();
+        private final List<List<Shape>> components = new ArrayList<>();
+
+        DependencyOrder(Model model) {
+            this.model = model;
+        }
+
+        List<List<Shape>> sort(Collection<Shape> shapes) {
+            for (var shape : shapes) {
+                if (!indexes.containsKey(shape.getId())) {
+                    visit(shape);
+                }
+            }
+            return components;
+        }
+
+        private void visit(Shape shape) {
+            var id = shape.getId();
+            int index = indexes.size();
+            indexes.put(id, index);
+            lowLinks.put(id, index);
+            stack.push(shape);
+            onStack.add(id);
+            for (var member : shape.members()) {
+                var target = model.getShape(member.getTarget()).orElse(null);
+                if (target == null) {
+                    continue;
+                }
+                var targetId = target.getId();
+                if (!indexes.containsKey(targetId)) {
+                    visit(target);
+                    lowLinks.put(id, Math.min(lowLinks.get(id), lowLinks.get(targetId)));
+                } else if (onStack.contains(targetId)) {
+                    lowLinks.put(id, Math.min(lowLinks.get(id), indexes.get(targetId)));
+                }
+            }
+            if (lowLinks.get(id) == index) {
+                var component = new ArrayList<Shape>();
+                Shape next;
+                do {
+                    next = stack.pop();
+                    onStack.remove(next.getId());
+                    component.add(next);
+                } while (next != shape);
+                Collections.reverse(component);
+                components.add(component);
+            }
+        }
+    }
+
     record SchemaField(Shape shape, String fieldName, String className, boolean isRecursive, boolean isExternal) {}
 }
@@ -5,7 +5,9 @@
 
 package software.amazon.smithy.java.codegen.generators;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 import software.amazon.smithy.codegen.core.directed.CustomizeDirective;
@@ -22,6 +24,8 @@ import software.amazon.smithy.utils.SmithyInternalApi;
 public final class SchemaIndexGenerator
         implements Consumer<CustomizeDirective<CodeGenerationContext, JavaCodegenSettings>> {
 
+    private static final int BUCKET_SIZE = 1000;
+
     @Override
     public void accept(CustomizeDirective<CodeGenerationContext, JavaCodegenSettings> directive) {
         var className = "GeneratedSchemaIndex";
@@ -48,12 +52,18 @@ public final class SchemaIndexGenerator
             String className,
             CustomizeDirective<CodeGenerationContext, JavaCodegenSettings> directive
     ) {
-
-        writer.putContext("schemaIndex", SchemaIndex.class);
-        writer.putContext("schema", Schema.class);
-        writer.putContext("shapeId", ShapeId.class);
-        writer.putContext("map", Map.class);
-        writer.putContext("hashMap", HashMap.class);
+        // Schemas are looked up with string switches rather than a map filled in a static initializer, so a lookup
+        // only initializes the Schemas class holding the requested schema. Large models are split into buckets by
+        // hash to keep each switch method well under the JVM's method size limit.
+        var schemas = collectSchemas(directive);
+        int bucketCount = Math.max(1, (schemas.size() + BUCKET_SIZE - 1) / BUCKET_SIZE);
+        List<Map<String, String>> buckets = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new LinkedHashMap<>());
+        }
+        for (var entry : schemas.entrySet()) {
+            buckets.get(Math.floorMod(entry.getKey().hashCode(), bucketCount)).put(entry.getKey(), entry.getValue());
+        }
 
         var template = """
                 /**
@@ -61,16 +71,11 @@ public final class SchemaIndexGenerator
                  */
                 public final class ${className:L} extends ${schemaIndex:T} {
 
-                    private static final ${map:T}<${shapeId:T}, ${schema:T}> SCHEMA_MAP = new ${hashMap:T}<>();
-
-                    static {
-                        ${schemaInitializers:C|}
-                    }
-
                     @Override
                     public ${schema:T} getSchema(${shapeId:T} id) {
-                        return SCHEMA_MAP.get(id);
+                        ${lookup:C|}
                     }
+                    ${buckets:C|}
                 }
                 """;
 
@@ -79,34 +84,55 @@ public final class SchemaIndexGenerator
         writer.putContext("schemaIndex", SchemaIndex.class);
         writer.putContext("schema", Schema.class);
         writer.putContext("shapeId", ShapeId.class);
-        writer.putContext("schemaInitializers", new SchemaInitializersGenerator(writer, directive));
+        writer.putContext("lookup", (Runnable) () -> {
+            if (bucketCount == 1) {
+                writeSwitch(writer, "id.toString()", buckets.get(0));
+            } else {
+                writer.write("var name = id.toString();");
+                writer.openBlock("return switch (Math.floorMod(name.hashCode(), $L)) {", "};", bucketCount, () -> {
+                    for (int i = 0; i < bucketCount; i++) {
+                        writer.write("case $1L -> bucket$1L(name);", i);
+                    }
+                    writer.write("default -> null;");
+                });
+            }
+        });
+        writer.putContext("buckets", (Runnable) () -> {
+            if (bucketCount > 1) {
+                for (int i = 0; i < bucketCount; i++) {
+                    writer.write("");
+                    var bucket = buckets.get(i);
+                    writer.openBlock("private static $T bucket$L(String name) {", "}", Schema.class, i, () -> {
+                        writeSwitch(writer, "name", bucket);
+                    });
+                }
+            }
+        });
         writer.write(template);
         writer.popState();
     }
 
-    private record SchemaInitializersGenerator(
-            JavaWriter writer,
-            CustomizeDirective<CodeGenerationContext, JavaCodegenSettings> directive)
-            implements Runnable {
-
-        @Override
-        public void run() {
-            var order = directive.context().schemaFieldOrder();
-
-            for (var shapeOrder : order.partitions()) {
-                for (var schemaField : shapeOrder) {
-                    if (schemaField.isExternal()) {
-                        continue;
-                    }
-
-                    var schemaReference = schemaField.className() + "." + schemaField.fieldName();
+    private static void writeSwitch(JavaWriter writer, String selector, Map<String, String> schemas) {
+        writer.openBlock("return switch ($L) {", "};", selector, () -> {
+            for (var entry : schemas.entrySet()) {
+                writer.write("case $S -> $L;", entry.getKey(), entry.getValue());
+            }
+            writer.write("default -> null;");
+        });
+    }
 
-                    writer.pushState();
-                    writer.putContext("schemaReference", schemaReference);
-                    writer.write("SCHEMA_MAP.put(${schemaReference:L}.id(), ${schemaReference:L});");
-                    writer.popState();
+    private static Map<String, String> collectSchemas(
+            CustomizeDirective<CodeGenerationContext, JavaCodegenSettings> directive
+    ) {
+        Map<String, String> schemas = new LinkedHashMap<>();
+        for (var shapeOrder : directive.context().schemaFieldOrder().partitions()) {
+            for (var schemaField : shapeOrder) {
+                if (!schemaField.isExternal()) {
+                    schemas.put(CodegenUtils.getOriginalId(schemaField.shape()).toString(),
+                            schemaField.className() + "." + schemaField.fieldName());
                 }
             }
         }
+        return schemas;
     }
 }
@@ -84,6 +84,77 @@ public class SchemasTest {
         verifySchemaReference("Op001Input", "Schemas");
         verifySchemaReference("Op060Input", "Schemas1");
         verifySchemaReference("Op104Output", "Schemas2");
+
+        //Verify the index refers to each partition lazily instead of filling a map up front
+        assertThat(getFileString("GeneratedSchemaIndex.java"))
+                .doesNotContain("static {")
+                .contains("case \"s.j#Op001Input\" -> Schemas.%s;".formatted(
+                        CodegenUtils.toUpperSnakeCase("Op001Input")))
+                .contains("case \"s.j#Op104Output\" -> Schemas2.%s;".formatted(
+                        CodegenUtils.toUpperSnakeCase("Op104Output")));
+    }
+
+    @Test
+    void partitionsOnlyReferToEarlierPartitions() {
+        int totalOperations = TestJavaCodegen.SCHEMA_PARTITION_THRESHOLD + 12;
+        var smithyDefinition = new StringBuilder("""
+                $version: "2"
+                namespace s.j
+                structure Tree {
+                    children: TreeList
+                    leaf: Leaf
+                }
+                list TreeList {
+                    member: Tree
+                }
+                structure Leaf {
+                    value: String
+                }
+                """);
+        var serviceDefintion = new StringBuilder("""
+                service TestService {
+                    operations: [
+                """);
+        for (int i = 1; i <= totalOperations; i++) {
+            String operationName = "Op%03d".formatted(i);
+            serviceDefintion.append(operationName).append(",");
+            smithyDefinition.append("""
+                    operation %s {
+                        input: %sInput,
+                        output: %sOutput,
+                    }
+                    structure %sInput {
+                        tree: Tree
+                    }
+                    structure %sOutput {
+                        leaf: Leaf
+                    }
+                    """.formatted(operationName, operationName, operationName, operationName, operationName));
+        }
+        smithyDefinition.append(serviceDefintion.append("]}"));
+        var model = Model.assembler()
+                .addUnparsedModel("test.smithy", smithyDefinition.toString())
+                .disableValidation()
+                .assemble()
+                .unwrap();
+        var context = PluginContext.builder()
+                .fileManifest(manifest)
+                .settings(settings())
+                .model(model)
+                .build();
+        new TestJavaCodegenPlugin().execute(context);
+
+        // Initializing a partition that refers to a later one could observe that partition half-initialized.
+        var reference = Pattern.compile("\\bSchemas(\\d*)\\.");
+        for (int i = 0; i < 3; i++) {
+            var file = i == 0 ? "Schemas.java" : "Schemas" + i + ".java";
+            var content = getFileString(file);
+            var matcher = reference.matcher(content);
+            while (matcher.find()) {
+                int referenced = matcher.group(1).isEmpty() ? 0 : Integer.parseInt(matcher.group(1));
+                assertThat(referenced).as("%s refers to %s", file, matcher.group()).isLessThanOrEqualTo(i);
+            }
+        }
     }
 
     private void verifySchemaReference(String structureName, String expectedSchema) {
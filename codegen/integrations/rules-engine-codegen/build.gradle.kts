@@ -0,0 +1,14 @@
+plugins {
+    id("smithy-java.module-conventions")
+}
+
+description = "This module provides the Smithy Java codegen integration that precompiles endpoint rules bytecode"
+
+extra["displayName"] = "Smithy :: Java :: Codegen :: Endpoint Rules"
+extra["moduleName"] = "software.amazon.smithy.java.codegen.rulesengine"
+
+dependencies {
+    implementation(project(":client:client-rulesengine"))
+    implementation(project(":codegen:plugins:client-codegen"))
+    implementation(project(":logging"))
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.codegen.client.rulesengine;
+
+import java.io.ByteArrayInputStream;
+import software.amazon.smithy.java.client.rulesengine.EndpointRulesPlugin;
+import software.amazon.smithy.java.client.rulesengine.RulesEngineBuilder;
+import software.amazon.smithy.java.codegen.CodeGenerationContext;
+import software.amazon.smithy.java.codegen.JavaCodegenIntegration;
+import software.amazon.smithy.java.logging.InternalLogger;
+import software.amazon.smithy.model.shapes.ServiceShape;
+import software.amazon.smithy.rulesengine.traits.EndpointBddTrait;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * Compiles the service's endpoint BDD into rules engine bytecode and writes it as a resource that
+ * {@link EndpointRulesPlugin} loads instead of compiling the rules at runtime.
+ */
+@SmithyInternalApi
+public final class EndpointBytecodeIntegration implements JavaCodegenIntegration {
+
+    private static final InternalLogger LOGGER = InternalLogger.getLogger(EndpointBytecodeIntegration.class);
+
+    @Override
+    public String name() {
+        return "endpoint-bytecode";
+    }
+
+    @Override
+    public void customize(CodeGenerationContext context) {
+        var service = context.model().expectShape(context.settings().service(), ServiceShape.class);
+        var bddTrait = service.getTrait(EndpointBddTrait.class).orElse(null);
+        if (bddTrait == null) {
+            return;
+        }
+
+        byte[] bytes;
+        try {
+            bytes = new RulesEngineBuilder().compile(bddTrait).serialize();
+        } catch (RuntimeException e) {
+            // The rules are still compiled at runtime, so a missing extension here only costs startup time.
+            LOGGER.warn("Unable to precompile endpoint rules for {}: {}", service.getId(), e.getMessage());
+            return;
+        }
+
+        var resourceName = EndpointRulesPlugin.bytecodeResourceName(service.getId());
+        context.fileManifest().writeFile(resourceName, new ByteArrayInputStream(bytes));
+    }
+}
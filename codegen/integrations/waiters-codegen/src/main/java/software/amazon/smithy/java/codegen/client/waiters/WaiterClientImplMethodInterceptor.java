@@ -24,9 +24,12 @@ record WaiterClientImplMethodInterceptor(SymbolProvider symbolProvider, JavaCode
         writer.pushState();
         writer.putContext("container", WaiterCodegenUtils.getWaiterSymbol(clientSymbol, settings));
         writer.write("""
+                // Created once so that waiters obtained from separate calls share their in-flight polls.
+                private final ${container:T} waiter = new ${container:T}(this);
+
                 @Override
                 public ${container:T} waiter() {
-                    return new ${container:T}(this);
+                    return waiter;
                 }
                 """);
         writer.popState();
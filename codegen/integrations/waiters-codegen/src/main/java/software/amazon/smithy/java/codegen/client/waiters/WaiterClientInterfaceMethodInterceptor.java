@@ -25,9 +25,9 @@ record WaiterClientInterfaceMethodInterceptor(SymbolProvider symbolProvider, Jav
         writer.putContext("container", WaiterCodegenUtils.getWaiterSymbol(clientSymbol, settings));
         writer.write("""
                 /**
-                 * Create a new {@link CoffeeShopWaiter} instance that uses this client for polling.
+                 * Get the waiters that use this client for polling.
                  *
-                 * @return new {@link ${container:T}} instance.
+                 * @return the {@link ${container:T}} of this client.
                  */
                 ${container:T} waiter();
                 """);
@@ -12,6 +12,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
 import software.amazon.smithy.codegen.core.SymbolProvider;
+import software.amazon.smithy.java.client.waiters.InFlightPolls;
 import software.amazon.smithy.java.client.waiters.Waiter;
 import software.amazon.smithy.java.client.waiters.backoff.BackoffStrategy;
 import software.amazon.smithy.java.client.waiters.jmespath.Comparator;
@@ -50,11 +51,24 @@ final class WaiterContainerGenerator implements Consumer<CodeGenerationContext>
             var template = """
                     /**
                      * Waiters for the {@link ${clientType:T}} client.
+                     *
+                     * <p>Each waiter method returns a new waiter, and waiters that poll the same operation share their
+                     * in-flight polls.
                      */
                     @${smithyGenerated:T}
-                    public record ${type:T}(${clientType:T} client) {
-                        public ${type:T} {
-                            ${objects:T}.requireNonNull(client, "client cannot be null");
+                    public final class ${type:T} {
+                        private final ${clientType:T} client;
+                        ${polls:C|}
+
+                        public ${type:T}(${clientType:T} client) {
+                            this.client = ${objects:T}.requireNonNull(client, "client cannot be null");
+                        }
+
+                        /**
+                         * @return the client used for polling.
+                         */
+                        public ${clientType:T} client() {
+                            return client;
                         }
 
                         ${waiters:C|}
@@ -66,6 +80,12 @@ final class WaiterContainerGenerator implements Consumer<CodeGenerationContext>
             var clientSymbol = context.symbolProvider().toSymbol(serviceShape);
             writer.putContext("clientType", clientSymbol);
             var waitableOperations = context.model().getShapesWithTrait(WaitableTrait.class);
+            writer.putContext("polls",
+                    new PollsGenerator(writer,
+                            context.symbolProvider(),
+                            context.model(),
+                            waitableOperations,
+                            serviceShape));
             writer.putContext("waiters",
                     new WaiterGenerator(writer,
                             context.symbolProvider(),
@@ -76,6 +96,31 @@ final class WaiterContainerGenerator implements Consumer<CodeGenerationContext>
         });
     }
 
+    private record PollsGenerator(
+            JavaWriter writer,
+            SymbolProvider symbolProvider,
+            Model model,
+            Set<Shape> waitableOperations,
+            ServiceShape service) implements Runnable {
+
+        @Override
+        public void run() {
+            writer.pushState();
+            OperationIndex index = OperationIndex.of(model);
+            writer.putContext("polls", InFlightPolls.class);
+            for (var operation : waitableOperations) {
+                writer.pushState();
+                writer.putContext("input", symbolProvider.toSymbol(index.expectInputShape(operation)));
+                writer.putContext("output", symbolProvider.toSymbol(index.expectOutputShape(operation)));
+                writer.putContext("opName", StringUtils.uncapitalize(CodegenUtils.getDefaultName(operation, service)));
+                writer.write(
+                        "private final ${polls:T}<${input:T}, ${output:T}> ${opName:L}Polls = new ${polls:T}<>();");
+                writer.popState();
+            }
+            writer.popState();
+        }
+    }
+
     private record WaiterGenerator(
             JavaWriter writer,
             SymbolProvider symbolProvider,
@@ -113,6 +158,7 @@ final class WaiterContainerGenerator implements Consumer<CodeGenerationContext>
                                     ${?isDeprecated}@${deprecated:T}
                                     ${/isDeprecated}public ${waiterClass:T}<${input:T}, ${output:T}> ${waiterName:L}() {
                                         return ${waiterClass:T}.<${input:T}, ${output:T}>builder(client::${opName:L})
+                                            .inFlightPolls(${opName:L}Polls)
                                             .backoffStrategy(${backoff:T}.getDefault(${maxDelay:L}L, ${minDelay:L}L))${#acceptors}
                                             .${key:L}(${value:C|})${/acceptors}
                                             .build();
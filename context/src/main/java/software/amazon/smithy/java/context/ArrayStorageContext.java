@@ -16,15 +16,27 @@ final class ArrayStorageContext implements Context {
     // Stores values of the context with a size equal to the required keyspace + some padding, nulls in unused slots.
     private Object[] values;
 
+    // One past the highest slot that was ever written, so copies don't need to visit the padding.
+    private int limit;
+
+    // Set when values and keys are shared with a snapshot, and must be copied before the next write.
+    private boolean shared;
+
     // Stores keys that exceed Key.MAX_ARRAY_KEY_SPACE in case this context is copied to another context.
     // This should only happen if an ArrayStorageContext is created before Contexts transition from array to
     // map-based storage due to subsequent keyspace growth. The first Key.MAX_ARRAY_KEY_SPACE keys in the keyspace are
     // stored in Key so they don't need to be stored here.
-    private final Map<Integer, Key<?>> keys = new HashMap<>();
+    private Map<Integer, Key<?>> keys;
 
     ArrayStorageContext() {
         // Start with an empty array until the context is modified.
-        this.values = EMPTY;
+        this(EMPTY, 0, new HashMap<>());
+    }
+
+    private ArrayStorageContext(Object[] values, int limit, Map<Integer, Key<?>> keys) {
+        this.values = values;
+        this.limit = limit;
+        this.keys = keys;
     }
 
     @Override
@@ -42,8 +54,19 @@ final class ArrayStorageContext implements Context {
         var idx = key.id;
         if (idx >= values.length) {
             resize();
+        } else if (shared) {
+            values = values.clone();
+        }
+
+        if (shared) {
+            keys = new HashMap<>(keys);
+            shared = false;
         }
+
         this.values[idx] = value;
+        if (idx >= limit) {
+            limit = idx + 1;
+        }
 
         // Only store keys when the id of the key exceeds the array index keyspace. This is an edge case due to
         // a growing keyspace. We need these keys in case Context#copyTo is called.
@@ -58,14 +81,14 @@ final class ArrayStorageContext implements Context {
         // Pad to allow for new values to be added without needing a resize.
         int targetSize = Key.COUNTER.get() + PADDING;
         var newValues = new Object[targetSize];
-        System.arraycopy(values, 0, newValues, 0, values.length);
+        System.arraycopy(values, 0, newValues, 0, limit);
         this.values = newValues;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public void copyTo(Context target) {
-        for (var i = 0; i < values.length; i++) {
+        for (var i = 0; i < limit; i++) {
             var v = values[i];
             if (v != null) {
                 // Grab the key from the shared keyspace when possible.
@@ -74,4 +97,9 @@ final class ArrayStorageContext implements Context {
             }
         }
     }
+
+    Context snapshot() {
+        shared = true;
+        return new UnmodifiableContext(new ArrayStorageContext(values, limit, keys), true);
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.context;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A modifiable context that writes to its own storage and reads through to a parent that is never modified.
+ *
+ * <p>Setting a key to null hides the parent's value for that key.
+ */
+final class ChildContext implements Context {
+
+    private final Context parent;
+    private final Context local;
+
+    // Keys set to null in this context, which must not fall back to the parent. Null until a key is set to null.
+    private Set<Key<?>> removed;
+
+    // False for snapshots, which share mutable values instead of copying them on first access.
+    private final boolean copiesOnRead;
+
+    ChildContext(Context parent) {
+        this(parent, Context.create(), null, true);
+    }
+
+    private ChildContext(Context parent, Context local, Set<Key<?>> removed, boolean copiesOnRead) {
+        this.parent = parent;
+        this.local = local;
+        this.removed = removed;
+        this.copiesOnRead = copiesOnRead;
+    }
+
+    @Override
+    public <T> Context put(Key<T> key, T value) {
+        local.put(key, value);
+        if (value == null) {
+            if (removed == null) {
+                removed = new HashSet<>();
+            }
+            removed.add(key);
+        } else if (removed != null) {
+            removed.remove(key);
+        }
+        return this;
+    }
+
+    @Override
+    public <T> T get(Key<T> key) {
+        var result = local.get(key);
+        if (result == null && (removed == null || !removed.contains(key))) {
+            result = parent.get(key);
+            // Copy mutable values on first access so changes made through the child stay in the child.
+            if (result != null && copiesOnRead && key.copiesValues) {
+                result = key.copyValue(result);
+                local.put(key, result);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void copyTo(Context target) {
+        parent.copyTo(target);
+        if (removed != null) {
+            for (var key : removed) {
+                target.put(key, null);
+            }
+        }
+        local.copyTo(target);
+    }
+
+    Context snapshot() {
+        var frozenRemoved = removed == null || removed.isEmpty() ? null : Set.copyOf(removed);
+        var frozen = new ChildContext(Context.snapshot(parent), Context.snapshot(local), frozenRemoved, false);
+        return new UnmodifiableContext(frozen, true);
+    }
+}
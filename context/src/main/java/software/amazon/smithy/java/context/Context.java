@@ -12,7 +12,8 @@ import java.util.function.Function;
 /**
  * A typed context map.
  */
-public sealed interface Context permits ArrayStorageContext, MapStorageContext, UnmodifiableContext {
+public sealed interface Context permits ArrayStorageContext, ChildContext, MapStorageContext, OverlayContext,
+        UnmodifiableContext {
 
     /**
      * A {@code Key} provides an identity-based, immutable token.
@@ -39,6 +40,7 @@ public sealed interface Context permits ArrayStorageContext, MapStorageContext,
         private final String name;
         final int id;
         private final Function<T, T> copyFunction;
+        final boolean copiesValues;
 
         /**
          * @param name Name of the value.
@@ -47,6 +49,7 @@ public sealed interface Context permits ArrayStorageContext, MapStorageContext,
             this.name = Objects.requireNonNull(name);
             this.id = COUNTER.getAndIncrement();
             this.copyFunction = Objects.requireNonNull(copyFunction);
+            this.copiesValues = copyFunction != Function.identity();
         }
 
         @Override
@@ -235,6 +238,54 @@ public sealed interface Context permits ArrayStorageContext, MapStorageContext,
         return unmodifiableView(modifiableCopy(context));
     }
 
+    /**
+     * Create a modifiable context that layers its own values over a parent context without copying it.
+     *
+     * <p>Values written to the child are never visible to the parent. Values are read from the child first and
+     * then from the parent. Values of keys created with a copy function are copied into the child the first time
+     * they're read, so mutating them doesn't affect the parent. Setting a value to null in the child hides the
+     * parent's value. The parent should no longer be modified once the child is created.
+     *
+     * @param parent Context to read values from when the child doesn't have them.
+     * @return the created child context.
+     */
+    static Context child(Context parent) {
+        return new ChildContext(parent);
+    }
+
+    /**
+     * Get an unmodifiable snapshot of the current values of a context.
+     *
+     * <p>Unlike {@link #unmodifiableCopy}, no values are copied: the snapshot shares storage with the context, and
+     * the context copies its storage the next time it's modified. Mutable values themselves are shared too.
+     *
+     * @param context Context to snapshot.
+     * @return the unmodifiable snapshot.
+     */
+    static Context snapshot(Context context) {
+        return switch (context) {
+            case ArrayStorageContext c -> c.snapshot();
+            case MapStorageContext c -> c.snapshot();
+            case ChildContext c -> c.snapshot();
+            case UnmodifiableContext c -> c.snapshot();
+            case OverlayContext c -> c.snapshot();
+        };
+    }
+
+    /**
+     * Get an unmodifiable view that layers the values of one context over another.
+     *
+     * <p>Values are read from {@code overlay} first and then from {@code base}, and neither context is copied.
+     * Both contexts should no longer be modified once the view is created.
+     *
+     * @param base Context to read values from when the overlay doesn't have them.
+     * @param overlay Context with values that take precedence.
+     * @return an unmodifiable layered view.
+     */
+    static Context overlay(Context base, Context overlay) {
+        return new OverlayContext(base, overlay);
+    }
+
     /**
      * Get an unmodifiable view of the Context.
      *
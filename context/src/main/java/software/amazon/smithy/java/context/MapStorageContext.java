@@ -10,10 +10,25 @@ import java.util.Map;
 
 final class MapStorageContext implements Context {
 
-    private final Map<Key<?>, Object> attributes = new HashMap<>();
+    private Map<Key<?>, Object> attributes;
+
+    // Set when attributes are shared with a snapshot, and must be copied before the next write.
+    private boolean shared;
+
+    MapStorageContext() {
+        this(new HashMap<>());
+    }
+
+    private MapStorageContext(Map<Key<?>, Object> attributes) {
+        this.attributes = attributes;
+    }
 
     @Override
     public <T> Context put(Key<T> key, T value) {
+        if (shared) {
+            attributes = new HashMap<>(attributes);
+            shared = false;
+        }
         attributes.put(key, value);
         return this;
     }
@@ -32,4 +47,9 @@ final class MapStorageContext implements Context {
             target.put(key, key.copyValue(entry.getValue()));
         }
     }
+
+    Context snapshot() {
+        shared = true;
+        return new UnmodifiableContext(new MapStorageContext(attributes), true);
+    }
 }
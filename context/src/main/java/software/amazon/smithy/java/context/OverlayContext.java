@@ -0,0 +1,53 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.context;
+
+import java.util.function.Function;
+
+/**
+ * An unmodifiable view that reads values from an overlay before falling back to a base context.
+ */
+final class OverlayContext implements Context {
+
+    private final Context base;
+    private final Context overlay;
+
+    OverlayContext(Context base, Context overlay) {
+        this.base = base;
+        this.overlay = overlay;
+    }
+
+    @Override
+    public <T> Context put(Key<T> key, T value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> Context putIfAbsent(Key<T> key, T value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> T get(Key<T> key) {
+        var result = overlay.get(key);
+        return result != null ? result : base.get(key);
+    }
+
+    @Override
+    public <T> T computeIfAbsent(Key<T> key, Function<Key<T>, ? extends T> mappingFunction) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void copyTo(Context target) {
+        base.copyTo(target);
+        overlay.copyTo(target);
+    }
+
+    Context snapshot() {
+        return new OverlayContext(Context.snapshot(base), Context.snapshot(overlay));
+    }
+}
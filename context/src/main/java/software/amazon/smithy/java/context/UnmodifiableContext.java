@@ -9,12 +9,20 @@ import java.util.function.Function;
 
 final class UnmodifiableContext implements Context {
 
-    static final Context EMPTY = new UnmodifiableContext(new MapStorageContext());
+    static final Context EMPTY = new UnmodifiableContext(new MapStorageContext(), true);
 
     private final Context delegate;
 
+    // True when nothing else holds a reference to the delegate, so the delegate can never change.
+    private final boolean frozen;
+
     UnmodifiableContext(Context delegate) {
+        this(delegate, false);
+    }
+
+    UnmodifiableContext(Context delegate, boolean frozen) {
         this.delegate = delegate;
+        this.frozen = frozen;
     }
 
     @Override
@@ -41,4 +49,8 @@ final class UnmodifiableContext implements Context {
     public void copyTo(Context target) {
         delegate.copyTo(target);
     }
+
+    Context snapshot() {
+        return frozen ? this : Context.snapshot(delegate);
+    }
 }
@@ -266,4 +266,135 @@ public class ContextTest {
         // happy set also copied the original values from sad set when the copy was made.
         assertThat(copy.get(HAPPY_SET), containsInAnyOrder("a", "b"));
     }
+
+    @Test
+    public void overlayReadsOverlayFirst() {
+        var base = Context.create();
+        base.put(FOO, "base");
+        base.put(BAR, 1);
+        var overlay = Context.create();
+        overlay.put(FOO, "overlay");
+
+        var view = Context.overlay(base, overlay);
+
+        assertThat(view.get(FOO), equalTo("overlay"));
+        assertThat(view.get(BAR), is(1));
+        assertThrows(UnsupportedOperationException.class, () -> view.put(BAR, 2));
+
+        var copy = Context.create();
+        view.copyTo(copy);
+        assertThat(copy.get(FOO), equalTo("overlay"));
+        assertThat(copy.get(BAR), is(1));
+    }
+
+    @Test
+    public void childLayersWritesOverParent() {
+        var parent = Context.create();
+        parent.put(FOO, "parent");
+        parent.put(BAR, 1);
+
+        var child = Context.child(Context.unmodifiableView(parent));
+        child.put(FOO, "child");
+        child.put(BAZ, true);
+
+        assertThat(child.get(FOO), equalTo("child"));
+        assertThat(child.get(BAR), is(1));
+        assertThat(child.get(BAZ), equalTo(true));
+        assertThat(parent.get(FOO), equalTo("parent"));
+        assertThat(parent.get(BAZ), nullValue());
+
+        var copy = Context.create();
+        child.copyTo(copy);
+        assertThat(copy.get(FOO), equalTo("child"));
+        assertThat(copy.get(BAR), is(1));
+        assertThat(copy.get(BAZ), equalTo(true));
+    }
+
+    @Test
+    public void childCopiesMutableValuesWhenRead() {
+        var parent = Context.create();
+        parent.put(SAD_SET, new HashSet<>(Set.of("a")));
+        parent.put(HAPPY_SET, new HashSet<>(Set.of("a")));
+
+        var child = Context.child(parent);
+        child.get(SAD_SET).add("b");
+        child.get(HAPPY_SET).add("b");
+
+        assertThat(parent.get(SAD_SET), containsInAnyOrder("a", "b"));
+        assertThat(parent.get(HAPPY_SET), containsInAnyOrder("a"));
+        assertThat(child.get(HAPPY_SET), containsInAnyOrder("a", "b"));
+    }
+
+    @Test
+    public void snapshotsIgnoreLaterWrites() {
+        for (var context : List.of(new ArrayStorageContext(), new MapStorageContext())) {
+            context.put(FOO, "hi");
+
+            var snapshot = Context.snapshot(context);
+            context.put(FOO, "bye");
+            context.put(BAR, 1);
+
+            assertThat(snapshot.get(FOO), equalTo("hi"));
+            assertThat(snapshot.get(BAR), nullValue());
+            assertThat(context.get(FOO), equalTo("bye"));
+            assertThat(Context.snapshot(snapshot), sameInstance(snapshot));
+            assertThrows(UnsupportedOperationException.class, () -> snapshot.put(FOO, "nope"));
+        }
+    }
+
+    @Test
+    public void snapshotsChildContexts() {
+        var parent = Context.create();
+        parent.put(BAR, 1);
+        var child = Context.child(parent);
+        child.put(FOO, "hi");
+
+        var snapshot = Context.snapshot(child);
+        child.put(FOO, "bye");
+
+        assertThat(snapshot.get(FOO), equalTo("hi"));
+        assertThat(snapshot.get(BAR), is(1));
+        assertThat(Context.snapshot(Context.unmodifiableView(child)).get(FOO), equalTo("bye"));
+    }
+
+    @Test
+    public void childNullValuesHideParentValues() {
+        var parent = Context.create();
+        parent.put(FOO, "parent");
+        parent.put(BAR, 1);
+
+        var child = Context.child(parent);
+        child.put(FOO, null);
+
+        assertThat(child.get(FOO), nullValue());
+        assertThat(child.get(BAR), is(1));
+        assertThat(parent.get(FOO), equalTo("parent"));
+        assertThat(Context.snapshot(child).get(FOO), nullValue());
+
+        var copy = Context.create();
+        copy.put(FOO, "stale");
+        child.copyTo(copy);
+        assertThat(copy.get(FOO), nullValue());
+        assertThat(copy.get(BAR), is(1));
+
+        child.put(FOO, "child");
+        assertThat(child.get(FOO), equalTo("child"));
+    }
+
+    @Test
+    public void snapshotsOverlays() {
+        var base = Context.create();
+        base.put(BAR, 1);
+        var overlay = Context.create();
+        overlay.put(FOO, "hi");
+        var view = Context.overlay(base, overlay);
+
+        var snapshot = Context.snapshot(view);
+        base.put(BAR, 2);
+        overlay.put(FOO, "bye");
+
+        assertThat(snapshot.get(FOO), equalTo("hi"));
+        assertThat(snapshot.get(BAR), is(1));
+        assertThat(view.get(FOO), equalTo("bye"));
+    }
 }
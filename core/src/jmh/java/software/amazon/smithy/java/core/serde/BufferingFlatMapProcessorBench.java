@@ -0,0 +1,132 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.core.serde;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures events per second flowing from an upstream publisher, through the processor, to a subscriber.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(
+        iterations = 2,
+        time = 3)
+@Measurement(
+        iterations = 3,
+        time = 3)
+@BenchmarkMode(Mode.Throughput)
+@Fork(2)
+public class BufferingFlatMapProcessorBench {
+
+    private static final int UPSTREAM_ITEMS = 1024;
+    private static final int EVENTS_PER_ITEM = 8;
+
+    @Param({"1", "64", "9223372036854775807"})
+    private long batchSize;
+
+    @Benchmark
+    @OperationsPerInvocation(UPSTREAM_ITEMS * EVENTS_PER_ITEM)
+    public void events(Blackhole bh) {
+        var processor = new ExpandingProcessor(new CountingPublisher(UPSTREAM_ITEMS));
+        processor.subscribe(new BatchingSubscriber(bh, batchSize));
+    }
+
+    private static final class ExpandingProcessor extends BufferingFlatMapProcessor<Integer, Integer> {
+        ExpandingProcessor(Flow.Publisher<Integer> publisher) {
+            super(publisher);
+        }
+
+        @Override
+        protected void map(Integer item) {
+            for (int i = 0; i < EVENTS_PER_ITEM; i++) {
+                emit(item);
+            }
+        }
+    }
+
+    private static final class CountingPublisher implements Flow.Publisher<Integer> {
+        private final int count;
+
+        CountingPublisher(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Integer> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private int next;
+
+                @Override
+                public void request(long n) {
+                    for (long i = 0; i < n && next < count; i++) {
+                        subscriber.onNext(next++);
+                    }
+                    if (next == count) {
+                        next++;
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    next = count + 1;
+                }
+            });
+        }
+    }
+
+    private static final class BatchingSubscriber implements Flow.Subscriber<Integer> {
+        private final Blackhole bh;
+        private final long batchSize;
+        private Flow.Subscription subscription;
+        private long remaining;
+
+        BatchingSubscriber(Blackhole bh, long batchSize) {
+            this.bh = bh;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            remaining = batchSize;
+            subscription.request(batchSize);
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            bh.consume(item);
+            if (--remaining == 0) {
+                remaining = batchSize;
+                subscription.request(batchSize);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            bh.consume(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            bh.consume(true);
+        }
+    }
+}
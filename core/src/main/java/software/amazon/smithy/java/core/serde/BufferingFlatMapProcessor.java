@@ -5,20 +5,22 @@
 
 package software.amazon.smithy.java.core.serde;
 
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Flow;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Stream;
 import software.amazon.smithy.java.logging.InternalLogger;
 
 /**
  * A processor abstraction that maps inputs of type I from an upstream publisher to 0-n items of type O
- * that are buffered without limit and published to a subscriber. This prevents the subscriber from receiving
+ * that are buffered and published to a subscriber. This prevents the subscriber from receiving
  * more items than requested when one I maps to multiple Os.
  * <p>
+ * Buffered items are kept in a lock-free single-producer, single-consumer ring. At most one item is requested from
+ * upstream at a time, and only once downstream demand has drained the buffer, so the buffer only ever holds the
+ * outputs of a single upstream item.
+ * <p>
  * Note that this does not perform event publication on a different thread; both receipt of items and requests
  * for more items can trigger publication of items on the calling thread.
  *
@@ -30,11 +32,13 @@ public abstract class BufferingFlatMapProcessor<I, O> implements
         Flow.Subscription {
     private static final InternalLogger LOG = InternalLogger.getLogger(BufferingFlatMapProcessor.class);
     private static final Throwable COMPLETE_SENTINEL = new RuntimeException();
+    private static final int BUFFER_CAPACITY = 16;
 
     private final AtomicReference<Throwable> terminalEventHolder = new AtomicReference<>();
     private final AtomicLong pendingRequests = new AtomicLong();
     private final AtomicInteger pendingFlushes = new AtomicInteger();
-    private final BlockingQueue<O> queue = new LinkedBlockingQueue<>();
+    private final AtomicBoolean upstreamRequested = new AtomicBoolean();
+    private final SpscChunkedQueue<O> queue = new SpscChunkedQueue<>(BUFFER_CAPACITY);
 
     private volatile Flow.Subscription upstreamSubscription;
     private volatile Flow.Subscriber<? super O> downstream;
@@ -46,7 +50,21 @@ public abstract class BufferingFlatMapProcessor<I, O> implements
         publisher.subscribe(this);
     }
 
-    protected abstract Stream<O> map(I item);
+    /**
+     * Maps an item from upstream to zero or more outputs, passing each output to {@link #emit}.
+     *
+     * @param item Item to map.
+     */
+    protected abstract void map(I item);
+
+    /**
+     * Buffers an output produced by {@link #map} for delivery downstream.
+     *
+     * @param item Output to buffer.
+     */
+    protected final void emit(O item) {
+        queue.offer(item);
+    }
 
     @Override
     public final void onSubscribe(Flow.Subscription subscription) {
@@ -65,12 +83,14 @@ public abstract class BufferingFlatMapProcessor<I, O> implements
     @Override
     public final void onNext(I item) {
         try {
-            map(item).forEach(this::addToQueue);
+            map(item);
         } catch (Exception e) {
             LOG.warn("Malformed input", e);
             onError(new SerializationException("Malformed input", e));
             return;
         }
+        // The outputs are buffered, so upstream may be asked for another item once they drain.
+        upstreamRequested.set(false);
         flush();
     }
 
@@ -84,17 +104,13 @@ public abstract class BufferingFlatMapProcessor<I, O> implements
      */
     protected final void enqueueItem(I item) {
         try {
-            map(item).forEach(this::addToQueue);
+            map(item);
         } catch (RuntimeException e) {
             LOG.warn("Malformed input", e);
             throw e;
         }
     }
 
-    private void addToQueue(O item) {
-        queue.add(item);
-    }
-
     @Override
     public final void onError(Throwable t) {
         upstreamSubscription.cancel();
@@ -189,7 +205,9 @@ public abstract class BufferingFlatMapProcessor<I, O> implements
                 pending = accumulate(pending, -delivered);
             }
 
-            if (pending > 0) {
+            // Unfulfilled demand means the buffer is empty. Only keep one upstream request outstanding so that the
+            // buffer never holds more than the outputs of a single upstream item.
+            if (pending > 0 && upstreamRequested.compareAndSet(false, true)) {
                 // do this inside the flush loop so a recursive flush -> request -> onNext -> flush
                 // call will be aborted by the `pendingFlushes` check.
                 upstreamSubscription.request(1);
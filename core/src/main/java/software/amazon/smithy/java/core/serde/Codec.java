@@ -11,7 +11,10 @@ import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import software.amazon.smithy.java.core.schema.SerializableShape;
 import software.amazon.smithy.java.core.schema.ShapeBuilder;
+import software.amazon.smithy.java.core.serde.document.DiscriminatorException;
+import software.amazon.smithy.java.core.serde.document.Document;
 import software.amazon.smithy.java.io.ByteBufferOutputStream;
+import software.amazon.smithy.model.shapes.ShapeId;
 
 /**
  * Generic shape serialization and deserialization.
@@ -88,6 +91,26 @@ public interface Codec extends AutoCloseable {
      */
     ShapeDeserializer createDeserializer(ByteBuffer source);
 
+    /**
+     * Find the discriminator of the document contained in the source, if present.
+     *
+     * <p>By default, this reads the entire source into a {@link Document} and returns its
+     * {@link Document#discriminator()}. Codecs should override this method when the discriminator can be located
+     * without materializing the document, so that callers can find the shape to deserialize and then deserialize the
+     * source into it directly.
+     *
+     * <p>The position of the given buffer is not modified.
+     *
+     * @param source Source to inspect.
+     * @return the discriminator, or null if the source has no discriminator.
+     * @throws SerializationException if the source can't be parsed.
+     * @throws DiscriminatorException if the discriminator is invalid.
+     */
+    default ShapeId readDiscriminator(ByteBuffer source) {
+        var document = createDeserializer(source.duplicate()).readDocument();
+        return document == null ? null : document.discriminator();
+    }
+
     /**
      * Helper method to serialize a shape a string.
      *
@@ -0,0 +1,57 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.core.serde;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.smithy.java.core.serde.document.DiscriminatorException;
+import software.amazon.smithy.java.core.serde.document.DocumentDeserializer;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * Caches discriminators parsed by {@link Codec#readDiscriminator}, since the same few error types are seen over and
+ * over by a codec.
+ *
+ * <p>The cache is bounded so that a misbehaving service can't grow it without limit. Once full, new discriminators
+ * are parsed without being cached.
+ */
+@SmithyInternalApi
+public final class DiscriminatorCache {
+
+    private static final int MAX_CACHED_DISCRIMINATORS = 256;
+
+    private final String defaultNamespace;
+    private final Map<String, ShapeId> discriminators = new ConcurrentHashMap<>();
+
+    /**
+     * @param defaultNamespace Namespace used for discriminators that only provide a shape name, or null.
+     */
+    public DiscriminatorCache(String defaultNamespace) {
+        this.defaultNamespace = defaultNamespace;
+    }
+
+    /**
+     * Parse a discriminator into a shape ID.
+     *
+     * @param text Discriminator to parse.
+     * @return the parsed shape ID, or null if text is null.
+     * @throws DiscriminatorException if the discriminator is invalid.
+     */
+    public ShapeId parse(String text) {
+        if (text == null) {
+            return null;
+        }
+        var result = discriminators.get(text);
+        if (result == null) {
+            result = DocumentDeserializer.parseDiscriminator(text, defaultNamespace);
+            if (discriminators.size() < MAX_CACHED_DISCRIMINATORS) {
+                discriminators.put(text, result);
+            }
+        }
+        return result;
+    }
+}
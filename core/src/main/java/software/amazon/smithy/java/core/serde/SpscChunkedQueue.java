@@ -0,0 +1,91 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.core.serde;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free single-producer, single-consumer queue backed by a power-of-two ring buffer.
+ *
+ * <p>In steady state every item is stored in the same ring. If the producer finds the ring full, it links a new ring
+ * of the same size, writes the item there, and leaves a jump marker in the old ring so the consumer follows it once
+ * it catches up. The old ring then becomes garbage. This keeps offers non-blocking when one upstream item expands into
+ * more outputs than the ring holds, while callers bound the steady-state size by only requesting more input when the
+ * queue has drained.
+ *
+ * <p>{@link #offer} must only be called by one thread at a time, and {@link #poll} and {@link #isEmpty} by one
+ * (possibly different) thread at a time.
+ *
+ * @param <E> Element type.
+ */
+final class SpscChunkedQueue<E> {
+
+    private static final Object JUMP = new Object();
+
+    private final int mask;
+
+    // Producer state.
+    private AtomicReferenceArray<Object> producerBuffer;
+    private long producerIndex;
+
+    // Consumer state.
+    private AtomicReferenceArray<Object> consumerBuffer;
+    private long consumerIndex;
+
+    SpscChunkedQueue(int capacity) {
+        int size = Math.max(2, Integer.highestOneBit(Math.max(1, capacity - 1)) << 1);
+        this.mask = size - 1;
+        // The extra slot at the end holds the link to the next ring.
+        this.producerBuffer = new AtomicReferenceArray<>(size + 1);
+        this.consumerBuffer = producerBuffer;
+    }
+
+    void offer(E element) {
+        var buffer = producerBuffer;
+        long index = producerIndex;
+        int offset = (int) index & mask;
+        // Slots are freed in order, so a free look-ahead slot means the current slot is free too. Keeping one slot
+        // in reserve guarantees there is always room to write a jump marker.
+        if (buffer.get((int) (index + 1) & mask) == null) {
+            buffer.lazySet(offset, element);
+        } else {
+            var next = new AtomicReferenceArray<>(mask + 2);
+            next.lazySet(offset, element);
+            buffer.lazySet(mask + 1, next);
+            buffer.lazySet(offset, JUMP);
+            producerBuffer = next;
+        }
+        producerIndex = index + 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    E poll() {
+        var buffer = consumerBuffer;
+        int offset = (int) consumerIndex & mask;
+        Object element = buffer.get(offset);
+        if (element == null) {
+            return null;
+        }
+        if (element == JUMP) {
+            buffer = nextBuffer(buffer);
+            element = buffer.get(offset);
+        }
+        buffer.lazySet(offset, null);
+        consumerIndex++;
+        return (E) element;
+    }
+
+    boolean isEmpty() {
+        return consumerBuffer.get((int) consumerIndex & mask) == null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private AtomicReferenceArray<Object> nextBuffer(AtomicReferenceArray<Object> buffer) {
+        var next = (AtomicReferenceArray<Object>) buffer.get(mask + 1);
+        consumerBuffer = next;
+        return next;
+    }
+}
@@ -5,7 +5,7 @@
 
 package software.amazon.smithy.java.core.serde;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Supplier;
 import software.amazon.smithy.java.core.schema.SerializableStruct;
@@ -13,6 +13,7 @@ import software.amazon.smithy.java.core.schema.ShapeBuilder;
 import software.amazon.smithy.java.core.serde.document.DiscriminatorException;
 import software.amazon.smithy.java.core.serde.document.Document;
 import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.ShapeIdSyntaxException;
 
 /**
  * Supports on-demand deserialization of types by providing a registry of shape IDs to shape builders.
@@ -44,6 +45,26 @@ public interface TypeRegistry {
      */
     boolean contains(ShapeId shapeId);
 
+    /**
+     * Find a registered shape ID by the name of a shape as it appears on the wire, like an error type.
+     *
+     * <p>The name is either an absolute shape ID like {@code com.foo#Bar} or a shape name like {@code Bar} that is
+     * relative to {@code defaultNamespace}.
+     *
+     * @param name Absolute shape ID or relative shape name to find.
+     * @param defaultNamespace Namespace of relative names, or null to only find absolute names.
+     * @return the registered shape ID, or null if the name is invalid or not registered.
+     */
+    default ShapeId findShapeId(String name, String defaultNamespace) {
+        ShapeId id;
+        try {
+            id = ShapeId.fromOptionalNamespace(defaultNamespace, name);
+        } catch (ShapeIdSyntaxException e) {
+            return null;
+        }
+        return contains(id) ? id : null;
+    }
+
     /**
      * Get an empty TypeRegistry.
      *
@@ -139,6 +160,9 @@ public interface TypeRegistry {
     /**
      * Compose multiple type registries together.
      *
+     * <p>Registries created by a {@link Builder} are flattened into a single registry, so composition is best done
+     * once and reused rather than repeated for each lookup.
+     *
      * <p>Note that any special logic a type registry may have added to {@link TypeRegistry#deserialize(Document)} or
      * {@link TypeRegistry#deserializeStrict(Document)} is not composed in the resulting registry. The default
      * implementation of these methods is used; however, this still allows for composing the logic used to match a
@@ -149,14 +173,17 @@ public interface TypeRegistry {
      * @return the composed type registry.
      */
     static TypeRegistry compose(TypeRegistry first, TypeRegistry second) {
-        if (first instanceof TypeRegistry.Builder.DefaultRegistry dt) {
-            if (dt.supplierMap.isEmpty()) {
+        if (first instanceof TypeRegistry.Builder.DefaultRegistry a) {
+            if (a.size() == 0) {
                 return second;
+            } else if (second instanceof TypeRegistry.Builder.DefaultRegistry b) {
+                // Flatten the two tables into one so that lookups remain a single probe.
+                return b.size() == 0 ? first : a.merge(b);
             }
         }
 
         if (second instanceof TypeRegistry.Builder.DefaultRegistry dt) {
-            if (dt.supplierMap.isEmpty()) {
+            if (dt.size() == 0) {
                 return first;
             }
         }
@@ -184,6 +211,12 @@ public interface TypeRegistry {
             public boolean contains(ShapeId shapeId) {
                 return first.contains(shapeId) || second.contains(shapeId);
             }
+
+            @Override
+            public ShapeId findShapeId(String name, String defaultNamespace) {
+                var result = first.findShapeId(name, defaultNamespace);
+                return result != null ? result : second.findShapeId(name, defaultNamespace);
+            }
         };
     }
 
@@ -225,7 +258,7 @@ public interface TypeRegistry {
             }
         }
 
-        private final Map<ShapeId, Entry<? extends SerializableStruct>> supplierMap = new HashMap<>();
+        private final Map<ShapeId, Entry<? extends SerializableStruct>> supplierMap = new LinkedHashMap<>();
 
         private Builder() {}
 
@@ -277,28 +310,145 @@ public interface TypeRegistry {
             return this;
         }
 
+        /**
+         * An immutable registry backed by flat open-addressing tables.
+         *
+         * <p>Shapes are found by ID with a single probe of {@code ids}. Shapes are also indexed by shape name in
+         * {@code names}, which holds one-based slots of {@code ids}, so that names read off the wire can be matched
+         * without being parsed into a ShapeId first.
+         */
         private static final class DefaultRegistry implements TypeRegistry {
-            private final Map<ShapeId, Entry<?>> supplierMap;
+            private final ShapeId[] ids;
+            private final Entry<?>[] entries;
+            private final int[] names;
+            private final int size;
 
             private DefaultRegistry(Map<ShapeId, Entry<? extends SerializableStruct>> supplierMap) {
-                this.supplierMap = Map.copyOf(supplierMap);
+                // Keep the tables at most half full so that probe sequences stay short.
+                int capacity = Integer.highestOneBit(Math.max(supplierMap.size(), 1) * 2 - 1) << 1;
+                this.ids = new ShapeId[capacity];
+                this.entries = new Entry<?>[capacity];
+                this.names = new int[capacity];
+                this.size = supplierMap.size();
+                int mask = capacity - 1;
+                for (var e : supplierMap.entrySet()) {
+                    int slot = mix(e.getKey().hashCode()) & mask;
+                    while (ids[slot] != null) {
+                        slot = (slot + 1) & mask;
+                    }
+                    ids[slot] = e.getKey();
+                    entries[slot] = e.getValue();
+                    int nameSlot = mix(e.getKey().getName().hashCode()) & mask;
+                    while (names[nameSlot] != 0) {
+                        nameSlot = (nameSlot + 1) & mask;
+                    }
+                    names[nameSlot] = slot + 1;
+                }
+            }
+
+            private static int mix(int hash) {
+                return hash ^ (hash >>> 16);
+            }
+
+            int size() {
+                return size;
+            }
+
+            // Entries of this registry take precedence over entries of the other registry.
+            DefaultRegistry merge(DefaultRegistry other) {
+                Map<ShapeId, Entry<? extends SerializableStruct>> merged = new LinkedHashMap<>();
+                other.copyInto(merged);
+                copyInto(merged);
+                return new DefaultRegistry(merged);
+            }
+
+            private void copyInto(Map<ShapeId, Entry<? extends SerializableStruct>> map) {
+                for (int i = 0; i < ids.length; i++) {
+                    if (ids[i] != null) {
+                        map.put(ids[i], entries[i]);
+                    }
+                }
+            }
+
+            private Entry<?> find(ShapeId shapeId) {
+                int mask = ids.length - 1;
+                for (int slot = mix(shapeId.hashCode()) & mask;; slot = (slot + 1) & mask) {
+                    var id = ids[slot];
+                    if (id == null) {
+                        return null;
+                    } else if (id == shapeId || id.equals(shapeId)) {
+                        return entries[slot];
+                    }
+                }
             }
 
             @Override
             public Class<? extends SerializableStruct> getShapeClass(ShapeId shapeId) {
-                var entry = supplierMap.get(shapeId);
+                var entry = find(shapeId);
                 return entry == null ? null : entry.type();
             }
 
             @Override
             public ShapeBuilder<?> createBuilder(ShapeId shapeId) {
-                var entry = supplierMap.get(shapeId);
+                var entry = find(shapeId);
                 return entry == null ? null : entry.builderSupplier().get();
             }
 
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T extends SerializableStruct> ShapeBuilder<T> createBuilder(ShapeId shapeId, Class<T> type) {
+                if (shapeId == null) {
+                    return null;
+                }
+
+                var entry = find(shapeId);
+                if (entry == null) {
+                    return null;
+                } else if (!type.isAssignableFrom(entry.type())) {
+                    throw new SerializationException(
+                            "Polymorphic shape " + shapeId + " is not compatible with " + type);
+                }
+
+                return (ShapeBuilder<T>) entry.builderSupplier().get();
+            }
+
             @Override
             public boolean contains(ShapeId shapeId) {
-                return supplierMap.containsKey(shapeId);
+                return find(shapeId) != null;
+            }
+
+            @Override
+            public ShapeId findShapeId(String name, String defaultNamespace) {
+                // Hash the name portion in place, computing the same value as String#hashCode of the substring.
+                int hashPos = name.indexOf('#');
+                int nameStart = hashPos + 1;
+                int nameLength = name.length() - nameStart;
+                int hash = 0;
+                for (int i = nameStart; i < name.length(); i++) {
+                    hash = 31 * hash + name.charAt(i);
+                }
+
+                int mask = names.length - 1;
+                for (int nameSlot = mix(hash) & mask;; nameSlot = (nameSlot + 1) & mask) {
+                    int slot = names[nameSlot];
+                    if (slot == 0) {
+                        return null;
+                    }
+                    var id = ids[slot - 1];
+                    var idName = id.getName();
+                    if (idName.length() == nameLength
+                            && name.regionMatches(nameStart, idName, 0, nameLength)
+                            && namespaceMatches(id.getNamespace(), name, hashPos, defaultNamespace)) {
+                        return id;
+                    }
+                }
+            }
+
+            private static boolean namespaceMatches(String namespace, String name, int hashPos, String fallback) {
+                if (hashPos < 0) {
+                    return namespace.equals(fallback);
+                }
+                return namespace.length() == hashPos && name.regionMatches(0, namespace, 0, hashPos);
             }
         }
     }
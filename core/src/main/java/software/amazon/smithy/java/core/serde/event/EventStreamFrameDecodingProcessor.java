@@ -7,7 +7,7 @@ package software.amazon.smithy.java.core.serde.event;
 
 import java.nio.ByteBuffer;
 import java.util.concurrent.Flow;
-import java.util.stream.Stream;
+import java.util.function.Consumer;
 import software.amazon.smithy.java.core.schema.SerializableStruct;
 import software.amazon.smithy.java.core.serde.BufferingFlatMapProcessor;
 
@@ -20,6 +20,7 @@ public final class EventStreamFrameDecodingProcessor<F extends Frame<?>>
         extends BufferingFlatMapProcessor<ByteBuffer, SerializableStruct> {
     private final FrameDecoder<F> frameDecoder;
     private final EventDecoder<F> eventDecoder;
+    private final Consumer<F> frameHandler = this::onFrame;
 
     EventStreamFrameDecodingProcessor(
             Flow.Publisher<ByteBuffer> publisher,
@@ -62,7 +63,11 @@ public final class EventStreamFrameDecodingProcessor<F extends Frame<?>>
     }
 
     @Override
-    protected Stream<SerializableStruct> map(ByteBuffer item) {
-        return frameDecoder.decode(item).stream().map(eventDecoder::decode);
+    protected void map(ByteBuffer item) {
+        frameDecoder.decode(item, frameHandler);
+    }
+
+    private void onFrame(F frame) {
+        emit(eventDecoder.decode(frame));
     }
 }
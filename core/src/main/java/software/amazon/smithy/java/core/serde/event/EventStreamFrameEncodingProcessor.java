@@ -7,7 +7,6 @@ package software.amazon.smithy.java.core.serde.event;
 
 import java.nio.ByteBuffer;
 import java.util.concurrent.Flow;
-import java.util.stream.Stream;
 import software.amazon.smithy.java.core.schema.SerializableStruct;
 import software.amazon.smithy.java.core.serde.BufferingFlatMapProcessor;
 import software.amazon.smithy.java.logging.InternalLogger;
@@ -53,8 +52,8 @@ public final class EventStreamFrameEncodingProcessor<F extends Frame<?>, T exten
     }
 
     @Override
-    protected Stream<ByteBuffer> map(T item) {
-        return Stream.of(encoder.encode(eventEncoder.encode(item)));
+    protected void map(T item) {
+        emit(encoder.encode(eventEncoder.encode(item)));
     }
 
     @Override
@@ -8,6 +8,7 @@ package software.amazon.smithy.java.core.serde.event;
 import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.concurrent.Flow;
+import java.util.function.Consumer;
 import software.amazon.smithy.java.core.schema.SerializableStruct;
 
 /**
@@ -22,6 +23,20 @@ public interface FrameDecoder<F extends Frame<?>> {
      */
     List<F> decode(ByteBuffer buffer);
 
+    /**
+     * Decode 0 or more frames from a buffer, passing each frame to the given consumer as it is decoded.
+     *
+     * <p>Decoders should override this method to avoid collecting frames into an intermediate list.
+     *
+     * @param buffer the buffer to attempt to read frames from
+     * @param consumer the consumer that receives each decoded frame
+     */
+    default void decode(ByteBuffer buffer, Consumer<? super F> consumer) {
+        for (var frame : decode(buffer)) {
+            consumer.accept(frame);
+        }
+    }
+
     /**
      * Called once after building the publisher to allow the decoder to do any one-time setup prior to start processing
      * events.
@@ -0,0 +1,141 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.core.serde;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import org.junit.jupiter.api.Test;
+
+public class BufferingFlatMapProcessorTest {
+
+    @Test
+    public void expandsItemsBeyondBufferCapacity() {
+        var upstream = new ListPublisher(List.of(1, 40, 2));
+        var processor = new RepeatProcessor(upstream);
+        var subscriber = new RecordingSubscriber();
+        processor.subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.items.size(), equalTo(43));
+        assertThat(subscriber.items.get(0), equalTo("1-0"));
+        assertThat(subscriber.items.get(40), equalTo("40-39"));
+        assertThat(subscriber.items.get(42), equalTo("2-1"));
+        assertThat(subscriber.completed, is(true));
+    }
+
+    @Test
+    public void onlyRequestsUpstreamWhenBufferDrains() {
+        var upstream = new ListPublisher(List.of(3, 3));
+        var processor = new RepeatProcessor(upstream);
+        var subscriber = new RecordingSubscriber();
+        processor.subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        subscriber.subscription.request(1);
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.items, contains("3-0", "3-1", "3-2"));
+        assertThat(upstream.requested, equalTo(1L));
+
+        subscriber.subscription.request(1);
+
+        assertThat(upstream.requested, equalTo(2L));
+        assertThat(subscriber.items.size(), equalTo(4));
+    }
+
+    @Test
+    public void propagatesMappingFailures() {
+        var upstream = new ListPublisher(List.of(-1));
+        var processor = new RepeatProcessor(upstream);
+        var subscriber = new RecordingSubscriber();
+        processor.subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.error, instanceOf(SerializationException.class));
+    }
+
+    private static final class RepeatProcessor extends BufferingFlatMapProcessor<Integer, String> {
+        RepeatProcessor(Flow.Publisher<Integer> publisher) {
+            super(publisher);
+        }
+
+        @Override
+        protected void map(Integer item) {
+            if (item < 0) {
+                throw new IllegalArgumentException("negative");
+            }
+            for (int i = 0; i < item; i++) {
+                emit(item + "-" + i);
+            }
+        }
+    }
+
+    private static final class ListPublisher implements Flow.Publisher<Integer> {
+        private final List<Integer> items;
+        private long requested;
+
+        ListPublisher(List<Integer> items) {
+            this.items = items;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Integer> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private int next;
+
+                @Override
+                public void request(long n) {
+                    requested += n;
+                    for (long i = 0; i < n && next < items.size(); i++) {
+                        subscriber.onNext(items.get(next++));
+                    }
+                    if (next == items.size()) {
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {}
+            });
+        }
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<String> {
+        private final List<String> items = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(String item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.core.serde;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.java.core.serde.document.DiscriminatorException;
+import software.amazon.smithy.model.shapes.ShapeId;
+
+public class DiscriminatorCacheTest {
+    @Test
+    public void parsesRelativeAndAbsoluteDiscriminators() {
+        var cache = new DiscriminatorCache("com.example");
+
+        assertNull(cache.parse(null));
+        assertEquals(ShapeId.from("com.example#Foo"), cache.parse("Foo"));
+        assertEquals(ShapeId.from("other#Bar"), cache.parse("other#Bar"));
+        assertSame(cache.parse("Foo"), cache.parse("Foo"));
+    }
+
+    @Test
+    public void keepsParsingOnceFull() {
+        var cache = new DiscriminatorCache("com.example");
+
+        for (var i = 0; i < 1000; i++) {
+            assertEquals(ShapeId.from("com.example#Foo" + i), cache.parse("Foo" + i));
+        }
+    }
+
+    @Test
+    public void rejectsRelativeDiscriminatorsWithoutNamespace() {
+        var cache = new DiscriminatorCache(null);
+
+        assertThrows(DiscriminatorException.class, () -> cache.parse("Foo"));
+    }
+}
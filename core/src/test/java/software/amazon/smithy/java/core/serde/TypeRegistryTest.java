@@ -93,4 +93,49 @@ public class TypeRegistryTest {
         assertThat(deserialized, instanceOf(Person.class));
         assertThat(((Person) deserialized).name(), equalTo("Pharkus"));
     }
+
+    @Test
+    public void composedRegistriesPreferFirstRegistry() {
+        var id = ShapeId.from("smithy.example#Person");
+        TypeRegistry a = TypeRegistry.builder().putType(id, Person.class, Person::builder).build();
+        TypeRegistry b = TypeRegistry.builder().putType(id, Bird.class, Bird::builder).build();
+
+        assertThat(TypeRegistry.compose(a, b).getShapeClass(id), equalTo(Person.class));
+        assertThat(TypeRegistry.compose(b, a).getShapeClass(id), equalTo(Bird.class));
+    }
+
+    @Test
+    public void findsShapeIdsByName() {
+        var person = ShapeId.from("smithy.example#Person");
+        var otherPerson = ShapeId.from("smithy.other#Person");
+        TypeRegistry registry = TypeRegistry.compose(
+                TypeRegistry.builder().putType(person, Person.class, Person::builder).build(),
+                TypeRegistry.builder().putType(otherPerson, Person.class, Person::builder).build());
+
+        assertThat(registry.findShapeId("smithy.example#Person", null), equalTo(person));
+        assertThat(registry.findShapeId("smithy.other#Person", "smithy.example"), equalTo(otherPerson));
+        assertThat(registry.findShapeId("Person", "smithy.example"), equalTo(person));
+        assertThat(registry.findShapeId("Person", "smithy.other"), equalTo(otherPerson));
+        assertThat(registry.findShapeId("Person", null), is(nullValue()));
+        assertThat(registry.findShapeId("Person", "smithy.foo"), is(nullValue()));
+        assertThat(registry.findShapeId("smithy.examples#Person", null), is(nullValue()));
+        assertThat(registry.findShapeId("smithy.example#Bird", null), is(nullValue()));
+        assertThat(registry.findShapeId("", null), is(nullValue()));
+    }
+
+    @Test
+    public void findsEveryShapeInLargeRegistries() {
+        var builder = TypeRegistry.builder();
+        for (int i = 0; i < 100; i++) {
+            builder.putType(ShapeId.from("smithy.example#Person" + i), Person.class, Person::builder);
+        }
+        TypeRegistry registry = builder.build();
+
+        for (int i = 0; i < 100; i++) {
+            var id = ShapeId.from("smithy.example#Person" + i);
+            assertThat(registry.contains(id), is(true));
+            assertThat(registry.findShapeId("Person" + i, "smithy.example"), equalTo(id));
+        }
+        assertThat(registry.contains(ShapeId.from("smithy.example#Person100")), is(false));
+    }
 }
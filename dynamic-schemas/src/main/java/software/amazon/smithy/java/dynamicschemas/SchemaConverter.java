@@ -5,7 +5,10 @@
 
 package software.amazon.smithy.java.dynamicschemas;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -30,6 +33,7 @@ public final class SchemaConverter {
     private final Model model;
     private final ConcurrentMap<Shape, Schema> schemas = new ConcurrentHashMap<>();
     private final Map<Shape, SchemaBuilder> recursiveBuilders = Collections.synchronizedMap(new HashMap<>());
+    private final Map<ShapeId, Boolean> recursive = new ConcurrentHashMap<>();
 
     /**
      * @param model Model used when converting shapes to schemas.
@@ -88,35 +92,94 @@ public final class SchemaConverter {
                 : createNonRecursiveSchema(shape);
     }
 
+    // A shape is treated as recursive if it can reach a cycle, whether or not it's part of that cycle.
     private boolean isRecursive(Shape shape) {
-        if (shape.getType().getCategory() == ShapeType.Category.SIMPLE) {
+        if (shape.getType().getCategory() != ShapeType.Category.AGGREGATE) {
             return false;
-        } else {
-            return isRecursive(new HashSet<>(), shape);
         }
+        var result = recursive.get(shape.getId());
+        if (result == null) {
+            result = findRecursiveShapes(shape);
+        }
+        return result;
     }
 
-    private boolean isRecursive(Set<ShapeId> visited, Shape shape) {
-        if (!visited.add(shape.getId())) {
-            return true;
+    private synchronized boolean findRecursiveShapes(Shape shape) {
+        var result = recursive.get(shape.getId());
+        if (result == null) {
+            new RecursionFinder().strongConnect(shape);
+            result = recursive.get(shape.getId());
         }
+        return result;
+    }
+
+    /**
+     * Finds the strongly connected components reachable from a shape with Tarjan's algorithm.
+     *
+     * <p>Components are completed after every component they can reach, so whether a component reaches a cycle is
+     * known once it completes. Shapes resolved by earlier searches aren't visited again, which makes every lookup
+     * linear in the number of newly reached shapes.
+     */
+    private final class RecursionFinder {
+        private final Map<ShapeId, Integer> index = new HashMap<>();
+        private final Map<ShapeId, Integer> lowLink = new HashMap<>();
+        private final Set<ShapeId> reachesCycle = new HashSet<>();
+        private final Set<ShapeId> onStack = new HashSet<>();
+        private final Deque<ShapeId> stack = new ArrayDeque<>();
 
-        var result = switch (shape.getType().getCategory()) {
-            case SIMPLE, SERVICE -> false;
-            case MEMBER -> isRecursive(visited, model.expectShape(shape.asMemberShape().orElseThrow().getTarget()));
-            case AGGREGATE -> {
-                for (var member : shape.members()) {
-                    if (isRecursive(visited, member)) {
-                        yield true;
-                    }
+        private void strongConnect(Shape shape) {
+            var id = shape.getId();
+            int shapeIndex = index.size();
+            index.put(id, shapeIndex);
+            lowLink.put(id, shapeIndex);
+            stack.push(id);
+            onStack.add(id);
+
+            boolean selfReference = false;
+            for (var member : shape.members()) {
+                var target = model.expectShape(member.getTarget());
+                var targetId = target.getId();
+                if (target.getType().getCategory() != ShapeType.Category.AGGREGATE) {
+                    continue;
+                } else if (targetId.equals(id)) {
+                    selfReference = true;
+                    continue;
+                }
+                var known = recursive.get(targetId);
+                if (known == null && !index.containsKey(targetId)) {
+                    strongConnect(target);
+                    lowLink.put(id, Math.min(lowLink.get(id), lowLink.get(targetId)));
+                    known = recursive.get(targetId);
+                } else if (known == null && onStack.contains(targetId)) {
+                    lowLink.put(id, Math.min(lowLink.get(id), index.get(targetId)));
+                }
+                if (known != null && known) {
+                    reachesCycle.add(id);
                 }
-                yield false;
             }
-        };
 
-        // "Pop" the current node off the "stack" -- other branches are still allowed to contain this shape.
-        visited.remove(shape.getId());
-        return result;
+            if (lowLink.get(id) == shapeIndex) {
+                // Pop the component, which is cyclic if it has more than one shape or references itself.
+                var component = new ArrayList<ShapeId>();
+                ShapeId member;
+                do {
+                    member = stack.pop();
+                    onStack.remove(member);
+                    component.add(member);
+                } while (!member.equals(id));
+
+                boolean result = selfReference || component.size() > 1;
+                for (int i = 0; !result && i < component.size(); i++) {
+                    result = reachesCycle.contains(component.get(i));
+                }
+                for (var componentMember : component) {
+                    recursive.put(componentMember, result);
+                }
+            } else if (selfReference) {
+                // The component isn't complete yet, but it's already known to be cyclic.
+                reachesCycle.add(id);
+            }
+        }
     }
 
     private Schema createNonRecursiveSchema(Shape shape) {
@@ -93,6 +93,19 @@ public class SchemaConverterTest {
                         structure RecursiveStructure {
                             foo: RecursiveStructure
                         }
+
+                        structure MutuallyRecursiveA {
+                            b: MutuallyRecursiveB
+                        }
+
+                        structure MutuallyRecursiveB {
+                            a: MutuallyRecursiveA
+                            list: RecursiveList
+                        }
+
+                        structure ReferencesRecursive {
+                            a: MutuallyRecursiveA
+                        }
                         """)
                 .assemble()
                 .unwrap();
@@ -166,7 +179,10 @@ public class SchemaConverterTest {
         return List.of(
                 Arguments.of("RecursiveList"),
                 Arguments.of("RecursiveMap"),
-                Arguments.of("RecursiveStructure"));
+                Arguments.of("RecursiveStructure"),
+                Arguments.of("MutuallyRecursiveA"),
+                Arguments.of("MutuallyRecursiveB"),
+                Arguments.of("ReferencesRecursive"));
     }
 
     @MethodSource("detectsNonRecursiveSchemasSource")
@@ -0,0 +1,263 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.http.api;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Modifiable headers stored in parallel arrays of normalized names and value lists.
+ *
+ * <p>Messages rarely carry more than a couple dozen headers, so a linear scan over a flat array beats hashing, and
+ * names normalized through {@link HeaderNames#normalize} usually match by identity. Like the messages that own them,
+ * these headers are not thread-safe.
+ */
+final class ArrayHttpHeaders implements ModifiableHttpHeaders {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private String[] names;
+    private List<String>[] values;
+    private int size;
+
+    ArrayHttpHeaders() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    @SuppressWarnings("unchecked")
+    ArrayHttpHeaders(int capacity) {
+        capacity = Math.max(1, capacity);
+        this.names = new String[capacity];
+        this.values = (List<String>[]) new List[capacity];
+    }
+
+    /**
+     * Copy the given headers, including their value lists.
+     *
+     * @param headers Headers to copy.
+     * @return the copied headers.
+     */
+    static ArrayHttpHeaders copyOf(HttpHeaders headers) {
+        var result = new ArrayHttpHeaders(headers.size());
+        for (var entry : headers) {
+            result.addHeader(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        valuesForAdd(name, 1).add(value);
+    }
+
+    @Override
+    public void addHeader(String name, List<String> values) {
+        var list = valuesForAdd(name, values.size());
+        for (var element : values) {
+            list.add(element);
+        }
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        valuesForSet(name, 1).add(value);
+    }
+
+    @Override
+    public void setHeader(String name, List<String> values) {
+        var list = valuesForSet(name, values.size());
+        // believe it or not, this is more efficient than the bulk constructor
+        // https://bugs.openjdk.org/browse/JDK-8368292
+        for (var element : values) {
+            list.add(element);
+        }
+    }
+
+    @Override
+    public void removeHeader(String name) {
+        int index = indexOf(HeaderNames.normalize(name));
+        if (index >= 0) {
+            int moved = size - index - 1;
+            if (moved > 0) {
+                System.arraycopy(names, index + 1, names, index, moved);
+                System.arraycopy(values, index + 1, values, index, moved);
+            }
+            size--;
+            names[size] = null;
+            values[size] = null;
+        }
+    }
+
+    @Override
+    public List<String> allValues(String name) {
+        int index = indexOf(HeaderNames.normalize(name));
+        return index < 0 ? Collections.emptyList() : values[index];
+    }
+
+    @Override
+    public String firstValue(String name) {
+        int index = indexOf(HeaderNames.normalize(name));
+        if (index < 0) {
+            return null;
+        }
+        var list = values[index];
+        return list.isEmpty() ? null : list.get(0);
+    }
+
+    @Override
+    public boolean hasHeader(String name) {
+        int index = indexOf(HeaderNames.normalize(name));
+        return index >= 0 && !values[index].isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, List<String>>> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Map.Entry<String, List<String>> next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                var entry = new AbstractMap.SimpleImmutableEntry<>(names[next], values[next]);
+                next++;
+                return entry;
+            }
+        };
+    }
+
+    @Override
+    public Map<String, List<String>> map() {
+        // An unmodifiable view over the arrays rather than a copy.
+        return new AbstractMap<>() {
+            @Override
+            public Set<Entry<String, List<String>>> entrySet() {
+                return new AbstractSet<>() {
+                    @Override
+                    public Iterator<Entry<String, List<String>>> iterator() {
+                        return ArrayHttpHeaders.this.iterator();
+                    }
+
+                    @Override
+                    public int size() {
+                        return size;
+                    }
+                };
+            }
+
+            @Override
+            public List<String> get(Object key) {
+                if (!(key instanceof String name)) {
+                    return null;
+                }
+                int index = indexOf(HeaderNames.normalize(name));
+                return index < 0 ? null : values[index];
+            }
+
+            @Override
+            public boolean containsKey(Object key) {
+                return get(key) != null;
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int indexOf(String normalizedName) {
+        var n = names;
+        for (int i = 0; i < size; i++) {
+            if (n[i] == normalizedName) {
+                return i;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (n[i].equals(normalizedName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private List<String> valuesForAdd(String name, int expected) {
+        var normalized = HeaderNames.normalize(name);
+        int index = indexOf(normalized);
+        if (index >= 0) {
+            return values[index];
+        }
+        var list = new ArrayList<String>(Math.max(1, expected));
+        append(normalized, list);
+        return list;
+    }
+
+    private List<String> valuesForSet(String name, int expected) {
+        var normalized = HeaderNames.normalize(name);
+        int index = indexOf(normalized);
+        if (index >= 0) {
+            var list = values[index];
+            list.clear();
+            return list;
+        }
+        var list = new ArrayList<String>(Math.max(1, expected));
+        append(normalized, list);
+        return list;
+    }
+
+    private void append(String normalizedName, List<String> list) {
+        if (size == names.length) {
+            int capacity = names.length << 1;
+            names = Arrays.copyOf(names, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        names[size] = normalizedName;
+        values[size] = list;
+        size++;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        return o instanceof HttpHeaders other && map().equals(other.map());
+    }
+
+    @Override
+    public int hashCode() {
+        return map().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "ArrayHttpHeaders{" + map() + '}';
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.http.api;
+
+import java.util.Locale;
+
+/**
+ * Lower-cased names of well-known HTTP headers, and normalization of header names.
+ *
+ * <p>{@link #normalize} maps any casing of a well-known header to the constant defined here without allocating,
+ * which lets header implementations compare names by identity before falling back to {@code equals}.
+ */
+public final class HeaderNames {
+
+    public static final String ACCEPT = "accept";
+    public static final String AUTHORIZATION = "authorization";
+    public static final String CONNECTION = "connection";
+    public static final String CONTENT_ENCODING = "content-encoding";
+    public static final String CONTENT_LENGTH = "content-length";
+    public static final String CONTENT_MD5 = "content-md5";
+    public static final String CONTENT_TYPE = "content-type";
+    public static final String DATE = "date";
+    public static final String ETAG = "etag";
+    public static final String EXPECT = "expect";
+    public static final String HOST = "host";
+    public static final String LOCATION = "location";
+    public static final String TRANSFER_ENCODING = "transfer-encoding";
+    public static final String USER_AGENT = "user-agent";
+    public static final String SMITHY_PROTOCOL = "smithy-protocol";
+    public static final String AMZ_SDK_INVOCATION_ID = "amz-sdk-invocation-id";
+    public static final String AMZ_SDK_REQUEST = "amz-sdk-request";
+    public static final String X_AMZ_CONTENT_SHA256 = "x-amz-content-sha256";
+    public static final String X_AMZ_DATE = "x-amz-date";
+    public static final String X_AMZ_ID_2 = "x-amz-id-2";
+    public static final String X_AMZ_REQUEST_ID = "x-amz-request-id";
+    public static final String X_AMZ_SECURITY_TOKEN = "x-amz-security-token";
+    public static final String X_AMZ_TARGET = "x-amz-target";
+    public static final String X_AMZ_USER_AGENT = "x-amz-user-agent";
+    public static final String X_AMZN_ERROR_TYPE = "x-amzn-errortype";
+    public static final String X_AMZN_QUERY_MODE = "x-amzn-query-mode";
+    public static final String X_AMZN_REQUEST_ID = "x-amzn-requestid";
+    public static final String X_AMZN_TRACE_ID = "x-amzn-trace-id";
+
+    private static final String[] TABLE = new String[64];
+    private static final int MASK = TABLE.length - 1;
+
+    static {
+        for (var name : new String[] {
+                ACCEPT,
+                AUTHORIZATION,
+                CONNECTION,
+                CONTENT_ENCODING,
+                CONTENT_LENGTH,
+                CONTENT_MD5,
+                CONTENT_TYPE,
+                DATE,
+                ETAG,
+                EXPECT,
+                HOST,
+                LOCATION,
+                TRANSFER_ENCODING,
+                USER_AGENT,
+                SMITHY_PROTOCOL,
+                AMZ_SDK_INVOCATION_ID,
+                AMZ_SDK_REQUEST,
+                X_AMZ_CONTENT_SHA256,
+                X_AMZ_DATE,
+                X_AMZ_ID_2,
+                X_AMZ_REQUEST_ID,
+                X_AMZ_SECURITY_TOKEN,
+                X_AMZ_TARGET,
+                X_AMZ_USER_AGENT,
+                X_AMZN_ERROR_TYPE,
+                X_AMZN_QUERY_MODE,
+                X_AMZN_REQUEST_ID,
+                X_AMZN_TRACE_ID}) {
+            int i = slot(name.hashCode());
+            while (TABLE[i] != null) {
+                i = (i + 1) & MASK;
+            }
+            TABLE[i] = name;
+        }
+    }
+
+    private HeaderNames() {}
+
+    /**
+     * Normalizes a header name by trimming it and converting it to lower-case.
+     *
+     * <p>Well-known header names return the matching constant from this class, and names that are already
+     * normalized are returned as-is.
+     *
+     * @param name Header name to normalize.
+     * @return the normalized header name.
+     */
+    public static String normalize(String name) {
+        int length = name.length();
+        boolean lowerCase = true;
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            char c = name.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                c += 'a' - 'A';
+                lowerCase = false;
+            } else if (c <= ' ' || c >= 0x80) {
+                return normalizeSlow(name);
+            }
+            hash = 31 * hash + c;
+        }
+
+        // The hash matches the hash code of the lower-cased name, so it can probe for the well-known constant.
+        for (int i = slot(hash);; i = (i + 1) & MASK) {
+            var known = TABLE[i];
+            if (known == null) {
+                break;
+            } else if (known == name || (known.length() == length && known.regionMatches(true, 0, name, 0, length))) {
+                return known;
+            }
+        }
+
+        return lowerCase ? name : name.toLowerCase(Locale.ENGLISH);
+    }
+
+    private static String normalizeSlow(String name) {
+        var result = name.trim().toLowerCase(Locale.ENGLISH);
+        for (int i = slot(result.hashCode());; i = (i + 1) & MASK) {
+            var known = TABLE[i];
+            if (known == null) {
+                return result;
+            } else if (known.equals(result)) {
+                return known;
+            }
+        }
+    }
+
+    private static int slot(int hash) {
+        return (hash ^ (hash >>> 16)) & MASK;
+    }
+}
@@ -23,13 +23,23 @@ public interface HttpHeaders extends Iterable<Map.Entry<String, List<String>>> {
         return headers.isEmpty() ? SimpleUnmodifiableHttpHeaders.EMPTY : new SimpleUnmodifiableHttpHeaders(headers);
     }
 
+    /**
+     * Create an immutable HttpHeaders that wraps headers from {@link java.net.http.HttpClient} without copying them.
+     *
+     * @param headers Headers to wrap.
+     * @return the created headers.
+     */
+    static HttpHeaders of(java.net.http.HttpHeaders headers) {
+        return headers.map().isEmpty() ? SimpleUnmodifiableHttpHeaders.EMPTY : new JavaNetHttpHeaders(headers);
+    }
+
     /**
      * Creates a mutable headers.
      *
      * @return the created headers.
      */
     static ModifiableHttpHeaders ofModifiable() {
-        return new SimpleModifiableHttpHeaders();
+        return new ArrayHttpHeaders();
     }
 
     /**
@@ -67,7 +77,7 @@ public interface HttpHeaders extends Iterable<Map.Entry<String, List<String>>> {
      * @return the content-type header or null.
      */
     default String contentType() {
-        return firstValue("content-type");
+        return firstValue(HeaderNames.CONTENT_TYPE);
     }
 
     /**
@@ -76,7 +86,7 @@ public interface HttpHeaders extends Iterable<Map.Entry<String, List<String>>> {
      * @return the parsed content-length or null.
      */
     default Long contentLength() {
-        var value = firstValue("content-length");
+        var value = firstValue(HeaderNames.CONTENT_LENGTH);
         return value == null ? null : Long.parseLong(value);
     }
 
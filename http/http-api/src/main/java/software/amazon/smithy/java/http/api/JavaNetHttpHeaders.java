@@ -0,0 +1,95 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.http.api;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adapts {@link java.net.http.HttpHeaders} without copying them.
+ *
+ * <p>Lookups delegate to the JDK headers, which are already case-insensitive. The JDK preserves the casing that
+ * HTTP/1.1 peers send, so a map with normalized names is only built when the headers are iterated and some name is
+ * not already normalized.
+ */
+final class JavaNetHttpHeaders implements HttpHeaders {
+
+    private final java.net.http.HttpHeaders delegate;
+    private Map<String, List<String>> normalized;
+
+    JavaNetHttpHeaders(java.net.http.HttpHeaders delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public List<String> allValues(String name) {
+        return delegate.allValues(name);
+    }
+
+    @Override
+    public int size() {
+        return delegate.map().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.map().isEmpty();
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, List<String>>> iterator() {
+        return map().entrySet().iterator();
+    }
+
+    @Override
+    public Map<String, List<String>> map() {
+        var result = normalized;
+        if (result == null) {
+            result = normalize(delegate.map());
+            normalized = result;
+        }
+        return result;
+    }
+
+    private static Map<String, List<String>> normalize(Map<String, List<String>> headers) {
+        for (var name : headers.keySet()) {
+            if (!HeaderNames.normalize(name).equals(name)) {
+                var result = new LinkedHashMap<String, List<String>>(headers.size() + (headers.size() >> 1));
+                for (var entry : headers.entrySet()) {
+                    result.put(HeaderNames.normalize(entry.getKey()), entry.getValue());
+                }
+                return Collections.unmodifiableMap(result);
+            }
+        }
+        return headers;
+    }
+
+    @Override
+    public ModifiableHttpHeaders toModifiable() {
+        return ArrayHttpHeaders.copyOf(this);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        return obj instanceof HttpHeaders other && map().equals(other.map());
+    }
+
+    @Override
+    public int hashCode() {
+        return map().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "JavaNetHttpHeaders{" + delegate.map() + '}';
+    }
+}
@@ -14,7 +14,7 @@ final class ModifiableHttpRequestImpl implements ModifiableHttpRequest {
     private URI uri;
     private String method;
     private HttpVersion httpVersion = HttpVersion.HTTP_1_1;
-    private HttpHeaders headers = new SimpleModifiableHttpHeaders();
+    private HttpHeaders headers = new ArrayHttpHeaders();
     private DataStream body = DataStream.ofEmpty();
 
     @Override
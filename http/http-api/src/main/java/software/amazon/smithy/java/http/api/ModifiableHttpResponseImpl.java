@@ -12,7 +12,7 @@ final class ModifiableHttpResponseImpl implements ModifiableHttpResponse {
 
     private int statusCode = 200;
     private HttpVersion httpVersion = HttpVersion.HTTP_1_1;
-    private HttpHeaders headers = new SimpleModifiableHttpHeaders();
+    private HttpHeaders headers = new ArrayHttpHeaders();
     private DataStream body = DataStream.ofEmpty();
 
     @Override
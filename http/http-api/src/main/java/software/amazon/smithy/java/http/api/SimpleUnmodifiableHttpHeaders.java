@@ -10,7 +10,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 
 final class SimpleUnmodifiableHttpHeaders implements HttpHeaders {
@@ -30,7 +29,7 @@ final class SimpleUnmodifiableHttpHeaders implements HttpHeaders {
             // Ensure map keys are normalized to use lower-case header names.
             this.headers = new HashMap<>(input.size());
             for (var entry : input.entrySet()) {
-                var key = entry.getKey().trim().toLowerCase(Locale.ENGLISH);
+                var key = HeaderNames.normalize(entry.getKey());
                 headers.computeIfAbsent(key, k -> new ArrayList<>()).addAll(copyAndTrimValues(entry.getValue()));
             }
             // Make the value immutable.
@@ -50,7 +49,7 @@ final class SimpleUnmodifiableHttpHeaders implements HttpHeaders {
 
     @Override
     public List<String> allValues(String name) {
-        return headers.getOrDefault(name.toLowerCase(Locale.ENGLISH), Collections.emptyList());
+        return headers.getOrDefault(HeaderNames.normalize(name), Collections.emptyList());
     }
 
     @Override
@@ -75,13 +74,7 @@ final class SimpleUnmodifiableHttpHeaders implements HttpHeaders {
 
     @Override
     public ModifiableHttpHeaders toModifiable() {
-        var mod = new SimpleModifiableHttpHeaders();
-        Map<String, List<String>> copy = new HashMap<>(headers.size());
-        for (var entry : headers.entrySet()) {
-            copy.put(entry.getKey(), new ArrayList<>(entry.getValue()));
-        }
-        mod.addHeaders(copy);
-        return mod;
+        return ArrayHttpHeaders.copyOf(this);
     }
 
     @Override
@@ -140,7 +133,7 @@ final class SimpleUnmodifiableHttpHeaders implements HttpHeaders {
         if (mutatedHeaders == null) {
             mutatedHeaders = SimpleUnmodifiableHttpHeaders.copyHeaders(original.map());
         }
-        field = field.toLowerCase(Locale.ENGLISH).trim();
+        field = HeaderNames.normalize(field);
         value = value.trim();
         mutatedHeaders.computeIfAbsent(field, k -> new ArrayList<>()).add(value);
         return mutatedHeaders;
@@ -149,7 +142,7 @@ final class SimpleUnmodifiableHttpHeaders implements HttpHeaders {
     static Map<String, List<String>> copyHeaders(Map<String, List<String>> from) {
         Map<String, List<String>> into = new HashMap<>(from.size());
         for (var entry : from.entrySet()) {
-            into.put(entry.getKey().toLowerCase(Locale.ENGLISH).trim(), copyAndTrimValues(entry.getValue()));
+            into.put(HeaderNames.normalize(entry.getKey()), copyAndTrimValues(entry.getValue()));
         }
         return into;
     }
@@ -163,7 +156,7 @@ final class SimpleUnmodifiableHttpHeaders implements HttpHeaders {
             mutated = SimpleUnmodifiableHttpHeaders.copyHeaders(original.map());
         }
         for (Map.Entry<String, List<String>> entry : replace.entrySet()) {
-            mutated.put(entry.getKey().toLowerCase(Locale.ENGLISH).trim(), copyAndTrimValues(entry.getValue()));
+            mutated.put(HeaderNames.normalize(entry.getKey()), copyAndTrimValues(entry.getValue()));
         }
         return mutated;
     }
@@ -8,7 +8,9 @@ package software.amazon.smithy.java.http.api;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 
 import java.util.HashMap;
 import java.util.List;
@@ -49,4 +51,49 @@ public class HttpHeadersTest {
 
         assertThat(httpHeaders.map(), equalTo(mod.map()));
     }
+
+    @Test
+    public void modifiableHeadersAreCaseInsensitive() {
+        var headers = HttpHeaders.ofModifiable();
+        headers.addHeader("Content-Type", "text/plain");
+        headers.addHeader("X-Foo", "a");
+        headers.addHeader("x-foo", "b");
+        headers.setHeader("CONTENT-TYPE", "application/json");
+
+        assertThat(headers.size(), equalTo(2));
+        assertThat(headers.contentType(), equalTo("application/json"));
+        assertThat(headers.allValues("X-FOO"), contains("a", "b"));
+        assertThat(headers.map().keySet(), contains("content-type", "x-foo"));
+
+        headers.removeHeader("content-TYPE");
+
+        assertThat(headers.hasHeader("content-type"), is(false));
+        assertThat(headers.map(), equalTo(Map.of("x-foo", List.of("a", "b"))));
+        assertThat(headers, equalTo(HttpHeaders.of(Map.of("X-Foo", List.of("a", "b")))));
+    }
+
+    @Test
+    public void normalizesWellKnownNamesToConstants() {
+        assertThat(HeaderNames.normalize("Content-Length"), sameInstance(HeaderNames.CONTENT_LENGTH));
+        assertThat(HeaderNames.normalize(" X-Amz-Date "), sameInstance(HeaderNames.X_AMZ_DATE));
+        assertThat(HeaderNames.normalize(new String("smithy-protocol")), sameInstance(HeaderNames.SMITHY_PROTOCOL));
+        assertThat(HeaderNames.normalize("X-Custom"), equalTo("x-custom"));
+
+        var alreadyNormalized = "x-custom";
+        assertThat(HeaderNames.normalize(alreadyNormalized), sameInstance(alreadyNormalized));
+    }
+
+    @Test
+    public void wrapsJavaNetHeaders() {
+        var jdkHeaders = java.net.http.HttpHeaders.of(
+                Map.of("Content-Type", List.of("text/plain"), "X-Foo", List.of("a", "b")),
+                (k, v) -> true);
+        var headers = HttpHeaders.of(jdkHeaders);
+
+        assertThat(headers.contentType(), equalTo("text/plain"));
+        assertThat(headers.allValues("x-foo"), contains("a", "b"));
+        assertThat(headers.size(), equalTo(2));
+        assertThat(headers.map(), equalTo(Map.of("content-type", List.of("text/plain"), "x-foo", List.of("a", "b"))));
+        assertThat(headers.toModifiable().allValues("X-Foo"), contains("a", "b"));
+    }
 }
@@ -5,9 +5,19 @@
 
 package software.amazon.smithy.java.http.binding;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
 import software.amazon.smithy.java.core.schema.Schema;
 import software.amazon.smithy.java.core.schema.TraitKey;
 
+/**
+ * A binding plan compiled once per structure schema.
+ *
+ * <p>Besides the binding of each member, the plan holds the members that are bound outside the body grouped by
+ * binding location, and the header name, query parameter name, lower-cased prefix, or label name each of them uses,
+ * so that serializers and deserializers don't need to find them again for every message.
+ */
 abstract sealed class BindingMatcher {
 
     enum Binding {
@@ -22,6 +32,8 @@ abstract sealed class BindingMatcher {
     }
 
     private final Binding[] bindings;
+    private final String[] names;
+    private final Schema[] boundMembers;
     private final int responseStatus;
     private final boolean hasBody;
     private final boolean hasPayload;
@@ -30,18 +42,42 @@ abstract sealed class BindingMatcher {
         this.responseStatus = responseStatus;
         boolean foundBody = false;
         boolean foundPayload = false;
-        this.bindings = new Binding[struct.members().size()];
-        for (var member : struct.members()) {
+        var members = struct.members();
+        this.bindings = new Binding[members.size()];
+        this.names = new String[members.size()];
+        var bound = new Schema[members.size()];
+        int boundCount = 0;
+        for (var member : members) {
             var binding = doMatch(member);
             bindings[member.memberIndex()] = binding;
+            names[member.memberIndex()] = resolveName(member, binding);
             foundBody = foundBody || binding == Binding.BODY;
             foundPayload = foundPayload || binding == Binding.PAYLOAD;
+            if (binding != Binding.BODY) {
+                bound[boundCount++] = member;
+            }
         }
 
+        // The sort is stable, so members keep their definition order within each location.
+        this.boundMembers = Arrays.copyOf(bound, boundCount);
+        Arrays.sort(boundMembers, Comparator.comparingInt(m -> bindings[m.memberIndex()].ordinal()));
         this.hasBody = foundBody;
         this.hasPayload = foundPayload;
     }
 
+    private static String resolveName(Schema member, Binding binding) {
+        return switch (binding) {
+            case HEADER -> member.expectTrait(TraitKey.HTTP_HEADER_TRAIT).getValue();
+            case QUERY -> member.expectTrait(TraitKey.HTTP_QUERY_TRAIT).getValue();
+            // Header names are compared in lower-case.
+            case PREFIX_HEADERS -> member.expectTrait(TraitKey.HTTP_PREFIX_HEADERS_TRAIT)
+                    .getValue()
+                    .toLowerCase(Locale.ENGLISH);
+            case LABEL -> member.memberName();
+            default -> null;
+        };
+    }
+
     static BindingMatcher requestMatcher(Schema input) {
         return new BindingMatcher.RequestMatcher(input);
     }
@@ -54,6 +90,27 @@ abstract sealed class BindingMatcher {
         return bindings[member.memberIndex()];
     }
 
+    /**
+     * Get the header name, query parameter name, header prefix, or label name that a member is bound to.
+     *
+     * @param member Member to look up.
+     * @return the name, or null if the member's binding doesn't use one.
+     */
+    final String name(Schema member) {
+        return names[member.memberIndex()];
+    }
+
+    /**
+     * Get the members that are not bound to the body, grouped by binding location.
+     *
+     * <p>The returned array is shared and must not be modified.
+     *
+     * @return the bound members.
+     */
+    final Schema[] boundMembers() {
+        return boundMembers;
+    }
+
     final int responseStatus() {
         return responseStatus;
     }
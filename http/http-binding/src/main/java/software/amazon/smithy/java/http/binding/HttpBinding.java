@@ -7,10 +7,15 @@ package software.amazon.smithy.java.http.binding;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import software.amazon.smithy.java.core.schema.ApiOperation;
 import software.amazon.smithy.java.core.schema.Schema;
 
 /**
  * Entry point for handling HTTP bindings.
+ *
+ * <p>The bindings of each input and output shape are compiled into a plan the first time the shape is used, and
+ * the plan is reused by every serializer and deserializer created from this instance. Use {@link #prepare} to
+ * compile the plans of known operations up front.
  */
 public final class HttpBinding {
 
@@ -19,6 +24,17 @@ public final class HttpBinding {
 
     public HttpBinding() {}
 
+    /**
+     * Compile the binding plans of an operation's input and output so that they aren't built while handling
+     * the first request of the operation.
+     *
+     * @param operation Operation to prepare.
+     */
+    public void prepare(ApiOperation<?, ?> operation) {
+        REQUEST_CACHE.computeIfAbsent(operation.inputSchema(), BindingMatcher::requestMatcher);
+        RESPONSE_CACHE.computeIfAbsent(operation.outputSchema(), BindingMatcher::responseMatcher);
+    }
+
     /**
      * Create an HTTP binding request serializer.
      *
@@ -6,10 +6,9 @@
 package software.amazon.smithy.java.http.binding;
 
 import java.nio.ByteBuffer;
-import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.Flow;
+import java.util.function.Function;
 import software.amazon.smithy.java.core.schema.Schema;
 import software.amazon.smithy.java.core.schema.SerializableStruct;
 import software.amazon.smithy.java.core.schema.TraitKey;
@@ -21,7 +20,7 @@ import software.amazon.smithy.java.core.serde.event.EventDecoderFactory;
 import software.amazon.smithy.java.core.serde.event.EventStreamFrameDecodingProcessor;
 import software.amazon.smithy.java.http.api.HttpHeaders;
 import software.amazon.smithy.java.io.datastream.DataStream;
-import software.amazon.smithy.java.io.uri.QueryStringParser;
+import software.amazon.smithy.java.io.uri.QueryStringView;
 import software.amazon.smithy.model.shapes.ShapeType;
 import software.amazon.smithy.utils.SmithyBuilder;
 
@@ -36,9 +35,9 @@ final class HttpBindingDeserializer extends SpecificShapeDeserializer implements
 
     private final Codec payloadCodec;
     private final HttpHeaders headers;
-    private final Map<String, List<String>> queryStringParameters;
+    private final QueryStringView queryString;
     private final int responseStatus;
-    private final Map<String, String> requestPathLabels;
+    private final Function<String, String> requestPathLabels;
     private final BindingMatcher bindingMatcher;
     private final DataStream body;
     private final EventDecoderFactory<?> eventDecoderFactory;
@@ -50,7 +49,7 @@ final class HttpBindingDeserializer extends SpecificShapeDeserializer implements
         this.bindingMatcher = Objects.requireNonNull(builder.bindingMatcher, "bindingMatcher not set");
         this.eventDecoderFactory = builder.eventDecoderFactory;
         this.body = builder.body == null ? DataStream.ofEmpty() : builder.body;
-        this.queryStringParameters = QueryStringParser.parse(builder.requestRawQueryString);
+        this.queryString = builder.queryString == null ? QueryStringView.of(null) : builder.queryString;
         this.responseStatus = builder.responseStatus;
         this.requestPathLabels = builder.requestPathLabels;
         this.payloadMediaType = builder.payloadMediaType;
@@ -67,12 +66,14 @@ final class HttpBindingDeserializer extends SpecificShapeDeserializer implements
 
     @Override
     public <T> void readStruct(Schema schema, T state, StructMemberConsumer<T> structMemberConsumer) {
-        // First parse members in the framing.
-        for (Schema member : schema.members()) {
+        // First parse members in the framing. Only members bound outside the body are visited here.
+        for (Schema member : bindingMatcher.boundMembers()) {
             BindingMatcher.Binding bindingLoc = bindingMatcher.match(member);
             switch (bindingLoc) {
                 case LABEL -> {
-                    var labelValue = requestPathLabels.get(member.memberName());
+                    String labelValue = requestPathLabels == null
+                            ? null
+                            : requestPathLabels.apply(bindingMatcher.name(member));
                     if (labelValue == null) {
                         throw new IllegalStateException(
                                 "Expected a label value for " + member.memberName()
@@ -84,16 +85,15 @@ final class HttpBindingDeserializer extends SpecificShapeDeserializer implements
                             new HttpPathLabelDeserializer(labelValue));
                 }
                 case QUERY -> {
-                    var paramValue = queryStringParameters.get(
-                            member.expectTrait(TraitKey.HTTP_QUERY_TRAIT).getValue());
+                    var paramValue = queryString.get(bindingMatcher.name(member));
                     if (paramValue != null) {
                         structMemberConsumer.accept(state, member, new HttpQueryStringDeserializer(paramValue));
                     }
                 }
                 case QUERY_PARAMS ->
-                    structMemberConsumer.accept(state, member, new HttpQueryParamsDeserializer(queryStringParameters));
+                    structMemberConsumer.accept(state, member, new HttpQueryParamsDeserializer(queryString.toMap()));
                 case HEADER -> {
-                    var header = member.expectTrait(TraitKey.HTTP_HEADER_TRAIT).getValue();
+                    var header = bindingMatcher.name(member);
                     if (member.type() == ShapeType.LIST) {
                         var values = headers.allValues(header);
                         if (!values.isEmpty()) {
@@ -106,10 +106,10 @@ final class HttpBindingDeserializer extends SpecificShapeDeserializer implements
                         }
                     }
                 }
-                case PREFIX_HEADERS ->
-                    structMemberConsumer.accept(state, member, new HttpPrefixHeadersDeserializer(headers));
-                case BODY -> {
-                } // handled below
+                case PREFIX_HEADERS -> structMemberConsumer.accept(
+                        state,
+                        member,
+                        new HttpPrefixHeadersDeserializer(headers, bindingMatcher.name(member)));
                 case PAYLOAD -> {
                     if (isEventStream(member)) {
                         structMemberConsumer.accept(state, member, new SpecificShapeDeserializer() {
@@ -177,10 +177,10 @@ final class HttpBindingDeserializer extends SpecificShapeDeserializer implements
     }
 
     static final class Builder implements SmithyBuilder<HttpBindingDeserializer> {
-        private Map<String, String> requestPathLabels;
+        private Function<String, String> requestPathLabels;
         private Codec payloadCodec;
         private HttpHeaders headers;
-        private String requestRawQueryString;
+        private QueryStringView queryString;
         private DataStream body;
         private int responseStatus;
         private EventDecoderFactory<?> eventDecoderFactory;
@@ -198,12 +198,13 @@ final class HttpBindingDeserializer extends SpecificShapeDeserializer implements
          * Set the captured, already percent-decoded, labels for the operation.
          *
          * <p>This builder assumes an operation has already been matched by the framework, which means HTTP label
-         * bindings have already been extracted.
+         * bindings have already been extracted. The function is only called for labels that the input binds, and
+         * returns null for labels that were not captured.
          *
-         * @param requestPathLabels Captured request labels.
+         * @param requestPathLabels Function that returns the captured value of a label.
          * @return Returns the builder.
          */
-        Builder requestPathLabels(Map<String, String> requestPathLabels) {
+        Builder requestPathLabels(Function<String, String> requestPathLabels) {
             this.requestPathLabels = requestPathLabels;
             return this;
         }
@@ -231,16 +232,13 @@ final class HttpBindingDeserializer extends SpecificShapeDeserializer implements
         }
 
         /**
-         * Set the raw query string of the request.
+         * Set the query string of the request.
          *
-         * <p>The query string should be percent-encoded and include any relevant parameters.
-         * For example, "foo=bar&baz=bam%20boo".
-         *
-         * @param requestRawQueryString Query string.
+         * @param queryString Query string view.
          * @return Returns the builder.
          */
-        Builder requestRawQueryString(String requestRawQueryString) {
-            this.requestRawQueryString = requestRawQueryString;
+        Builder queryString(QueryStringView queryString) {
+            this.queryString = queryString;
             return this;
         }
 
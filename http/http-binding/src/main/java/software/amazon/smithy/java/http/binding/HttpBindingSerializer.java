@@ -48,6 +48,8 @@ final class HttpBindingSerializer extends SpecificShapeSerializer implements Sha
     private final ShapeSerializer headerSerializer;
     private final ShapeSerializer querySerializer;
     private final ShapeSerializer labelSerializer;
+    private final ShapeSerializer statusSerializer;
+    private final ShapeSerializer queryParamsSerializer;
     private final Codec payloadCodec;
     private final String payloadMediaType;
     private final boolean omitEmptyPayload;
@@ -87,6 +89,8 @@ final class HttpBindingSerializer extends SpecificShapeSerializer implements Sha
         headerSerializer = new HttpHeaderSerializer(headerConsumer);
         querySerializer = new HttpQuerySerializer(queryStringParams::add);
         labelSerializer = new HttpLabelSerializer(labels::put);
+        statusSerializer = new ResponseStatusSerializer(i -> responseStatus = i);
+        queryParamsSerializer = new HttpQueryParamsSerializer(queryStringParams::add);
     }
 
     @Override
@@ -230,11 +234,12 @@ final class HttpBindingSerializer extends SpecificShapeSerializer implements Sha
                 case HEADER -> serializer.headerSerializer;
                 case QUERY -> serializer.querySerializer;
                 case LABEL -> serializer.labelSerializer;
-                case STATUS -> new ResponseStatusSerializer(i -> serializer.responseStatus = i);
+                case STATUS -> serializer.statusSerializer;
+                // The plan holds the lower-cased prefix used to match headers, so write the prefix as modeled.
                 case PREFIX_HEADERS -> new HttpPrefixHeadersSerializer(
                         schema.expectTrait(TraitKey.HTTP_PREFIX_HEADERS_TRAIT).getValue(),
                         serializer.headerConsumer);
-                case QUERY_PARAMS -> new HttpQueryParamsSerializer(serializer.queryStringParams::add);
+                case QUERY_PARAMS -> serializer.queryParamsSerializer;
                 case BODY -> ShapeSerializer.nullSerializer(); // handled in HttpBindingSerializer#writeStruct.
                 case PAYLOAD -> {
                     payloadSerializer = new PayloadSerializer(serializer, serializer.payloadCodec);
@@ -5,20 +5,23 @@
 
 package software.amazon.smithy.java.http.binding;
 
-import java.util.Locale;
 import software.amazon.smithy.java.core.schema.Schema;
-import software.amazon.smithy.java.core.schema.TraitKey;
 import software.amazon.smithy.java.core.serde.SerializationException;
 import software.amazon.smithy.java.core.serde.SpecificShapeDeserializer;
 import software.amazon.smithy.java.http.api.HttpHeaders;
-import software.amazon.smithy.model.traits.HttpPrefixHeadersTrait;
 
 final class HttpPrefixHeadersDeserializer extends SpecificShapeDeserializer {
 
     private final HttpHeaders headers;
+    private final String prefix;
 
-    public HttpPrefixHeadersDeserializer(HttpHeaders headers) {
+    /**
+     * @param headers Headers to read from.
+     * @param prefix Lower-cased header name prefix.
+     */
+    public HttpPrefixHeadersDeserializer(HttpHeaders headers, String prefix) {
         this.headers = headers;
+        this.prefix = prefix;
     }
 
     @Override
@@ -28,8 +31,6 @@ final class HttpPrefixHeadersDeserializer extends SpecificShapeDeserializer {
 
     @Override
     public <T> void readStringMap(Schema schema, T state, MapMemberConsumer<String, T> consumer) {
-        HttpPrefixHeadersTrait trait = schema.expectTrait(TraitKey.HTTP_PREFIX_HEADERS_TRAIT);
-        var prefix = trait.getValue().toLowerCase(Locale.ENGLISH);
         for (var entry : headers) {
             var name = entry.getKey();
             if (PrefixConstants.OMITTED_HEADER_NAMES.contains(name) || !name.startsWith(prefix)) {
@@ -7,6 +7,7 @@ package software.amazon.smithy.java.http.binding;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 import software.amazon.smithy.java.core.schema.Schema;
 import software.amazon.smithy.java.core.schema.ShapeBuilder;
 import software.amazon.smithy.java.core.serde.Codec;
@@ -14,6 +15,7 @@ import software.amazon.smithy.java.core.serde.event.EventDecoderFactory;
 import software.amazon.smithy.java.core.serde.event.Frame;
 import software.amazon.smithy.java.http.api.HttpRequest;
 import software.amazon.smithy.java.io.datastream.DataStream;
+import software.amazon.smithy.java.io.uri.QueryStringView;
 
 /**
  * Deserializes the HTTP request of an operation that uses HTTP bindings into a builder.
@@ -63,7 +65,7 @@ public final class RequestDeserializer {
     public RequestDeserializer request(HttpRequest request) {
         DataStream bodyDataStream = request.body();
         deserBuilder.headers(request.headers())
-                .requestRawQueryString(request.uri().getRawQuery())
+                .queryString(QueryStringView.of(request.uri().getRawQuery()))
                 .body(bodyDataStream);
         return this;
     }
@@ -91,10 +93,37 @@ public final class RequestDeserializer {
     }
 
     public RequestDeserializer pathLabelValues(Map<String, String> labelValues) {
+        deserBuilder.requestPathLabels(labelValues::get);
+        return this;
+    }
+
+    /**
+     * Set a function that returns the percent-decoded value of a path label, or null if it was not captured.
+     *
+     * <p>The function is only called for labels that the input shape binds, so labels can be decoded lazily.
+     *
+     * @param labelValues Function that returns label values by name.
+     * @return Returns the deserializer.
+     */
+    public RequestDeserializer pathLabelValues(Function<String, String> labelValues) {
         deserBuilder.requestPathLabels(labelValues);
         return this;
     }
 
+    /**
+     * Set a query string view to read query bindings from instead of the query string of the request.
+     *
+     * <p>This allows a view that was already indexed while routing the request to be reused. It must be set
+     * after {@link #request(HttpRequest)}.
+     *
+     * @param queryString Query string of the request.
+     * @return Returns the deserializer.
+     */
+    public RequestDeserializer queryString(QueryStringView queryString) {
+        deserBuilder.queryString(queryString);
+        return this;
+    }
+
     /**
      * Finish setting up and deserialize the response into the builder.
      */
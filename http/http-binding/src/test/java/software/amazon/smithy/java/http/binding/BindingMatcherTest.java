@@ -0,0 +1,65 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.http.binding;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.java.core.schema.PreludeSchemas;
+import software.amazon.smithy.java.core.schema.Schema;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.traits.HttpHeaderTrait;
+import software.amazon.smithy.model.traits.HttpLabelTrait;
+import software.amazon.smithy.model.traits.HttpPrefixHeadersTrait;
+import software.amazon.smithy.model.traits.HttpQueryTrait;
+
+public class BindingMatcherTest {
+
+    private static final Schema MAP = Schema.mapBuilder(ShapeId.from("smithy.example#Map"))
+            .putMember("key", PreludeSchemas.STRING)
+            .putMember("value", PreludeSchemas.STRING)
+            .build();
+
+    private static final Schema INPUT = Schema.structureBuilder(ShapeId.from("smithy.example#Input"))
+            .putMember("body1", PreludeSchemas.STRING)
+            .putMember("header", PreludeSchemas.STRING, new HttpHeaderTrait("X-Foo"))
+            .putMember("query", PreludeSchemas.STRING, new HttpQueryTrait("q"))
+            .putMember("label", PreludeSchemas.STRING, new HttpLabelTrait())
+            .putMember("prefixed", MAP, new HttpPrefixHeadersTrait("X-Meta-"))
+            .putMember("header2", PreludeSchemas.STRING, new HttpHeaderTrait("X-Bar"))
+            .putMember("body2", PreludeSchemas.STRING)
+            .build();
+
+    @Test
+    public void groupsBoundMembersByLocation() {
+        var matcher = BindingMatcher.requestMatcher(INPUT);
+
+        assertThat(
+                matcher.boundMembers(),
+                arrayContaining(
+                        INPUT.member("header"),
+                        INPUT.member("header2"),
+                        INPUT.member("query"),
+                        INPUT.member("label"),
+                        INPUT.member("prefixed")));
+        assertThat(matcher.hasBody(), is(true));
+    }
+
+    @Test
+    public void resolvesBindingNames() {
+        var matcher = BindingMatcher.requestMatcher(INPUT);
+
+        assertThat(matcher.name(INPUT.member("header")), equalTo("X-Foo"));
+        assertThat(matcher.name(INPUT.member("query")), equalTo("q"));
+        assertThat(matcher.name(INPUT.member("label")), equalTo("label"));
+        assertThat(matcher.name(INPUT.member("prefixed")), equalTo("x-meta-"));
+        assertThat(matcher.name(INPUT.member("body1")), nullValue());
+    }
+}
@@ -10,6 +10,8 @@ import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.net.http.HttpResponse;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -121,6 +123,35 @@ public interface DataStream extends Flow.Publisher<ByteBuffer> {
         return subscriber.getBody().toCompletableFuture();
     }
 
+    /**
+     * Write the remaining contents of the stream to a channel, blocking until it's written.
+     *
+     * <p>Transports that write to channels should prefer this method over subscribing: file-backed streams transfer
+     * their contents with {@link java.nio.channels.FileChannel#transferTo}, which can avoid copying the data into
+     * the JVM at all.
+     *
+     * @param channel Channel to write to. The channel is not closed.
+     * @return the number of bytes written.
+     * @throws UncheckedIOException if an error occurs while writing.
+     */
+    default long transferTo(WritableByteChannel channel) {
+        try {
+            if (hasByteBuffer()) {
+                var buffer = waitForByteBuffer();
+                long written = buffer.remaining();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                return written;
+            }
+            try (var in = asInputStream().join()) {
+                return in.transferTo(Channels.newOutputStream(channel));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Create an empty DataStream.
      *
@@ -272,12 +303,46 @@ public interface DataStream extends Flow.Publisher<ByteBuffer> {
     /**
      * Create a DataStream from a file on disk.
      *
+     * <p>The file is streamed in 64 KiB chunks. {@link #waitForByteBuffer()} memory-maps larger files rather than
+     * reading them onto the heap.
+     *
      * @param file        File to read.
      * @param contentType Content-Type of the data if known, or null.
      * @return the created DataStream.
      */
     static DataStream ofFile(Path file, String contentType) {
-        return new FileDataStream(file, contentType);
+        return ofFile(file, contentType, FileDataStream.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Create a DataStream from a file on disk that is streamed in chunks of the given size.
+     *
+     * @param file        File to read.
+     * @param contentType Content-Type of the data if known, or null.
+     * @param chunkSize   Size in bytes of each ByteBuffer emitted to subscribers.
+     * @return the created DataStream.
+     */
+    static DataStream ofFile(Path file, String contentType, int chunkSize) {
+        return new FileDataStream(file, contentType, chunkSize);
+    }
+
+    /**
+     * Create a DataStream from a range of a file on disk.
+     *
+     * <p>Ranges of one file can be read concurrently, which makes them suitable as the parts of a multipart upload.
+     *
+     * @param file        File to read.
+     * @param contentType Content-Type of the data if known, or null.
+     * @param offset      Offset in bytes of the first byte to read.
+     * @param length      Number of bytes to read.
+     * @return the created DataStream.
+     * @throws IndexOutOfBoundsException if the range isn't within the file.
+     */
+    static DataStream ofFile(Path file, String contentType, long offset, long length) {
+        if (length < 0) {
+            throw new IndexOutOfBoundsException("length must not be negative: " + length);
+        }
+        return new FileDataStream(file, contentType, FileDataStream.DEFAULT_CHUNK_SIZE, offset, length);
     }
 
     /**
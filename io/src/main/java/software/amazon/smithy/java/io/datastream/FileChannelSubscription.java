@@ -0,0 +1,127 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.io.datastream;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Emits a range of a file channel as fixed-size chunks, reading only as many chunks as were requested.
+ *
+ * <p>Chunks are emitted on the thread that requests them. Reentrant and concurrent calls to {@link #request} add
+ * demand that is served by the thread already emitting.
+ */
+final class FileChannelSubscription implements Flow.Subscription {
+
+    private final FileChannel channel;
+    private final long end;
+    private final int chunkSize;
+    private final Flow.Subscriber<? super ByteBuffer> subscriber;
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile boolean cancelled;
+    private boolean done;
+    private long position;
+
+    FileChannelSubscription(
+            FileChannel channel,
+            long start,
+            long end,
+            int chunkSize,
+            Flow.Subscriber<? super ByteBuffer> subscriber
+    ) {
+        this.channel = channel;
+        this.position = start;
+        this.end = end;
+        this.chunkSize = chunkSize;
+        this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            cancelled = true;
+            drain();
+            subscriber.onError(new IllegalArgumentException("Requested demand must be positive: " + n));
+            return;
+        }
+        demand.getAndAccumulate(n, (current, added) -> {
+            long sum = current + added;
+            return sum < 0 ? Long.MAX_VALUE : sum;
+        });
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        drain();
+    }
+
+    private void drain() {
+        if (pending.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        do {
+            while (!done) {
+                if (cancelled) {
+                    finish();
+                    break;
+                } else if (demand.get() == 0) {
+                    break;
+                }
+
+                ByteBuffer chunk;
+                try {
+                    chunk = readChunk();
+                } catch (IOException e) {
+                    finish();
+                    subscriber.onError(new UncheckedIOException(e));
+                    break;
+                }
+
+                if (chunk == null) {
+                    finish();
+                    subscriber.onComplete();
+                    break;
+                }
+
+                demand.decrementAndGet();
+                subscriber.onNext(chunk);
+            }
+            missed = pending.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    // Returns the next chunk, or null when the end of the range or file is reached.
+    private ByteBuffer readChunk() throws IOException {
+        var chunk = ByteBuffer.allocate((int) Math.min(chunkSize, end - position));
+        while (chunk.hasRemaining()) {
+            int read = channel.read(chunk, position);
+            if (read < 0) {
+                break;
+            }
+            position += read;
+        }
+        return chunk.position() == 0 ? null : chunk.flip();
+    }
+
+    private void finish() {
+        done = true;
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // Nothing else is read from the channel, so failing to close it doesn't affect the subscriber.
+        }
+    }
+}
@@ -8,40 +8,102 @@ package software.amazon.smithy.java.io.datastream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
-import java.net.http.HttpRequest;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow;
+import software.amazon.smithy.java.io.ByteBufferUtils;
 
 final class FileDataStream implements DataStream {
 
+    static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    // Files smaller than this are cheaper to read onto the heap than to map.
+    private static final long MAP_THRESHOLD = 16 * 1024;
+
     private final Path file;
     private final String contentType;
-    private final HttpRequest.BodyPublisher publisher;
+    private final long offset;
+    private final long contentLength;
+    private final boolean wholeFile;
+    private final int chunkSize;
+
+    FileDataStream(Path file, String contentType, int chunkSize) {
+        this(file, contentType, chunkSize, 0, -1);
+    }
+
+    // A negative length covers the rest of the file.
+    FileDataStream(Path file, String contentType, int chunkSize, long offset, long length) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
 
-    FileDataStream(Path file, String contentType) {
         this.file = file;
         this.contentType = contentType;
+        this.chunkSize = chunkSize;
+        this.offset = offset;
 
+        long size;
         try {
-            // Eagerly create the publisher since it checks for file existence and gets the content-length.
-            publisher = HttpRequest.BodyPublishers.ofFile(file);
+            // Eagerly get the content-length since it also checks for file existence.
+            size = Files.size(file);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
+
+        if (offset < 0 || offset > size || offset + length > size) {
+            throw new IndexOutOfBoundsException("Range " + offset + "+" + length + " is outside of " + file
+                    + " (" + size + " bytes)");
+        }
+        this.contentLength = length < 0 ? size - offset : length;
+        this.wholeFile = offset == 0 && length < 0;
     }
 
+    /**
+     * Returns the contents of the file as a read-only buffer.
+     *
+     * <p>Larger files are memory-mapped rather than copied onto the heap, so the returned buffer might not have an
+     * accessible backing array.
+     *
+     * @return the contents of the file.
+     * @throws UnsupportedOperationException if the file is too large for a single ByteBuffer.
+     */
     @Override
     public ByteBuffer waitForByteBuffer() {
-        try {
-            return ByteBuffer.wrap(Files.readAllBytes(file));
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = Math.max(0, Math.min(contentLength, channel.size() - offset));
+            if (size > Integer.MAX_VALUE) {
+                throw new UnsupportedOperationException("File is too large to read into a ByteBuffer, stream it "
+                        + "instead: " + file + " (" + size + " bytes)");
+            } else if (size < MAP_THRESHOLD) {
+                var buffer = ByteBuffer.allocate((int) size);
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, offset + buffer.position()) < 0) {
+                        break;
+                    }
+                }
+                return buffer.flip();
+            } else {
+                return channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+            }
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
+    @Override
+    public CompletableFuture<ByteBuffer> asByteBuffer() {
+        try {
+            return CompletableFuture.completedFuture(waitForByteBuffer());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     @Override
     public boolean isReplayable() {
         return true;
@@ -49,6 +111,13 @@ final class FileDataStream implements DataStream {
 
     @Override
     public CompletableFuture<InputStream> asInputStream() {
+        if (!wholeFile) {
+            try {
+                return CompletableFuture.completedFuture(ByteBufferUtils.byteBufferInputStream(waitForByteBuffer()));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
         try {
             return CompletableFuture.completedFuture(Files.newInputStream(file));
         } catch (IOException e) {
@@ -57,9 +126,28 @@ final class FileDataStream implements DataStream {
         }
     }
 
+    @Override
+    public long transferTo(WritableByteChannel channel) {
+        try (var source = FileChannel.open(file, StandardOpenOption.READ)) {
+            // FileChannel#transferTo can use sendfile or similar, and may transfer fewer bytes than requested.
+            long end = Math.min(offset + contentLength, source.size());
+            long position = offset;
+            while (position < end) {
+                long transferred = source.transferTo(position, end - position, channel);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+            return position - offset;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
     public long contentLength() {
-        return publisher.contentLength();
+        return contentLength;
     }
 
     @Override
@@ -69,6 +157,21 @@ final class FileDataStream implements DataStream {
 
     @Override
     public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
-        publisher.subscribe(subscriber);
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+        } catch (IOException e) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {}
+
+                @Override
+                public void cancel() {}
+            });
+            subscriber.onError(new UncheckedIOException(e));
+            return;
+        }
+        long end = offset + contentLength;
+        subscriber.onSubscribe(new FileChannelSubscription(channel, offset, end, chunkSize, subscriber));
     }
 }
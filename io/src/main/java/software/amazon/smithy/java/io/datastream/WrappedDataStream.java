@@ -7,6 +7,7 @@ package software.amazon.smithy.java.io.datastream;
 
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow;
 
@@ -59,6 +60,11 @@ final class WrappedDataStream implements DataStream {
         return isReplayable;
     }
 
+    @Override
+    public long transferTo(WritableByteChannel channel) {
+        return delegate.transferTo(channel);
+    }
+
     @Override
     public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
         delegate.subscribe(subscriber);
@@ -0,0 +1,182 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.io.uri;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index-based view over a raw, percent-encoded query string.
+ *
+ * <p>Parameters are located by offsets the first time the view is queried, and names and values are only decoded
+ * for the parameters that are actually looked up. A view is meant to be created once per request and shared by
+ * everything that reads its query string, such as a router and a deserializer. Views are not thread-safe.
+ *
+ * <p>Parameters are separated by "&amp;", and a parameter without "=" has an empty value.
+ */
+public final class QueryStringView {
+
+    private static final QueryStringView EMPTY = new QueryStringView("");
+
+    private final String query;
+
+    // Triples of (start, separator, end) per parameter. The separator equals end when there is no "=".
+    private int[] offsets;
+    private int count = -1;
+    private Map<String, List<String>> map;
+
+    private QueryStringView(String query) {
+        this.query = query;
+    }
+
+    /**
+     * Create a view over a raw query string.
+     *
+     * @param rawQueryString Percent-encoded query string without the leading "?", or null.
+     * @return the created view.
+     */
+    public static QueryStringView of(String rawQueryString) {
+        return rawQueryString == null || rawQueryString.isEmpty() ? EMPTY : new QueryStringView(rawQueryString);
+    }
+
+    /**
+     * Check if the query string is empty.
+     *
+     * @return true if there are no parameters.
+     */
+    public boolean isEmpty() {
+        return query.isEmpty();
+    }
+
+    /**
+     * Get the decoded values of a parameter.
+     *
+     * @param name Decoded name of the parameter.
+     * @return the decoded values in the order they appear, or null if the parameter is not present.
+     */
+    public List<String> get(String name) {
+        if (query.isEmpty()) {
+            return null;
+        }
+        index();
+        String first = null;
+        List<String> result = null;
+        for (int i = 0; i < count * 3; i += 3) {
+            if (nameEquals(offsets[i], offsets[i + 1], name)) {
+                var value = value(i);
+                if (first == null) {
+                    first = value;
+                } else {
+                    if (result == null) {
+                        result = new ArrayList<>(4);
+                        result.add(first);
+                    }
+                    result.add(value);
+                }
+            }
+        }
+        if (result != null) {
+            return result;
+        }
+        return first == null ? null : Collections.singletonList(first);
+    }
+
+    /**
+     * Get every decoded parameter, in the order the parameters first appear.
+     *
+     * @return an unmodifiable map of parameter names to values.
+     */
+    public Map<String, List<String>> toMap() {
+        if (query.isEmpty()) {
+            // The shared empty view is never written to.
+            return Collections.emptyMap();
+        }
+        var result = map;
+        if (result == null) {
+            index();
+            var values = new LinkedHashMap<String, List<String>>();
+            for (int i = 0; i < count * 3; i += 3) {
+                values.computeIfAbsent(name(i), k -> new ArrayList<>(1)).add(value(i));
+            }
+            result = Collections.unmodifiableMap(values);
+            map = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return query;
+    }
+
+    private void index() {
+        if (count >= 0) {
+            return;
+        }
+        int[] result = new int[12];
+        int n = 0;
+        int start = 0;
+        int length = query.length();
+        while (start <= length) {
+            int end = query.indexOf('&', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end > start) {
+                int separator = query.indexOf('=', start);
+                if (separator < 0 || separator > end) {
+                    separator = end;
+                }
+                if (n + 3 > result.length) {
+                    result = Arrays.copyOf(result, result.length << 1);
+                }
+                result[n++] = start;
+                result[n++] = separator;
+                result[n++] = end;
+            }
+            start = end + 1;
+        }
+        offsets = result;
+        count = n / 3;
+    }
+
+    private boolean nameEquals(int start, int end, String name) {
+        if (needsDecoding(start, end)) {
+            return URLEncoding.urlDecode(query.substring(start, end)).equals(name);
+        }
+        return end - start == name.length() && query.regionMatches(start, name, 0, end - start);
+    }
+
+    private String name(int i) {
+        int start = offsets[i];
+        int end = offsets[i + 1];
+        var name = query.substring(start, end);
+        return needsDecoding(start, end) ? URLEncoding.urlDecode(name) : name;
+    }
+
+    private String value(int i) {
+        int separator = offsets[i + 1];
+        int end = offsets[i + 2];
+        if (separator >= end - 1) {
+            return "";
+        }
+        return URLEncoding.urlDecode(query.substring(separator + 1, end));
+    }
+
+    private boolean needsDecoding(int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = query.charAt(i);
+            if (c == '%' || c == '+') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
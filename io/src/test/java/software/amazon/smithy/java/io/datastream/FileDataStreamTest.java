@@ -9,10 +9,19 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 
+import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileDataStreamTest {
     @Test
@@ -47,4 +56,79 @@ public class FileDataStreamTest {
 
         assertThat(ds.waitForByteBuffer(), equalTo(ByteBuffer.wrap("Hello!".getBytes(StandardCharsets.UTF_8))));
     }
+
+    @Test
+    public void mapsLargeFilesAsReadOnlyBuffers(@TempDir Path dir) throws Exception {
+        var bytes = createBytes(100_000);
+        var file = dir.resolve("large.bin");
+        Files.write(file, bytes);
+        var buffer = DataStream.ofFile(file, null).waitForByteBuffer();
+
+        assertThat(buffer.isReadOnly(), is(true));
+        assertThat(buffer, equalTo(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    public void streamsFileInChunks(@TempDir Path dir) throws Exception {
+        var bytes = createBytes(10_000);
+        var file = dir.resolve("chunks.bin");
+        Files.write(file, bytes);
+        var ds = DataStream.ofFile(file, null, 4096);
+        var sizes = new ArrayList<Integer>();
+        var out = new ByteArrayOutputStream();
+        var done = new CompletableFuture<Void>();
+
+        ds.subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                sizes.add(item.remaining());
+                var chunk = new byte[item.remaining()];
+                item.get(chunk);
+                out.writeBytes(chunk);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(null);
+            }
+        });
+        done.get();
+
+        assertThat(sizes, equalTo(List.of(4096, 4096, 1808)));
+        assertThat(out.toByteArray(), equalTo(bytes));
+    }
+
+    @Test
+    public void transfersFileToChannel(@TempDir Path dir) throws Exception {
+        var bytes = createBytes(50_000);
+        var file = dir.resolve("transfer.bin");
+        Files.write(file, bytes);
+        var out = new ByteArrayOutputStream();
+        var written = DataStream.ofFile(file, null).transferTo(Channels.newChannel(out));
+
+        assertThat(written, equalTo(50_000L));
+        assertThat(out.toByteArray(), equalTo(bytes));
+    }
+
+    private static byte[] createBytes(int size) {
+        var bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.io.uri;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class QueryStringViewTest {
+
+    @Test
+    public void emptyQueryStringHasNoParameters() {
+        var view = QueryStringView.of(null);
+
+        assertTrue(view.isEmpty());
+        assertNull(view.get("a"));
+        assertEquals(Map.of(), view.toMap());
+        assertTrue(QueryStringView.of("").isEmpty());
+    }
+
+    @Test
+    public void getsDecodedValues() {
+        var view = QueryStringView.of("a=1&b=hello%20world&a=2&flag&empty=&&c=x%3Dy");
+
+        assertEquals(List.of("1", "2"), view.get("a"));
+        assertEquals(List.of("hello world"), view.get("b"));
+        assertEquals(List.of(""), view.get("flag"));
+        assertEquals(List.of(""), view.get("empty"));
+        assertEquals(List.of("x=y"), view.get("c"));
+        assertNull(view.get("missing"));
+    }
+
+    @Test
+    public void decodesEncodedNames() {
+        var view = QueryStringView.of("my%20key=v&plus+key=w");
+
+        assertEquals(List.of("v"), view.get("my key"));
+        assertEquals(List.of("w"), view.get("plus key"));
+    }
+
+    @Test
+    public void convertsToMapInOrder() {
+        var view = QueryStringView.of("b=1&a=2&b=3");
+
+        assertEquals(List.of("b", "a"), List.copyOf(view.toMap().keySet()));
+        assertEquals(Map.of("b", List.of("1", "3"), "a", List.of("2")), view.toMap());
+    }
+}
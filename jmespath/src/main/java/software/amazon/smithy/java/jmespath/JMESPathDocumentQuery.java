@@ -63,6 +63,37 @@ public final class JMESPathDocumentQuery {
         return new Visitor(document).visit(expression);
     }
 
+    /**
+     * Converts a literal expression to a document.
+     *
+     * @param literalExpression Literal to convert.
+     * @return the converted literal, or null for a null literal.
+     */
+    static Document literal(LiteralExpression literalExpression) {
+        if (literalExpression.isNumberValue()) {
+            // TODO: Remove this check by correcting behavior in smithy-jmespath to correctly
+            //       handle int vs double
+            var value = literalExpression.expectNumberValue();
+            if (value.doubleValue() == Math.floor(value.doubleValue())) {
+                return Document.ofNumber(value.longValue());
+            }
+        } else if (literalExpression.isArrayValue()) {
+            List<Document> result = new ArrayList<>();
+            for (var item : literalExpression.expectArrayValue()) {
+                result.add(literal(LiteralExpression.from(item)));
+            }
+            return Document.of(result);
+        } else if (literalExpression.isObjectValue()) {
+            var value = literalExpression.expectObjectValue();
+            Map<String, Document> result = new HashMap<>();
+            for (var entry : value.entrySet()) {
+                result.put(entry.getKey(), literal(LiteralExpression.from(entry.getValue())));
+            }
+            return Document.of(result);
+        }
+        return literalExpression.isNullValue() ? null : Document.ofObject(literalExpression.getValue());
+    }
+
     private record Visitor(Document document) implements ExpressionVisitor<Document> {
         private static final EnumSet<ShapeType> OBJECT_TYPES = EnumSet.of(
                 ShapeType.MAP,
@@ -172,28 +203,7 @@ public final class JMESPathDocumentQuery {
 
         @Override
         public Document visitLiteral(LiteralExpression literalExpression) {
-            if (literalExpression.isNumberValue()) {
-                // TODO: Remove this check by correcting behavior in smithy-jmespath to correctly
-                //       handle int vs double
-                var value = literalExpression.expectNumberValue();
-                if (value.doubleValue() == Math.floor(value.doubleValue())) {
-                    return Document.ofNumber(value.longValue());
-                }
-            } else if (literalExpression.isArrayValue()) {
-                List<Document> result = new ArrayList<>();
-                for (var item : literalExpression.expectArrayValue()) {
-                    result.add(visit(LiteralExpression.from(item)));
-                }
-                return Document.of(result);
-            } else if (literalExpression.isObjectValue()) {
-                var value = literalExpression.expectObjectValue();
-                Map<String, Document> result = new HashMap<>();
-                for (var entry : value.entrySet()) {
-                    result.put(entry.getKey(), visit(LiteralExpression.from(entry.getValue())));
-                }
-                return Document.of(result);
-            }
-            return literalExpression.isNullValue() ? null : Document.ofObject(literalExpression.getValue());
+            return literal(literalExpression);
         }
 
         @Override
@@ -0,0 +1,527 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.jmespath;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import software.amazon.smithy.java.core.schema.Schema;
+import software.amazon.smithy.java.core.schema.SerializableShape;
+import software.amazon.smithy.java.core.schema.SerializableStruct;
+import software.amazon.smithy.java.core.serde.document.Document;
+import software.amazon.smithy.jmespath.ExpressionVisitor;
+import software.amazon.smithy.jmespath.JmespathExpression;
+import software.amazon.smithy.jmespath.ast.AndExpression;
+import software.amazon.smithy.jmespath.ast.ComparatorExpression;
+import software.amazon.smithy.jmespath.ast.ComparatorType;
+import software.amazon.smithy.jmespath.ast.CurrentExpression;
+import software.amazon.smithy.jmespath.ast.ExpressionTypeExpression;
+import software.amazon.smithy.jmespath.ast.FieldExpression;
+import software.amazon.smithy.jmespath.ast.FilterProjectionExpression;
+import software.amazon.smithy.jmespath.ast.FlattenExpression;
+import software.amazon.smithy.jmespath.ast.FunctionExpression;
+import software.amazon.smithy.jmespath.ast.IndexExpression;
+import software.amazon.smithy.jmespath.ast.LiteralExpression;
+import software.amazon.smithy.jmespath.ast.MultiSelectHashExpression;
+import software.amazon.smithy.jmespath.ast.MultiSelectListExpression;
+import software.amazon.smithy.jmespath.ast.NotExpression;
+import software.amazon.smithy.jmespath.ast.ObjectProjectionExpression;
+import software.amazon.smithy.jmespath.ast.OrExpression;
+import software.amazon.smithy.jmespath.ast.ProjectionExpression;
+import software.amazon.smithy.jmespath.ast.SliceExpression;
+import software.amazon.smithy.jmespath.ast.Subexpression;
+import software.amazon.smithy.model.shapes.ShapeType;
+
+/**
+ * A JMESPath expression compiled into a tree of evaluators.
+ *
+ * <p>Unlike {@link JMESPathDocumentQuery}, a compiled query reads structures directly through
+ * {@link SerializableStruct#getMemberValue} rather than converting them to documents first, so only the members
+ * an expression reaches are visited. Intermediate results stay as the values returned by {@code getMemberValue}
+ * (lists, maps, strings, numbers, structures, and so on), and are only converted to documents where JMESPath
+ * semantics are defined in terms of documents: comparisons, function arguments, and the final result. Queries can
+ * also be evaluated against documents, in which case they return the same results as {@link JMESPathDocumentQuery}.
+ *
+ * <p>Compiling an expression resolves functions and literals once. Compiled queries are thread-safe and are meant
+ * to be created once and reused.
+ */
+public final class JMESPathQuery {
+
+    private final Evaluator evaluator;
+
+    private JMESPathQuery(Evaluator evaluator) {
+        this.evaluator = evaluator;
+    }
+
+    /**
+     * Parse and compile a JMESPath expression.
+     *
+     * @param expression Expression to compile.
+     * @return the compiled query.
+     */
+    public static JMESPathQuery compile(String expression) {
+        return compile(JmespathExpression.parse(expression));
+    }
+
+    /**
+     * Compile a JMESPath expression.
+     *
+     * @param expression Expression to compile.
+     * @return the compiled query.
+     */
+    public static JMESPathQuery compile(JmespathExpression expression) {
+        return new JMESPathQuery(expression.accept(new Compiler()));
+    }
+
+    /**
+     * Query a structure.
+     *
+     * @param value Structure to query.
+     * @return the result of the query as a document, or null.
+     */
+    public Document query(SerializableStruct value) {
+        return Document.ofObject(evaluate(value));
+    }
+
+    /**
+     * Query a document.
+     *
+     * @param value Document to query.
+     * @return the result of the query, or null.
+     */
+    public Document query(Document value) {
+        return Document.ofObject(evaluate(value));
+    }
+
+    /**
+     * Evaluate the query without converting the result to a document.
+     *
+     * @param value A structure, a document, or any value returned from {@link SerializableStruct#getMemberValue}.
+     * @return the result, which is one of the same kinds of values, or null. Use {@link Document#ofObject} to
+     *     convert it to a document.
+     */
+    public Object evaluate(Object value) {
+        return evaluator.evaluate(value);
+    }
+
+    @FunctionalInterface
+    private interface Evaluator {
+        Object evaluate(Object current);
+    }
+
+    private static final class Compiler implements ExpressionVisitor<Evaluator> {
+
+        private Evaluator compile(JmespathExpression expression) {
+            return expression.accept(this);
+        }
+
+        @Override
+        public Evaluator visitComparator(ComparatorExpression comparatorExpression) {
+            var left = compile(comparatorExpression.getLeft());
+            var right = compile(comparatorExpression.getRight());
+            var comparator = comparatorExpression.getComparator();
+            return current -> current == null
+                    ? null
+                    : compare(comparator, left.evaluate(current), right.evaluate(current));
+        }
+
+        @Override
+        public Evaluator visitCurrentNode(CurrentExpression currentExpression) {
+            return current -> current;
+        }
+
+        @Override
+        public Evaluator visitExpressionType(ExpressionTypeExpression expressionTypeExpression) {
+            return compile(expressionTypeExpression.getExpression());
+        }
+
+        @Override
+        public Evaluator visitFlatten(FlattenExpression flattenExpression) {
+            var expression = compile(flattenExpression.getExpression());
+            return current -> {
+                // Only lists can be flattened.
+                var list = asList(expression.evaluate(current));
+                if (list == null) {
+                    return null;
+                }
+                List<Object> flattened = new ArrayList<>(list.size());
+                for (var value : list) {
+                    var nested = asList(value);
+                    if (nested != null) {
+                        flattened.addAll(nested);
+                    } else {
+                        flattened.add(value);
+                    }
+                }
+                return flattened;
+            };
+        }
+
+        @Override
+        public Evaluator visitFunction(FunctionExpression functionExpression) {
+            var function = JMESPathFunction.from(functionExpression);
+            List<Evaluator> arguments = new ArrayList<>();
+            ExpressionTypeExpression functionReference = null;
+            for (var expr : functionExpression.getArguments()) {
+                // Store up to one function reference for passing to jmespath functions
+                if (expr instanceof ExpressionTypeExpression exprType) {
+                    if (functionReference != null) {
+                        throw new IllegalArgumentException(
+                                "JMESPath functions only support a single function reference");
+                    }
+                    functionReference = exprType;
+                    continue;
+                }
+                arguments.add(compile(expr));
+            }
+            var fnRef = functionReference;
+            return current -> {
+                if (current == null) {
+                    return null;
+                }
+                List<Document> values = new ArrayList<>(arguments.size());
+                for (var argument : arguments) {
+                    values.add(Document.ofObject(argument.evaluate(current)));
+                }
+                return function.apply(values, fnRef);
+            };
+        }
+
+        @Override
+        public Evaluator visitField(FieldExpression fieldExpression) {
+            return new FieldEvaluator(fieldExpression.getName());
+        }
+
+        @Override
+        public Evaluator visitIndex(IndexExpression indexExpression) {
+            var index = indexExpression.getIndex();
+            return current -> {
+                var list = asList(current);
+                if (list == null) {
+                    return null;
+                }
+                // Negative indices indicate reverse indexing in JMESPath
+                var i = index < 0 ? list.size() + index : index;
+                return i < 0 || i >= list.size() ? null : list.get(i);
+            };
+        }
+
+        @Override
+        public Evaluator visitLiteral(LiteralExpression literalExpression) {
+            var value = JMESPathDocumentQuery.literal(literalExpression);
+            return current -> current == null ? null : value;
+        }
+
+        @Override
+        public Evaluator visitMultiSelectList(MultiSelectListExpression multiSelectListExpression) {
+            List<Evaluator> expressions = new ArrayList<>();
+            for (var exp : multiSelectListExpression.getExpressions()) {
+                expressions.add(compile(exp));
+            }
+            return current -> {
+                if (current == null || expressions.isEmpty()) {
+                    return null;
+                }
+                List<Object> output = new ArrayList<>(expressions.size());
+                for (var expression : expressions) {
+                    output.add(expression.evaluate(current));
+                }
+                return output;
+            };
+        }
+
+        @Override
+        public Evaluator visitMultiSelectHash(MultiSelectHashExpression multiSelectHashExpression) {
+            Map<String, Evaluator> expressions = new HashMap<>();
+            for (var expEntry : multiSelectHashExpression.getExpressions().entrySet()) {
+                expressions.put(expEntry.getKey(), compile(expEntry.getValue()));
+            }
+            return current -> {
+                if (current == null || expressions.isEmpty()) {
+                    return null;
+                }
+                Map<String, Object> output = new HashMap<>(expressions.size() * 2);
+                for (var entry : expressions.entrySet()) {
+                    output.put(entry.getKey(), entry.getValue().evaluate(current));
+                }
+                return output;
+            };
+        }
+
+        @Override
+        public Evaluator visitAnd(AndExpression andExpression) {
+            var left = compile(andExpression.getLeft());
+            var right = compile(andExpression.getRight());
+            return current -> {
+                var value = left.evaluate(current);
+                return isTruthy(value) ? right.evaluate(current) : value;
+            };
+        }
+
+        @Override
+        public Evaluator visitOr(OrExpression orExpression) {
+            var left = compile(orExpression.getLeft());
+            var right = compile(orExpression.getRight());
+            return current -> {
+                var value = left.evaluate(current);
+                return isTruthy(value) ? value : right.evaluate(current);
+            };
+        }
+
+        @Override
+        public Evaluator visitNot(NotExpression notExpression) {
+            var expression = compile(notExpression.getExpression());
+            return current -> current == null ? null : !isTruthy(expression.evaluate(current));
+        }
+
+        @Override
+        public Evaluator visitProjection(ProjectionExpression projectionExpression) {
+            var left = compile(projectionExpression.getLeft());
+            var right = compile(projectionExpression.getRight());
+            return current -> {
+                var list = asList(left.evaluate(current));
+                if (list == null) {
+                    return null;
+                }
+                List<Object> projected = new ArrayList<>(list.size());
+                for (var value : list) {
+                    var result = right.evaluate(value);
+                    if (result != null) {
+                        projected.add(result);
+                    }
+                }
+                return projected;
+            };
+        }
+
+        @Override
+        public Evaluator visitFilterProjection(FilterProjectionExpression filterProjectionExpression) {
+            var left = compile(filterProjectionExpression.getLeft());
+            var comparison = compile(filterProjectionExpression.getComparison());
+            var right = compile(filterProjectionExpression.getRight());
+            return current -> {
+                var list = asList(left.evaluate(current));
+                if (list == null) {
+                    return null;
+                }
+                List<Object> results = new ArrayList<>();
+                for (var value : list) {
+                    if (isTruthy(comparison.evaluate(value))) {
+                        var result = right.evaluate(value);
+                        if (result != null) {
+                            results.add(result);
+                        }
+                    }
+                }
+                return results;
+            };
+        }
+
+        @Override
+        public Evaluator visitObjectProjection(ObjectProjectionExpression objectProjectionExpression) {
+            var left = compile(objectProjectionExpression.getLeft());
+            var right = compile(objectProjectionExpression.getRight());
+            return current -> {
+                var values = objectValues(left.evaluate(current));
+                if (values == null) {
+                    return null;
+                }
+                List<Object> projected = new ArrayList<>(values.size());
+                for (var value : values) {
+                    var result = right.evaluate(value);
+                    if (result != null) {
+                        projected.add(result);
+                    }
+                }
+                return projected;
+            };
+        }
+
+        @Override
+        public Evaluator visitSlice(SliceExpression sliceExpression) {
+            int step = sliceExpression.getStep();
+            var sliceStart = sliceExpression.getStart();
+            var sliceStop = sliceExpression.getStop();
+            return current -> {
+                var list = asList(current);
+                if (list == null) {
+                    return null;
+                }
+                int size = list.size();
+                int start = sliceStart.orElse(step > 0 ? 0 : size);
+                if (start < 0) {
+                    start = size + start;
+                }
+                int stop = sliceStop.orElse(step > 0 ? size : 0);
+                if (stop < 0) {
+                    stop = size + stop;
+                }
+                List<Object> output = new ArrayList<>();
+                if (start < stop) {
+                    for (int idx = start; idx < stop; idx += step) {
+                        output.add(list.get(idx));
+                    }
+                } else {
+                    // List is iterating in reverse
+                    for (int idx = start; idx > stop; idx += step) {
+                        output.add(list.get(idx - 1));
+                    }
+                }
+                return output;
+            };
+        }
+
+        @Override
+        public Evaluator visitSubexpression(Subexpression subexpression) {
+            var left = compile(subexpression.getLeft());
+            var right = compile(subexpression.getRight());
+            return current -> right.evaluate(left.evaluate(current));
+        }
+    }
+
+    /**
+     * Reads a field from structures, maps, and documents.
+     *
+     * <p>The member schema resolved for the last structure schema seen is cached, since a field expression almost
+     * always evaluates against the same type of structure.
+     */
+    private static final class FieldEvaluator implements Evaluator {
+        private final String name;
+        private MemberCache cache;
+
+        private record MemberCache(Schema parent, Schema member) {}
+
+        FieldEvaluator(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Object evaluate(Object current) {
+            return switch (current) {
+                case null -> null;
+                case Document document -> switch (document.type()) {
+                    case MAP, STRUCTURE, UNION -> document.getMember(name);
+                    default -> null;
+                };
+                case SerializableStruct struct -> getMember(struct);
+                case Map<?, ?> map -> map.get(name);
+                default -> null;
+            };
+        }
+
+        private Object getMember(SerializableStruct struct) {
+            var schema = struct.schema();
+            if (schema.type() == ShapeType.UNION) {
+                // Unions return a value for any of their members, so use a document to find the one that's set.
+                return Document.of(struct).getMember(name);
+            }
+            // Reading and writing the cache is racy, but each cache entry is immutable.
+            var cached = cache;
+            Schema member;
+            if (cached != null && cached.parent == schema) {
+                member = cached.member;
+            } else {
+                member = schema.member(name);
+                cache = new MemberCache(schema, member);
+            }
+            return member == null ? null : struct.getMemberValue(member);
+        }
+    }
+
+    private static List<?> asList(Object value) {
+        if (value instanceof List<?> list) {
+            return list;
+        } else if (value instanceof Document document && document.type() == ShapeType.LIST) {
+            return document.asList();
+        }
+        return null;
+    }
+
+    private static List<?> objectValues(Object value) {
+        switch (value) {
+            case null -> {
+                return null;
+            }
+            case Document document -> {
+                return switch (document.type()) {
+                    case MAP, STRUCTURE, UNION -> {
+                        List<Object> result = new ArrayList<>();
+                        for (var member : document.getMemberNames()) {
+                            var memberValue = document.getMember(member);
+                            if (memberValue != null) {
+                                result.add(memberValue);
+                            }
+                        }
+                        yield result;
+                    }
+                    default -> null;
+                };
+            }
+            case SerializableStruct struct -> {
+                if (struct.schema().type() == ShapeType.UNION) {
+                    return objectValues(Document.of(struct));
+                }
+                List<Object> result = new ArrayList<>();
+                for (var member : struct.schema().members()) {
+                    var memberValue = struct.getMemberValue(member);
+                    if (memberValue != null) {
+                        result.add(memberValue);
+                    }
+                }
+                return result;
+            }
+            case Map<?, ?> map -> {
+                List<Object> result = new ArrayList<>(map.size());
+                for (var memberValue : map.values()) {
+                    if (memberValue != null) {
+                        result.add(memberValue);
+                    }
+                }
+                return result;
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+
+    private static boolean isTruthy(Object value) {
+        return switch (value) {
+            case null -> false;
+            case Document document -> JMESPathDocumentUtils.isTruthy(document);
+            case List<?> list -> !list.isEmpty();
+            case Map<?, ?> map -> !map.isEmpty();
+            case String string -> !string.isEmpty();
+            case Boolean bool -> bool;
+            case SerializableStruct struct -> true;
+            // Enums are truthy based on their string value.
+            case SerializableShape shape -> JMESPathDocumentUtils.isTruthy(Document.of(shape));
+            // All other values are considered "truthy" if they exist.
+            default -> true;
+        };
+    }
+
+    private static Boolean compare(ComparatorType comparator, Object leftValue, Object rightValue) {
+        var left = Document.ofObject(leftValue);
+        var right = Document.ofObject(rightValue);
+        return switch (comparator) {
+            case EQUAL -> Objects.equals(left, right);
+            case NOT_EQUAL -> !Objects.equals(left, right);
+            // NOTE: Ordering operators >, >=, <, <= are only valid for numbers. All invalid
+            // comparisons return null.
+            case LESS_THAN ->
+                JMESPathDocumentUtils.isNumericComparison(left, right) ? Document.compare(left, right) < 0 : null;
+            case LESS_THAN_EQUAL ->
+                JMESPathDocumentUtils.isNumericComparison(left, right) ? Document.compare(left, right) <= 0 : null;
+            case GREATER_THAN ->
+                JMESPathDocumentUtils.isNumericComparison(left, right) ? Document.compare(left, right) > 0 : null;
+            case GREATER_THAN_EQUAL ->
+                JMESPathDocumentUtils.isNumericComparison(left, right) ? Document.compare(left, right) >= 0 : null;
+        };
+    }
+}
@@ -126,7 +126,11 @@ class ComplianceTestRunner {
 
         @Override
         public void run() {
-            var result = JMESPathDocumentQuery.query(expression, given);
+            check(JMESPathDocumentQuery.query(expression, given));
+            check(JMESPathQuery.compile(expression).query(given));
+        }
+
+        private void check(Document result) {
             if (expected == null && result == null) {
                 return;
             }
@@ -0,0 +1,128 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.jmespath;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.java.core.schema.PreludeSchemas;
+import software.amazon.smithy.java.core.schema.Schema;
+import software.amazon.smithy.java.core.schema.SerializableStruct;
+import software.amazon.smithy.java.core.serde.ShapeSerializer;
+import software.amazon.smithy.java.core.serde.document.Document;
+import software.amazon.smithy.model.shapes.ShapeId;
+
+public class TestJMESPathQuery {
+
+    private static final Schema ITEM = Schema.structureBuilder(ShapeId.from("smithy.example#Item"))
+            .putMember("name", PreludeSchemas.STRING)
+            .putMember("size", PreludeSchemas.INTEGER)
+            .build();
+
+    private static final Schema ITEM_LIST = Schema.listBuilder(ShapeId.from("smithy.example#ItemList"))
+            .putMember("member", ITEM)
+            .build();
+
+    private static final Schema CONTAINER = Schema.structureBuilder(ShapeId.from("smithy.example#Container"))
+            .putMember("items", ITEM_LIST)
+            .putMember("next", PreludeSchemas.STRING)
+            .build();
+
+    private static final Container VALUE = new Container(
+            List.of(new Item("a", 1), new Item("b", 2), new Item("c", 3)),
+            null);
+
+    @Test
+    void queriesStructMembers() {
+        var value = JMESPathQuery.compile("items[0].name").query(VALUE);
+
+        assertEquals("a", value.asString());
+    }
+
+    @Test
+    void filtersStructLists() {
+        var value = JMESPathQuery.compile("items[?size > `1`].name").query(VALUE);
+
+        assertEquals(List.of("b", "c"), value.asList().stream().map(Document::asString).toList());
+    }
+
+    @Test
+    void convertsFunctionArguments() {
+        var value = JMESPathQuery.compile("length(items)").query(VALUE);
+
+        assertEquals(3, value.asInteger());
+    }
+
+    @Test
+    void returnsNullForUnsetMembers() {
+        assertNull(JMESPathQuery.compile("next").query(VALUE));
+        assertNull(JMESPathQuery.compile("missing.name").query(VALUE));
+    }
+
+    @Test
+    void matchesDocumentQueries() {
+        var doc = Document.of(VALUE);
+        var expression = "items[?size >= `2`] | [0].name";
+
+        assertEquals(
+                JMESPathDocumentQuery.query(expression, doc),
+                JMESPathQuery.compile(expression).query(doc));
+    }
+
+    private record Item(String name, int size) implements SerializableStruct {
+        @Override
+        public Schema schema() {
+            return ITEM;
+        }
+
+        @Override
+        public void serializeMembers(ShapeSerializer serializer) {
+            serializer.writeString(ITEM.member("name"), name);
+            serializer.writeInteger(ITEM.member("size"), size);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T getMemberValue(Schema member) {
+            return (T) switch (member.memberName()) {
+                case "name" -> name;
+                case "size" -> (Object) size;
+                default -> throw new IllegalArgumentException(member.memberName());
+            };
+        }
+    }
+
+    private record Container(List<Item> items, String next) implements SerializableStruct {
+        @Override
+        public Schema schema() {
+            return CONTAINER;
+        }
+
+        @Override
+        public void serializeMembers(ShapeSerializer serializer) {
+            serializer.writeList(CONTAINER.member("items"), items, items.size(), (list, ser) -> {
+                for (var item : list) {
+                    ser.writeStruct(ITEM, item);
+                }
+            });
+            if (next != null) {
+                serializer.writeString(CONTAINER.member("next"), next);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T getMemberValue(Schema member) {
+            return (T) switch (member.memberName()) {
+                case "items" -> items;
+                case "next" -> next;
+                default -> throw new IllegalArgumentException(member.memberName());
+            };
+        }
+    }
+}
@@ -5,6 +5,8 @@
 
 package software.amazon.smithy.mcp.bundle.api;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import software.amazon.smithy.java.server.Service;
 import software.amazon.smithy.mcp.bundle.api.model.Bundle;
 import software.amazon.smithy.mcp.bundle.api.model.SmithyMcpBundle;
@@ -23,4 +25,38 @@ public class McpBundles {
             default -> throw new IllegalArgumentException("Unsupported bundle type: " + bundle.type());
         };
     }
+
+    /**
+     * Creates a service for a bundle, starting from a model snapshot written at install time when one exists.
+     *
+     * @param bundle Bundle to create the service for.
+     * @param snapshot Location of the bundle's model snapshot.
+     * @return the created service.
+     */
+    public static Service getService(Bundle bundle, Path snapshot) {
+        return switch (bundle.type()) {
+            case smithyBundle -> {
+                SmithyMcpBundle smithyMcpBundle = bundle.getValue();
+                yield ModelBundles.getService(smithyMcpBundle.getBundle(), snapshot);
+            }
+            default -> throw new IllegalArgumentException("Unsupported bundle type: " + bundle.type());
+        };
+    }
+
+    /**
+     * Writes the model snapshot used by {@link #getService(Bundle, Path)}.
+     *
+     * @param bundle Bundle to snapshot.
+     * @param snapshot Where to write the snapshot.
+     * @throws IOException if the snapshot can't be written.
+     */
+    public static void writeSnapshot(Bundle bundle, Path snapshot) throws IOException {
+        switch (bundle.type()) {
+            case smithyBundle -> {
+                SmithyMcpBundle smithyMcpBundle = bundle.getValue();
+                ModelBundles.writeSnapshot(smithyMcpBundle.getBundle(), snapshot);
+            }
+            default -> throw new IllegalArgumentException("Unsupported bundle type: " + bundle.type());
+        }
+    }
 }
@@ -0,0 +1,433 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.mcp.bundle.api;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import software.amazon.smithy.java.core.schema.TraitKey;
+import software.amazon.smithy.java.server.Service;
+
+/**
+ * A ranked full-text index over tools.
+ *
+ * <p>Each tool is indexed by the words of its name, its documentation and the names of its input members, and
+ * queries are scored with BM25. An index is built once, written with {@link #write(Path)}, and later opened with
+ * {@link #read(Path)}, which memory-maps the file and searches it in place without tokenizing any documentation.
+ *
+ * <p>Indexes are immutable and safe to search from multiple threads.
+ */
+public final class ToolSearchIndex {
+
+    // Layout, with every int big-endian:
+    //   header:   magic, version, docCount, termCount, avgDocLength (float), and the offsets of the sections below
+    //   docs:     per tool: length, serverId offset, serverId length, toolName offset, toolName length
+    //   terms:    per term, sorted by UTF-8 bytes: term offset, term length, first posting, posting count
+    //   postings: per posting: doc, term frequency
+    //   strings:  UTF-8 bytes referenced by offset from the start of this section
+    private static final int MAGIC = 0x534D5449;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 36;
+    private static final int DOC_SIZE = 20;
+    private static final int TERM_SIZE = 16;
+    private static final int POSTING_SIZE = 8;
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    // Words in a tool name count this many times, which ranks name matches above documentation matches.
+    private static final int NAME_BOOST = 3;
+
+    private final ByteBuffer buffer;
+    private final int docCount;
+    private final int termCount;
+    private final float avgDocLength;
+    private final int docsOffset;
+    private final int termsOffset;
+    private final int postingsOffset;
+    private final int stringsOffset;
+    private final IntBuffer postings;
+    private volatile float[] norms;
+
+    private ToolSearchIndex(ByteBuffer buffer) {
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a tool search index");
+        } else if (buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported tool search index version: " + buffer.getInt(4));
+        }
+        this.buffer = buffer;
+        this.docCount = buffer.getInt(8);
+        this.termCount = buffer.getInt(12);
+        this.avgDocLength = buffer.getFloat(16);
+        this.docsOffset = buffer.getInt(20);
+        this.termsOffset = buffer.getInt(24);
+        this.postingsOffset = buffer.getInt(28);
+        this.stringsOffset = buffer.getInt(32);
+        this.postings = buffer.slice(postingsOffset, stringsOffset - postingsOffset).asIntBuffer();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Open an index written by {@link #write(Path)}.
+     *
+     * <p>The file is memory-mapped rather than read onto the heap.
+     *
+     * @param path File to open.
+     * @return the opened index.
+     * @throws IOException if the file can't be read.
+     * @throws IllegalArgumentException if the file isn't a supported index.
+     */
+    public static ToolSearchIndex read(Path path) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new ToolSearchIndex(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Write the index to a file, replacing any existing file.
+     *
+     * @param path File to write.
+     * @throws IOException if the file can't be written.
+     */
+    public void write(Path path) throws IOException {
+        try (var channel = FileChannel.open(path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            var contents = buffer.duplicate().clear();
+            while (contents.hasRemaining()) {
+                channel.write(contents);
+            }
+        }
+    }
+
+    /**
+     * @return the number of indexed tools.
+     */
+    public int size() {
+        return docCount;
+    }
+
+    /**
+     * Find the tools that best match a query.
+     *
+     * @param query Free-form text to search for.
+     * @param limit Maximum number of tools to return.
+     * @return the matching tools, best match first.
+     */
+    public List<RegistryTool> search(String query, int limit) {
+        if (limit <= 0 || docCount == 0) {
+            return List.of();
+        }
+
+        var norms = norms();
+        var scores = new float[docCount];
+        var hits = new int[Math.min(docCount, 64)];
+        int hitCount = 0;
+        for (var token : new LinkedHashSet<>(tokenize(query))) {
+            int term = findTerm(token.getBytes(StandardCharsets.UTF_8));
+            if (term < 0) {
+                continue;
+            }
+            int termPosition = termsOffset + term * TERM_SIZE;
+            int first = buffer.getInt(termPosition + 8);
+            int count = buffer.getInt(termPosition + 12);
+            float idf = (float) Math.log(1 + (docCount - count + 0.5) / (count + 0.5));
+            for (int i = 0; i < count; i++) {
+                int posting = (first + i) * 2;
+                int doc = postings.get(posting);
+                int tf = postings.get(posting + 1);
+                if (scores[doc] == 0) {
+                    if (hitCount == hits.length) {
+                        hits = Arrays.copyOf(hits, Math.min(docCount, hitCount << 1));
+                    }
+                    hits[hitCount++] = doc;
+                }
+                scores[doc] += idf * tf * (K1 + 1) / (tf + norms[doc]);
+            }
+        }
+
+        // Insert each hit into a sorted array of the best matches, skipping hits that can't make the cut.
+        var best = new int[Math.min(limit, hitCount)];
+        int bestCount = 0;
+        for (int i = 0; i < hitCount; i++) {
+            int doc = hits[i];
+            float score = scores[doc];
+            if (bestCount == best.length && !ranksBefore(doc, score, best[bestCount - 1], scores)) {
+                continue;
+            }
+            int position = bestCount == best.length ? bestCount - 1 : bestCount++;
+            while (position > 0 && ranksBefore(doc, score, best[position - 1], scores)) {
+                best[position] = best[position - 1];
+                position--;
+            }
+            best[position] = doc;
+        }
+
+        var result = new ArrayList<RegistryTool>(bestCount);
+        for (int i = 0; i < bestCount; i++) {
+            result.add(tool(best[i]));
+        }
+        return result;
+    }
+
+    // Higher scores rank first, and ties keep the order tools were added in.
+    private static boolean ranksBefore(int doc, float score, int other, float[] scores) {
+        float otherScore = scores[other];
+        return score > otherScore || (score == otherScore && doc < other);
+    }
+
+    // The BM25 length normalization of each tool is computed once per index rather than once per posting.
+    private float[] norms() {
+        var result = norms;
+        if (result == null) {
+            result = new float[docCount];
+            for (int doc = 0; doc < docCount; doc++) {
+                result[doc] = K1 * (1 - B + B * buffer.getInt(docsOffset + doc * DOC_SIZE) / avgDocLength);
+            }
+            norms = result;
+        }
+        return result;
+    }
+
+    private RegistryTool tool(int doc) {
+        int position = docsOffset + doc * DOC_SIZE;
+        return new RegistryTool(
+                string(buffer.getInt(position + 4), buffer.getInt(position + 8)),
+                string(buffer.getInt(position + 12), buffer.getInt(position + 16)));
+    }
+
+    private String string(int offset, int length) {
+        var bytes = new byte[length];
+        buffer.get(stringsOffset + offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int findTerm(byte[] key) {
+        int low = 0;
+        int high = termCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareTerm(mid, key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int compareTerm(int term, byte[] key) {
+        int termPosition = termsOffset + term * TERM_SIZE;
+        int offset = stringsOffset + buffer.getInt(termPosition);
+        int length = buffer.getInt(termPosition + 4);
+        int shared = Math.min(length, key.length);
+        for (int i = 0; i < shared; i++) {
+            int cmp = Byte.compareUnsigned(buffer.get(offset + i), key[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(length, key.length);
+    }
+
+    /**
+     * Split text into lower-cased words at non-alphanumeric characters and camel case boundaries.
+     *
+     * <p>Single characters are dropped, so "GetHTTPEndpoint for s3" becomes "get", "http", "endpoint", "for", "s3".
+     */
+    static List<String> tokenize(String text) {
+        var tokens = new ArrayList<String>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                addToken(tokens, text, start, i);
+                start = -1;
+            } else if (start < 0) {
+                start = i;
+            } else if (Character.isUpperCase(c)) {
+                char previous = text.charAt(i - 1);
+                boolean nextIsLower = i + 1 < length && Character.isLowerCase(text.charAt(i + 1));
+                if (!Character.isUpperCase(previous) || nextIsLower) {
+                    addToken(tokens, text, start, i);
+                    start = i;
+                }
+            }
+        }
+        addToken(tokens, text, start, length);
+        return tokens;
+    }
+
+    private static void addToken(List<String> tokens, String text, int start, int end) {
+        if (start >= 0 && end - start > 1) {
+            tokens.add(text.substring(start, end).toLowerCase(Locale.ENGLISH));
+        }
+    }
+
+    /**
+     * Builds a {@link ToolSearchIndex}.
+     */
+    public static final class Builder {
+        private final List<Doc> docs = new ArrayList<>();
+
+        private Builder() {}
+
+        /**
+         * Index every operation of a service as a tool.
+         *
+         * @param serverId Id of the server that exposes the service.
+         * @param service Service to index.
+         * @return the builder.
+         */
+        public Builder addService(String serverId, Service service) {
+            for (var operation : service.getAllOperations()) {
+                var apiOperation = operation.getApiOperation();
+                var text = new ArrayList<String>();
+                var documentation = apiOperation.schema().getTrait(TraitKey.DOCUMENTATION_TRAIT);
+                if (documentation != null) {
+                    text.add(documentation.getValue());
+                }
+                for (var member : apiOperation.inputSchema().members()) {
+                    text.add(member.memberName());
+                }
+                addTool(serverId, operation.name(), text);
+            }
+            return this;
+        }
+
+        /**
+         * Index a tool.
+         *
+         * @param serverId Id of the server that exposes the tool.
+         * @param toolName Name of the tool.
+         * @param text Additional text to match the tool by, such as its documentation.
+         * @return the builder.
+         */
+        public Builder addTool(String serverId, String toolName, Collection<String> text) {
+            var frequencies = new HashMap<String, Integer>();
+            int length = 0;
+            for (var token : tokenize(toolName)) {
+                frequencies.merge(token, NAME_BOOST, Integer::sum);
+                length += NAME_BOOST;
+            }
+            for (var value : text) {
+                for (var token : tokenize(value)) {
+                    frequencies.merge(token, 1, Integer::sum);
+                    length++;
+                }
+            }
+            docs.add(new Doc(serverId, toolName, frequencies, length));
+            return this;
+        }
+
+        public ToolSearchIndex build() {
+            // Invert the per-tool frequencies, visiting tools in order so each posting list is sorted by tool.
+            var postingsByTerm = new HashMap<String, List<int[]>>();
+            long totalLength = 0;
+            for (int doc = 0; doc < docs.size(); doc++) {
+                var entry = docs.get(doc);
+                totalLength += entry.length;
+                for (var frequency : entry.frequencies.entrySet()) {
+                    postingsByTerm.computeIfAbsent(frequency.getKey(), k -> new ArrayList<>())
+                            .add(new int[] {doc, frequency.getValue()});
+                }
+            }
+
+            var terms = new byte[postingsByTerm.size()][];
+            int t = 0;
+            for (var term : postingsByTerm.keySet()) {
+                terms[t++] = term.getBytes(StandardCharsets.UTF_8);
+            }
+            Arrays.sort(terms, Arrays::compareUnsigned);
+
+            var strings = new StringTable();
+            int postingCount = 0;
+            for (var postings : postingsByTerm.values()) {
+                postingCount += postings.size();
+            }
+
+            int docsOffset = HEADER_SIZE;
+            int termsOffset = docsOffset + docs.size() * DOC_SIZE;
+            int postingsOffset = termsOffset + terms.length * TERM_SIZE;
+            int stringsOffset = postingsOffset + postingCount * POSTING_SIZE;
+
+            // Strings are appended while writing the fixed-size sections, and copied to the end afterward.
+            var fixed = ByteBuffer.allocate(stringsOffset);
+            fixed.putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(docs.size())
+                    .putInt(terms.length)
+                    .putFloat(docs.isEmpty() ? 0 : (float) totalLength / docs.size())
+                    .putInt(docsOffset)
+                    .putInt(termsOffset)
+                    .putInt(postingsOffset)
+                    .putInt(stringsOffset);
+
+            for (var doc : docs) {
+                fixed.putInt(doc.length);
+                strings.put(fixed, doc.serverId.getBytes(StandardCharsets.UTF_8));
+                strings.put(fixed, doc.toolName.getBytes(StandardCharsets.UTF_8));
+            }
+
+            int posting = 0;
+            for (var term : terms) {
+                var postings = postingsByTerm.get(new String(term, StandardCharsets.UTF_8));
+                strings.put(fixed, term);
+                fixed.putInt(posting).putInt(postings.size());
+                int position = postingsOffset + posting * POSTING_SIZE;
+                for (var entry : postings) {
+                    fixed.putInt(position, entry[0]).putInt(position + 4, entry[1]);
+                    position += POSTING_SIZE;
+                }
+                posting += postings.size();
+            }
+
+            var result = ByteBuffer.allocate(stringsOffset + strings.size);
+            result.put(fixed.clear()).put(strings.bytes, 0, strings.size).clear();
+            return new ToolSearchIndex(result.asReadOnlyBuffer());
+        }
+    }
+
+    private record Doc(String serverId, String toolName, Map<String, Integer> frequencies, int length) {}
+
+    private static final class StringTable {
+        private byte[] bytes = new byte[1024];
+        private int size;
+
+        // Appends a string and writes its offset and length to the given buffer.
+        void put(ByteBuffer target, byte[] value) {
+            if (size + value.length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length << 1, size + value.length));
+            }
+            System.arraycopy(value, 0, bytes, size, value.length);
+            target.putInt(size).putInt(value.length);
+            size += value.length;
+        }
+    }
+}
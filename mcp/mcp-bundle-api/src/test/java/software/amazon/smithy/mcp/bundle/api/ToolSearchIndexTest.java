@@ -0,0 +1,56 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.mcp.bundle.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ToolSearchIndexTest {
+
+    private static final ToolSearchIndex INDEX = ToolSearchIndex.builder()
+            .addTool("s3", "GetObject", List.of("Retrieves an object from a bucket.", "Bucket", "Key"))
+            .addTool("s3", "ListBuckets", List.of("Returns a list of all buckets owned by the sender."))
+            .addTool("s3", "PutObject", List.of("Adds an object to a bucket.", "Bucket", "Key", "Body"))
+            .addTool("dynamodb", "GetItem", List.of("Returns the attributes of an item from a table.", "TableName"))
+            .build();
+
+    @Test
+    public void tokenizesCamelCaseAndPunctuation() {
+        assertEquals(List.of("get", "http", "endpoint", "for", "s3"),
+                ToolSearchIndex.tokenize("GetHTTPEndpoint for s3"));
+        assertEquals(List.of("table", "name"), ToolSearchIndex.tokenize("<p>table_name</p>"));
+    }
+
+    @Test
+    public void ranksNameMatchesFirst() {
+        var results = INDEX.search("get object bucket", 2);
+
+        assertEquals(List.of(new RegistryTool("s3", "GetObject"), new RegistryTool("s3", "PutObject")), results);
+    }
+
+    @Test
+    public void limitsAndSkipsUnknownTerms() {
+        assertEquals(List.of(new RegistryTool("dynamodb", "GetItem")), INDEX.search("unknown table", 5));
+        assertTrue(INDEX.search("unknown", 5).isEmpty());
+        assertTrue(INDEX.search("object", 0).isEmpty());
+    }
+
+    @Test
+    public void roundTripsThroughFile(@TempDir Path dir) throws Exception {
+        var file = dir.resolve("tools.index");
+        INDEX.write(file);
+        var loaded = ToolSearchIndex.read(file);
+
+        assertEquals(INDEX.size(), loaded.size());
+        assertEquals(INDEX.search("get object from bucket", 3), loaded.search("get object from bucket", 3));
+        assertEquals(new RegistryTool("s3", "GetObject"), loaded.search("get object", 1).get(0));
+    }
+}
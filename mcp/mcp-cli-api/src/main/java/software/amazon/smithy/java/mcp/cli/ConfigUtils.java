@@ -36,6 +36,7 @@ import software.amazon.smithy.java.mcp.cli.model.McpBundleConfig;
 import software.amazon.smithy.java.mcp.cli.model.McpServerConfig;
 import software.amazon.smithy.java.mcp.cli.model.McpServersClientConfig;
 import software.amazon.smithy.java.mcp.cli.model.SmithyModeledBundleConfig;
+import software.amazon.smithy.mcp.bundle.api.McpBundles;
 import software.amazon.smithy.mcp.bundle.api.model.Bundle;
 import software.amazon.smithy.mcp.bundle.api.model.ExecSpec;
 import software.amazon.smithy.mcp.bundle.api.model.GenericBundle;
@@ -146,6 +147,10 @@ public class ConfigUtils {
         return BUNDLE_DIR.resolve(id + ".json");
     }
 
+    public static Path getModelSnapshotLocation(String id) {
+        return BUNDLE_DIR.resolve(id + ".snapshot");
+    }
+
     /**
      * Updates the MCP configuration file with the provided configuration.
      *
@@ -205,6 +210,7 @@ public class ConfigUtils {
         updateConfig(newConfig);
         var bundleFile = getBundleFileLocation(id);
         Files.deleteIfExists(bundleFile);
+        Files.deleteIfExists(getModelSnapshotLocation(id));
         // Remove wrapper script if it exists
         removeWrapperScript(id);
     }
@@ -325,6 +331,10 @@ public class ConfigUtils {
 
         var mcpBundleConfig = builder.build();
         writeMcpBundle(id, bundle);
+        if (bundle.type() == Bundle.Type.smithyBundle) {
+            // Servers start from the snapshot instead of assembling the bundled model every time.
+            McpBundles.writeSnapshot(bundle, getModelSnapshotLocation(id));
+        }
         addMcpBundleConfig(config, id, mcpBundleConfig);
         return mcpBundleConfig;
     }
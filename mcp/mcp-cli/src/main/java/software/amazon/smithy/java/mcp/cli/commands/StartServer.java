@@ -233,7 +233,8 @@ public final class StartServer extends SmithyMcpCommand {
     }
 
     private static Service bundleToService(SmithyModeledBundleConfig bundleConfig) {
-        var service = bundleToService(ConfigUtils.getMcpBundle(bundleConfig.getName()));
+        var name = bundleConfig.getName();
+        var service = McpBundles.getService(ConfigUtils.getMcpBundle(name), ConfigUtils.getModelSnapshotLocation(name));
         if (bundleConfig.hasAllowListedTools() || bundleConfig.hasBlockListedTools()) {
             var filter = OperationFilters.allowList(bundleConfig.getAllowListedTools())
                     .and(OperationFilters.blockList(bundleConfig.getBlockListedTools()));
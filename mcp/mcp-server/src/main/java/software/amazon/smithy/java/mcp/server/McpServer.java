@@ -19,12 +19,23 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Scanner;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import software.amazon.smithy.java.core.schema.Schema;
@@ -72,6 +83,8 @@ public final class McpServer implements Server {
                     .build())
             .build();
 
+    private static final byte[] CLOSE_OUTPUT = new byte[0];
+
     private final Map<String, Tool> tools;
     private final Map<String, Prompt> prompts;
     private final PromptProcessor promptProcessor;
@@ -84,6 +97,15 @@ public final class McpServer implements Server {
     private final CountDownLatch done = new CountDownLatch(1);
     private final AtomicReference<JsonRpcRequest> initializeRequest = new AtomicReference<>();
     private final ToolFilter toolFilter;
+    private final Executor toolExecutor;
+    private final ExecutorService ownedToolExecutor;
+    private final int maxConcurrentToolCalls;
+    private final Semaphore toolCallPermits;
+    private final Map<Object, ToolCall> inFlightToolCalls = new ConcurrentHashMap<>();
+    private final Queue<ToolCall> pendingToolCalls = new ConcurrentLinkedQueue<>();
+    private volatile AtomicReferenceArray<byte[]> toolsListCache = new AtomicReferenceArray<>(2);
+    private final BlockingQueue<byte[]> outbound = new LinkedBlockingQueue<>();
+    private final Thread writer;
     private volatile ProtocolVersion protocolVersion;
 
     McpServer(McpServerBuilder builder) {
@@ -96,17 +118,31 @@ public final class McpServer implements Server {
         this.name = builder.name;
         this.proxies = builder.proxyList.stream().collect(Collectors.toMap(McpServerProxy::name, Function.identity()));
         this.toolFilter = builder.toolFilter;
+        if (builder.toolExecutor != null) {
+            this.toolExecutor = builder.toolExecutor;
+            this.ownedToolExecutor = null;
+        } else {
+            this.ownedToolExecutor = Executors.newVirtualThreadPerTaskExecutor();
+            this.toolExecutor = ownedToolExecutor;
+        }
+        this.maxConcurrentToolCalls = builder.maxConcurrentToolCalls;
+        this.toolCallPermits = new Semaphore(maxConcurrentToolCalls);
         this.listener = new Thread(() -> {
             try {
                 this.listen();
             } catch (Exception e) {
                 LOG.error("Error handling request", e);
             } finally {
+                awaitToolCalls();
+                closeOutput();
                 done.countDown();
             }
         });
         listener.setName("stdio-dispatcher");
         listener.setDaemon(true);
+        this.writer = new Thread(this::writeOutbound);
+        writer.setName("stdio-writer");
+        writer.setDaemon(true);
     }
 
     private void listen() {
@@ -122,6 +158,64 @@ public final class McpServer implements Server {
         }
     }
 
+    // Messages are written by a single thread so that responses from concurrent tool calls never interleave, and
+    // so that tool calls never block on a slow reader.
+    private void writeOutbound() {
+        try {
+            while (true) {
+                var message = outbound.take();
+                if (message == CLOSE_OUTPUT) {
+                    os.flush();
+                    return;
+                }
+                try {
+                    os.write(message);
+                    // Flush once the queue is drained rather than after every message.
+                    if (outbound.isEmpty()) {
+                        os.flush();
+                    }
+                } catch (Exception e) {
+                    LOG.error("Error writing response", e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            LOG.error("Error flushing output", e);
+        }
+    }
+
+    private void enqueue(String message) {
+        var bytes = message.getBytes(StandardCharsets.UTF_8);
+        var line = new byte[bytes.length + 1];
+        System.arraycopy(bytes, 0, line, 0, bytes.length);
+        line[bytes.length] = '\n';
+        outbound.add(line);
+    }
+
+    private void awaitToolCalls() {
+        // Every permit is available again once all running tool calls have completed. Queued calls may still be
+        // waiting to start if a permit was released after the last check, so start them and wait again.
+        while (true) {
+            toolCallPermits.acquireUninterruptibly(maxConcurrentToolCalls);
+            var idle = pendingToolCalls.isEmpty();
+            toolCallPermits.release(maxConcurrentToolCalls);
+            if (idle) {
+                return;
+            }
+            startPendingToolCalls();
+        }
+    }
+
+    private void closeOutput() {
+        outbound.add(CLOSE_OUTPUT);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private void handleRequest(JsonRpcRequest req) {
         try {
             validate(req);
@@ -172,14 +266,7 @@ public final class McpServer implements Server {
                 case "tools/list" -> {
                     boolean supportsOutputSchema = protocolVersion != null
                             && protocolVersion.compareTo(ProtocolVersion.v2025_06_18.INSTANCE) >= 0;
-                    writeResponse(req.getId(),
-                            ListToolsResult.builder()
-                                    .tools(tools.values()
-                                            .stream()
-                                            .filter(t -> toolFilter.allowTool(t.serverId(), t.toolInfo().getName()))
-                                            .map(tool -> extractToolInfo(tool, supportsOutputSchema))
-                                            .toList())
-                                    .build());
+                    writeToolsList(req.getId(), supportsOutputSchema);
                 }
                 case "tools/call" -> {
                     var operationName = req.getParams().getMember("name").asString();
@@ -196,19 +283,7 @@ public final class McpServer implements Server {
                                 .build();
 
                         // Get response asynchronously
-                        tool.proxy().rpc(proxyRequest).thenAccept(response -> {
-                            // Pass through the response directly
-                            synchronized (this) {
-                                try {
-                                    String serializedResponse = CODEC.serializeToString(response);
-                                    os.write(serializedResponse.getBytes(StandardCharsets.UTF_8));
-                                    os.write('\n');
-                                    os.flush();
-                                } catch (Exception e) {
-                                    LOG.error("Error writing proxy response", e);
-                                }
-                            }
-                        }).exceptionally(ex -> {
+                        tool.proxy().rpc(proxyRequest).thenAccept(this::writeResponse).exceptionally(ex -> {
                             LOG.error("Error from proxy RPC", ex);
                             internalError(req, new RuntimeException("Proxy error: " + ex.getMessage(), ex));
                             return null;
@@ -217,18 +292,20 @@ public final class McpServer implements Server {
                         // Don't send a response here as it will be sent when the future completes
                         return;
                     } else {
-                        // Handle locally
-                        var operation = tool.operation();
-                        var argumentsDoc = req.getParams().getMember("arguments");
-                        var adaptedDoc = adaptDocument(argumentsDoc, operation.getApiOperation().inputSchema());
-                        var input = adaptedDoc.asShape(operation.getApiOperation().inputBuilder());
-                        var output = operation.function().apply(input, null);
-                        var result = CallToolResult.builder()
-                                .content(List.of(TextContent.builder()
-                                        .text(CODEC.serializeToString((SerializableShape) output))
-                                        .build()))
-                                .build();
-                        writeResponse(req.getId(), result);
+                        // Handle locally, without blocking the requests that follow.
+                        dispatch(req, tool);
+                    }
+                }
+                case "notifications/cancelled" -> {
+                    var params = req.getParams();
+                    var requestId = params == null ? null : params.getMember("requestId");
+                    var call = requestId == null ? null : inFlightToolCalls.get(requestId.asObject());
+                    if (call != null) {
+                        call.cancel(true);
+                        // A queued call holds no permit, so it can be dropped now instead of when it would start.
+                        if (pendingToolCalls.remove(call)) {
+                            inFlightToolCalls.remove(call.key, call);
+                        }
                     }
                 }
                 default -> {
@@ -240,6 +317,139 @@ public final class McpServer implements Server {
         }
     }
 
+    private void dispatch(JsonRpcRequest req, Tool tool) {
+        // Calls over the limit are queued rather than blocking the reader, so that cancellations and other requests
+        // are still read while the maximum number of tool calls are running.
+        var call = new ToolCall(req, tool);
+        inFlightToolCalls.put(call.key, call);
+        pendingToolCalls.add(call);
+        startPendingToolCalls();
+    }
+
+    // Called when a call is queued and when a running call returns its permit.
+    private void startPendingToolCalls() {
+        while (!pendingToolCalls.isEmpty() && toolCallPermits.tryAcquire()) {
+            var call = pendingToolCalls.poll();
+            if (call == null) {
+                toolCallPermits.release();
+            } else if (call.isCancelled()) {
+                // Cancelled before it started, so it never runs or responds.
+                call.release();
+            } else {
+                try {
+                    toolExecutor.execute(call);
+                } catch (RuntimeException e) {
+                    // The call never runs, so release what it holds here.
+                    call.cancel(false);
+                    call.release();
+                    internalError(call.request, e);
+                }
+            }
+        }
+    }
+
+    private JsonRpcResponse callTool(JsonRpcRequest req, Tool tool) {
+        var operation = tool.operation();
+        var argumentsDoc = req.getParams().getMember("arguments");
+        var adaptedDoc = adaptDocument(argumentsDoc, operation.getApiOperation().inputSchema());
+        var input = adaptedDoc.asShape(operation.getApiOperation().inputBuilder());
+        var output = operation.function().apply(input, null);
+        var result = CallToolResult.builder()
+                .content(List.of(TextContent.builder()
+                        .text(CODEC.serializeToString((SerializableShape) output))
+                        .build()))
+                .build();
+        return response(req.getId(), result);
+    }
+
+    /**
+     * A local tool call that writes its response when it completes.
+     *
+     * <p>Calls wait in a queue until a permit is available. Cancelled calls are interrupted and don't send a
+     * response. The call keeps its permit until the tool returns, even when it's cancelled, so cancelled tools that
+     * ignore interrupts still count toward the limit.
+     */
+    private final class ToolCall extends FutureTask<JsonRpcResponse> {
+        private final JsonRpcRequest request;
+        private final Object key;
+
+        ToolCall(JsonRpcRequest request, Tool tool) {
+            super(() -> callTool(request, tool));
+            this.request = request;
+            this.key = request.getId().asObject();
+        }
+
+        @Override
+        public void run() {
+            try {
+                super.run();
+            } finally {
+                release();
+                startPendingToolCalls();
+            }
+        }
+
+        void release() {
+            inFlightToolCalls.remove(key, this);
+            toolCallPermits.release();
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                return;
+            }
+            try {
+                writeResponse(get());
+            } catch (ExecutionException e) {
+                internalError(request, e.getCause() instanceof Exception ex ? ex : new RuntimeException(e.getCause()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void writeToolsList(Document id, boolean supportsOutputSchema) {
+        var result = toolsList(supportsOutputSchema);
+        var prefix = ("{\"jsonrpc\":\"2.0\",\"id\":" + CODEC.serializeToString(id) + ",\"result\":")
+                .getBytes(StandardCharsets.UTF_8);
+        var line = new byte[prefix.length + result.length + 2];
+        System.arraycopy(prefix, 0, line, 0, prefix.length);
+        System.arraycopy(result, 0, line, prefix.length, result.length);
+        line[line.length - 2] = '}';
+        line[line.length - 1] = '\n';
+        outbound.add(line);
+    }
+
+    /**
+     * Gets the serialized ListToolsResult, computing it at most once until the set of tools changes.
+     *
+     * <p>The tool filter is fixed for the lifetime of the server, so the result only varies by whether the client
+     * supports output schemas.
+     */
+    private byte[] toolsList(boolean supportsOutputSchema) {
+        int slot = supportsOutputSchema ? 1 : 0;
+        var cache = toolsListCache;
+        var cached = cache.get(slot);
+        if (cached == null) {
+            var result = ListToolsResult.builder()
+                    .tools(tools.values()
+                            .stream()
+                            .filter(t -> toolFilter.allowTool(t.serverId(), t.name()))
+                            .map(tool -> extractToolInfo(tool, supportsOutputSchema))
+                            .toList())
+                    .build();
+            cached = CODEC.serializeToString(result).getBytes(StandardCharsets.UTF_8);
+            // A result computed while the tools changed lands in the discarded cache.
+            cache.set(slot, cached);
+        }
+        return cached;
+    }
+
+    private void invalidateToolsList() {
+        toolsListCache = new AtomicReferenceArray<>(2);
+    }
+
     private ToolInfo extractToolInfo(Tool tool, boolean supportsOutput) {
         var toolInfo = tool.toolInfo();
         if (supportsOutput || toolInfo.getOutputSchema() == null) {
@@ -273,14 +483,8 @@ public final class McpServer implements Server {
             """.getBytes(StandardCharsets.UTF_8); // newline is important here
 
     public void refreshTools() {
-        try {
-            synchronized (os) {
-                os.write(TOOLS_CHANGED);
-                os.flush();
-            }
-        } catch (Exception e) {
-            LOG.error("Failed to flush tools changed notification");
-        }
+        invalidateToolsList();
+        outbound.add(TOOLS_CHANGED);
     }
 
     public void addNewService(String id, Service service) {
@@ -300,22 +504,22 @@ public final class McpServer implements Server {
     }
 
     private void writeResponse(Document id, SerializableStruct value) {
-        writeResponse(JsonRpcResponse.builder()
+        writeResponse(response(id, value));
+    }
+
+    private static JsonRpcResponse response(Document id, SerializableStruct value) {
+        return JsonRpcResponse.builder()
                 .id(id)
                 .result(Document.of(value))
                 .jsonrpc("2.0")
-                .build());
+                .build();
     }
 
     private void writeResponse(JsonRpcResponse response) {
-        synchronized (os) {
-            try {
-                os.write(CODEC.serializeToString(response).getBytes(StandardCharsets.UTF_8));
-                os.write('\n');
-                os.flush();
-            } catch (Exception e) {
-                LOG.error("Error encoding response", e);
-            }
+        try {
+            enqueue(CODEC.serializeToString(response));
+        } catch (Exception e) {
+            LOG.error("Error encoding response", e);
         }
     }
 
@@ -339,14 +543,7 @@ public final class McpServer implements Server {
                 .error(error)
                 .jsonrpc("2.0")
                 .build();
-        synchronized (os) {
-            try {
-                os.write(CODEC.serializeToString(response).getBytes(StandardCharsets.UTF_8));
-                os.write('\n');
-            } catch (Exception e) {
-                LOG.error("Error encoding response", e);
-            }
-        }
+        writeResponse(response);
     }
 
     private Map<String, Tool> createTools(Map<String, Service> services) {
@@ -356,23 +553,26 @@ public final class McpServer implements Server {
             var service = entry.getValue();
             var serviceName = service.schema().id().getName();
             for (var operation : service.getAllOperations()) {
-                var operationName = operation.name();
-                Schema schema = operation.getApiOperation().schema();
-                var toolInfo = ToolInfo.builder()
-                        .name(operationName)
-                        .description(createDescription(serviceName,
-                                operationName,
-                                schema))
-                        .inputSchema(createJsonObjectSchema(operation.getApiOperation().inputSchema(), new HashSet<>()))
-                        .outputSchema(
-                                createJsonObjectSchema(operation.getApiOperation().outputSchema(), new HashSet<>()))
-                        .build();
-                tools.put(operationName, new Tool(toolInfo, id, operation));
+                tools.put(operation.name(), new Tool(serviceName, id, operation));
             }
         }
         return tools;
     }
 
+    private static ToolInfo createToolInfo(String serviceName, Operation<?, ?> operation) {
+        var operationName = operation.name();
+        Schema schema = operation.getApiOperation().schema();
+        return ToolInfo.builder()
+                .name(operationName)
+                .description(createDescription(serviceName,
+                        operationName,
+                        schema))
+                .inputSchema(createJsonObjectSchema(operation.getApiOperation().inputSchema(), new HashSet<>()))
+                .outputSchema(
+                        createJsonObjectSchema(operation.getApiOperation().outputSchema(), new HashSet<>()))
+                .build();
+    }
+
     private static JsonObjectSchema createJsonObjectSchema(Schema schema, Set<ShapeId> visited) {
         var targetId = schema.id();
         if (!visited.add(targetId)) {
@@ -489,7 +689,8 @@ public final class McpServer implements Server {
             initialize(proxy);
         }
 
-        // Start the listener thread
+        // Start the writer and listener threads
+        writer.start();
         listener.start();
     }
 
@@ -505,6 +706,7 @@ public final class McpServer implements Server {
             for (var toolInfo : proxyTools) {
                 tools.put(toolInfo.getName(), new Tool(toolInfo, proxy.name(), proxy));
             }
+            invalidateToolsList();
         } catch (Exception e) {
             LOG.error("Failed to fetch tools from proxy", e);
         }
@@ -519,6 +721,14 @@ public final class McpServer implements Server {
             shutdownFutures.add(proxy.shutdown());
         }
 
+        // Interrupt running tool calls and drop queued ones. A provided executor is left running.
+        for (var call : inFlightToolCalls.values()) {
+            call.cancel(true);
+        }
+        if (ownedToolExecutor != null) {
+            ownedToolExecutor.shutdown();
+        }
+
         // Wait for all to complete
         if (shutdownFutures.isEmpty()) {
             return CompletableFuture.completedFuture(null);
@@ -531,19 +741,60 @@ public final class McpServer implements Server {
         done.await();
     }
 
-    private record Tool(
-            ToolInfo toolInfo,
-            String serverId,
-            Operation operation,
-            McpServerProxy proxy,
-            boolean requiredAdapting) {
-
-        Tool(ToolInfo toolInfo, String serverId, Operation operation) {
-            this(toolInfo, serverId, operation, null, false);
+    /**
+     * A local or proxied tool.
+     *
+     * <p>The ToolInfo of a local tool, including its JSON schemas, is only built the first time it's listed.
+     */
+    private static final class Tool {
+        private final String name;
+        private final String serviceName;
+        private final String serverId;
+        private final Operation operation;
+        private final McpServerProxy proxy;
+        private volatile ToolInfo toolInfo;
+
+        Tool(String serviceName, String serverId, Operation operation) {
+            this.name = operation.name();
+            this.serviceName = serviceName;
+            this.serverId = serverId;
+            this.operation = operation;
+            this.proxy = null;
         }
 
         Tool(ToolInfo toolInfo, String serverId, McpServerProxy proxy) {
-            this(toolInfo, serverId, null, proxy, false);
+            this.name = toolInfo.getName();
+            this.serviceName = null;
+            this.serverId = serverId;
+            this.operation = null;
+            this.proxy = proxy;
+            this.toolInfo = toolInfo;
+        }
+
+        String name() {
+            return name;
+        }
+
+        String serverId() {
+            return serverId;
+        }
+
+        Operation operation() {
+            return operation;
+        }
+
+        McpServerProxy proxy() {
+            return proxy;
+        }
+
+        ToolInfo toolInfo() {
+            var result = toolInfo;
+            if (result == null) {
+                // Building the same ToolInfo twice is harmless, so there's no need to lock.
+                result = createToolInfo(serviceName, operation);
+                toolInfo = result;
+            }
+            return result;
         }
     }
 
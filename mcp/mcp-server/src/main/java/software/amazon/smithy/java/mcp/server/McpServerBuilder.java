@@ -13,6 +13,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import software.amazon.smithy.java.server.Server;
 import software.amazon.smithy.java.server.Service;
 import software.amazon.smithy.utils.SmithyUnstableApi;
@@ -26,6 +27,8 @@ public final class McpServerBuilder {
     List<McpServerProxy> proxyList = new ArrayList<>();
     String name;
     ToolFilter toolFilter = (server, tool) -> true;
+    Executor toolExecutor;
+    int maxConcurrentToolCalls = 64;
 
     McpServerBuilder() {}
 
@@ -75,6 +78,37 @@ public final class McpServerBuilder {
         return this;
     }
 
+    /**
+     * Set the executor that runs local tool calls.
+     *
+     * <p>By default, each tool call runs on its own virtual thread. The server does not shut down an executor
+     * that is provided here.
+     *
+     * @param toolExecutor Executor to run tool calls on.
+     * @return the builder.
+     */
+    public McpServerBuilder toolExecutor(Executor toolExecutor) {
+        this.toolExecutor = toolExecutor;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of tool calls that run concurrently, defaulting to 64.
+     *
+     * <p>When the limit is reached, further tool calls are queued until a running call completes. Other requests,
+     * including cancellations of queued or running calls, are still handled while calls are queued.
+     *
+     * @param maxConcurrentToolCalls Maximum number of concurrent tool calls.
+     * @return the builder.
+     */
+    public McpServerBuilder maxConcurrentToolCalls(int maxConcurrentToolCalls) {
+        if (maxConcurrentToolCalls < 1) {
+            throw new IllegalArgumentException("maxConcurrentToolCalls must be positive: " + maxConcurrentToolCalls);
+        }
+        this.maxConcurrentToolCalls = maxConcurrentToolCalls;
+        return this;
+    }
+
     private void validate() {
         Objects.requireNonNull(is, "MCP server input stream is required");
         Objects.requireNonNull(os, "MCP server output stream is required");
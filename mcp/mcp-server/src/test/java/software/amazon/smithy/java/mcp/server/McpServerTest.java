@@ -18,6 +18,12 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -48,6 +54,8 @@ public class McpServerTest {
     private TestOutputStream output;
     private Server server;
     private int id;
+    private final Map<String, CountDownLatch> gates = new ConcurrentHashMap<>();
+    private final BlockingQueue<String> started = new LinkedBlockingQueue<>();
 
     @BeforeEach
     public void beforeEach() {
@@ -100,6 +108,38 @@ public class McpServerTest {
         assertNull(tool.get("outputSchema"));
     }
 
+    @Test
+    public void cachedToolsListTracksProtocolVersion() {
+        server = McpServer.builder()
+                .name("smithy-mcp-server")
+                .input(input)
+                .output(output)
+                .addService("test-mcp",
+                        ProxyService.builder()
+                                .service(ShapeId.from("smithy.test#TestService"))
+                                .proxyEndpoint("http://localhost")
+                                .model(MODEL)
+                                .build())
+                .build();
+
+        server.start();
+
+        initializeWithProtocolVersion(ProtocolVersion.v2025_03_26.INSTANCE);
+        write("tools/list", Document.of(Map.of()));
+        var first = read().getResult().asStringMap().get("tools").asList();
+        write("tools/list", Document.of(Map.of()));
+        var second = read();
+        assertEquals(first, second.getResult().asStringMap().get("tools").asList());
+        assertEquals(id - 1, second.getId().asInteger());
+        assertNull(first.get(0).asStringMap().get("outputSchema"));
+
+        initializeWithProtocolVersion(ProtocolVersion.v2025_06_18.INSTANCE);
+        write("tools/list", Document.of(Map.of()));
+        var upgraded = read().getResult().asStringMap().get("tools").asList();
+        assertEquals(first.size(), upgraded.size());
+        assertNotNull(upgraded.get(0).asStringMap().get("outputSchema"));
+    }
+
     @Test
     public void validateToolsList() {
         server = McpServer.builder()
@@ -989,6 +1029,159 @@ public class McpServerTest {
         assertEquals("http://json-schema.org/draft-07/schema#", nestedRecursive.get("$schema").asString());
     }
 
+    @Test
+    void toolCallsRespondAsTheyComplete() throws Exception {
+        server = gatedServer(4);
+        server.start();
+
+        callGatedTool("a", 100);
+        callGatedTool("b", 101);
+        assertEquals(Set.of("a", "b"), Set.of(awaitStart(), awaitStart()));
+
+        gate("b").countDown();
+        assertEquals(101, read().getId().asNumber().intValue());
+        gate("a").countDown();
+        assertEquals(100, read().getId().asNumber().intValue());
+    }
+
+    @Test
+    void cancelledToolCallsDoNotRespond() throws Exception {
+        server = gatedServer(4);
+        server.start();
+
+        callGatedTool("a", 100);
+        assertEquals("a", awaitStart());
+        cancel(100);
+        gate("a").countDown();
+        output.assertNoOutput();
+    }
+
+    @Test
+    void limitsConcurrentToolCalls() throws Exception {
+        server = gatedServer(2);
+        server.start();
+
+        callGatedTool("a", 100);
+        callGatedTool("b", 101);
+        callGatedTool("c", 102);
+        assertEquals(Set.of("a", "b"), Set.of(awaitStart(), awaitStart()));
+        assertNull(started.poll(100, TimeUnit.MILLISECONDS));
+
+        gate("a").countDown();
+        assertEquals(100, read().getId().asNumber().intValue());
+        assertEquals("c", awaitStart());
+        gate("b").countDown();
+        gate("c").countDown();
+        assertEquals(Set.of(101, 102), Set.of(read().getId().asNumber().intValue(),
+                read().getId().asNumber().intValue()));
+    }
+
+    @Test
+    void cancelledToolCallsHoldTheirPermitUntilTheyReturn() throws Exception {
+        server = gatedServer(1);
+        server.start();
+
+        callGatedTool("a", 100);
+        assertEquals("a", awaitStart());
+        cancel(100);
+        callGatedTool("b", 101);
+
+        // The cancelled tool ignores the interrupt and keeps running, so it still occupies the only slot.
+        assertNull(started.poll(100, TimeUnit.MILLISECONDS));
+        gate("a").countDown();
+        assertEquals("b", awaitStart());
+        gate("b").countDown();
+        assertEquals(101, read().getId().asNumber().intValue());
+    }
+
+    @Test
+    void handlesCancellationsWhileEveryPermitIsTaken() throws Exception {
+        server = gatedServer(2);
+        server.start();
+
+        callGatedTool("a", 100);
+        callGatedTool("b", 101);
+        callGatedTool("c", 102);
+        assertEquals(Set.of("a", "b"), Set.of(awaitStart(), awaitStart()));
+
+        // Both the queued call and a running call can be cancelled while the limit is reached.
+        cancel(102);
+        cancel(100);
+        gate("b").countDown();
+        assertEquals(101, read().getId().asNumber().intValue());
+        gate("a").countDown();
+        assertNull(started.poll(100, TimeUnit.MILLISECONDS));
+        output.assertNoOutput();
+    }
+
+    // Tools started by this server report their inputStr and then wait, ignoring interrupts, until their gate opens.
+    private Server gatedServer(int maxConcurrentToolCalls) {
+        return McpServer.builder()
+                .name("smithy-mcp-server")
+                .input(input)
+                .output(output)
+                .maxConcurrentToolCalls(maxConcurrentToolCalls)
+                .addService("test-mcp",
+                        ProxyService.builder()
+                                .service(ShapeId.from("smithy.test#TestService"))
+                                .proxyEndpoint("http://localhost")
+                                .clientConfigurator(
+                                        clientConfigurator -> clientConfigurator
+                                                .addInterceptor(new ClientInterceptor() {
+                                                    @Override
+                                                    public void readBeforeSerialization(InputHook<?, ?> hook) {
+                                                        var key = ((StructDocument) hook.input())
+                                                                .getMember("inputStr")
+                                                                .asString();
+                                                        started.add(key);
+                                                        awaitGate(key);
+                                                        // Fail the call so it never reaches the network.
+                                                        throw new RuntimeException("Finished " + key);
+                                                    }
+                                                }))
+                                .model(MODEL)
+                                .build())
+                .build();
+    }
+
+    private void callGatedTool(String key, int requestId) {
+        write("tools/call",
+                Document.of(Map.of(
+                        "name",
+                        Document.of("NoOutputOperation"),
+                        "arguments",
+                        Document.of(Map.of("inputStr", Document.of(key))))),
+                Document.of(requestId));
+    }
+
+    private void cancel(int requestId) {
+        writeNotification("notifications/cancelled", Document.of(Map.of("requestId", Document.of(requestId))));
+        // Requests are handled in order, so the cancellation was processed once this request is answered.
+        write("tools/list", Document.of(Map.of()));
+        assertNotNull(read().getResult());
+    }
+
+    private CountDownLatch gate(String key) {
+        return gates.computeIfAbsent(key, k -> new CountDownLatch(1));
+    }
+
+    private void awaitGate(String key) {
+        while (true) {
+            try {
+                gate(key).await();
+                return;
+            } catch (InterruptedException ignored) {
+                // Keep running like a tool that doesn't respond to cancellation.
+            }
+        }
+    }
+
+    private String awaitStart() throws InterruptedException {
+        var key = started.poll(1, TimeUnit.SECONDS);
+        assertNotNull(key, "No tool call started within one second");
+        return key;
+    }
+
     private void write(String method, Document document) {
         write(method, document, Document.of(id++));
     }
@@ -5,6 +5,14 @@
 
 package software.amazon.smithy.modelbundle.api;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import software.amazon.smithy.java.logging.InternalLogger;
 import software.amazon.smithy.java.server.ProxyOperationTrait;
 import software.amazon.smithy.java.server.ProxyService;
 import software.amazon.smithy.java.server.Service;
@@ -20,12 +28,78 @@ import software.amazon.smithy.modelbundle.api.model.SmithyBundle;
 
 public final class ModelBundles {
 
+    private static final InternalLogger LOG = InternalLogger.getLogger(ModelBundles.class);
+
     private ModelBundles() {}
 
     private static final PluginProviders PLUGIN_PROVIDERS = PluginProviders.builder().build();
 
     public static Service getService(SmithyBundle smithyBundle) {
-        var model = prepareModelForBundling(smithyBundle);
+        return createService(smithyBundle, prepareModelForBundling(smithyBundle));
+    }
+
+    /**
+     * Creates a service for a bundle from a snapshot written by {@link #writeSnapshot}.
+     *
+     * <p>Falls back to assembling the bundled model if the snapshot is missing, can't be read, or was written from
+     * a different version of the bundle.
+     *
+     * @param smithyBundle Bundle to create the service for.
+     * @param snapshot Location of the bundle's model snapshot.
+     * @return the created service.
+     */
+    public static Service getService(SmithyBundle smithyBundle, Path snapshot) {
+        if (Files.exists(snapshot)) {
+            try {
+                return createService(smithyBundle, ModelSnapshot.read(snapshot, fingerprint(smithyBundle)));
+            } catch (IOException e) {
+                LOG.warn("Assembling the model of {} because its snapshot can't be used: {}",
+                        smithyBundle.getServiceName(),
+                        e.getMessage());
+            }
+        }
+        return getService(smithyBundle);
+    }
+
+    /**
+     * Writes a snapshot of the bundle's prepared model that {@link #getService(SmithyBundle, Path)} can start from
+     * without assembling the model.
+     *
+     * @param smithyBundle Bundle to snapshot.
+     * @param snapshot Where to write the snapshot.
+     * @throws IOException if the snapshot can't be written.
+     */
+    public static void writeSnapshot(SmithyBundle smithyBundle, Path snapshot) throws IOException {
+        ModelSnapshot.write(prepareModelForBundling(smithyBundle), fingerprint(smithyBundle), snapshot);
+    }
+
+    // Identifies the bundle inputs that the prepared model is built from, so a snapshot of another bundle is rejected.
+    // visible for testing
+    static long fingerprint(SmithyBundle bundle) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        update(digest, bundle.getServiceName());
+        update(digest, bundle.getModel());
+        var additionalInput = bundle.getAdditionalInput();
+        if (additionalInput != null) {
+            update(digest, additionalInput.getIdentifier());
+            update(digest, additionalInput.getModel());
+        }
+        return ByteBuffer.wrap(digest.digest()).getLong();
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        // Prefix each value with its length so that moving text between values changes the fingerprint.
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
+    private static Service createService(SmithyBundle smithyBundle, Model model) {
         var plugin = PLUGIN_PROVIDERS.getPlugin(smithyBundle.getConfigType(), smithyBundle.getConfig());
         return ProxyService.builder()
                 .model(model)
@@ -0,0 +1,493 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.modelbundle.api;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import software.amazon.smithy.java.server.ProxyOperationTrait;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.ArrayNode;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.shapes.AbstractShapeBuilder;
+import software.amazon.smithy.model.shapes.MemberShape;
+import software.amazon.smithy.model.shapes.OperationShape;
+import software.amazon.smithy.model.shapes.ResourceShape;
+import software.amazon.smithy.model.shapes.ServiceShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.ShapeType;
+import software.amazon.smithy.model.traits.DynamicTrait;
+import software.amazon.smithy.model.traits.Trait;
+import software.amazon.smithy.model.traits.TraitFactory;
+
+/**
+ * A compact binary snapshot of an assembled model.
+ *
+ * <p>Snapshots are written once, when a bundle is installed, from the model produced by
+ * {@link ModelBundles#prepareModelForBundling}. Reading one builds the same shapes directly, so starting a service
+ * from a snapshot skips parsing, assembling, and rewriting the bundled model.
+ *
+ * <p>Shapes are written with their mixins already applied, and synthetic traits are left for the shape builders to
+ * recompute.
+ */
+final class ModelSnapshot {
+
+    // Layout, with every int big-endian and every other number an unsigned LEB128 varint:
+    //   header:  magic, version, fingerprint (a long), stringCount, shapeCount, shapesOffset
+    //   strings: stringCount + 1 ints holding offsets into the UTF-8 bytes that follow them
+    //   shapes:  per shape: type, id, traits, then the properties of its type (see writeShape)
+    // Strings are referenced by index, and optional strings by index + 1 with 0 meaning absent.
+    private static final int MAGIC = 0x534D534E;
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 28;
+
+    private static final int NODE_NULL = 0;
+    private static final int NODE_FALSE = 1;
+    private static final int NODE_TRUE = 2;
+    private static final int NODE_INT = 3;
+    private static final int NODE_LONG = 4;
+    private static final int NODE_DOUBLE = 5;
+    private static final int NODE_BIG_INTEGER = 6;
+    private static final int NODE_BIG_DECIMAL = 7;
+    private static final int NODE_STRING = 8;
+    private static final int NODE_ARRAY = 9;
+    private static final int NODE_OBJECT = 10;
+
+    private static final TraitFactory TRAIT_FACTORY = TraitFactory.createServiceFactory();
+
+    private ModelSnapshot() {}
+
+    /**
+     * Reads a snapshot, rejecting it unless it was written with the expected fingerprint.
+     *
+     * @param path Snapshot to read.
+     * @param fingerprint Fingerprint of the inputs the snapshot must have been written from.
+     * @return the model.
+     * @throws IOException if the snapshot can't be read, or was written from other inputs.
+     */
+    static Model read(Path path, long fingerprint) throws IOException {
+        ByteBuffer buffer;
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a model snapshot: " + path);
+        } else if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported model snapshot version: " + buffer.getInt(4));
+        } else if (buffer.getLong(8) != fingerprint) {
+            throw new IOException("Model snapshot was written from a different bundle: " + path);
+        }
+        try {
+            return new Reader(buffer).readModel();
+        } catch (RuntimeException e) {
+            throw new IOException("Invalid model snapshot: " + path, e);
+        }
+    }
+
+    static void write(Model model, long fingerprint, Path path) throws IOException {
+        var writer = new Writer();
+        var shapes = model.toSet();
+        for (var shape : shapes) {
+            if (!shape.isMemberShape()) {
+                writer.writeShape(shape);
+            }
+        }
+
+        var strings = new ByteArrayOutputStream();
+        var offsets = new int[writer.strings.size() + 1];
+        int i = 0;
+        for (var string : writer.strings.keySet()) {
+            strings.writeBytes(string.getBytes(StandardCharsets.UTF_8));
+            offsets[++i] = strings.size();
+        }
+
+        int shapesOffset = HEADER_SIZE + offsets.length * Integer.BYTES + strings.size();
+        var buffer = ByteBuffer.allocate(shapesOffset + writer.out.size());
+        buffer.putInt(MAGIC)
+                .putInt(VERSION)
+                .putLong(fingerprint)
+                .putInt(writer.strings.size())
+                .putInt(writer.shapeCount)
+                .putInt(shapesOffset);
+        for (var offset : offsets) {
+            buffer.putInt(offset);
+        }
+        buffer.put(strings.toByteArray()).put(writer.out.toByteArray());
+        Files.write(path, buffer.array());
+    }
+
+    private static final class Writer {
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        private int shapeCount;
+
+        private void writeShape(Shape shape) {
+            shapeCount++;
+            writeString(shape.getType().toString());
+            writeString(shape.getId().toString());
+            writeTraits(shape);
+            switch (shape.getType()) {
+                case OPERATION -> {
+                    var operation = (OperationShape) shape;
+                    writeOptional(operation.getInput());
+                    writeOptional(operation.getOutput());
+                    writeIds(operation.getErrors());
+                }
+                case SERVICE -> {
+                    var service = (ServiceShape) shape;
+                    writeOptional(Optional.ofNullable(service.getVersion()));
+                    writeIds(service.getOperations());
+                    writeIds(service.getResources());
+                    writeIds(service.getErrors());
+                    writeVarint(service.getRename().size());
+                    for (var entry : service.getRename().entrySet()) {
+                        writeString(entry.getKey().toString());
+                        writeString(entry.getValue());
+                    }
+                }
+                case RESOURCE -> {
+                    var resource = (ResourceShape) shape;
+                    writeIdMap(resource.getIdentifiers());
+                    writeIdMap(resource.getProperties());
+                    writeOptional(resource.getPut());
+                    writeOptional(resource.getCreate());
+                    writeOptional(resource.getRead());
+                    writeOptional(resource.getUpdate());
+                    writeOptional(resource.getDelete());
+                    writeOptional(resource.getList());
+                    writeIds(resource.getOperations());
+                    writeIds(resource.getCollectionOperations());
+                    writeIds(resource.getResources());
+                }
+                default -> {
+                    var members = shape.members();
+                    writeVarint(members.size());
+                    for (var member : members) {
+                        writeString(member.getMemberName());
+                        writeString(member.getTarget().toString());
+                        writeTraits(member);
+                    }
+                }
+            }
+        }
+
+        private void writeTraits(Shape shape) {
+            var traits = new ArrayList<Trait>(shape.getAllTraits().size());
+            for (var trait : shape.getAllTraits().values()) {
+                if (!trait.isSynthetic()) {
+                    traits.add(trait);
+                }
+            }
+            writeVarint(traits.size());
+            for (var trait : traits) {
+                writeString(trait.toShapeId().toString());
+                writeNode(trait.toNode());
+            }
+        }
+
+        private void writeNode(Node node) {
+            switch (node.getType()) {
+                case NULL -> out.write(NODE_NULL);
+                case BOOLEAN -> out.write(node.expectBooleanNode().getValue() ? NODE_TRUE : NODE_FALSE);
+                case NUMBER -> {
+                    var value = node.expectNumberNode().getValue();
+                    if (value instanceof BigDecimal) {
+                        out.write(NODE_BIG_DECIMAL);
+                        writeString(value.toString());
+                    } else if (value instanceof BigInteger) {
+                        out.write(NODE_BIG_INTEGER);
+                        writeString(value.toString());
+                    } else if (value instanceof Double || value instanceof Float) {
+                        out.write(NODE_DOUBLE);
+                        long bits = Double.doubleToRawLongBits(value.doubleValue());
+                        for (int shift = 56; shift >= 0; shift -= 8) {
+                            out.write((int) (bits >>> shift));
+                        }
+                    } else {
+                        // Integers and longs are kept apart since trait values compare their number types.
+                        out.write(value instanceof Long ? NODE_LONG : NODE_INT);
+                        long longValue = value.longValue();
+                        writeVarint((longValue << 1) ^ (longValue >> 63));
+                    }
+                }
+                case STRING -> {
+                    out.write(NODE_STRING);
+                    writeString(node.expectStringNode().getValue());
+                }
+                case ARRAY -> {
+                    var elements = node.expectArrayNode().getElements();
+                    out.write(NODE_ARRAY);
+                    writeVarint(elements.size());
+                    for (var element : elements) {
+                        writeNode(element);
+                    }
+                }
+                case OBJECT -> {
+                    var members = node.expectObjectNode().getMembers();
+                    out.write(NODE_OBJECT);
+                    writeVarint(members.size());
+                    for (var entry : members.entrySet()) {
+                        writeString(entry.getKey().getValue());
+                        writeNode(entry.getValue());
+                    }
+                }
+            }
+        }
+
+        private void writeIds(Collection<ShapeId> ids) {
+            writeVarint(ids.size());
+            for (var id : ids) {
+                writeString(id.toString());
+            }
+        }
+
+        private void writeIdMap(Map<String, ShapeId> ids) {
+            writeVarint(ids.size());
+            for (var entry : ids.entrySet()) {
+                writeString(entry.getKey());
+                writeString(entry.getValue().toString());
+            }
+        }
+
+        private void writeOptional(Optional<?> value) {
+            writeVarint(value.isEmpty() ? 0 : intern(value.get().toString()) + 1);
+        }
+
+        private void writeString(String value) {
+            writeVarint(intern(value));
+        }
+
+        private int intern(String value) {
+            return strings.computeIfAbsent(value, k -> strings.size());
+        }
+
+        private void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+    }
+
+    private static final class Reader {
+        private final ByteBuffer buffer;
+        private final int stringsOffset;
+        private final String[] strings;
+        private final ShapeId[] ids;
+        private int position;
+
+        private Reader(ByteBuffer buffer) {
+            this.buffer = buffer;
+            int stringCount = buffer.getInt(16);
+            this.stringsOffset = HEADER_SIZE + (stringCount + 1) * Integer.BYTES;
+            this.strings = new String[stringCount];
+            this.ids = new ShapeId[stringCount];
+            this.position = buffer.getInt(24);
+        }
+
+        private Model readModel() {
+            int shapeCount = buffer.getInt(20);
+            var builder = Model.builder();
+            for (int i = 0; i < shapeCount; i++) {
+                builder.addShape(readShape());
+            }
+            return builder.build();
+        }
+
+        private Shape readShape() {
+            var type = ShapeType.fromString(readString()).orElseThrow();
+            var id = readId();
+            var traits = readTraits(id);
+            return switch (type) {
+                case OPERATION -> {
+                    var builder = OperationShape.builder().id(id).addTraits(traits);
+                    readOptionalId().ifPresent(builder::input);
+                    readOptionalId().ifPresent(builder::output);
+                    builder.errors(readIds());
+                    yield builder.build();
+                }
+                case SERVICE -> {
+                    var builder = ServiceShape.builder().id(id).addTraits(traits);
+                    int version = readVarint();
+                    if (version > 0) {
+                        builder.version(string(version - 1));
+                    }
+                    readIds().forEach(builder::addOperation);
+                    readIds().forEach(builder::addResource);
+                    readIds().forEach(builder::addError);
+                    for (int i = readVarint(); i > 0; i--) {
+                        builder.putRename(readId(), readString());
+                    }
+                    yield builder.build();
+                }
+                case RESOURCE -> {
+                    var builder = ResourceShape.builder().id(id).addTraits(traits);
+                    for (int i = readVarint(); i > 0; i--) {
+                        builder.addIdentifier(readString(), readId());
+                    }
+                    for (int i = readVarint(); i > 0; i--) {
+                        builder.addProperty(readString(), readId());
+                    }
+                    readOptionalId().ifPresent(builder::put);
+                    readOptionalId().ifPresent(builder::create);
+                    readOptionalId().ifPresent(builder::read);
+                    readOptionalId().ifPresent(builder::update);
+                    readOptionalId().ifPresent(builder::delete);
+                    readOptionalId().ifPresent(builder::list);
+                    readIds().forEach(builder::addOperation);
+                    readIds().forEach(builder::addCollectionOperation);
+                    readIds().forEach(builder::addResource);
+                    yield builder.build();
+                }
+                default -> {
+                    AbstractShapeBuilder<?, ?> builder = type.createBuilderForType();
+                    builder.id(id).addTraits(traits);
+                    for (int i = readVarint(); i > 0; i--) {
+                        var memberId = id.withMember(readString());
+                        builder.addMember(MemberShape.builder()
+                                .id(memberId)
+                                .target(readId())
+                                .addTraits(readTraits(memberId))
+                                .build());
+                    }
+                    yield builder.build();
+                }
+            };
+        }
+
+        private List<Trait> readTraits(ShapeId target) {
+            int count = readVarint();
+            var traits = new ArrayList<Trait>(count);
+            for (int i = 0; i < count; i++) {
+                var traitId = readId();
+                var value = readNode();
+                if (traitId.equals(ProxyOperationTrait.ID)) {
+                    traits.add(new ProxyOperationTrait(ShapeId.from(value.expectStringNode().getValue())));
+                } else {
+                    traits.add(TRAIT_FACTORY.createTrait(traitId, target, value)
+                            .orElseGet(() -> new DynamicTrait(traitId, value)));
+                }
+            }
+            return traits;
+        }
+
+        private Node readNode() {
+            return switch (buffer.get(position++)) {
+                case NODE_NULL -> Node.nullNode();
+                case NODE_FALSE -> Node.from(false);
+                case NODE_TRUE -> Node.from(true);
+                case NODE_INT -> Node.from((int) readZigZag());
+                case NODE_LONG -> Node.from(readZigZag());
+                case NODE_DOUBLE -> {
+                    double value = buffer.getDouble(position);
+                    position += Double.BYTES;
+                    yield Node.from(value);
+                }
+                case NODE_BIG_INTEGER -> Node.from(new BigInteger(readString()));
+                case NODE_BIG_DECIMAL -> Node.from(new BigDecimal(readString()));
+                case NODE_STRING -> Node.from(readString());
+                case NODE_ARRAY -> {
+                    int count = readVarint();
+                    var elements = new ArrayList<Node>(count);
+                    for (int i = 0; i < count; i++) {
+                        elements.add(readNode());
+                    }
+                    yield ArrayNode.fromNodes(elements);
+                }
+                case NODE_OBJECT -> {
+                    var builder = ObjectNode.builder();
+                    for (int i = readVarint(); i > 0; i--) {
+                        builder.withMember(readString(), readNode());
+                    }
+                    yield builder.build();
+                }
+                default -> throw new IllegalStateException("Unknown node tag at " + (position - 1));
+            };
+        }
+
+        private List<ShapeId> readIds() {
+            int count = readVarint();
+            var result = new ArrayList<ShapeId>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(readId());
+            }
+            return result;
+        }
+
+        private Optional<ShapeId> readOptionalId() {
+            int index = readVarint();
+            return index == 0 ? Optional.empty() : Optional.of(id(index - 1));
+        }
+
+        private ShapeId readId() {
+            return id(readVarint());
+        }
+
+        private String readString() {
+            return string(readVarint());
+        }
+
+        // Shape IDs repeat across members and operations, so each one is parsed once.
+        private ShapeId id(int index) {
+            var id = ids[index];
+            if (id == null) {
+                id = ShapeId.from(string(index));
+                ids[index] = id;
+            }
+            return id;
+        }
+
+        // Strings are decoded from the mapped file the first time they're referenced.
+        private String string(int index) {
+            var string = strings[index];
+            if (string == null) {
+                int start = buffer.getInt(HEADER_SIZE + index * Integer.BYTES);
+                int end = buffer.getInt(HEADER_SIZE + (index + 1) * Integer.BYTES);
+                var bytes = new byte[end - start];
+                buffer.get(stringsOffset + start, bytes);
+                string = new String(bytes, StandardCharsets.UTF_8);
+                strings[index] = string;
+            }
+            return string;
+        }
+
+        private int readVarint() {
+            return Math.toIntExact(readVarlong());
+        }
+
+        private long readZigZag() {
+            long value = readVarlong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        private long readVarlong() {
+            long result = 0;
+            for (int shift = 0;; shift += 7) {
+                byte b = buffer.get(position++);
+                result |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return result;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.modelbundle.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.smithy.java.core.serde.document.Document;
+import software.amazon.smithy.java.server.ProxyOperationTrait;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.loader.Prelude;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.modelbundle.api.model.AdditionalInput;
+import software.amazon.smithy.modelbundle.api.model.SmithyBundle;
+
+class ModelSnapshotTest {
+
+    private static final SmithyBundle BUNDLE = SmithyBundle.builder()
+            .model("""
+                    $version: "2.0"
+
+                    namespace com.example
+
+                    /// A service with a bit of everything.
+                    @aws.protocols#awsJson1_0
+                    service TestService {
+                        version: "2024-01-01"
+                        operations: [GetThing]
+                        resources: [Thing]
+                        errors: [ServiceError]
+                        rename: { "com.example#Size": "ThingSize" }
+                    }
+
+                    resource Thing {
+                        identifiers: { id: String }
+                        read: GetThing
+                    }
+
+                    @readonly
+                    operation GetThing {
+                        input := {
+                            @required
+                            id: String
+
+                            @range(min: 1, max: 10)
+                            size: Size = 1
+
+                            ratio: Double = 0.5
+                        }
+                        output := {
+                            colors: Colors
+                            tags: Tags
+                            next: Link
+                        }
+                    }
+
+                    integer Size
+
+                    enum Colors {
+                        RED = "red"
+                        BLUE
+                    }
+
+                    map Tags {
+                        key: String
+                        value: String
+                    }
+
+                    structure Link {
+                        next: Link
+                    }
+
+                    @error("server")
+                    structure ServiceError {
+                        message: String
+                    }
+                    """)
+            .serviceName("com.example#TestService")
+            .additionalInput(AdditionalInput.builder()
+                    .identifier("com.example.additional#AdditionalInputData")
+                    .model("""
+                            $version: "2.0"
+
+                            namespace com.example.additional
+
+                            structure AdditionalInputData {
+                                context: String
+                            }
+                            """)
+                    .build())
+            .configType("configType")
+            .config(Document.ofObject(null))
+            .build();
+
+    @Test
+    void roundTripsPreparedModel(@TempDir Path dir) throws IOException {
+        var model = ModelBundles.prepareModelForBundling(BUNDLE);
+        var file = dir.resolve("bundle.snapshot");
+        ModelSnapshot.write(model, ModelBundles.fingerprint(BUNDLE), file);
+        var loaded = ModelSnapshot.read(file, ModelBundles.fingerprint(BUNDLE));
+
+        assertEquals(nonPreludeShapes(model), nonPreludeShapes(loaded));
+        assertEquals(
+                ShapeId.from("com.example#GetThing"),
+                loaded.expectShape(ShapeId.from("com.example#GetThingProxy"))
+                        .expectTrait(ProxyOperationTrait.class)
+                        .getDelegateOperation());
+    }
+
+    @Test
+    void rejectsOtherFiles(@TempDir Path dir) throws IOException {
+        var file = dir.resolve("bundle.snapshot");
+        Files.writeString(file, "{\"smithy\": \"2.0\"}");
+
+        assertThrows(IOException.class, () -> ModelSnapshot.read(file, ModelBundles.fingerprint(BUNDLE)));
+    }
+
+    @Test
+    void rejectsSnapshotsOfOtherBundles(@TempDir Path dir) throws IOException {
+        var file = dir.resolve("bundle.snapshot");
+        ModelSnapshot.write(ModelBundles.prepareModelForBundling(BUNDLE), ModelBundles.fingerprint(BUNDLE), file);
+        var updated = BUNDLE.toBuilder().model(BUNDLE.getModel() + "\n// updated\n").build();
+
+        assertNotEquals(ModelBundles.fingerprint(BUNDLE), ModelBundles.fingerprint(updated));
+        assertThrows(IOException.class, () -> ModelSnapshot.read(file, ModelBundles.fingerprint(updated)));
+    }
+
+    private static Object nonPreludeShapes(Model model) {
+        return model.shapes()
+                .filter(shape -> !Prelude.isPreludeShape(shape))
+                .collect(Collectors.toMap(Shape::getId, shape -> shape));
+    }
+}
@@ -11,4 +11,5 @@ dependencies {
     implementation(project(":logging"))
     implementation(project(":core"))
     api(project(":framework-errors"))
+    api(project(":tracing-api"))
 }
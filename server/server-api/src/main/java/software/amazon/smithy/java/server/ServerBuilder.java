@@ -11,12 +11,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import software.amazon.smithy.java.tracing.api.Tracer;
 
 public abstract class ServerBuilder<T extends ServerBuilder<T>> {
 
     private static final URI DEFAULT_ENDPOINT = URI.create("http://localhost:8080");
     private final Map<String, List<Service>> servicePathMappings = new HashMap<>();
     private final List<Route> routes = new ArrayList<>();
+    private Tracer tracer = Tracer.noop();
 
     public final Server build() {
         if (routes.isEmpty()) {
@@ -66,6 +68,21 @@ public abstract class ServerBuilder<T extends ServerBuilder<T>> {
         return self();
     }
 
+    /**
+     * Set the tracer used to record a span for each stage of request handling.
+     *
+     * @param tracer Tracer to use. Defaults to {@link Tracer#noop()}.
+     * @return this builder.
+     */
+    public final T tracer(Tracer tracer) {
+        this.tracer = Objects.requireNonNull(tracer, "tracer cannot be null");
+        return self();
+    }
+
+    protected final Tracer tracer() {
+        return tracer;
+    }
+
     public abstract T endpoints(URI... endpoints);
 
     public abstract T numberOfWorkers(int numberOfWorkers);
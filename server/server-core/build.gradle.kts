@@ -15,4 +15,5 @@ dependencies {
     implementation(libs.smithy.model)
     implementation(project(":io"))
     implementation(project(":logging"))
+    api(project(":tracing-api"))
 }
@@ -8,16 +8,33 @@ package software.amazon.smithy.java.server.core;
 import java.util.ArrayList;
 import java.util.List;
 import software.amazon.smithy.java.server.Service;
+import software.amazon.smithy.java.tracing.api.Tracer;
 
 public final class HandlerAssembler {
 
     //TODO Flesh this out. Validate if all handlers actually accept the same type of Job.
     public List<Handler> assembleHandlers(List<Service> services) {
+        return assembleHandlers(services, Tracer.noop());
+    }
+
+    /**
+     * Assemble the handler chain, recording a span for each handler with the given tracer.
+     *
+     * @param services Services handled by the chain.
+     * @param tracer Tracer used to record handler spans.
+     * @return the handlers.
+     */
+    public List<Handler> assembleHandlers(List<Service> services, Tracer tracer) {
         List<Handler> handlers = new ArrayList<>();
-        handlers.add(new ProtocolHandler());
-        handlers.add(new ValidationHandler());
-        handlers.add(new OperationHandler());
+        handlers.add(traced(new ProtocolHandler(), tracer, "protocol"));
+        handlers.add(traced(new ValidationHandler(), tracer, "validation"));
+        handlers.add(traced(new OperationHandler(), tracer, "operation"));
         return handlers;
     }
 
+    private static Handler traced(Handler handler, Tracer tracer, String name) {
+        // Leave the chain untouched when tracing is disabled.
+        return tracer.isEnabled() ? new TracingHandler(handler, tracer, name) : handler;
+    }
+
 }
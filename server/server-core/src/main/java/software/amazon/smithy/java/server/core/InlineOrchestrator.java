@@ -0,0 +1,46 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.core;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An orchestrator that runs each job's handlers on the thread that enqueues it.
+ *
+ * <p>When every handler completes synchronously, the returned future is already complete and no thread hand-off
+ * takes place. This suits environments that process one request at a time, like AWS Lambda. A handler that
+ * completes asynchronously resumes the rest of the job on the thread that completes it.
+ */
+public final class InlineOrchestrator implements ObservableOrchestrator {
+
+    private final List<Handler> handlers;
+    private final AtomicInteger inflightJobs = new AtomicInteger();
+
+    public InlineOrchestrator(List<Handler> handlers) {
+        this.handlers = handlers;
+    }
+
+    @Override
+    public CompletableFuture<Void> enqueue(Job job) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        inflightJobs.incrementAndGet();
+        // Asynchronous handlers resume the job on the thread that completes them.
+        new JobWork(job, handlers, future, Runnable::run).run();
+        return future.whenComplete((r, e) -> inflightJobs.decrementAndGet());
+    }
+
+    @Override
+    public CompletableFuture<Void> shutdown() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public int inflightJobs() {
+        return inflightJobs.get();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.core;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs a job through the {@code before} and then the {@code after} phase of each handler, shared by orchestrators.
+ *
+ * <p>When a handler completes asynchronously, the work stops and is handed to the resume executor once the
+ * handler's future completes. The signal completes once every {@code after} phase has run.
+ */
+final class JobWork implements Runnable {
+
+    private final Job job;
+    private final Queue<Handler> queue;
+    private final CompletableFuture<Void> signal;
+    private final Executor resumeExecutor;
+    private final Deque<Handler> soFar;
+    private State state = State.BEFORE;
+
+    JobWork(Job job, List<Handler> handlers, CompletableFuture<Void> signal, Executor resumeExecutor) {
+        this.job = job;
+        this.queue = new ArrayDeque<>(handlers);
+        this.signal = signal;
+        this.resumeExecutor = resumeExecutor;
+        this.soFar = new ArrayDeque<>();
+    }
+
+    private enum State {
+        BEFORE,
+        AFTER,
+        DONE
+    }
+
+    @Override
+    public void run() {
+        try {
+            if ((job.isCompleted() || job.isFailure()) && state == State.BEFORE) {
+                state = State.AFTER;
+            }
+
+            while (state == State.BEFORE) {
+                if (queue.isEmpty() || job.isFailure() || job.isCompleted()) {
+                    state = State.AFTER;
+                    break;
+                }
+                Handler handler = queue.poll();
+                soFar.push(handler);
+                CompletableFuture<Void> cf = handler.before(job);
+                if (!cf.isDone()) {
+                    resumeWhenComplete(cf);
+                    return;
+                }
+                if (cf.isCompletedExceptionally()) {
+                    cf.exceptionally(t -> {
+                        job.setFailure(t);
+                        return null;
+                    });
+                    state = State.AFTER;
+                    break;
+                }
+            }
+            if (state == State.AFTER) {
+                while (!soFar.isEmpty()) {
+                    Handler handler = soFar.pop();
+                    CompletableFuture<Void> cf = handler.after(job);
+                    if (!cf.isDone()) {
+                        resumeWhenComplete(cf);
+                        return;
+                    }
+                    if (cf.isCompletedExceptionally()) {
+                        cf.exceptionally(t -> {
+                            job.setFailure(t);
+                            return null;
+                        });
+                    }
+                }
+                state = State.DONE;
+                if (job.isFailure()) {
+                    signal.completeExceptionally(job.getFailure());
+                } else {
+                    signal.complete(null);
+                }
+            }
+        } catch (Exception e) {
+            signal.completeExceptionally(e);
+        }
+    }
+
+    private void resumeWhenComplete(CompletableFuture<Void> cf) {
+        cf.whenComplete((e, t) -> {
+            if (t != null) {
+                job.setFailure(t);
+            }
+            resumeExecutor.execute(this);
+        });
+    }
+}
@@ -5,10 +5,7 @@
 
 package software.amazon.smithy.java.server.core;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
 import java.util.List;
-import java.util.Queue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.LinkedBlockingDeque;
@@ -39,7 +36,7 @@ public final class SingleThreadOrchestrator implements ObservableOrchestrator {
     public CompletableFuture<Void> enqueue(Job job) {
         CompletableFuture<Void> future = new CompletableFuture<>();
         inflightJobs.incrementAndGet();
-        queue.add(new JobWork(job, handlers, queue, future));
+        queue.add(new JobWork(job, handlers, future, queue::add));
         return future.whenComplete((r, e) -> inflightJobs.decrementAndGet());
     }
 
@@ -53,100 +50,6 @@ public final class SingleThreadOrchestrator implements ObservableOrchestrator {
         return inflightJobs.get();
     }
 
-    private final class JobWork implements Runnable {
-
-        private final Job job;
-        private final Queue<Handler> queue;
-        private final BlockingQueue<Runnable> workQueue;
-        private final CompletableFuture<Void> signal;
-        private final Deque<Handler> soFar;
-        private State state = State.BEFORE;
-
-        private JobWork(
-                Job job,
-                List<Handler> handlers,
-                BlockingQueue<Runnable> workQueue,
-                CompletableFuture<Void> signal
-        ) {
-            this.job = job;
-            this.queue = new ArrayDeque<>(handlers);
-            this.workQueue = workQueue;
-            this.signal = signal;
-            this.soFar = new ArrayDeque<>();
-        }
-
-        private enum State {
-            BEFORE,
-            AFTER,
-            DONE
-        }
-
-        @Override
-        public void run() {
-            try {
-                if ((job.isCompleted() || job.isFailure()) && state == State.BEFORE) {
-                    state = State.AFTER;
-                }
-
-                while (state == State.BEFORE) {
-                    if (queue.isEmpty() || job.isFailure() || job.isCompleted()) {
-                        state = State.AFTER;
-                        break;
-                    }
-                    Handler handler = queue.poll();
-                    soFar.push(handler);
-                    CompletableFuture<Void> cf = handler.before(job);
-                    if (!cf.isDone()) {
-                        cf.whenComplete((e, t) -> {
-                            if (t != null) {
-                                job.setFailure(t);
-                            }
-                            SingleThreadOrchestrator.this.queue.add(this);
-                        });
-                        break;
-                    }
-                    if (cf.isCompletedExceptionally()) {
-                        cf.exceptionally(t -> {
-                            job.setFailure(t);
-                            return null;
-                        });
-                        state = State.AFTER;
-                        break;
-                    }
-                }
-                if (state == State.AFTER) {
-                    while (!soFar.isEmpty()) {
-                        Handler handler = soFar.pop();
-                        CompletableFuture<Void> cf = handler.after(job);
-                        if (!cf.isDone()) {
-                            cf.whenComplete((e, t) -> {
-                                if (t != null) {
-                                    job.setFailure(t);
-                                }
-                                SingleThreadOrchestrator.this.queue.add(this);
-                            });
-                            break;
-                        }
-                        if (cf.isCompletedExceptionally()) {
-                            cf.exceptionally(t -> {
-                                job.setFailure(t);
-                                return null;
-                            });
-                        }
-                    }
-                    state = State.DONE;
-                    if (job.isFailure()) {
-                        signal.completeExceptionally(job.getFailure());
-                    } else {
-                        signal.complete(null);
-                    }
-                }
-            } catch (Exception e) {
-                signal.completeExceptionally(e);
-            }
-        }
-    }
-
     private record ConsumerTask(BlockingQueue<Runnable> queue) implements Runnable {
 
         @Override
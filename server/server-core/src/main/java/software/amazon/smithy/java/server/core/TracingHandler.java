@@ -0,0 +1,52 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.core;
+
+import java.util.concurrent.CompletableFuture;
+import software.amazon.smithy.java.tracing.api.Tracer;
+
+/**
+ * Records a span for the before and after phases of the handler it wraps.
+ *
+ * <p>Spans are named {@code smithy.server.<name>.before} and {@code smithy.server.<name>.after}, and end when the
+ * future returned by the wrapped handler completes.
+ */
+final class TracingHandler implements Handler {
+
+    private final Handler delegate;
+    private final Tracer tracer;
+    private final String beforeSpan;
+    private final String afterSpan;
+
+    TracingHandler(Handler delegate, Tracer tracer, String name) {
+        this.delegate = delegate;
+        this.tracer = tracer;
+        this.beforeSpan = "smithy.server." + name + ".before";
+        this.afterSpan = "smithy.server." + name + ".after";
+    }
+
+    @Override
+    public CompletableFuture<Void> before(Job job) {
+        return trace(beforeSpan, true, job);
+    }
+
+    @Override
+    public CompletableFuture<Void> after(Job job) {
+        return trace(afterSpan, false, job);
+    }
+
+    private CompletableFuture<Void> trace(String name, boolean before, Job job) {
+        var span = tracer.startSpan(name);
+        CompletableFuture<Void> result;
+        try {
+            result = before ? delegate.before(job) : delegate.after(job);
+        } catch (RuntimeException e) {
+            span.end(e);
+            throw e;
+        }
+        return result.whenComplete((ignored, error) -> span.end(error));
+    }
+}
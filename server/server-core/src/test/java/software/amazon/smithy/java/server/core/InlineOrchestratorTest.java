@@ -0,0 +1,134 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.java.http.api.HttpHeaders;
+import software.amazon.smithy.java.server.Operation;
+
+public class InlineOrchestratorTest {
+
+    @Test
+    public void completesSynchronouslyOnCallingThread() {
+        List<String> events = new CopyOnWriteArrayList<>();
+        var orchestrator = new InlineOrchestrator(List.of(
+                new RecordingHandler("a", events),
+                new RecordingHandler("b", events)));
+
+        var result = orchestrator.enqueue(job());
+
+        assertThat(result.isDone(), is(true));
+        assertThat(orchestrator.inflightJobs(), equalTo(0));
+        assertThat(events, contains("a.before", "b.before", "b.after", "a.after"));
+    }
+
+    @Test
+    public void resumesOnThreadThatCompletesHandler() throws Exception {
+        List<String> events = new CopyOnWriteArrayList<>();
+        var pending = new CompletableFuture<Void>();
+        var first = new RecordingHandler("a", events);
+        first.before = pending;
+        var second = new RecordingHandler("b", events);
+        var orchestrator = new InlineOrchestrator(List.of(first, second));
+
+        var result = orchestrator.enqueue(job());
+        assertThat(result.isDone(), is(false));
+        assertThat(orchestrator.inflightJobs(), equalTo(1));
+
+        var completer = new Thread(() -> pending.complete(null), "completer");
+        completer.start();
+        completer.join();
+
+        assertThat(result.isDone(), is(true));
+        assertThat(orchestrator.inflightJobs(), equalTo(0));
+        assertThat(events, contains("a.before", "b.before", "b.after", "a.after"));
+        assertThat(second.beforeThread, equalTo("completer"));
+    }
+
+    @Test
+    public void waitsForAsynchronousAfter() {
+        List<String> events = new CopyOnWriteArrayList<>();
+        var pending = new CompletableFuture<Void>();
+        var first = new RecordingHandler("a", events);
+        var second = new RecordingHandler("b", events);
+        second.after = pending;
+        var orchestrator = new InlineOrchestrator(List.of(first, second));
+
+        var result = orchestrator.enqueue(job());
+        assertThat(result.isDone(), is(false));
+        assertThat(events, contains("a.before", "b.before", "b.after"));
+
+        pending.complete(null);
+        assertThat(result.isDone(), is(true));
+        assertThat(events, contains("a.before", "b.before", "b.after", "a.after"));
+    }
+
+    @Test
+    public void failedBeforeSkipsRemainingHandlers() {
+        List<String> events = new CopyOnWriteArrayList<>();
+        var error = new IllegalStateException("boom");
+        var first = new RecordingHandler("a", events);
+        first.before = CompletableFuture.failedFuture(error);
+        var orchestrator = new InlineOrchestrator(List.of(first, new RecordingHandler("b", events)));
+
+        var result = orchestrator.enqueue(job());
+
+        var e = assertThrows(ExecutionException.class, result::get);
+        assertThat(e.getCause(), sameInstance(error));
+        assertThat(events, contains("a.before", "a.after"));
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    static HttpJob job() {
+        Operation operation = Operation.of(
+                "TestOperation",
+                (input, context) -> new TestStructs.TestOutput(),
+                new TestStructs.TestApiOperation(),
+                new TestStructs.TestService());
+        var request = new HttpRequest(HttpHeaders.of(Map.of()), URI.create("http://test.com"), "POST");
+        var response = new HttpResponse(new TestStructs.TestModifiableHttpHeaders());
+        return new HttpJob(operation, new TestStructs.TestServerProtocol(List.of()), request, response);
+    }
+
+    static final class RecordingHandler implements Handler {
+        private final String name;
+        private final List<String> events;
+        CompletableFuture<Void> before = CompletableFuture.completedFuture(null);
+        CompletableFuture<Void> after = CompletableFuture.completedFuture(null);
+        volatile String beforeThread;
+
+        RecordingHandler(String name, List<String> events) {
+            this.name = name;
+            this.events = events;
+        }
+
+        @Override
+        public CompletableFuture<Void> before(Job job) {
+            beforeThread = Thread.currentThread().getName();
+            events.add(name + ".before");
+            return before;
+        }
+
+        @Override
+        public CompletableFuture<Void> after(Job job) {
+            events.add(name + ".after");
+            return after;
+        }
+    }
+}
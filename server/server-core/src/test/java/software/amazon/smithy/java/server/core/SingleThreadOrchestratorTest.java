@@ -0,0 +1,45 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class SingleThreadOrchestratorTest {
+
+    @Test
+    public void waitsForAsynchronousHandlers() throws Exception {
+        List<String> events = new CopyOnWriteArrayList<>();
+        var pendingBefore = new CompletableFuture<Void>();
+        var pendingAfter = new CompletableFuture<Void>();
+        var first = new InlineOrchestratorTest.RecordingHandler("a", events);
+        first.before = pendingBefore;
+        var second = new InlineOrchestratorTest.RecordingHandler("b", events);
+        second.after = pendingAfter;
+        var orchestrator = new SingleThreadOrchestrator(List.of(first, second));
+
+        var result = orchestrator.enqueue(InlineOrchestratorTest.job());
+        pendingBefore.complete(null);
+        // The second handler's before and after phases run on the worker thread once the first handler resumes.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (events.size() < 3 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(events, contains("a.before", "b.before", "b.after"));
+        assertThat(result.isDone(), is(false));
+
+        pendingAfter.complete(null);
+        result.get(5, TimeUnit.SECONDS);
+        assertThat(events, contains("a.before", "b.before", "b.after", "a.after"));
+    }
+}
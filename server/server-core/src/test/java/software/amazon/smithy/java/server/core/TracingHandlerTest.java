@@ -0,0 +1,92 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.java.tracing.api.MetricsTracer;
+
+public class TracingHandlerTest {
+
+    private static final String BEFORE = "smithy.server.test.before";
+    private static final String AFTER = "smithy.server.test.after";
+
+    @Test
+    public void endsSpansWhenTheFutureCompletes() {
+        var tracer = new MetricsTracer();
+        var before = new CompletableFuture<Void>();
+        var after = CompletableFuture.<Void>completedFuture(null);
+        var handler = new TracingHandler(new StubHandler(before, after), tracer, "test");
+
+        var result = handler.before(null);
+        assertEquals(0, tracer.histogram(BEFORE).count());
+
+        before.complete(null);
+        result.join();
+        handler.after(null).join();
+
+        assertEquals(1, tracer.histogram(BEFORE).count());
+        assertEquals(1, tracer.histogram(AFTER).count());
+        assertEquals(0, tracer.counter(BEFORE + ".errors").value());
+        assertEquals(0, tracer.counter(AFTER + ".errors").value());
+    }
+
+    @Test
+    public void recordsFailedFutures() {
+        var tracer = new MetricsTracer();
+        var handler = new TracingHandler(
+                new StubHandler(
+                        CompletableFuture.completedFuture(null),
+                        CompletableFuture.failedFuture(new IllegalStateException("after"))),
+                tracer,
+                "test");
+
+        handler.before(null).join();
+        assertThrows(Exception.class, () -> handler.after(null).join());
+
+        assertEquals(0, tracer.counter(BEFORE + ".errors").value());
+        assertEquals(1, tracer.histogram(AFTER).count());
+        assertEquals(1, tracer.counter(AFTER + ".errors").value());
+    }
+
+    @Test
+    public void recordsHandlersThatThrow() {
+        var tracer = new MetricsTracer();
+        var error = new IllegalStateException("before");
+        var handler = new TracingHandler(new Handler() {
+            @Override
+            public CompletableFuture<Void> before(Job job) {
+                throw error;
+            }
+
+            @Override
+            public CompletableFuture<Void> after(Job job) {
+                return CompletableFuture.completedFuture(null);
+            }
+        }, tracer, "test");
+
+        assertSame(error, assertThrows(IllegalStateException.class, () -> handler.before(null)));
+        assertEquals(1, tracer.histogram(BEFORE).count());
+        assertEquals(1, tracer.counter(BEFORE + ".errors").value());
+    }
+
+    private record StubHandler(CompletableFuture<Void> beforeResult, CompletableFuture<Void> afterResult)
+            implements Handler {
+        @Override
+        public CompletableFuture<Void> before(Job job) {
+            return beforeResult;
+        }
+
+        @Override
+        public CompletableFuture<Void> after(Job job) {
+            return afterResult;
+        }
+    }
+}
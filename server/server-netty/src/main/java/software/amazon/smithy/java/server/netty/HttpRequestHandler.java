@@ -10,7 +10,9 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
 import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
@@ -95,16 +97,20 @@ final class HttpRequestHandler extends ChannelDuplexHandler {
         var serializedValue = job.response().getSerializedValue();
         DefaultFullHttpResponse response = null;
         try {
-            response = new DefaultFullHttpResponse(
-                    HttpVersion.HTTP_1_1,
-                    HttpResponseStatus.valueOf(job.response().getStatusCode()),
-                    Unpooled.wrappedBuffer(serializedValue.waitForByteBuffer()));
+            var content = Unpooled.wrappedBuffer(serializedValue.waitForByteBuffer());
             CorsHeaders.addCorsHeaders(job);
-            response.headers().set(((NettyHttpHeaders) job.response().headers()).getNettyHeaders());
-            response.headers().set("content-length", serializedValue.contentLength());
+            // Hand the response's Netty headers to the Netty response directly instead of copying them.
+            var headers = ((NettyHttpHeaders) job.response().headers()).getNettyHeaders();
+            headers.set(HttpHeaderNames.CONTENT_LENGTH, serializedValue.contentLength());
             if (serializedValue.contentType() != null) {
-                response.headers().set("content-type", serializedValue.contentType());
+                headers.set(HttpHeaderNames.CONTENT_TYPE, serializedValue.contentType());
             }
+            response = new DefaultFullHttpResponse(
+                    HttpVersion.HTTP_1_1,
+                    HttpResponseStatus.valueOf(job.response().getStatusCode()),
+                    content,
+                    headers,
+                    EmptyHttpHeaders.INSTANCE);
         } catch (Throwable e) {
             response = new DefaultFullHttpResponse(
                     HttpVersion.HTTP_1_1,
@@ -47,7 +47,9 @@ final class NettyServer implements Server {
 
         var protocolResolver = new ProtocolResolver(builder.serviceMatcher);
 
-        var handlers = new HandlerAssembler().assembleHandlers(builder.serviceMatcher.getAllServices());
+        var handlers = new HandlerAssembler().assembleHandlers(
+                builder.serviceMatcher.getAllServices(),
+                builder.configuredTracer());
         orchestrator = new OrchestratorGroup(
                 builder.numberOfWorkers,
                 () -> new ErrorHandlingOrchestrator(new SingleThreadOrchestrator(handlers)),
@@ -11,6 +11,7 @@ import software.amazon.smithy.java.server.Route;
 import software.amazon.smithy.java.server.Server;
 import software.amazon.smithy.java.server.ServerBuilder;
 import software.amazon.smithy.java.server.core.ServiceMatcher;
+import software.amazon.smithy.java.tracing.api.Tracer;
 
 final class NettyServerBuilder extends ServerBuilder<NettyServerBuilder> {
 
@@ -42,6 +43,10 @@ final class NettyServerBuilder extends ServerBuilder<NettyServerBuilder> {
         return new NettyServer(this);
     }
 
+    Tracer configuredTracer() {
+        return tracer();
+    }
+
     private void validate() {
         if (numberOfWorkers <= 0) {
             throw new IllegalArgumentException("Number of workers must be greater than zero");
@@ -39,7 +39,7 @@ import software.amazon.smithy.model.traits.Trait;
  */
 public final class ProxyOperationTrait implements Trait {
 
-    private static final ShapeId SHAPE_ID = ShapeId.from("smithy.server.api#proxyOperation");
+    public static final ShapeId ID = ShapeId.from("smithy.server.api#proxyOperation");
     private final ShapeId delegateOperation;
 
     public ProxyOperationTrait(ShapeId delegateOperation) {
@@ -48,15 +48,25 @@ public final class ProxyOperationTrait implements Trait {
 
     @Override
     public ShapeId toShapeId() {
-        return SHAPE_ID;
+        return ID;
     }
 
     @Override
     public Node toNode() {
-        return null;
+        return Node.from(delegateOperation.toString());
     }
 
     public ShapeId getDelegateOperation() {
         return delegateOperation;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ProxyOperationTrait other && delegateOperation.equals(other.delegateOperation);
+    }
+
+    @Override
+    public int hashCode() {
+        return delegateOperation.hashCode();
+    }
 }
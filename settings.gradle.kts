@@ -56,6 +56,7 @@ include(":server:server-proxy")
 
 // Codegen
 include(":codegen:codegen-core")
+include(":codegen:integrations:rules-engine-codegen")
 include(":codegen:integrations:waiters-codegen")
 include(":codegen:plugins")
 include(":codegen:plugins:client-codegen")
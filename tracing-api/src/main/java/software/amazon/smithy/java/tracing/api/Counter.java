@@ -0,0 +1,26 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.tracing.api;
+
+/**
+ * A monotonically increasing count.
+ */
+public interface Counter {
+
+    /**
+     * Add to the count.
+     *
+     * @param amount Amount to add.
+     */
+    void add(long amount);
+
+    /**
+     * Add one to the count.
+     */
+    default void increment() {
+        add(1);
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.tracing.api;
+
+/**
+ * Records a distribution of values, such as latencies in nanoseconds.
+ */
+public interface Histogram {
+
+    /**
+     * Record a value.
+     *
+     * @param value Value to record.
+     */
+    void record(long value);
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.tracing.api;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A tracer that aggregates spans and metrics in memory.
+ *
+ * <p>The duration of each span, in nanoseconds, is recorded in the {@link LongHistogram} with the same name as the
+ * span, and spans that end with an error increment the counter named {@code <span name>.errors}. Span attributes
+ * are not retained. The aggregated values can be read at any time to get a per-stage latency breakdown.
+ */
+public final class MetricsTracer implements Tracer {
+
+    private final Map<String, LongHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongCounter> counters = new ConcurrentHashMap<>();
+    private final Map<String, SpanMetrics> spans = new ConcurrentHashMap<>();
+
+    @Override
+    public Span startSpan(String name) {
+        return new TimedSpan(spans.computeIfAbsent(name, k -> new SpanMetrics(histogram(k), k + ".errors")));
+    }
+
+    @Override
+    public LongCounter counter(String name) {
+        return counters.computeIfAbsent(name, k -> new LongCounter());
+    }
+
+    @Override
+    public LongHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, k -> new LongHistogram());
+    }
+
+    /**
+     * Get every histogram recorded by this tracer.
+     *
+     * @return the histograms by name.
+     */
+    public Map<String, LongHistogram> histograms() {
+        return Map.copyOf(histograms);
+    }
+
+    /**
+     * Get every counter recorded by this tracer.
+     *
+     * @return the counters by name.
+     */
+    public Map<String, LongCounter> counters() {
+        return Map.copyOf(counters);
+    }
+
+    /**
+     * A counter backed by a {@link LongAdder} so concurrent increments don't contend.
+     */
+    public static final class LongCounter implements Counter {
+        private final LongAdder value = new LongAdder();
+
+        @Override
+        public void add(long amount) {
+            value.add(amount);
+        }
+
+        /**
+         * Get the current count.
+         *
+         * @return the count.
+         */
+        public long value() {
+            return value.sum();
+        }
+    }
+
+    /**
+     * The histogram and error counter name of a span, resolved once per span name.
+     */
+    private record SpanMetrics(LongHistogram histogram, String errorCounter) {}
+
+    private final class TimedSpan implements Span {
+        private final SpanMetrics metrics;
+        private final long start = System.nanoTime();
+        private boolean ended;
+
+        TimedSpan(SpanMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override
+        public void setAttribute(String key, String value) {}
+
+        @Override
+        public void end() {
+            end(null);
+        }
+
+        @Override
+        public void end(Throwable error) {
+            if (ended) {
+                return;
+            }
+            ended = true;
+            metrics.histogram.record(System.nanoTime() - start);
+            if (error != null) {
+                counter(metrics.errorCounter).increment();
+            }
+        }
+    }
+}
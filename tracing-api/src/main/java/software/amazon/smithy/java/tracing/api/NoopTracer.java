@@ -0,0 +1,48 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.tracing.api;
+
+/**
+ * A single stateless implementation of every instrument, so disabled call sites stay monomorphic.
+ */
+enum NoopTracer implements Tracer, Span, Counter, Histogram {
+    INSTANCE;
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public Span startSpan(String name) {
+        return this;
+    }
+
+    @Override
+    public Counter counter(String name) {
+        return this;
+    }
+
+    @Override
+    public Histogram histogram(String name) {
+        return this;
+    }
+
+    @Override
+    public void setAttribute(String key, String value) {}
+
+    @Override
+    public void end() {}
+
+    @Override
+    public void end(Throwable error) {}
+
+    @Override
+    public void add(long amount) {}
+
+    @Override
+    public void record(long value) {}
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.tracing.api;
+
+/**
+ * A timed unit of work created by {@link Tracer#startSpan}.
+ *
+ * <p>Spans can be used with try-with-resources. Ending a span more than once has no effect.
+ */
+public interface Span extends AutoCloseable {
+
+    /**
+     * Add an attribute to the span.
+     *
+     * @param key Attribute name.
+     * @param value Attribute value.
+     */
+    void setAttribute(String key, String value);
+
+    /**
+     * End the span successfully.
+     */
+    void end();
+
+    /**
+     * End the span with an error.
+     *
+     * @param error Error that ended the span, or null if the span completed successfully.
+     */
+    void end(Throwable error);
+
+    @Override
+    default void close() {
+        end();
+    }
+}
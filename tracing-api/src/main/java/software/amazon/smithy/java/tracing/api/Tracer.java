@@ -0,0 +1,58 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.tracing.api;
+
+/**
+ * Creates spans and metrics used to instrument clients and servers.
+ *
+ * <p>Instrumented code obtains a tracer once and calls it unconditionally. When tracing is disabled,
+ * {@link #noop()} returns a single shared implementation whose methods do nothing, which the JIT inlines away.
+ * Code that needs to compute expensive span attributes can check {@link #isEnabled()} first.
+ */
+public interface Tracer {
+
+    /**
+     * Get a tracer that records nothing.
+     *
+     * @return the no-op tracer.
+     */
+    static Tracer noop() {
+        return NoopTracer.INSTANCE;
+    }
+
+    /**
+     * Check if this tracer records anything.
+     *
+     * @return true if spans and metrics are recorded.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Start a span that measures the time until {@link Span#end()} is called.
+     *
+     * @param name Name of the span.
+     * @return the started span.
+     */
+    Span startSpan(String name);
+
+    /**
+     * Get or create a monotonically increasing counter.
+     *
+     * @param name Name of the counter.
+     * @return the counter.
+     */
+    Counter counter(String name);
+
+    /**
+     * Get or create a histogram that records a distribution of values.
+     *
+     * @param name Name of the histogram.
+     * @return the histogram.
+     */
+    Histogram histogram(String name);
+}
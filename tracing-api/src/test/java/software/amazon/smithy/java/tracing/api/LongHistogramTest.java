@@ -0,0 +1,52 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.tracing.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class LongHistogramTest {
+
+    @Test
+    public void recordsSmallValuesExactly() {
+        var histogram = new LongHistogram();
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+
+        assertEquals(10, histogram.count());
+        assertEquals(10, histogram.max());
+        assertEquals(5.5, histogram.mean());
+        assertEquals(5, histogram.valueAtPercentile(50));
+        assertEquals(10, histogram.valueAtPercentile(100));
+    }
+
+    @Test
+    public void boundsRelativeErrorOfLargeValues() {
+        var histogram = new LongHistogram();
+        for (long i = 1; i <= 100_000; i++) {
+            histogram.record(i * 1000);
+        }
+
+        long p99 = histogram.valueAtPercentile(99);
+        long expected = 99_000_000L;
+        assertTrue(Math.abs(p99 - expected) <= expected / 64, "p99 was " + p99);
+        assertEquals(100_000_000L, histogram.valueAtPercentile(100));
+    }
+
+    @Test
+    public void bucketsCoverEveryValue() {
+        for (long value : new long[] {0, 63, 64, 65, 127, 128, 1L << 40, Long.MAX_VALUE}) {
+            int index = LongHistogram.bucketIndex(value);
+            assertTrue(LongHistogram.bucketUpperBound(index) >= value);
+            if (index > 0) {
+                assertTrue(LongHistogram.bucketUpperBound(index - 1) < value);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.tracing.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+public class MetricsTracerTest {
+
+    @Test
+    public void recordsSpanDurationsAndErrors() {
+        var tracer = new MetricsTracer();
+        try (var span = tracer.startSpan("serialize")) {
+            span.setAttribute("operation", "GetFoo");
+        }
+        var failed = tracer.startSpan("serialize");
+        failed.end(new RuntimeException("boom"));
+        failed.end();
+
+        assertEquals(2, tracer.histogram("serialize").count());
+        assertEquals(1, tracer.counter("serialize.errors").value());
+    }
+
+    @Test
+    public void countsConcurrently() throws InterruptedException {
+        var tracer = new MetricsTracer();
+        var threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = Thread.ofPlatform().start(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    tracer.counter("calls").increment();
+                }
+            });
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(4000, tracer.counters().get("calls").value());
+    }
+
+    @Test
+    public void noopTracerSharesOneInstance() {
+        var tracer = Tracer.noop();
+
+        assertFalse(tracer.isEnabled());
+        assertSame(tracer.startSpan("a"), tracer.startSpan("b"));
+        assertSame(tracer.counter("a"), tracer.histogram("b"));
+    }
+}